@@ -0,0 +1,70 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import net.sf.jsqlparser.expression.PrimitiveValue;
+
+/**
+ * A batch of rows, kept as one {@link ColumnVector} for each column, in the 
+ * positions given to them by {@link Bindings}.  A batch of a thousand or a 
+ * few thousand rows is what {@link VectorExpression}s are meant for.
+ */
+public class Batch {
+	private final int size;
+	private final ColumnVector[] columns;
+
+	/**
+	 * @param size       The number of rows
+	 * @param columns    At least <code>size</code> values each; they are not copied
+	 */
+	public Batch(int size, ColumnVector... columns) {
+		for (ColumnVector column : columns) {
+			if (column.length() < size) { throw new IllegalArgumentException("Column shorter than the batch"); }
+		}
+		this.size = size;
+		this.columns = columns;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public ColumnVector getColumn(int index) {
+		return columns[index];
+	}
+
+	/**
+	 * One row of a batch, for a {@link CompiledExpression} to evaluate; it can 
+	 * be moved from row to row.
+	 */
+	static final class Cursor implements IndexedRow {
+		private final Batch batch;
+		int row;
+
+		Cursor(Batch batch) {
+			this.batch = batch;
+		}
+
+		public PrimitiveValue get(int index) { return batch.columns[index].get(row); }
+		public boolean isNull(int index) { return batch.columns[index].isNull(row); }
+		public long getLong(int index) { return batch.columns[index].getLong(row); }
+		public double getDouble(int index) { return batch.columns[index].getDouble(row); }
+		public boolean getBool(int index) { return batch.columns[index].getBool(row); }
+	}
+}
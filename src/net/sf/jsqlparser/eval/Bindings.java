@@ -0,0 +1,98 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+
+/**
+ * The columns an {@link ExpressionCompiler} may refer to, each with its 
+ * position in an {@link IndexedRow}, its type and whether it can be NULL.  
+ * A column in an expression matches a binding by {@link Column#equals}, 
+ * i.e. by name, and by table name where both have one.
+ */
+public class Bindings {
+	private final List<Column> columns = new ArrayList<Column>();
+	private final List<PrimitiveType> types = new ArrayList<PrimitiveType>();
+	private final List<Boolean> nullables = new ArrayList<Boolean>();
+
+	/**
+	 * Binds <code>column</code> to the next position.
+	 * @param type        The type of its values, or null if they may be of any type
+	 * @param nullable    false if it is never NULL
+	 * @return            Its position
+	 */
+	public int add(Column column, PrimitiveType type, boolean nullable) {
+		columns.add(column);
+		types.add(type);
+		nullables.add(nullable);
+		return columns.size() - 1;
+	}
+
+	/**
+	 * Binds a column that may be NULL to the next position.
+	 * @return    Its position
+	 */
+	public int add(String columnName, PrimitiveType type) {
+		return add(new Column(null, columnName), type, true);
+	}
+
+	public int size() {
+		return columns.size();
+	}
+
+	/**
+	 * @return    The position of the first binding that matches <code>column</code>, or -1
+	 */
+	public int indexOf(Column column) {
+		for (int i = 0; i < columns.size(); i++) {
+			if (columns.get(i).equals(column)) { return i; }
+		}
+		return -1;
+	}
+
+	public Column getColumn(int index) {
+		return columns.get(index);
+	}
+
+	/**
+	 * @return    The type of the column at <code>index</code>, or null if it may vary
+	 */
+	public PrimitiveType getType(int index) {
+		return types.get(index);
+	}
+
+	public boolean isNullable(int index) {
+		return nullables.get(index);
+	}
+
+	/**
+	 * @return    <code>row</code> as a {@link Row} for {@link Eval}, which looks 
+	 *            each column up by name
+	 */
+	public Row row(final IndexedRow row) {
+		return column -> {
+			int index = indexOf(column);
+			return index < 0 ? null : row.get(index);
+		};
+	}
+}
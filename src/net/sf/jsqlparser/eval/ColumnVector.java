@@ -0,0 +1,217 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.schema.PrimitiveType;
+
+/**
+ * The values of one column for each row of a {@link Batch}, in an array of 
+ * primitives: LONGs in a long[], and DATEs, TIMEs and TIMESTAMPs there too 
+ * as their epoch day, microsecond of the day and epoch microsecond; DOUBLEs 
+ * in a double[]; BOOLs in a boolean[]; and STRINGs as int codes into a 
+ * dictionary of the distinct strings.  A column of any other type, or of 
+ * STRINGs that are not encoded, is an array of values.<br>
+ * Which rows are NULL is told by a separate mask, which is null if none 
+ * are; the array of values has something undefined in those rows.  Vectors 
+ * are not copied, so the arrays they are made from must not change while 
+ * they are in use.
+ */
+public class ColumnVector {
+	private final PrimitiveType type;
+	private final int length;
+	final long[] longs;
+	final double[] doubles;
+	final boolean[] bools;
+	final int[] codes;
+	final String[] dictionary;
+	final PrimitiveValue[] values;
+	final boolean[] nulls;
+
+	private ColumnVector(PrimitiveType type, int length, long[] longs, double[] doubles, boolean[] bools, 
+	                     int[] codes, String[] dictionary, PrimitiveValue[] values, boolean[] nulls) {
+		this.type = type;
+		this.length = length;
+		this.longs = longs;
+		this.doubles = doubles;
+		this.bools = bools;
+		this.codes = codes;
+		this.dictionary = dictionary;
+		this.values = values;
+		this.nulls = nulls;
+	}
+
+	/**
+	 * @param nulls    true for each row that is NULL, or null if none is
+	 */
+	public static ColumnVector ofLongs(long[] values, boolean[] nulls) {
+		return new ColumnVector(PrimitiveType.LONG, values.length, values, null, null, null, null, null, nulls);
+	}
+
+	public static ColumnVector ofDoubles(double[] values, boolean[] nulls) {
+		return new ColumnVector(PrimitiveType.DOUBLE, values.length, null, values, null, null, null, null, nulls);
+	}
+
+	public static ColumnVector ofBools(boolean[] values, boolean[] nulls) {
+		return new ColumnVector(PrimitiveType.BOOL, values.length, null, null, values, null, null, null, nulls);
+	}
+
+	/**
+	 * @param codes         The position in <code>dictionary</code> of each row's string
+	 * @param dictionary    The distinct strings
+	 */
+	public static ColumnVector ofStrings(int[] codes, String[] dictionary, boolean[] nulls) {
+		return new ColumnVector(PrimitiveType.STRING, codes.length, null, null, null, codes, dictionary, null, nulls);
+	}
+
+	/**
+	 * @param values    The epoch day of each DATE, the microsecond of the day of 
+	 *                  each TIME, or the epoch microsecond of each TIMESTAMP
+	 */
+	public static ColumnVector ofTemporals(PrimitiveType type, long[] values, boolean[] nulls) {
+		if (!isTemporal(type)) { throw new IllegalArgumentException("Not a DATE, TIME or TIMESTAMP: " + type); }
+		return new ColumnVector(type, values.length, values, null, null, null, null, null, nulls);
+	}
+
+	/**
+	 * @param type    The type of every value that is not NULL, or null if they vary
+	 */
+	public static ColumnVector ofValues(PrimitiveType type, PrimitiveValue[] values) {
+		boolean[] nulls = null;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] == null || Eval.isNull(values[i])) {
+				if (nulls == null) { nulls = new boolean[values.length]; }
+				nulls[i] = true;
+			}
+		}
+		return new ColumnVector(type, values.length, null, null, null, null, null, values, nulls);
+	}
+
+	static boolean isTemporal(PrimitiveType type) {
+		return type == PrimitiveType.DATE || type == PrimitiveType.TIME || type == PrimitiveType.TIMESTAMP;
+	}
+
+	/**
+	 * @return    true if the values of this type are kept in a long[]
+	 */
+	static boolean isLongs(PrimitiveType type) {
+		return type == PrimitiveType.LONG || isTemporal(type);
+	}
+
+	/**
+	 * @return    The type of every value that is not NULL, or null if they vary
+	 */
+	public PrimitiveType getType() {
+		return type;
+	}
+
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * @return    The mask of NULL rows, or null if there are none
+	 */
+	public boolean[] getNulls() {
+		return nulls;
+	}
+
+	public long[] getLongs() {
+		return longs;
+	}
+
+	public double[] getDoubles() {
+		return doubles;
+	}
+
+	public boolean[] getBools() {
+		return bools;
+	}
+
+	public int[] getCodes() {
+		return codes;
+	}
+
+	public String[] getDictionary() {
+		return dictionary;
+	}
+
+	public PrimitiveValue[] getValues() {
+		return values;
+	}
+
+	public boolean isNull(int row) {
+		return nulls != null && nulls[row];
+	}
+
+	/**
+	 * @return    The value in <code>row</code>, {@link NullValue} if it is NULL
+	 */
+	public PrimitiveValue get(int row) {
+		if (isNull(row)) { return NullValue.NULL; }
+		if (values != null) { return values[row]; }
+		switch (type) {
+			case LONG: return LongValue.valueOf(longs[row]);
+			case DOUBLE: return DoubleValue.valueOf(doubles[row]);
+			case BOOL: return bools[row] ? BooleanValue.TRUE : BooleanValue.FALSE;
+			case DATE: return DateValue.ofEpochDay(longs[row]);
+			case TIME: return TimeValue.ofMicrosOfDay(longs[row]);
+			case TIMESTAMP: return TimestampValue.ofEpochMicros(longs[row]);
+			default: return StringValue.valueOf(dictionary[codes[row]]);
+		}
+	}
+
+	/**
+	 * @return    The LONG in <code>row</code>, which is not NULL
+	 */
+	public long getLong(int row) {
+		return longs != null ? longs[row] : ((LongValue)values[row]).getValue();
+	}
+
+	/**
+	 * @return    The number in <code>row</code>, which is not NULL
+	 */
+	public double getDouble(int row) {
+		if (doubles != null) { return doubles[row]; }
+		if (longs != null) { return longs[row]; }
+		return ((DoubleValue)values[row]).getValue();
+	}
+
+	/**
+	 * @return    The BOOL in <code>row</code>, which is not NULL
+	 */
+	public boolean getBool(int row) {
+		return bools != null ? bools[row] : ((BooleanValue)values[row]).getValue();
+	}
+
+	/**
+	 * @return    The STRING in <code>row</code>, which is not NULL
+	 */
+	public String getString(int row) {
+		return dictionary != null ? dictionary[codes[row]] : ((StringValue)values[row]).getValue();
+	}
+}
@@ -0,0 +1,130 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.schema.PrimitiveType;
+
+/**
+ * An expression made ready by an {@link ExpressionCompiler} to be evaluated 
+ * against many {@link IndexedRow}s.  Its result has the same value as 
+ * {@link Eval} would give, but the typed methods return it unboxed: a 
+ * caller checks {@link #isNull} and then calls {@link #evalLong} for a 
+ * LONG or {@link #evalDouble} for a LONG or DOUBLE, and asks a condition 
+ * {@link #evalBool} and {@link #isFalse}, which between them tell TRUE, 
+ * FALSE and NULL apart without evaluating it twice.
+ * <p>
+ * The methods here work on any expression by way of {@link #eval}; the 
+ * subclasses for each kind of node override the ones for their type.
+ */
+public abstract class CompiledExpression {
+	protected final PrimitiveType type;
+	protected final boolean nullable;
+
+	/**
+	 * @param type        The type of every non-NULL result, or null if it is not 
+	 *                    known before evaluation
+	 * @param nullable    false if the result is never NULL
+	 */
+	protected CompiledExpression(PrimitiveType type, boolean nullable) {
+		this.type = type;
+		this.nullable = nullable;
+	}
+
+	/**
+	 * @return    The type of every non-NULL result, or null if it is not known 
+	 *            before evaluation, as for a NULL literal or a CASE whose branches 
+	 *            differ
+	 */
+	public PrimitiveType getType() {
+		return type;
+	}
+
+	/**
+	 * @return    false if the result is never NULL
+	 */
+	public boolean isNullable() {
+		return nullable;
+	}
+
+	/**
+	 * @return    The result as a value, {@link NullValue} for NULL
+	 */
+	public abstract PrimitiveValue eval(IndexedRow row);
+
+	public boolean isNull(IndexedRow row) {
+		return Eval.isNull(eval(row));
+	}
+
+	/**
+	 * @return    The result of an expression of type LONG that is not NULL
+	 */
+	public long evalLong(IndexedRow row) {
+		PrimitiveValue value = eval(row);
+		if (value.getType() != PrimitiveType.LONG) { throw new EvalException("Not a LONG: " + value); }
+		return ((LongValue)value).getValue();
+	}
+
+	/**
+	 * @return    The result of a numeric expression that is not NULL
+	 */
+	public double evalDouble(IndexedRow row) {
+		PrimitiveValue value = eval(row);
+		PrimitiveType type = value.getType();
+		if (type == PrimitiveType.LONG) { return ((LongValue)value).getValue(); }
+		if (type == PrimitiveType.DOUBLE) { return ((DoubleValue)value).getValue(); }
+		if (type == PrimitiveType.DECIMAL) { return ((DecimalValue)value).toDouble(); }
+		throw new EvalException("Not a number: " + value);
+	}
+
+	/**
+	 * @return    true if the condition is TRUE, false if it is FALSE or NULL
+	 */
+	public boolean evalBool(IndexedRow row) {
+		return truth(eval(row)) == TRUE;
+	}
+
+	/**
+	 * @return    true if the condition is FALSE, false if it is TRUE or NULL
+	 */
+	public boolean isFalse(IndexedRow row) {
+		return truth(eval(row)) == FALSE;
+	}
+
+	static final int FALSE = 0, TRUE = 1, UNKNOWN = -1;
+
+	static int truth(PrimitiveValue value) {
+		if (value instanceof BooleanValue) { return ((BooleanValue)value).getValue() ? TRUE : FALSE; }
+		if (Eval.isNull(value)) { return UNKNOWN; }
+		throw new EvalException("Not a condition: " + value);
+	}
+
+	static PrimitiveValue truthValue(int truth) {
+		switch (truth) {
+			case TRUE: return BooleanValue.TRUE;
+			case FALSE: return BooleanValue.FALSE;
+			default: return NullValue.NULL;
+		}
+	}
+}
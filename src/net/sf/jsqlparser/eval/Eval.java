@@ -0,0 +1,623 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * Evaluates expressions against a {@link Row} by the rules of SQL's 
+ * three-valued logic.  SQL NULL is a {@link NullValue}: arithmetic, 
+ * comparisons, LIKE and BETWEEN with a NULL operand are NULL, and AND, OR 
+ * and NOT treat NULL as unknown, so that NULL AND FALSE is FALSE and 
+ * NULL OR TRUE is TRUE.  Conditions evaluate to {@link BooleanValue#TRUE}, 
+ * {@link BooleanValue#FALSE} or NULL; {@link #test} turns that into the 
+ * answer of a WHERE clause.
+ * <p>
+ * Arithmetic on two LONGs is LONG, on a DECIMAL and a LONG or DECIMAL is 
+ * DECIMAL, and on anything with a DOUBLE is DOUBLE.  Numbers of any type 
+ * compare with one another, a DATE compares with a TIMESTAMP as its 
+ * midnight, and every other type only compares with itself.  Values are 
+ * told apart by {@link PrimitiveValue#getType()} rather than by catching 
+ * InvalidPrimitive, so a well-typed expression evaluates without throwing 
+ * anything; operands of the wrong type, unknown columns, division by zero 
+ * and LONG overflow raise an {@link EvalException}.
+ * <p>
+ * Functions, JDBC parameters, sub-selects and the EXISTS, ALL, ANY and @@ 
+ * operators mean nothing without a database behind them.  They raise an 
+ * EvalException unless a subclass overrides their visit methods.  An Eval 
+ * keeps no state, so one instance can be shared between threads.
+ */
+public class Eval implements GenericExpressionVisitor<PrimitiveValue, Row> {
+
+	private static final long MICROS_PER_DAY = 86400000000L;
+	private static final MathContext DIVISION = MathContext.DECIMAL128;
+	/** What {@link #order} returns when either side is NULL */
+	private static final int UNKNOWN = Integer.MIN_VALUE;
+
+	/**
+	 * @return    The value of <code>expression</code> in <code>row</code>
+	 */
+	public PrimitiveValue eval(Expression expression, Row row) {
+		return expression.accept(this, row);
+	}
+
+	/**
+	 * @return    true if <code>condition</code> is TRUE in <code>row</code>, 
+	 *            false if it is FALSE or NULL, as a WHERE clause decides
+	 */
+	public boolean test(Expression condition, Row row) {
+		return isTrue(condition(condition, row));
+	}
+
+	/**
+	 * @return    true if <code>value</code> is SQL NULL
+	 */
+	public static boolean isNull(PrimitiveValue value) {
+		return value instanceof NullValue;
+	}
+
+	/**
+	 * @return    true if <code>value</code> is TRUE; false if it is FALSE, NULL 
+	 *            or not a boolean at all
+	 */
+	public static boolean isTrue(PrimitiveValue value) {
+		return value instanceof BooleanValue && ((BooleanValue)value).getValue();
+	}
+
+	/**
+	 * @return    TRUE or FALSE
+	 */
+	public static BooleanValue bool(boolean value) {
+		return value ? BooleanValue.TRUE : BooleanValue.FALSE;
+	}
+
+	/**
+	 * @return    <code>a</code> AND <code>b</code> of two conditions
+	 */
+	public static PrimitiveValue and(PrimitiveValue a, PrimitiveValue b) {
+		if (isFalse(a) || isFalse(b)) { return BooleanValue.FALSE; }
+		return isNull(a) || isNull(b) ? NullValue.NULL : BooleanValue.TRUE;
+	}
+
+	/**
+	 * @return    <code>a</code> OR <code>b</code> of two conditions
+	 */
+	public static PrimitiveValue or(PrimitiveValue a, PrimitiveValue b) {
+		if (isTrue(a) || isTrue(b)) { return BooleanValue.TRUE; }
+		return isNull(a) || isNull(b) ? NullValue.NULL : BooleanValue.FALSE;
+	}
+
+	/**
+	 * @return    NOT <code>a</code> of a condition
+	 */
+	public static PrimitiveValue not(PrimitiveValue a) {
+		if (isNull(a)) { return a; }
+		return bool(!isTrue(a));
+	}
+
+	private static boolean isFalse(PrimitiveValue value) {
+		return value instanceof BooleanValue && !((BooleanValue)value).getValue();
+	}
+
+	/**
+	 * Orders two values that are not NULL: numbers by their value, strings 
+	 * as Java does, dates, times and timestamps by time, FALSE before TRUE 
+	 * and binary strings by their unsigned bytes.
+	 * @return    A negative number, zero or a positive number as <code>a</code> 
+	 *            is less than, equal to or greater than <code>b</code>
+	 * @throws EvalException    if the two can not be compared
+	 */
+	public static int compare(PrimitiveValue a, PrimitiveValue b) {
+		PrimitiveType ta = a.getType(), tb = b.getType();
+		if (isNumeric(ta) && isNumeric(tb)) {
+			if (ta == PrimitiveType.LONG && tb == PrimitiveType.LONG) {
+				return Long.compare(((LongValue)a).getValue(), ((LongValue)b).getValue());
+			}
+			if (ta == PrimitiveType.LONG && tb == PrimitiveType.DOUBLE) {
+				return compare(((LongValue)a).getValue(), ((DoubleValue)b).getValue());
+			}
+			if (ta == PrimitiveType.DOUBLE && tb == PrimitiveType.LONG) {
+				return -compare(((LongValue)b).getValue(), ((DoubleValue)a).getValue());
+			}
+			if (ta == PrimitiveType.DOUBLE || tb == PrimitiveType.DOUBLE) {
+				return compare(toDouble(a), toDouble(b));
+			}
+			return toDecimal(a).compareTo(toDecimal(b));
+		}
+		if (ta == tb) {
+			switch (ta) {
+				case STRING: return ((StringValue)a).getValue().compareTo(((StringValue)b).getValue());
+				case BOOL: return Boolean.compare(((BooleanValue)a).getValue(), ((BooleanValue)b).getValue());
+				case DATE: return ((DateValue)a).compareTo((DateValue)b);
+				case TIME: return ((TimeValue)a).compareTo((TimeValue)b);
+				case TIMESTAMP: return ((TimestampValue)a).compareTo((TimestampValue)b);
+				case BINARY: return ((BinaryValue)a).compareTo((BinaryValue)b);
+				default: break;
+			}
+		}
+		if (ta == PrimitiveType.DATE && tb == PrimitiveType.TIMESTAMP) {
+			return compare((DateValue)a, (TimestampValue)b);
+		}
+		if (ta == PrimitiveType.TIMESTAMP && tb == PrimitiveType.DATE) {
+			return -compare((DateValue)b, (TimestampValue)a);
+		}
+		throw new EvalException("Can not compare " + a + " with " + b);
+	}
+
+	/**
+	 * Compares two doubles as SQL does: 0.0 equals -0.0, and NaN is greater 
+	 * than every other number and equal to itself.
+	 */
+	public static int compare(double a, double b) {
+		return a == b ? 0 : Double.compare(a, b);
+	}
+
+	/**
+	 * Compares a long with a double exactly, even where the long has no 
+	 * double of the same value.
+	 */
+	public static int compare(long a, double b) {
+		if (b != b) { return -1; }
+		if (b >= 0x1p63) { return -1; }
+		if (b < -0x1p63) { return 1; }
+		long whole = (long)b;
+		if (a != whole) { return a < whole ? -1 : 1; }
+		double fraction = b - whole;
+		return fraction > 0 ? -1 : (fraction < 0 ? 1 : 0);
+	}
+
+	private static int compare(DateValue a, TimestampValue b) {
+		int ret = Long.compare(a.getEpochDay() * MICROS_PER_DAY, b.getEpochMicros());
+		return ret != 0 || b.getNanosOfMicro() == 0 ? ret : -1;
+	}
+
+	private static boolean isNumeric(PrimitiveType type) {
+		return type == PrimitiveType.LONG || type == PrimitiveType.DOUBLE || type == PrimitiveType.DECIMAL;
+	}
+
+	private static double toDouble(PrimitiveValue value) {
+		switch (value.getType()) {
+			case LONG: return ((LongValue)value).getValue();
+			case DOUBLE: return ((DoubleValue)value).getValue();
+			default: return ((DecimalValue)value).toDouble();
+		}
+	}
+
+	private static DecimalValue toDecimal(PrimitiveValue value) {
+		if (value.getType() == PrimitiveType.LONG) {
+			return new DecimalValue(((LongValue)value).getValue(), 0);
+		}
+		return (DecimalValue)value;
+	}
+
+	/**
+	 * @return    <code>a</code> + <code>b</code>, - <code>b</code>, * <code>b</code> 
+	 *            or / <code>b</code> as <code>operator</code> says, or NULL if 
+	 *            either is NULL
+	 * @throws EvalException    if either is not a number, on division by zero, 
+	 *                          or if a LONG result overflows
+	 */
+	public static PrimitiveValue arithmetic(char operator, PrimitiveValue a, PrimitiveValue b) {
+		if (isNull(a) || isNull(b)) { return NullValue.NULL; }
+		PrimitiveType ta = a.getType(), tb = b.getType();
+		if (!isNumeric(ta) || !isNumeric(tb)) {
+			throw new EvalException("Can not evaluate " + a + " " + operator + " " + b);
+		}
+		if (ta == PrimitiveType.LONG && tb == PrimitiveType.LONG) {
+			return LongValue.valueOf(arithmetic(operator, ((LongValue)a).getValue(), ((LongValue)b).getValue()));
+		}
+		if (ta == PrimitiveType.DOUBLE || tb == PrimitiveType.DOUBLE) {
+			return DoubleValue.valueOf(arithmetic(operator, toDouble(a), toDouble(b)));
+		}
+		DecimalValue x = toDecimal(a), y = toDecimal(b);
+		switch (operator) {
+			case '+': return x.add(y);
+			case '-': return x.subtract(y);
+			case '*': return x.multiply(y);
+			default:
+				BigDecimal divisor = y.getValue();
+				if (divisor.signum() == 0) { throw divisionByZero(); }
+				return new DecimalValue(x.getValue().divide(divisor, DIVISION));
+		}
+	}
+
+	/**
+	 * @throws EvalException    on division by zero, or if the result overflows
+	 */
+	public static long arithmetic(char operator, long a, long b) {
+		long ret;
+		switch (operator) {
+			case '+':
+				ret = a + b;
+				if (((a ^ ret) & (b ^ ret)) < 0) { throw overflow(); }
+				return ret;
+			case '-':
+				ret = a - b;
+				if (((a ^ b) & (a ^ ret)) < 0) { throw overflow(); }
+				return ret;
+			case '*':
+				ret = a * b;
+				if (Math.multiplyHigh(a, b) != (ret >> 63)) { throw overflow(); }
+				return ret;
+			default:
+				if (b == 0) { throw divisionByZero(); }
+				if (a == Long.MIN_VALUE && b == -1) { throw overflow(); }
+				return a / b;
+		}
+	}
+
+	/**
+	 * @throws EvalException    on division by zero
+	 */
+	public static double arithmetic(char operator, double a, double b) {
+		switch (operator) {
+			case '+': return a + b;
+			case '-': return a - b;
+			case '*': return a * b;
+			default:
+				if (b == 0) { throw divisionByZero(); }
+				return a / b;
+		}
+	}
+
+	private static EvalException divisionByZero() {
+		return new EvalException("Division by zero");
+	}
+
+	private static EvalException overflow() {
+		return new EvalException("LONG overflow");
+	}
+
+	/**
+	 * Matches <code>text</code> against a LIKE pattern, in which % stands for 
+	 * any number of characters and _ for exactly one.  Nothing is allocated; 
+	 * a % is matched by going back to it when what follows it fails.
+	 * @param escape    The character that makes the next %, _ or escape 
+	 *                  character of the pattern stand for itself, or -1
+	 */
+	public static boolean like(String text, String pattern, int escape) {
+		int t = 0, p = 0, tn = text.length(), pn = pattern.length();
+		int starP = -1, starT = 0;
+		while (t < tn) {
+			if (p < pn) {
+				char c = pattern.charAt(p);
+				if (c == escape && p + 1 < pn) {
+					if (pattern.charAt(p + 1) == text.charAt(t)) { p += 2; t++; continue; }
+				} else if (c == '%') {
+					starP = ++p; starT = t;
+					continue;
+				} else if (c == '_' || c == text.charAt(t)) {
+					p++; t++;
+					continue;
+				}
+			}
+			if (starP < 0) { return false; }
+			p = starP; t = ++starT;
+		}
+		while (p < pn && pattern.charAt(p) == '%') { p++; }
+		return p == pn;
+	}
+
+	/**
+	 * Evaluates a condition, checking that it is TRUE, FALSE or NULL.
+	 */
+	protected PrimitiveValue condition(Expression expression, Row row) {
+		PrimitiveValue value = eval(expression, row);
+		if (value instanceof BooleanValue || isNull(value)) { return value; }
+		throw new EvalException("Not a condition: " + expression);
+	}
+
+	/**
+	 * @return    The order of the two sides of <code>e</code>, or UNKNOWN if 
+	 *            either is NULL
+	 */
+	private int order(BinaryExpression e, Row row) {
+		PrimitiveValue left = eval(e.getLeftExpression(), row);
+		if (isNull(left)) { return UNKNOWN; }
+		PrimitiveValue right = eval(e.getRightExpression(), row);
+		if (isNull(right)) { return UNKNOWN; }
+		return Integer.signum(compare(left, right));
+	}
+
+	private PrimitiveValue bitwise(char operator, BinaryExpression e, Row row) {
+		PrimitiveValue left = eval(e.getLeftExpression(), row);
+		PrimitiveValue right = eval(e.getRightExpression(), row);
+		if (isNull(left) || isNull(right)) { return NullValue.NULL; }
+		if (left.getType() != PrimitiveType.LONG || right.getType() != PrimitiveType.LONG) {
+			throw new EvalException("Can not evaluate " + left + " " + operator + " " + right);
+		}
+		long a = ((LongValue)left).getValue(), b = ((LongValue)right).getValue();
+		switch (operator) {
+			case '&': return LongValue.valueOf(a & b);
+			case '|': return LongValue.valueOf(a | b);
+			default: return LongValue.valueOf(a ^ b);
+		}
+	}
+
+	/**
+	 * Reports a node that this class can not evaluate.
+	 */
+	protected EvalException unsupported(Expression e) {
+		return new EvalException("Can not evaluate " + e);
+	}
+
+	public PrimitiveValue visit(NullValue e, Row row) { return e; }
+	public PrimitiveValue visit(DoubleValue e, Row row) { return e; }
+	public PrimitiveValue visit(LongValue e, Row row) { return e; }
+	public PrimitiveValue visit(DecimalValue e, Row row) { return e; }
+	public PrimitiveValue visit(DateValue e, Row row) { return e; }
+	public PrimitiveValue visit(TimeValue e, Row row) { return e; }
+	public PrimitiveValue visit(TimestampValue e, Row row) { return e; }
+	public PrimitiveValue visit(BooleanValue e, Row row) { return e; }
+	public PrimitiveValue visit(StringValue e, Row row) { return e; }
+	public PrimitiveValue visit(BinaryValue e, Row row) { return e; }
+
+	public PrimitiveValue visit(Column e, Row row) {
+		PrimitiveValue value = row.get(e);
+		if (value == null) { throw new EvalException("Unknown column: " + e.getWholeColumnName()); }
+		return value;
+	}
+
+	public PrimitiveValue visit(Function e, Row row) { throw unsupported(e); }
+	public PrimitiveValue visit(JdbcParameter e, Row row) { throw unsupported(e); }
+	public PrimitiveValue visit(SubSelect e, Row row) { throw unsupported(e); }
+	public PrimitiveValue visit(ExistsExpression e, Row row) { throw unsupported(e); }
+	public PrimitiveValue visit(AllComparisonExpression e, Row row) { throw unsupported(e); }
+	public PrimitiveValue visit(AnyComparisonExpression e, Row row) { throw unsupported(e); }
+	public PrimitiveValue visit(Matches e, Row row) { throw unsupported(e); }
+
+	/**
+	 * The grammar reads "NOT x" as an InverseExpression, but drops the sign of 
+	 * "-x", so a numeric operand only occurs in an InverseExpression built by 
+	 * hand; which of the two it stands for follows from the type of x.
+	 */
+	public PrimitiveValue visit(InverseExpression e, Row row) {
+		PrimitiveValue value = eval(e.getExpression(), row);
+		if (isNull(value)) { return value; }
+		switch (value.getType()) {
+			case BOOL: return bool(!((BooleanValue)value).getValue());
+			case LONG: return LongValue.valueOf(arithmetic('-', 0, ((LongValue)value).getValue()));
+			case DOUBLE: return DoubleValue.valueOf(-((DoubleValue)value).getValue());
+			case DECIMAL: return new DecimalValue(0, 0).subtract((DecimalValue)value);
+			default: throw new EvalException("Can not evaluate " + e);
+		}
+	}
+
+	public PrimitiveValue visit(Addition e, Row row) {
+		return arithmetic('+', eval(e.getLeftExpression(), row), eval(e.getRightExpression(), row));
+	}
+
+	public PrimitiveValue visit(Subtraction e, Row row) {
+		return arithmetic('-', eval(e.getLeftExpression(), row), eval(e.getRightExpression(), row));
+	}
+
+	public PrimitiveValue visit(Multiplication e, Row row) {
+		return arithmetic('*', eval(e.getLeftExpression(), row), eval(e.getRightExpression(), row));
+	}
+
+	public PrimitiveValue visit(Division e, Row row) {
+		return arithmetic('/', eval(e.getLeftExpression(), row), eval(e.getRightExpression(), row));
+	}
+
+	public PrimitiveValue visit(BitwiseAnd e, Row row) { return bitwise('&', e, row); }
+	public PrimitiveValue visit(BitwiseOr e, Row row) { return bitwise('|', e, row); }
+	public PrimitiveValue visit(BitwiseXor e, Row row) { return bitwise('^', e, row); }
+
+	public PrimitiveValue visit(Concat e, Row row) {
+		PrimitiveValue left = eval(e.getLeftExpression(), row);
+		PrimitiveValue right = eval(e.getRightExpression(), row);
+		if (isNull(left) || isNull(right)) { return NullValue.NULL; }
+		return new StringValue(left.toRawString().concat(right.toRawString()));
+	}
+
+	public PrimitiveValue visit(AndExpression e, Row row) {
+		PrimitiveValue left = condition(e.getLeftExpression(), row);
+		if (isFalse(left)) { return left; }
+		PrimitiveValue right = condition(e.getRightExpression(), row);
+		if (isFalse(right)) { return right; }
+		return isNull(left) ? left : right;
+	}
+
+	public PrimitiveValue visit(OrExpression e, Row row) {
+		PrimitiveValue left = condition(e.getLeftExpression(), row);
+		if (isTrue(left)) { return left; }
+		PrimitiveValue right = condition(e.getRightExpression(), row);
+		if (isTrue(right)) { return right; }
+		return isNull(left) ? left : right;
+	}
+
+	public PrimitiveValue visit(EqualsTo e, Row row) {
+		int order = order(e, row);
+		return order == UNKNOWN ? NullValue.NULL : bool(order == 0);
+	}
+
+	public PrimitiveValue visit(NotEqualsTo e, Row row) {
+		int order = order(e, row);
+		return order == UNKNOWN ? NullValue.NULL : bool(order != 0);
+	}
+
+	public PrimitiveValue visit(GreaterThan e, Row row) {
+		int order = order(e, row);
+		return order == UNKNOWN ? NullValue.NULL : bool(order > 0);
+	}
+
+	public PrimitiveValue visit(GreaterThanEquals e, Row row) {
+		int order = order(e, row);
+		return order == UNKNOWN ? NullValue.NULL : bool(order >= 0);
+	}
+
+	public PrimitiveValue visit(MinorThan e, Row row) {
+		int order = order(e, row);
+		return order == UNKNOWN ? NullValue.NULL : bool(order < 0);
+	}
+
+	public PrimitiveValue visit(MinorThanEquals e, Row row) {
+		int order = order(e, row);
+		return order == UNKNOWN ? NullValue.NULL : bool(order <= 0);
+	}
+
+	public PrimitiveValue visit(Between e, Row row) {
+		PrimitiveValue value = eval(e.getLeftExpression(), row);
+		PrimitiveValue start = eval(e.getBetweenExpressionStart(), row);
+		PrimitiveValue end = eval(e.getBetweenExpressionEnd(), row);
+		PrimitiveValue low = isNull(value) || isNull(start) ? NullValue.NULL : bool(compare(value, start) >= 0);
+		PrimitiveValue high = isNull(value) || isNull(end) ? NullValue.NULL : bool(compare(value, end) <= 0);
+		PrimitiveValue ret = and(low, high);
+		return e.isNot() ? not(ret) : ret;
+	}
+
+	/**
+	 * x IN (a, b, ...) is x = a OR x = b OR ..., so it is NULL when x is NULL, 
+	 * or when no item equals x and some item is NULL.
+	 */
+	public PrimitiveValue visit(InExpression e, Row row) {
+		PrimitiveValue ret = in(eval(e.getLeftExpression(), row), e, row);
+		return e.isNot() ? not(ret) : ret;
+	}
+
+	private PrimitiveValue in(PrimitiveValue value, InExpression e, Row row) {
+		if (isNull(value)) { return value; }
+		ItemsList items = e.getItemsList();
+		if (!(items instanceof ExpressionList)) { throw unsupported(e); }
+		LiteralList literals = LiteralList.of(items);
+		if (literals != null) {
+			PrimitiveType type = value.getType();
+			boolean strings = literals.getType() == PrimitiveType.STRING;
+			if (strings ? type == PrimitiveType.STRING 
+			            : type == PrimitiveType.LONG || type == PrimitiveType.DOUBLE) {
+				return bool(literals.contains(value));
+			}
+		}
+		List<Expression> list = ((ExpressionList)items).getExpressions();
+		boolean unknown = false;
+		for (int i = 0; i < list.size(); i++) {
+			PrimitiveValue item = eval(list.get(i), row);
+			if (isNull(item)) {
+				unknown = true;
+			} else if (compare(value, item) == 0) {
+				return BooleanValue.TRUE;
+			}
+		}
+		return unknown ? NullValue.NULL : BooleanValue.FALSE;
+	}
+
+	public PrimitiveValue visit(IsNullExpression e, Row row) {
+		return bool(isNull(eval(e.getLeftExpression(), row)) != e.isNot());
+	}
+
+	public PrimitiveValue visit(LikeExpression e, Row row) {
+		PrimitiveValue text = eval(e.getLeftExpression(), row);
+		PrimitiveValue pattern = eval(e.getRightExpression(), row);
+		if (isNull(text) || isNull(pattern)) { return NullValue.NULL; }
+		if (text.getType() != PrimitiveType.STRING || pattern.getType() != PrimitiveType.STRING) {
+			throw new EvalException("Can not evaluate " + e);
+		}
+		int escape = -1;
+		if (e.getEscape() != null) {
+			if (e.getEscape().length() != 1) { throw new EvalException("Bad escape character in " + e); }
+			escape = e.getEscape().charAt(0);
+		}
+		boolean ret = like(((StringValue)text).getValue(), ((StringValue)pattern).getValue(), escape);
+		return bool(ret != e.isNot());
+	}
+
+	/**
+	 * CASE x WHEN a THEN ... takes the first branch whose value equals x, which 
+	 * a NULL x never does; CASE WHEN c THEN ... takes the first branch whose 
+	 * condition is TRUE.  Without a match the result is the ELSE, or NULL.
+	 */
+	public PrimitiveValue visit(CaseExpression e, Row row) {
+		PrimitiveValue subject = e.getSwitchExpression() == null ? null : eval(e.getSwitchExpression(), row);
+		List<WhenClause> whens = e.getWhenClauses();
+		for (int i = 0; i < whens.size(); i++) {
+			WhenClause when = whens.get(i);
+			boolean match;
+			if (subject == null) {
+				match = isTrue(condition(when.getWhenExpression(), row));
+			} else {
+				PrimitiveValue value = eval(when.getWhenExpression(), row);
+				match = !isNull(subject) && !isNull(value) && compare(subject, value) == 0;
+			}
+			if (match) { return eval(when.getThenExpression(), row); }
+		}
+		return e.getElseExpression() == null ? NullValue.NULL : eval(e.getElseExpression(), row);
+	}
+
+	/**
+	 * A WHEN on its own is CASE WHEN c THEN v END.
+	 */
+	public PrimitiveValue visit(WhenClause e, Row row) {
+		if (isTrue(condition(e.getWhenExpression(), row))) {
+			return eval(e.getThenExpression(), row);
+		}
+		return NullValue.NULL;
+	}
+}
@@ -0,0 +1,891 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import java.util.List;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * Compiles an expression over {@link Bindings} into a {@link CompiledExpression}: 
+ * a tree of small final classes, one for each kind of node and operand type, 
+ * with each column resolved to its position once.  Where the types of the 
+ * operands are known to be LONG, DOUBLE or BOOL, values pass between the 
+ * nodes unboxed, and each call from a node to its child has a single target, 
+ * so that the JIT can inline a whole filter into the loop that runs it.
+ * <p>
+ * Other operands, e.g. strings, DECIMALs and columns bound with no type, go 
+ * through the value methods and the static helpers of {@link Eval}.  Nodes 
+ * that need a database, such as functions and sub-selects, are evaluated by 
+ * the interpreter given to the constructor, which can be a subclass of Eval 
+ * that knows how.  Results are those of the interpreter, except that a node 
+ * may skip an operand that can not change its result, e.g. the right side of 
+ * FALSE AND x, and so not raise an error that the interpreter would.
+ * <p>
+ * A compiled expression is a snapshot: later changes to the expression or 
+ * the bindings are not seen by it.  It keeps no state, so it can be shared 
+ * between threads.
+ */
+public class ExpressionCompiler implements GenericExpressionVisitor<CompiledExpression, Bindings> {
+
+	private static final int EQ = 0, NE = 1, LT = 2, LE = 3, GT = 4, GE = 5;
+
+	private final Eval interpreter;
+
+	public ExpressionCompiler() {
+		this(new Eval());
+	}
+
+	/**
+	 * @param interpreter    Evaluates the nodes that are not compiled
+	 */
+	public ExpressionCompiler(Eval interpreter) {
+		this.interpreter = interpreter;
+	}
+
+	public Eval getInterpreter() {
+		return interpreter;
+	}
+
+	/**
+	 * @throws EvalException    if the expression reads a column that is not bound
+	 */
+	public CompiledExpression compile(Expression expression, Bindings bindings) {
+		return expression.accept(this, bindings);
+	}
+
+	/**
+	 * @return    <code>expression</code> as it is, for the interpreter to evaluate 
+	 *            each time
+	 */
+	public CompiledExpression interpret(Expression expression, Bindings bindings) {
+		return new Interpreted(expression, bindings, interpreter);
+	}
+
+	private static boolean isNumber(PrimitiveType type) {
+		return type == PrimitiveType.LONG || type == PrimitiveType.DOUBLE;
+	}
+
+	/** A condition is BOOL, or of a type that is not known until it is evaluated */
+	private static boolean isCondition(CompiledExpression e) {
+		return e.type == PrimitiveType.BOOL || e.type == null;
+	}
+
+	private static CompiledExpression arithmetic(char operator, CompiledExpression left, CompiledExpression right) {
+		if (left.type == PrimitiveType.LONG && right.type == PrimitiveType.LONG) {
+			return new LongArithmetic(operator, left, right);
+		}
+		if (isNumber(left.type) && isNumber(right.type)) {
+			return new DoubleArithmetic(operator, left, right);
+		}
+		return new ValueArithmetic(operator, left, right);
+	}
+
+	private static CompiledExpression comparison(int operator, CompiledExpression left, CompiledExpression right) {
+		if (left.type == PrimitiveType.LONG && right.type == PrimitiveType.LONG) {
+			return new LongComparison(operator, left, right);
+		}
+		if (isNumber(left.type) && isNumber(right.type)) {
+			return new DoubleComparison(operator, left, right);
+		}
+		return new ValueComparison(operator, left, right);
+	}
+
+	private CompiledExpression arithmetic(char operator, BinaryExpression e, Bindings bindings) {
+		return arithmetic(operator, compile(e.getLeftExpression(), bindings), compile(e.getRightExpression(), bindings));
+	}
+
+	private CompiledExpression comparison(int operator, BinaryExpression e, Bindings bindings) {
+		return comparison(operator, compile(e.getLeftExpression(), bindings), compile(e.getRightExpression(), bindings));
+	}
+
+	private CompiledExpression bitwise(char operator, BinaryExpression e, Bindings bindings) {
+		CompiledExpression left = compile(e.getLeftExpression(), bindings);
+		CompiledExpression right = compile(e.getRightExpression(), bindings);
+		if (left.type == PrimitiveType.LONG && right.type == PrimitiveType.LONG) {
+			return new LongArithmetic(operator, left, right);
+		}
+		return interpret(e, bindings);
+	}
+
+	private static CompiledExpression constant(PrimitiveValue value) {
+		return new ValueConstant(value);
+	}
+
+	public CompiledExpression visit(NullValue e, Bindings bindings) { return constant(e); }
+	public CompiledExpression visit(LongValue e, Bindings bindings) { return new LongConstant(e.getValue()); }
+	public CompiledExpression visit(DoubleValue e, Bindings bindings) { return new DoubleConstant(e.getValue()); }
+	public CompiledExpression visit(BooleanValue e, Bindings bindings) { return new BoolConstant(e.getValue()); }
+	public CompiledExpression visit(DecimalValue e, Bindings bindings) { return constant(new DecimalValue(e.getValue())); }
+	public CompiledExpression visit(DateValue e, Bindings bindings) { return constant(DateValue.ofEpochDay(e.getEpochDay())); }
+	public CompiledExpression visit(TimeValue e, Bindings bindings) { return constant(TimeValue.ofMicrosOfDay(e.getMicrosOfDay())); }
+	public CompiledExpression visit(TimestampValue e, Bindings bindings) { 
+		return constant(TimestampValue.ofEpochMicros(e.getEpochMicros(), e.getNanosOfMicro())); 
+	}
+	public CompiledExpression visit(StringValue e, Bindings bindings) { return constant(new StringValue(e.getValue())); }
+	public CompiledExpression visit(BinaryValue e, Bindings bindings) { return constant(new BinaryValue(e.getValue())); }
+
+	public CompiledExpression visit(Column e, Bindings bindings) {
+		int index = bindings.indexOf(e);
+		if (index < 0) { throw new EvalException("Unknown column: " + e.getWholeColumnName()); }
+		PrimitiveType type = bindings.getType(index);
+		boolean nullable = bindings.isNullable(index);
+		if (type == PrimitiveType.LONG) { return new LongColumn(index, nullable); }
+		if (type == PrimitiveType.DOUBLE) { return new DoubleColumn(index, nullable); }
+		if (type == PrimitiveType.BOOL) { return new BoolColumn(index, nullable); }
+		return new ValueColumn(index, type, nullable);
+	}
+
+	public CompiledExpression visit(Function e, Bindings bindings) { return interpret(e, bindings); }
+	public CompiledExpression visit(JdbcParameter e, Bindings bindings) { return interpret(e, bindings); }
+	public CompiledExpression visit(SubSelect e, Bindings bindings) { return interpret(e, bindings); }
+	public CompiledExpression visit(ExistsExpression e, Bindings bindings) { return interpret(e, bindings); }
+	public CompiledExpression visit(AllComparisonExpression e, Bindings bindings) { return interpret(e, bindings); }
+	public CompiledExpression visit(AnyComparisonExpression e, Bindings bindings) { return interpret(e, bindings); }
+	public CompiledExpression visit(Matches e, Bindings bindings) { return interpret(e, bindings); }
+	public CompiledExpression visit(Concat e, Bindings bindings) { return interpret(e, bindings); }
+	public CompiledExpression visit(WhenClause e, Bindings bindings) { return interpret(e, bindings); }
+
+	public CompiledExpression visit(InverseExpression e, Bindings bindings) {
+		CompiledExpression operand = compile(e.getExpression(), bindings);
+		if (operand.type == PrimitiveType.BOOL) { return new Not(operand); }
+		if (operand.type == PrimitiveType.LONG) { return new LongArithmetic('-', new LongConstant(0), operand); }
+		// -1.0 * x keeps the sign of a zero right
+		if (operand.type == PrimitiveType.DOUBLE) { return new DoubleArithmetic('*', new DoubleConstant(-1.0), operand); }
+		return interpret(e, bindings);
+	}
+
+	public CompiledExpression visit(Addition e, Bindings bindings) { return arithmetic('+', e, bindings); }
+	public CompiledExpression visit(Subtraction e, Bindings bindings) { return arithmetic('-', e, bindings); }
+	public CompiledExpression visit(Multiplication e, Bindings bindings) { return arithmetic('*', e, bindings); }
+	public CompiledExpression visit(Division e, Bindings bindings) { return arithmetic('/', e, bindings); }
+	public CompiledExpression visit(BitwiseAnd e, Bindings bindings) { return bitwise('&', e, bindings); }
+	public CompiledExpression visit(BitwiseOr e, Bindings bindings) { return bitwise('|', e, bindings); }
+	public CompiledExpression visit(BitwiseXor e, Bindings bindings) { return bitwise('^', e, bindings); }
+
+	public CompiledExpression visit(AndExpression e, Bindings bindings) {
+		CompiledExpression left = compile(e.getLeftExpression(), bindings);
+		CompiledExpression right = compile(e.getRightExpression(), bindings);
+		if (!isCondition(left) || !isCondition(right)) { return interpret(e, bindings); }
+		return new And(left, right);
+	}
+
+	public CompiledExpression visit(OrExpression e, Bindings bindings) {
+		CompiledExpression left = compile(e.getLeftExpression(), bindings);
+		CompiledExpression right = compile(e.getRightExpression(), bindings);
+		if (!isCondition(left) || !isCondition(right)) { return interpret(e, bindings); }
+		return new Or(left, right);
+	}
+
+	public CompiledExpression visit(EqualsTo e, Bindings bindings) { return comparison(EQ, e, bindings); }
+	public CompiledExpression visit(NotEqualsTo e, Bindings bindings) { return comparison(NE, e, bindings); }
+	public CompiledExpression visit(MinorThan e, Bindings bindings) { return comparison(LT, e, bindings); }
+	public CompiledExpression visit(MinorThanEquals e, Bindings bindings) { return comparison(LE, e, bindings); }
+	public CompiledExpression visit(GreaterThan e, Bindings bindings) { return comparison(GT, e, bindings); }
+	public CompiledExpression visit(GreaterThanEquals e, Bindings bindings) { return comparison(GE, e, bindings); }
+
+	/**
+	 * x BETWEEN a AND b is x >= a AND x <= b, by three-valued logic as well.
+	 */
+	public CompiledExpression visit(Between e, Bindings bindings) {
+		CompiledExpression value = compile(e.getLeftExpression(), bindings);
+		CompiledExpression ret = new And(
+			comparison(GE, value, compile(e.getBetweenExpressionStart(), bindings)),
+			comparison(LE, value, compile(e.getBetweenExpressionEnd(), bindings)));
+		return e.isNot() ? new Not(ret) : ret;
+	}
+
+	public CompiledExpression visit(InExpression e, Bindings bindings) {
+		if (!(e.getItemsList() instanceof ExpressionList)) { return interpret(e, bindings); }
+		CompiledExpression value = compile(e.getLeftExpression(), bindings);
+		LiteralList literals = LiteralList.of(e.getItemsList());
+		if (literals != null) {
+			boolean strings = literals.getType() == PrimitiveType.STRING;
+			if (strings ? value.type == PrimitiveType.STRING : isNumber(value.type)) {
+				return new LiteralIn(value, new LiteralList(literals), e.isNot());
+			}
+		}
+		List<Expression> list = ((ExpressionList)e.getItemsList()).getExpressions();
+		CompiledExpression[] items = new CompiledExpression[list.size()];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = compile(list.get(i), bindings);
+		}
+		return new ValueIn(value, items, e.isNot());
+	}
+
+	public CompiledExpression visit(IsNullExpression e, Bindings bindings) {
+		return new IsNull(compile(e.getLeftExpression(), bindings), e.isNot());
+	}
+
+	public CompiledExpression visit(LikeExpression e, Bindings bindings) {
+		if (e.getEscape() != null && e.getEscape().length() != 1) { return interpret(e, bindings); }
+		return new Like(compile(e.getLeftExpression(), bindings), compile(e.getRightExpression(), bindings), 
+			e.getEscape() == null ? -1 : e.getEscape().charAt(0), e.isNot());
+	}
+
+	public CompiledExpression visit(CaseExpression e, Bindings bindings) {
+		CompiledExpression subject = e.getSwitchExpression() == null ? null : compile(e.getSwitchExpression(), bindings);
+		List<WhenClause> clauses = e.getWhenClauses();
+		CompiledExpression[] whens = new CompiledExpression[clauses.size()];
+		CompiledExpression[] thens = new CompiledExpression[clauses.size()];
+		for (int i = 0; i < whens.length; i++) {
+			whens[i] = compile(clauses.get(i).getWhenExpression(), bindings);
+			thens[i] = compile(clauses.get(i).getThenExpression(), bindings);
+			if (subject == null && !isCondition(whens[i])) { return interpret(e, bindings); }
+		}
+		CompiledExpression otherwise = e.getElseExpression() == null ? null : compile(e.getElseExpression(), bindings);
+		return new Case(subject, whens, thens, otherwise);
+	}
+
+	private static boolean test(int operator, int order) {
+		switch (operator) {
+			case EQ: return order == 0;
+			case NE: return order != 0;
+			case LT: return order < 0;
+			case LE: return order <= 0;
+			case GT: return order > 0;
+			default: return order >= 0;
+		}
+	}
+
+	/**
+	 * A node whose result is TRUE, FALSE or NULL.
+	 */
+	private static abstract class Condition extends CompiledExpression {
+		Condition(boolean nullable) {
+			super(PrimitiveType.BOOL, nullable);
+		}
+
+		public abstract boolean evalBool(IndexedRow row);
+		public abstract boolean isFalse(IndexedRow row);
+
+		public PrimitiveValue eval(IndexedRow row) {
+			if (evalBool(row)) { return BooleanValue.TRUE; }
+			return isFalse(row) ? BooleanValue.FALSE : NullValue.NULL;
+		}
+
+		public boolean isNull(IndexedRow row) {
+			return nullable && !evalBool(row) && !isFalse(row);
+		}
+	}
+
+	/**
+	 * A condition that finds out whether it is TRUE, FALSE or NULL in one step.
+	 */
+	private static abstract class Predicate extends Condition {
+		Predicate(boolean nullable) {
+			super(nullable);
+		}
+
+		/**
+		 * @return    TRUE, FALSE or UNKNOWN
+		 */
+		abstract int decide(IndexedRow row);
+
+		public boolean evalBool(IndexedRow row) { return decide(row) == TRUE; }
+		public boolean isFalse(IndexedRow row) { return decide(row) == FALSE; }
+		public boolean isNull(IndexedRow row) { return nullable && decide(row) == UNKNOWN; }
+		public PrimitiveValue eval(IndexedRow row) { return truthValue(decide(row)); }
+	}
+
+	private static abstract class LongNode extends CompiledExpression {
+		LongNode(boolean nullable) {
+			super(PrimitiveType.LONG, nullable);
+		}
+
+		public abstract boolean isNull(IndexedRow row);
+		public abstract long evalLong(IndexedRow row);
+
+		public double evalDouble(IndexedRow row) {
+			return evalLong(row);
+		}
+
+		public PrimitiveValue eval(IndexedRow row) {
+			return isNull(row) ? NullValue.NULL : LongValue.valueOf(evalLong(row));
+		}
+	}
+
+	private static abstract class DoubleNode extends CompiledExpression {
+		DoubleNode(boolean nullable) {
+			super(PrimitiveType.DOUBLE, nullable);
+		}
+
+		public abstract boolean isNull(IndexedRow row);
+		public abstract double evalDouble(IndexedRow row);
+
+		public PrimitiveValue eval(IndexedRow row) {
+			return isNull(row) ? NullValue.NULL : DoubleValue.valueOf(evalDouble(row));
+		}
+	}
+
+	private static final class Interpreted extends CompiledExpression {
+		private final Expression expression;
+		private final Bindings bindings;
+		private final Eval interpreter;
+
+		Interpreted(Expression expression, Bindings bindings, Eval interpreter) {
+			super(null, true);
+			this.expression = expression;
+			this.bindings = bindings;
+			this.interpreter = interpreter;
+		}
+
+		public PrimitiveValue eval(IndexedRow row) {
+			return interpreter.eval(expression, bindings.row(row));
+		}
+	}
+
+	private static final class ValueConstant extends CompiledExpression {
+		private final PrimitiveValue value;
+
+		ValueConstant(PrimitiveValue value) {
+			super(value.getType(), Eval.isNull(value));
+			this.value = value;
+		}
+
+		public PrimitiveValue eval(IndexedRow row) { return value; }
+		public boolean isNull(IndexedRow row) { return nullable; }
+	}
+
+	private static final class LongConstant extends LongNode {
+		private final long value;
+		private final LongValue boxed;
+
+		LongConstant(long value) {
+			super(false);
+			this.value = value;
+			this.boxed = LongValue.valueOf(value);
+		}
+
+		public boolean isNull(IndexedRow row) { return false; }
+		public long evalLong(IndexedRow row) { return value; }
+		public PrimitiveValue eval(IndexedRow row) { return boxed; }
+	}
+
+	private static final class DoubleConstant extends DoubleNode {
+		private final double value;
+		private final DoubleValue boxed;
+
+		DoubleConstant(double value) {
+			super(false);
+			this.value = value;
+			this.boxed = DoubleValue.valueOf(value);
+		}
+
+		public boolean isNull(IndexedRow row) { return false; }
+		public double evalDouble(IndexedRow row) { return value; }
+		public PrimitiveValue eval(IndexedRow row) { return boxed; }
+	}
+
+	private static final class BoolConstant extends Condition {
+		private final boolean value;
+
+		BoolConstant(boolean value) {
+			super(false);
+			this.value = value;
+		}
+
+		public boolean evalBool(IndexedRow row) { return value; }
+		public boolean isFalse(IndexedRow row) { return !value; }
+	}
+
+	private static final class ValueColumn extends CompiledExpression {
+		private final int index;
+
+		ValueColumn(int index, PrimitiveType type, boolean nullable) {
+			super(type, nullable);
+			this.index = index;
+		}
+
+		public PrimitiveValue eval(IndexedRow row) { return row.get(index); }
+		public boolean isNull(IndexedRow row) { return nullable && row.isNull(index); }
+	}
+
+	private static final class LongColumn extends LongNode {
+		private final int index;
+
+		LongColumn(int index, boolean nullable) {
+			super(nullable);
+			this.index = index;
+		}
+
+		public boolean isNull(IndexedRow row) { return nullable && row.isNull(index); }
+		public long evalLong(IndexedRow row) { return row.getLong(index); }
+	}
+
+	private static final class DoubleColumn extends DoubleNode {
+		private final int index;
+
+		DoubleColumn(int index, boolean nullable) {
+			super(nullable);
+			this.index = index;
+		}
+
+		public boolean isNull(IndexedRow row) { return nullable && row.isNull(index); }
+		public double evalDouble(IndexedRow row) { return row.getDouble(index); }
+	}
+
+	private static final class BoolColumn extends Condition {
+		private final int index;
+
+		BoolColumn(int index, boolean nullable) {
+			super(nullable);
+			this.index = index;
+		}
+
+		public boolean evalBool(IndexedRow row) { return !(nullable && row.isNull(index)) && row.getBool(index); }
+		public boolean isFalse(IndexedRow row) { return !(nullable && row.isNull(index)) && !row.getBool(index); }
+	}
+
+	private static final class LongArithmetic extends LongNode {
+		private final char operator;
+		private final CompiledExpression left, right;
+
+		LongArithmetic(char operator, CompiledExpression left, CompiledExpression right) {
+			super(left.nullable || right.nullable);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		public boolean isNull(IndexedRow row) {
+			if (!nullable) { return false; }
+			boolean a = left.isNull(row), b = right.isNull(row);
+			if (a != b) {
+				// Eval works out both operands before it finds one NULL
+				(a ? right : left).evalLong(row);
+			}
+			return a || b;
+		}
+
+		public long evalLong(IndexedRow row) {
+			long a = left.evalLong(row), b = right.evalLong(row);
+			switch (operator) {
+				case '&': return a & b;
+				case '|': return a | b;
+				case '^': return a ^ b;
+				default: return Eval.arithmetic(operator, a, b);
+			}
+		}
+	}
+
+	private static final class DoubleArithmetic extends DoubleNode {
+		private final char operator;
+		private final CompiledExpression left, right;
+
+		DoubleArithmetic(char operator, CompiledExpression left, CompiledExpression right) {
+			super(left.nullable || right.nullable);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		public boolean isNull(IndexedRow row) {
+			if (!nullable) { return false; }
+			boolean a = left.isNull(row), b = right.isNull(row);
+			if (a != b) {
+				// Eval works out both operands before it finds one NULL
+				(a ? right : left).evalDouble(row);
+			}
+			return a || b;
+		}
+
+		public double evalDouble(IndexedRow row) {
+			return Eval.arithmetic(operator, left.evalDouble(row), right.evalDouble(row));
+		}
+	}
+
+	private static final class ValueArithmetic extends CompiledExpression {
+		private final char operator;
+		private final CompiledExpression left, right;
+
+		ValueArithmetic(char operator, CompiledExpression left, CompiledExpression right) {
+			super(null, true);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		public PrimitiveValue eval(IndexedRow row) {
+			return Eval.arithmetic(operator, left.eval(row), right.eval(row));
+		}
+	}
+
+	private static final class LongComparison extends Predicate {
+		private final int operator;
+		private final CompiledExpression left, right;
+
+		LongComparison(int operator, CompiledExpression left, CompiledExpression right) {
+			super(left.nullable || right.nullable);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		int decide(IndexedRow row) {
+			if (nullable) {
+				// as Eval does, the right side is not looked at when the left is NULL
+				if (left.isNull(row)) { return UNKNOWN; }
+				if (right.isNull(row)) { left.evalLong(row); return UNKNOWN; }
+			}
+			return test(operator, Long.compare(left.evalLong(row), right.evalLong(row))) ? TRUE : FALSE;
+		}
+	}
+
+	/**
+	 * Compares two numbers of which at least one is a DOUBLE; a LONG is 
+	 * compared exactly, as {@link Eval} does.
+	 */
+	private static final class DoubleComparison extends Predicate {
+		private final int operator;
+		private final CompiledExpression left, right;
+		private final boolean longLeft, longRight;
+
+		DoubleComparison(int operator, CompiledExpression left, CompiledExpression right) {
+			super(left.nullable || right.nullable);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+			this.longLeft = left.type == PrimitiveType.LONG;
+			this.longRight = right.type == PrimitiveType.LONG;
+		}
+
+		int decide(IndexedRow row) {
+			if (nullable) {
+				// as Eval does, the right side is not looked at when the left is NULL
+				if (left.isNull(row)) { return UNKNOWN; }
+				if (right.isNull(row)) { left.evalDouble(row); return UNKNOWN; }
+			}
+			int order;
+			if (longLeft) {
+				order = Eval.compare(left.evalLong(row), right.evalDouble(row));
+			} else if (longRight) {
+				order = -Eval.compare(right.evalLong(row), left.evalDouble(row));
+			} else {
+				order = Eval.compare(left.evalDouble(row), right.evalDouble(row));
+			}
+			return test(operator, order) ? TRUE : FALSE;
+		}
+	}
+
+	private static final class ValueComparison extends Predicate {
+		private final int operator;
+		private final CompiledExpression left, right;
+
+		ValueComparison(int operator, CompiledExpression left, CompiledExpression right) {
+			super(left.nullable || right.nullable);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		int decide(IndexedRow row) {
+			PrimitiveValue a = left.eval(row);
+			if (Eval.isNull(a)) { return UNKNOWN; }
+			PrimitiveValue b = right.eval(row);
+			if (Eval.isNull(b)) { return UNKNOWN; }
+			return test(operator, Eval.compare(a, b)) ? TRUE : FALSE;
+		}
+	}
+
+	private static final class Not extends Condition {
+		private final CompiledExpression operand;
+
+		Not(CompiledExpression operand) {
+			super(operand.nullable);
+			this.operand = operand;
+		}
+
+		public boolean evalBool(IndexedRow row) { return operand.isFalse(row); }
+		public boolean isFalse(IndexedRow row) { return operand.evalBool(row); }
+	}
+
+	private static final class And extends Condition {
+		private final CompiledExpression left, right;
+
+		And(CompiledExpression left, CompiledExpression right) {
+			super(left.nullable || right.nullable);
+			this.left = left;
+			this.right = right;
+		}
+
+		public boolean evalBool(IndexedRow row) { return left.evalBool(row) && right.evalBool(row); }
+		public boolean isFalse(IndexedRow row) { return left.isFalse(row) || right.isFalse(row); }
+	}
+
+	private static final class Or extends Condition {
+		private final CompiledExpression left, right;
+
+		Or(CompiledExpression left, CompiledExpression right) {
+			super(left.nullable || right.nullable);
+			this.left = left;
+			this.right = right;
+		}
+
+		public boolean evalBool(IndexedRow row) { return left.evalBool(row) || right.evalBool(row); }
+		public boolean isFalse(IndexedRow row) { return left.isFalse(row) && right.isFalse(row); }
+	}
+
+	private static final class IsNull extends Condition {
+		private final CompiledExpression operand;
+		private final boolean not;
+
+		IsNull(CompiledExpression operand, boolean not) {
+			super(false);
+			this.operand = operand;
+			this.not = not;
+		}
+
+		public boolean evalBool(IndexedRow row) { return test(row) != not; }
+		public boolean isFalse(IndexedRow row) { return test(row) == not; }
+
+		/**
+		 * Works out an operand that is not NULL as well, for the errors that 
+		 * Eval would raise.
+		 */
+		private boolean test(IndexedRow row) {
+			if (operand.isNull(row)) { return true; }
+			PrimitiveType type = operand.type;
+			if (type == PrimitiveType.LONG) {
+				operand.evalLong(row);
+			} else if (type == PrimitiveType.DOUBLE) {
+				operand.evalDouble(row);
+			} else if (type == PrimitiveType.BOOL) {
+				operand.evalBool(row);
+			} else {
+				operand.eval(row);
+			}
+			return false;
+		}
+	}
+
+	private static final class LiteralIn extends Predicate {
+		private final CompiledExpression value;
+		private final LiteralList list;
+		private final boolean not;
+
+		LiteralIn(CompiledExpression value, LiteralList list, boolean not) {
+			super(value.nullable);
+			this.value = value;
+			this.list = list;
+			this.not = not;
+			// the list sorts its items the first time it is searched; do it now, 
+			// before the node is shared
+			list.contains(0L);
+			list.contains("");
+		}
+
+		int decide(IndexedRow row) {
+			if (nullable && value.isNull(row)) { return UNKNOWN; }
+			boolean found;
+			switch (value.type) {
+				case LONG: found = list.contains(value.evalLong(row)); break;
+				case DOUBLE: found = list.contains(value.evalDouble(row)); break;
+				default: found = list.contains(((StringValue)value.eval(row)).getValue()); break;
+			}
+			return found != not ? TRUE : FALSE;
+		}
+	}
+
+	private static final class ValueIn extends Predicate {
+		private final CompiledExpression value;
+		private final CompiledExpression[] items;
+		private final boolean not;
+
+		ValueIn(CompiledExpression value, CompiledExpression[] items, boolean not) {
+			super(true);
+			this.value = value;
+			this.items = items;
+			this.not = not;
+		}
+
+		int decide(IndexedRow row) {
+			PrimitiveValue a = value.eval(row);
+			if (Eval.isNull(a)) { return UNKNOWN; }
+			boolean unknown = false;
+			for (CompiledExpression item : items) {
+				PrimitiveValue b = item.eval(row);
+				if (Eval.isNull(b)) {
+					unknown = true;
+				} else if (Eval.compare(a, b) == 0) {
+					return not ? FALSE : TRUE;
+				}
+			}
+			if (unknown) { return UNKNOWN; }
+			return not ? TRUE : FALSE;
+		}
+	}
+
+	private static final class Like extends Predicate {
+		private final CompiledExpression text, pattern;
+		private final int escape;
+		private final boolean not;
+
+		Like(CompiledExpression text, CompiledExpression pattern, int escape, boolean not) {
+			super(text.nullable || pattern.nullable);
+			this.text = text;
+			this.pattern = pattern;
+			this.escape = escape;
+			this.not = not;
+		}
+
+		int decide(IndexedRow row) {
+			PrimitiveValue a = text.eval(row);
+			PrimitiveValue b = pattern.eval(row);
+			if (Eval.isNull(a) || Eval.isNull(b)) { return UNKNOWN; }
+			if (a.getType() != PrimitiveType.STRING || b.getType() != PrimitiveType.STRING) {
+				throw new EvalException("Can not evaluate " + a + " LIKE " + b);
+			}
+			boolean ret = Eval.like(((StringValue)a).getValue(), ((StringValue)b).getValue(), escape);
+			return ret != not ? TRUE : FALSE;
+		}
+	}
+
+	/**
+	 * A CASE has the type its branches share, not counting NULL ones; its 
+	 * typed methods ask the branch that is taken.
+	 */
+	private static final class Case extends CompiledExpression {
+		private final CompiledExpression subject;
+		private final CompiledExpression[] whens, thens;
+		private final CompiledExpression otherwise;
+
+		Case(CompiledExpression subject, CompiledExpression[] whens, CompiledExpression[] thens, CompiledExpression otherwise) {
+			super(type(thens, otherwise), nullable(thens, otherwise));
+			this.subject = subject;
+			this.whens = whens;
+			this.thens = thens;
+			this.otherwise = otherwise;
+		}
+
+		private static boolean isNullConstant(CompiledExpression e) {
+			return e instanceof ValueConstant && e.nullable;
+		}
+
+		private static PrimitiveType type(CompiledExpression[] thens, CompiledExpression otherwise) {
+			PrimitiveType ret = null;
+			for (int i = 0; i <= thens.length; i++) {
+				CompiledExpression branch = i < thens.length ? thens[i] : otherwise;
+				if (branch == null || isNullConstant(branch)) { continue; }
+				if (branch.type == null || (ret != null && ret != branch.type)) { return null; }
+				ret = branch.type;
+			}
+			return ret;
+		}
+
+		private static boolean nullable(CompiledExpression[] thens, CompiledExpression otherwise) {
+			if (otherwise == null || otherwise.nullable) { return true; }
+			for (CompiledExpression then : thens) {
+				if (then.nullable) { return true; }
+			}
+			return false;
+		}
+
+		/**
+		 * @return    The branch taken in <code>row</code>, or null for NULL
+		 */
+		private CompiledExpression choose(IndexedRow row) {
+			if (subject == null) {
+				for (int i = 0; i < whens.length; i++) {
+					if (whens[i].evalBool(row)) { return thens[i]; }
+				}
+			} else {
+				PrimitiveValue a = subject.eval(row);
+				if (!Eval.isNull(a)) {
+					for (int i = 0; i < whens.length; i++) {
+						PrimitiveValue b = whens[i].eval(row);
+						if (!Eval.isNull(b) && Eval.compare(a, b) == 0) { return thens[i]; }
+					}
+				}
+			}
+			return otherwise;
+		}
+
+		public PrimitiveValue eval(IndexedRow row) {
+			CompiledExpression branch = choose(row);
+			return branch == null ? NullValue.NULL : branch.eval(row);
+		}
+
+		public boolean isNull(IndexedRow row) {
+			if (!nullable) { return false; }
+			CompiledExpression branch = choose(row);
+			return branch == null || branch.isNull(row);
+		}
+
+		public long evalLong(IndexedRow row) { return choose(row).evalLong(row); }
+		public double evalDouble(IndexedRow row) { return choose(row).evalDouble(row); }
+
+		public boolean evalBool(IndexedRow row) {
+			CompiledExpression branch = choose(row);
+			return branch != null && branch.evalBool(row);
+		}
+
+		public boolean isFalse(IndexedRow row) {
+			CompiledExpression branch = choose(row);
+			return branch != null && branch.isFalse(row);
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+/**
+ * The loops that select the rows of a batch whose values lie in a range, 
+ * which {@link VectorCompiler} makes of a comparison with a constant.  The 
+ * ones here are scalar, without a branch on the result; {@link #get} gives 
+ * the kernels built on the incubating Vector API of the JDK instead, if 
+ * they were compiled and the module <code>jdk.incubator.vector</code> is 
+ * present when they are loaded (<code>--add-modules jdk.incubator.vector</code>), 
+ * and the system property <code>jsqlparser.simd</code> is not false.
+ * <p>
+ * Each method writes to <code>out</code>, in order, the rows of the 
+ * selection <code>sel</code> (or rows 0 to <code>count - 1</code> if it is 
+ * null) that are not NULL and are in the range if <code>inside</code>, or 
+ * out of it if not; <code>out</code> may be <code>sel</code> itself.  A range 
+ * with <code>lo > hi</code> is empty.
+ */
+public class FilterKernels {
+	private static final FilterKernels SCALAR = new FilterKernels();
+	private static final FilterKernels BEST = load();
+
+	protected FilterKernels() {
+	}
+
+	private static FilterKernels load() {
+		if (!Boolean.parseBoolean(System.getProperty("jsqlparser.simd", "true"))) { return SCALAR; }
+		try {
+			return (FilterKernels)Class.forName("net.sf.jsqlparser.eval.simd.VectorKernels")
+				.getDeclaredConstructor().newInstance();
+		} catch (Exception e) {
+			return SCALAR;
+		} catch (LinkageError e) {
+			// compiled, but the module is not there
+			return SCALAR;
+		}
+	}
+
+	public static FilterKernels scalar() {
+		return SCALAR;
+	}
+
+	/**
+	 * @return    The SIMD kernels if they can be used here, otherwise the scalar ones
+	 */
+	public static FilterKernels get() {
+		return BEST;
+	}
+
+	public String getName() {
+		return "scalar";
+	}
+
+	/**
+	 * Selects the rows where <code>lo &lt;= x &lt;= hi</code> is <code>inside</code>.
+	 * @param nulls    The NULL rows, or null if there are none
+	 * @return         The number of rows written
+	 */
+	public int selectRange(long[] values, boolean[] nulls, long lo, long hi, boolean inside, 
+	                       int[] sel, int count, int[] out) {
+		return scalar(values, nulls, lo, hi, inside, sel, count, out, 0);
+	}
+
+	/**
+	 * Selects the rows where <code>lo &lt;= x &lt;= hi</code>, or x is NaN if 
+	 * <code>nan</code>, is <code>inside</code>.
+	 * @see #selectRange(long[], boolean[], long, long, boolean, int[], int, int[])
+	 */
+	public int selectRange(double[] values, boolean[] nulls, double lo, double hi, boolean nan, boolean inside, 
+	                       int[] sel, int count, int[] out) {
+		return scalar(values, nulls, lo, hi, nan, inside, sel, count, out, 0);
+	}
+
+	/**
+	 * The scalar loop, writing from <code>out[n]</code> on.
+	 * @return    <code>n</code> plus the number of rows written
+	 */
+	protected static int scalar(long[] values, boolean[] nulls, long lo, long hi, boolean inside, 
+	                            int[] sel, int count, int[] out, int n) {
+		for (int j = 0; j < count; j++) {
+			int i = sel == null ? j : sel[j];
+			long x = values[i];
+			out[n] = i;
+			n += (x >= lo & x <= hi) == inside & !(nulls != null && nulls[i]) ? 1 : 0;
+		}
+		return n;
+	}
+
+	/**
+	 * The scalar loop, writing from <code>out[n]</code> on.
+	 * @return    <code>n</code> plus the number of rows written
+	 */
+	protected static int scalar(double[] values, boolean[] nulls, double lo, double hi, boolean nan, boolean inside, 
+	                            int[] sel, int count, int[] out, int n) {
+		for (int j = 0; j < count; j++) {
+			int i = sel == null ? j : sel[j];
+			double x = values[i];
+			out[n] = i;
+			n += ((x >= lo & x <= hi) | (nan & x != x)) == inside & !(nulls != null && nulls[i]) ? 1 : 0;
+		}
+		return n;
+	}
+}
@@ -0,0 +1,56 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+
+/**
+ * A row whose columns are found by position, as {@link Bindings} numbers 
+ * them, for {@link CompiledExpression}s to read.  Only {@link #get} has to 
+ * be implemented; a row that keeps its columns unboxed, in a long[] or 
+ * double[], should also override the typed getters so that reading a 
+ * column creates no value object.  The typed getters are only called for 
+ * columns of that type that are not NULL.
+ */
+public interface IndexedRow {
+	/**
+	 * @return    The value at <code>index</code>, {@link NullValue} if it is SQL NULL
+	 */
+	public PrimitiveValue get(int index);
+
+	public default boolean isNull(int index) {
+		return get(index) instanceof NullValue;
+	}
+
+	public default long getLong(int index) {
+		return ((LongValue)get(index)).getValue();
+	}
+
+	public default double getDouble(int index) {
+		return ((DoubleValue)get(index)).getValue();
+	}
+
+	public default boolean getBool(int index) {
+		return ((BooleanValue)get(index)).getValue();
+	}
+}
@@ -0,0 +1,37 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.schema.Column;
+
+/**
+ * The values an {@link Eval} reads columns from: one row of a table, or of 
+ * the join of several.  How a {@link Column} is looked up is up to the 
+ * implementation, e.g. by name in a map, or by a position worked out once 
+ * for each query.
+ */
+public interface Row {
+	/**
+	 * @return    The value of <code>column</code> in this row, {@link NullValue} 
+	 *            if it is SQL NULL, or null if the row has no such column
+	 */
+	public PrimitiveValue get(Column column);
+}
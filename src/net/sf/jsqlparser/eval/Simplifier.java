@@ -0,0 +1,345 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionRewriter;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+
+/**
+ * Simplifies an expression once, before it is evaluated or compiled, so that 
+ * the work a query generator leaves in it is not repeated for every row.  
+ * Each node is simplified after its children:
+ * <ul>
+ * <li>an operator whose operands are all constants is replaced by its value, 
+ *     as {@link Eval} computes it, e.g. 1 = 1 by TRUE and 2 * 3 by 6;</li>
+ * <li>arithmetic, comparisons and LIKE with a NULL operand are NULL, and so 
+ *     are BETWEEN and IN with NULL on the left;</li>
+ * <li>TRUE AND x and FALSE OR x are x, FALSE AND x is FALSE and TRUE OR x is 
+ *     TRUE, either way round;</li>
+ * <li>x + 0, x - 0 and x * 1 are x, but not x * 0, which is NULL when x is;</li>
+ * <li>NOT NOT x and -(-x) are x, and NOT of a comparison, BETWEEN, IN, IS NULL or LIKE 
+ *     is the opposite comparison or the negated form;</li>
+ * <li>a WHEN that can never match is dropped, and one that always does ends 
+ *     the CASE, taking the place of its ELSE;</li>
+ * <li>x IN (a) is x = a, and x NOT IN (a) is x &lt;&gt; a.</li>
+ * </ul>
+ * The original is not modified.  The simplifier does not know the types of 
+ * columns, so the result need not have the value of the original in every 
+ * row.  As in {@link ExpressionCompiler}, an operand that can not change the 
+ * result may be dropped, and with it an error the interpreter would raise, 
+ * e.g. for x AND FALSE where x is a number; likewise x + 0 is x even where x 
+ * is not a number.  Where every operand has a type its operator accepts, the 
+ * only difference is that x + 0 keeps the sign of an x of -0.0.  Constant 
+ * operators that raise an error, such as 1 / 0, are left as they are, so 
+ * that the error is raised when the expression is evaluated.  Functions are 
+ * never folded, since they need not return the same value each time.
+ */
+public class Simplifier extends ExpressionRewriter<Void> {
+
+	private final Eval interpreter;
+
+	public Simplifier() {
+		this(new Eval());
+	}
+
+	/**
+	 * @param interpreter    Computes the values of constant operators
+	 */
+	public Simplifier(Eval interpreter) {
+		this.interpreter = interpreter;
+	}
+
+	public Eval getInterpreter() {
+		return interpreter;
+	}
+
+	private static boolean isConstant(Expression e) {
+		return e instanceof PrimitiveValue;
+	}
+
+	private static boolean isNull(Expression e) {
+		return e instanceof NullValue;
+	}
+
+	private static boolean isTrue(Expression e) {
+		return e instanceof BooleanValue && ((BooleanValue)e).getValue();
+	}
+
+	private static boolean isFalse(Expression e) {
+		return e instanceof BooleanValue && !((BooleanValue)e).getValue();
+	}
+
+	private static boolean isLong(Expression e, long value) {
+		return e instanceof LongValue && ((LongValue)e).getValue() == value;
+	}
+
+	/**
+	 * @return    true if every operand of <code>e</code> is a constant
+	 */
+	private static boolean isFoldable(Expression e) {
+		for (int i = 0; i < e.getChildCount(); i++) {
+			Expression child = e.getChild(i);
+			if (child != null && !isConstant(child)) { return false; }
+		}
+		return true;
+	}
+
+	/**
+	 * @return    The value of <code>e</code>, whose operands are all constants, 
+	 *            or <code>e</code> itself if evaluating it raises an error
+	 */
+	private Expression fold(Expression e) {
+		try {
+			return interpreter.eval(e, null);
+		} catch (EvalException ex) {
+			return e;
+		}
+	}
+
+	/**
+	 * The value of an operator that is NULL when either operand is.
+	 */
+	private Expression strict(BinaryExpression e) {
+		if (isFoldable(e)) { return fold(e); }
+		if (isNull(e.getLeftExpression()) || isNull(e.getRightExpression())) { return NullValue.NULL; }
+		return e;
+	}
+
+	/**
+	 * @param identity    The number that leaves the other operand as it is
+	 * @param commutes    Whether the identity may be on the left as well
+	 */
+	private Expression arithmetic(BinaryExpression e, long identity, boolean commutes) {
+		Expression ret = strict(e);
+		if (ret != e || isFoldable(e)) { return ret; }
+		if (isLong(e.getRightExpression(), identity)) { return e.getLeftExpression(); }
+		if (commutes && isLong(e.getLeftExpression(), identity)) { return e.getRightExpression(); }
+		return e;
+	}
+
+	public Expression visit(Addition e, Void context) {
+		return arithmetic((BinaryExpression)super.visit(e, context), 0, true);
+	}
+
+	public Expression visit(Subtraction e, Void context) {
+		return arithmetic((BinaryExpression)super.visit(e, context), 0, false);
+	}
+
+	public Expression visit(Multiplication e, Void context) {
+		return arithmetic((BinaryExpression)super.visit(e, context), 1, true);
+	}
+
+	public Expression visit(Division e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(BitwiseAnd e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(BitwiseOr e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(BitwiseXor e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(Concat e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(EqualsTo e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(NotEqualsTo e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(GreaterThan e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(GreaterThanEquals e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(MinorThan e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(MinorThanEquals e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+	public Expression visit(LikeExpression e, Void context) { return strict((BinaryExpression)super.visit(e, context)); }
+
+	public Expression visit(AndExpression e, Void context) {
+		BinaryExpression and = (BinaryExpression)super.visit(e, context);
+		if (isFoldable(and)) { return fold(and); }
+		Expression left = and.getLeftExpression(), right = and.getRightExpression();
+		if (isFalse(left) || isFalse(right)) { return BooleanValue.FALSE; }
+		if (isTrue(left)) { return right; }
+		if (isTrue(right)) { return left; }
+		return and;
+	}
+
+	public Expression visit(OrExpression e, Void context) {
+		BinaryExpression or = (BinaryExpression)super.visit(e, context);
+		if (isFoldable(or)) { return fold(or); }
+		Expression left = or.getLeftExpression(), right = or.getRightExpression();
+		if (isTrue(left) || isTrue(right)) { return BooleanValue.TRUE; }
+		if (isFalse(left)) { return right; }
+		if (isFalse(right)) { return left; }
+		return or;
+	}
+
+	public Expression visit(InverseExpression e, Void context) {
+		InverseExpression inverse = (InverseExpression)super.visit(e, context);
+		if (isFoldable(inverse)) { return fold(inverse); }
+		Expression operand = inverse.getExpression();
+		if (operand instanceof InverseExpression) { return ((InverseExpression)operand).getExpression(); }
+		Expression negated = negate(operand);
+		return negated == null ? inverse : negated;
+	}
+
+	/**
+	 * @return    A condition that is TRUE where <code>e</code> is FALSE, FALSE 
+	 *            where it is TRUE, and NULL where it is NULL, built from the 
+	 *            same operands; or null if there is none
+	 */
+	private static Expression negate(Expression e) {
+		if (e instanceof BinaryExpression && !(e instanceof LikeExpression)) {
+			// comparisons order every pair of values, NaN included
+			Expression left = ((BinaryExpression)e).getLeftExpression();
+			Expression right = ((BinaryExpression)e).getRightExpression();
+			if (e instanceof EqualsTo) { return new NotEqualsTo(left, right); }
+			if (e instanceof NotEqualsTo) { return new EqualsTo(left, right); }
+			if (e instanceof GreaterThan) { return new MinorThanEquals(left, right); }
+			if (e instanceof GreaterThanEquals) { return new MinorThan(left, right); }
+			if (e instanceof MinorThan) { return new GreaterThanEquals(left, right); }
+			if (e instanceof MinorThanEquals) { return new GreaterThan(left, right); }
+			return null;
+		}
+		if (e instanceof LikeExpression) {
+			LikeExpression like = (LikeExpression)e;
+			LikeExpression ret = new LikeExpression();
+			ret.setLeftExpression(like.getLeftExpression());
+			ret.setRightExpression(like.getRightExpression());
+			ret.setEscape(like.getEscape());
+			ret.setNot(!like.isNot());
+			return ret;
+		}
+		if (e instanceof Between) {
+			Between between = (Between)e;
+			Between ret = new Between();
+			ret.setLeftExpression(between.getLeftExpression());
+			ret.setBetweenExpressionStart(between.getBetweenExpressionStart());
+			ret.setBetweenExpressionEnd(between.getBetweenExpressionEnd());
+			ret.setNot(!between.isNot());
+			return ret;
+		}
+		if (e instanceof InExpression) {
+			InExpression in = (InExpression)e;
+			InExpression ret = new InExpression(in.getLeftExpression(), in.getItemsList());
+			ret.setNot(!in.isNot());
+			return ret;
+		}
+		if (e instanceof IsNullExpression) {
+			IsNullExpression isNull = (IsNullExpression)e;
+			IsNullExpression ret = new IsNullExpression();
+			ret.setLeftExpression(isNull.getLeftExpression());
+			ret.setNot(!isNull.isNot());
+			return ret;
+		}
+		return null;
+	}
+
+	public Expression visit(Between e, Void context) {
+		Between between = (Between)super.visit(e, context);
+		if (isFoldable(between)) { return fold(between); }
+		return isNull(between.getLeftExpression()) ? NullValue.NULL : between;
+	}
+
+	public Expression visit(IsNullExpression e, Void context) {
+		Expression isNull = super.visit(e, context);
+		return isFoldable(isNull) ? fold(isNull) : isNull;
+	}
+
+	/**
+	 * Only a list of expressions is simplified; a sub-select may be empty, 
+	 * and NULL IN an empty set is FALSE.
+	 */
+	public Expression visit(InExpression e, Void context) {
+		InExpression in = (InExpression)super.visit(e, context);
+		if (!(in.getItemsList() instanceof ExpressionList)) { return in; }
+		List<Expression> items = ((ExpressionList)in.getItemsList()).getExpressions();
+		if (items == null) { return in; }
+		if (items.size() == 1) {
+			Expression left = in.getLeftExpression(), item = items.get(0);
+			return strict(in.isNot() ? new NotEqualsTo(left, item) : new EqualsTo(left, item));
+		}
+		if (isFoldable(in)) { return fold(in); }
+		return isNull(in.getLeftExpression()) ? NullValue.NULL : in;
+	}
+
+	public Expression visit(CaseExpression e, Void context) {
+		CaseExpression rewritten = (CaseExpression)super.visit(e, context);
+		Expression subject = rewritten.getSwitchExpression();
+		Expression otherwise = rewritten.getElseExpression();
+		List<WhenClause> whens = rewritten.getWhenClauses();
+		if (whens == null) { return rewritten; }
+		List<WhenClause> live = new ArrayList<WhenClause>(whens.size());
+		for (WhenClause when : whens) {
+			Boolean match = matches(subject, when.getWhenExpression());
+			if (match == null) {
+				live.add(when);
+			} else if (match) {
+				otherwise = when.getThenExpression();
+				break;
+			}
+		}
+		if (live.isEmpty()) { return otherwise == null ? NullValue.NULL : otherwise; }
+		if (live.size() == whens.size() && otherwise == rewritten.getElseExpression()) { return rewritten; }
+		CaseExpression ret = new CaseExpression();
+		ret.setSwitchExpression(subject);
+		ret.setWhenClauses(live);
+		ret.setElseExpression(otherwise);
+		return ret;
+	}
+
+	/**
+	 * @param subject    The expression after CASE, or null for CASE WHEN c THEN ...
+	 * @return    Whether the WHEN of <code>value</code> is taken whenever it is 
+	 *            reached, or null if that depends on the row
+	 */
+	private static Boolean matches(Expression subject, Expression value) {
+		if (subject == null) {
+			if (value instanceof BooleanValue) { return ((BooleanValue)value).getValue(); }
+			return isNull(value) ? Boolean.FALSE : null;
+		}
+		if (isNull(subject) || isNull(value)) { return Boolean.FALSE; }
+		if (!isConstant(subject) || !isConstant(value)) { return null; }
+		try {
+			return Eval.compare((PrimitiveValue)subject, (PrimitiveValue)value) == 0;
+		} catch (EvalException ex) {
+			return null;
+		}
+	}
+}
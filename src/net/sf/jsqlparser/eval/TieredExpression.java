@@ -0,0 +1,126 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+
+/**
+ * Evaluates an expression with {@link Eval} the first few times, and then 
+ * compiles it with an {@link ExpressionCompiler}, so that an expression 
+ * which is only evaluated for a handful of rows does not pay for being 
+ * compiled, and one that filters a whole table runs compiled.<br>
+ * The count of evaluations is not synchronized: threads that share an 
+ * instance may, between them, interpret it a few more times than the 
+ * threshold, or compile it more than once, before they all see the 
+ * compiled form.
+ */
+public class TieredExpression {
+	/** How many evaluations are interpreted by default */
+	public static final int DEFAULT_THRESHOLD = 1000;
+
+	private final Expression expression;
+	private final Bindings bindings;
+	private final ExpressionCompiler compiler;
+	private final CompiledExpression interpreted;
+	private final int threshold;
+	private int count;
+	private volatile CompiledExpression compiled;
+
+	public TieredExpression(Expression expression, Bindings bindings) {
+		this(expression, bindings, new ExpressionCompiler(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * @param threshold    How many evaluations to interpret before compiling; 
+	 *                     0 compiles at the first
+	 */
+	public TieredExpression(Expression expression, Bindings bindings, ExpressionCompiler compiler, int threshold) {
+		this.expression = expression;
+		this.bindings = bindings;
+		this.compiler = compiler;
+		this.threshold = threshold;
+		this.interpreted = compiler.interpret(expression, bindings);
+	}
+
+	public Expression getExpression() {
+		return expression;
+	}
+
+	public boolean isCompiled() {
+		return compiled != null;
+	}
+
+	/**
+	 * @return    The form to evaluate the next row with
+	 */
+	private CompiledExpression next() {
+		CompiledExpression ret = compiled;
+		if (ret != null) { return ret; }
+		if (count < threshold) {
+			count++;
+			return interpreted;
+		}
+		ret = compiler.compile(expression, bindings);
+		compiled = ret;
+		return ret;
+	}
+
+	/**
+	 * @see CompiledExpression#eval
+	 */
+	public PrimitiveValue eval(IndexedRow row) {
+		return next().eval(row);
+	}
+
+	/**
+	 * @see CompiledExpression#evalBool
+	 */
+	public boolean evalBool(IndexedRow row) {
+		return next().evalBool(row);
+	}
+
+	/**
+	 * @see CompiledExpression#isFalse
+	 */
+	public boolean isFalse(IndexedRow row) {
+		return next().isFalse(row);
+	}
+
+	/**
+	 * @see CompiledExpression#isNull
+	 */
+	public boolean isNull(IndexedRow row) {
+		return next().isNull(row);
+	}
+
+	/**
+	 * @see CompiledExpression#evalLong
+	 */
+	public long evalLong(IndexedRow row) {
+		return next().evalLong(row);
+	}
+
+	/**
+	 * @see CompiledExpression#evalDouble
+	 */
+	public double evalDouble(IndexedRow row) {
+		return next().evalDouble(row);
+	}
+}
@@ -0,0 +1,1077 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * Compiles an expression over {@link Bindings} into a {@link VectorExpression}, 
+ * which evaluates it for a {@link Batch} of rows at a time, with one loop 
+ * over the rows for each node instead of a walk of the tree for each row.
+ * <p>
+ * Arithmetic on LONGs and DOUBLEs runs over whole arrays, in loops without 
+ * branches that the JIT can unroll and vectorize; an overflow is looked for 
+ * once at the end, and division, which can fail, only visits the rows that 
+ * are selected.  A comparison of a LONG, DOUBLE, DATE, TIME or TIMESTAMP 
+ * with a constant becomes a test of whether a value lies in a range, which 
+ * covers every operator and the exact comparison of LONGs with DOUBLEs.  A 
+ * condition on a dictionary-encoded STRING, i.e. a comparison with a 
+ * constant, LIKE with a constant pattern or IN a list of strings, is decided 
+ * once for each string of the dictionary and then looked up for each row.  
+ * Conditions write the rows they keep without a branch on the result, and 
+ * AND and OR narrow and merge the selections, so that the right side of an 
+ * AND only sees the rows the left side kept.
+ * <p>
+ * Everything else, e.g. CASE, functions and DECIMALs, is compiled by the 
+ * {@link ExpressionCompiler} given to the constructor and evaluated for one 
+ * selected row after another.  Results are those of {@link Eval}, and like 
+ * compiled expressions a vector expression keeps no state, so it can be 
+ * shared between threads.
+ */
+public class VectorCompiler implements GenericExpressionVisitor<VectorExpression, Bindings> {
+
+	/** A comparison is a set of the orders it accepts: less, equal or greater. */
+	private static final int LT = 1, EQ = 2, GT = 4, NE = LT | GT, LE = LT | EQ, GE = GT | EQ;
+
+	private static final int LONGS = 0, LONG_DOUBLE = 1, DOUBLE_LONG = 2, DOUBLES = 3;
+
+	private final ExpressionCompiler compiler;
+	private final FilterKernels kernels;
+
+	public VectorCompiler() {
+		this(new ExpressionCompiler());
+	}
+
+	/**
+	 * @param compiler    Compiles the nodes that are evaluated a row at a time
+	 */
+	public VectorCompiler(ExpressionCompiler compiler) {
+		this(compiler, FilterKernels.get());
+	}
+
+	/**
+	 * @param kernels    Select the rows in a range, for comparisons with constants
+	 */
+	public VectorCompiler(ExpressionCompiler compiler, FilterKernels kernels) {
+		this.compiler = compiler;
+		this.kernels = kernels;
+	}
+
+	public ExpressionCompiler getCompiler() {
+		return compiler;
+	}
+
+	public FilterKernels getKernels() {
+		return kernels;
+	}
+
+	/**
+	 * @throws EvalException    if the expression reads a column that is not bound
+	 */
+	public VectorExpression compile(Expression expression, Bindings bindings) {
+		return expression.accept(this, bindings);
+	}
+
+	/**
+	 * @return    <code>expression</code> compiled by the {@link ExpressionCompiler}, 
+	 *            to be evaluated for one row after another
+	 */
+	public VectorExpression rowWise(Expression expression, Bindings bindings) {
+		return new RowWise(compiler.compile(expression, bindings));
+	}
+
+	private static boolean isNumber(PrimitiveType type) {
+		return type == PrimitiveType.LONG || type == PrimitiveType.DOUBLE;
+	}
+
+	/** A condition is BOOL, or of a type that is not known until it is evaluated */
+	private static boolean isCondition(VectorExpression e) {
+		return e.type == PrimitiveType.BOOL || e.type == null;
+	}
+
+	private static boolean test(int operator, int order) {
+		return (operator >> (Integer.signum(order) + 1) & 1) != 0;
+	}
+
+	/** x < c is c > x */
+	private static int flip(int operator) {
+		return (operator & LT) << 2 | operator & EQ | (operator & GT) >> 2;
+	}
+
+	private VectorExpression arithmetic(char operator, BinaryExpression e, Bindings bindings) {
+		VectorExpression left = compile(e.getLeftExpression(), bindings);
+		VectorExpression right = compile(e.getRightExpression(), bindings);
+		if (left.type == PrimitiveType.LONG && right.type == PrimitiveType.LONG) {
+			return new LongArithmetic(operator, left, right);
+		}
+		if (operator != '&' && operator != '|' && operator != '^' && isNumber(left.type) && isNumber(right.type)) {
+			return new DoubleArithmetic(operator, left, right);
+		}
+		return rowWise(e, bindings);
+	}
+
+	private VectorExpression comparison(int operator, BinaryExpression e, Bindings bindings) {
+		VectorExpression left = compile(e.getLeftExpression(), bindings);
+		VectorExpression right = compile(e.getRightExpression(), bindings);
+		VectorExpression ret = null;
+		if (right instanceof Constant && !(left instanceof Constant)) {
+			ret = against(operator, left, ((Constant)right).value);
+		} else if (left instanceof Constant && !(right instanceof Constant)) {
+			ret = against(flip(operator), right, ((Constant)left).value);
+		}
+		if (ret != null) { return ret; }
+		if (isNumber(left.type) && isNumber(right.type)) {
+			int mode = left.type == PrimitiveType.LONG 
+				? (right.type == PrimitiveType.LONG ? LONGS : LONG_DOUBLE) 
+				: (right.type == PrimitiveType.LONG ? DOUBLE_LONG : DOUBLES);
+			return new Compare(operator, mode, left, right);
+		}
+		return rowWise(e, bindings);
+	}
+
+	/**
+	 * @return    <code>value</code> compared with <code>constant</code> as a 
+	 *            range or a string test, or null if there is none
+	 */
+	private VectorExpression against(int operator, VectorExpression value, PrimitiveValue constant) {
+		if (Eval.isNull(constant)) { return null; }
+		PrimitiveType type = constant.getType();
+		if (value.type == PrimitiveType.LONG) {
+			if (type == PrimitiveType.LONG) { return longRange(operator, value, ((LongValue)constant).getValue()); }
+			if (type == PrimitiveType.DOUBLE) { return longRange(operator, value, ((DoubleValue)constant).getValue()); }
+		}
+		if (value.type == PrimitiveType.DOUBLE) {
+			if (type == PrimitiveType.DOUBLE) { return doubleRange(operator, value, ((DoubleValue)constant).getValue()); }
+			long c = type == PrimitiveType.LONG ? ((LongValue)constant).getValue() : 0;
+			if (type == PrimitiveType.LONG && Math.abs(c) <= 1L << 53) { return doubleRange(operator, value, c); }
+		}
+		// temporal columns are bound to vectors of longs
+		if (value instanceof ColumnRef && value.type == type) {
+			switch (type) {
+				case DATE: return longRange(operator, value, ((DateValue)constant).getEpochDay());
+				case TIME: return longRange(operator, value, ((TimeValue)constant).getMicrosOfDay());
+				case TIMESTAMP: 
+					TimestampValue timestamp = (TimestampValue)constant;
+					if (timestamp.getNanosOfMicro() != 0) { return null; }
+					return longRange(operator, value, timestamp.getEpochMicros());
+				default: break;
+			}
+		}
+		if (value.type == PrimitiveType.STRING && type == PrimitiveType.STRING) {
+			final String s = ((StringValue)constant).getValue();
+			return new StringTest(value, text -> test(operator, text.compareTo(s)));
+		}
+		return null;
+	}
+
+	private VectorExpression longRange(int operator, VectorExpression value, long c) {
+		switch (operator) {
+			case EQ: return new LongRange(kernels, value, c, c, false);
+			case NE: return new LongRange(kernels, value, c, c, true);
+			case GT: return new LongRange(kernels, value, c == Long.MAX_VALUE ? 1 : c + 1, c == Long.MAX_VALUE ? 0 : Long.MAX_VALUE, false);
+			case GE: return new LongRange(kernels, value, c, Long.MAX_VALUE, false);
+			case LT: return new LongRange(kernels, value, c == Long.MIN_VALUE ? 1 : Long.MIN_VALUE, c == Long.MIN_VALUE ? 0 : c - 1, false);
+			default: return new LongRange(kernels, value, Long.MIN_VALUE, c, false);
+		}
+	}
+
+	/**
+	 * A LONG compared with a DOUBLE, as exactly as {@link Eval#compare(long, double)}: 
+	 * x > 2.5 is x > 2 and x < 2.5 is x < 3.
+	 */
+	private VectorExpression longRange(int operator, VectorExpression value, double c) {
+		if (c != c || c >= 0x1p63) {
+			// every LONG is less
+			return new LongRange(kernels, value, 1, 0, (operator & LT) != 0);
+		}
+		if (c < -0x1p63) {
+			return new LongRange(kernels, value, 1, 0, (operator & GT) != 0);
+		}
+		long floor = (long)Math.floor(c), ceil = (long)Math.ceil(c);
+		switch (operator) {
+			case EQ: return floor == ceil ? longRange(EQ, value, floor) : new LongRange(kernels, value, 1, 0, false);
+			case NE: return floor == ceil ? longRange(NE, value, floor) : new LongRange(kernels, value, 1, 0, true);
+			case GT: case LE: return longRange(operator, value, floor);
+			default: return longRange(operator, value, ceil);
+		}
+	}
+
+	/**
+	 * A DOUBLE compared as {@link Eval#compare(double, double)} does, with NaN 
+	 * greater than every other number.
+	 */
+	private VectorExpression doubleRange(int operator, VectorExpression value, double c) {
+		double inf = Double.POSITIVE_INFINITY;
+		if (c != c) {
+			switch (operator) {
+				case EQ: return new DoubleRange(kernels, value, 1, 0, true, false);
+				case NE: return new DoubleRange(kernels, value, 1, 0, true, true);
+				case GT: return new DoubleRange(kernels, value, 1, 0, false, false);
+				case GE: return new DoubleRange(kernels, value, 1, 0, true, false);
+				case LT: return new DoubleRange(kernels, value, -inf, inf, false, false);
+				default: return new DoubleRange(kernels, value, -inf, inf, true, false);
+			}
+		}
+		switch (operator) {
+			case EQ: return new DoubleRange(kernels, value, c, c, false, false);
+			case NE: return new DoubleRange(kernels, value, c, c, false, true);
+			case GT: return c == inf ? new DoubleRange(kernels, value, 1, 0, true, false) : new DoubleRange(kernels, value, Math.nextUp(c), inf, true, false);
+			case GE: return new DoubleRange(kernels, value, c, inf, true, false);
+			case LT: return c == -inf ? new DoubleRange(kernels, value, 1, 0, false, false) : new DoubleRange(kernels, value, -inf, Math.nextDown(c), false, false);
+			default: return new DoubleRange(kernels, value, -inf, c, false, false);
+		}
+	}
+
+	public VectorExpression visit(NullValue e, Bindings bindings) { return new Constant(e); }
+	public VectorExpression visit(LongValue e, Bindings bindings) { return new Constant(LongValue.valueOf(e.getValue())); }
+	public VectorExpression visit(DoubleValue e, Bindings bindings) { return new Constant(DoubleValue.valueOf(e.getValue())); }
+	public VectorExpression visit(BooleanValue e, Bindings bindings) { return new Constant(Eval.bool(e.getValue())); }
+	public VectorExpression visit(DecimalValue e, Bindings bindings) { return new Constant(new DecimalValue(e.getValue())); }
+	public VectorExpression visit(DateValue e, Bindings bindings) { return new Constant(DateValue.ofEpochDay(e.getEpochDay())); }
+	public VectorExpression visit(TimeValue e, Bindings bindings) { return new Constant(TimeValue.ofMicrosOfDay(e.getMicrosOfDay())); }
+	public VectorExpression visit(TimestampValue e, Bindings bindings) { 
+		return new Constant(TimestampValue.ofEpochMicros(e.getEpochMicros(), e.getNanosOfMicro())); 
+	}
+	public VectorExpression visit(StringValue e, Bindings bindings) { return new Constant(new StringValue(e.getValue())); }
+	public VectorExpression visit(BinaryValue e, Bindings bindings) { return new Constant(new BinaryValue(e.getValue())); }
+
+	public VectorExpression visit(Column e, Bindings bindings) {
+		int index = bindings.indexOf(e);
+		if (index < 0) { throw new EvalException("Unknown column: " + e.getWholeColumnName()); }
+		return new ColumnRef(index, bindings.getType(index));
+	}
+
+	public VectorExpression visit(Function e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(JdbcParameter e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(SubSelect e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(ExistsExpression e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(AllComparisonExpression e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(AnyComparisonExpression e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(Matches e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(Concat e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(WhenClause e, Bindings bindings) { return rowWise(e, bindings); }
+	public VectorExpression visit(CaseExpression e, Bindings bindings) { return rowWise(e, bindings); }
+
+	public VectorExpression visit(InverseExpression e, Bindings bindings) {
+		VectorExpression operand = compile(e.getExpression(), bindings);
+		if (operand.type == PrimitiveType.BOOL) { return new Not(operand); }
+		if (operand.type == PrimitiveType.LONG) { return new LongArithmetic('-', new Constant(LongValue.valueOf(0)), operand); }
+		// -1.0 * x keeps the sign of a zero right
+		if (operand.type == PrimitiveType.DOUBLE) { 
+			return new DoubleArithmetic('*', new Constant(DoubleValue.valueOf(-1.0)), operand); 
+		}
+		return rowWise(e, bindings);
+	}
+
+	public VectorExpression visit(Addition e, Bindings bindings) { return arithmetic('+', e, bindings); }
+	public VectorExpression visit(Subtraction e, Bindings bindings) { return arithmetic('-', e, bindings); }
+	public VectorExpression visit(Multiplication e, Bindings bindings) { return arithmetic('*', e, bindings); }
+	public VectorExpression visit(Division e, Bindings bindings) { return arithmetic('/', e, bindings); }
+	public VectorExpression visit(BitwiseAnd e, Bindings bindings) { return arithmetic('&', e, bindings); }
+	public VectorExpression visit(BitwiseOr e, Bindings bindings) { return arithmetic('|', e, bindings); }
+	public VectorExpression visit(BitwiseXor e, Bindings bindings) { return arithmetic('^', e, bindings); }
+
+	public VectorExpression visit(AndExpression e, Bindings bindings) {
+		VectorExpression left = compile(e.getLeftExpression(), bindings);
+		VectorExpression right = compile(e.getRightExpression(), bindings);
+		if (!isCondition(left) || !isCondition(right)) { return rowWise(e, bindings); }
+		return new And(left, right);
+	}
+
+	public VectorExpression visit(OrExpression e, Bindings bindings) {
+		VectorExpression left = compile(e.getLeftExpression(), bindings);
+		VectorExpression right = compile(e.getRightExpression(), bindings);
+		if (!isCondition(left) || !isCondition(right)) { return rowWise(e, bindings); }
+		return new Or(left, right);
+	}
+
+	public VectorExpression visit(EqualsTo e, Bindings bindings) { return comparison(EQ, e, bindings); }
+	public VectorExpression visit(NotEqualsTo e, Bindings bindings) { return comparison(NE, e, bindings); }
+	public VectorExpression visit(MinorThan e, Bindings bindings) { return comparison(LT, e, bindings); }
+	public VectorExpression visit(MinorThanEquals e, Bindings bindings) { return comparison(LE, e, bindings); }
+	public VectorExpression visit(GreaterThan e, Bindings bindings) { return comparison(GT, e, bindings); }
+	public VectorExpression visit(GreaterThanEquals e, Bindings bindings) { return comparison(GE, e, bindings); }
+
+	/**
+	 * x BETWEEN a AND b is x >= a AND x <= b, by three-valued logic as well; 
+	 * for a column between two constants it is one range.
+	 */
+	public VectorExpression visit(Between e, Bindings bindings) {
+		VectorExpression ret = compile(new AndExpression(
+			new GreaterThanEquals(e.getLeftExpression(), e.getBetweenExpressionStart()),
+			new MinorThanEquals(e.getLeftExpression(), e.getBetweenExpressionEnd())), bindings);
+		if (ret instanceof And) {
+			VectorExpression range = intersect(((And)ret).left, ((And)ret).right);
+			if (range != null) { ret = range; }
+		}
+		return e.isNot() ? new Not(ret) : ret;
+	}
+
+	private static boolean sameColumn(VectorExpression a, VectorExpression b) {
+		return a instanceof ColumnRef && b instanceof ColumnRef && ((ColumnRef)a).index == ((ColumnRef)b).index;
+	}
+
+	/**
+	 * @return    The rows in both ranges of the same column as one range, or null
+	 */
+	private VectorExpression intersect(VectorExpression a, VectorExpression b) {
+		if (a instanceof LongRange && b instanceof LongRange) {
+			LongRange x = (LongRange)a, y = (LongRange)b;
+			if (x.negate || y.negate || !sameColumn(x.value, y.value)) { return null; }
+			return new LongRange(kernels, x.value, Math.max(x.lo, y.lo), Math.min(x.hi, y.hi), false);
+		}
+		if (a instanceof DoubleRange && b instanceof DoubleRange) {
+			DoubleRange x = (DoubleRange)a, y = (DoubleRange)b;
+			if (x.negate || y.negate || !sameColumn(x.value, y.value)) { return null; }
+			return new DoubleRange(kernels, x.value, Math.max(x.lo, y.lo), Math.min(x.hi, y.hi), x.nan & y.nan, false);
+		}
+		return null;
+	}
+
+	public VectorExpression visit(InExpression e, Bindings bindings) {
+		if (LiteralList.of(e.getItemsList()) != null) {
+			VectorExpression value = compile(e.getLeftExpression(), bindings);
+			LiteralList literals = new LiteralList(LiteralList.of(e.getItemsList()));
+			// the list sorts its items the first time it is searched; do it now 
+			// rather than in the first batch
+			literals.contains(0L);
+			literals.contains("");
+			boolean not = e.isNot();
+			if (literals.getType() == PrimitiveType.STRING && value.type == PrimitiveType.STRING) {
+				return new StringTest(value, text -> literals.contains(text) != not);
+			}
+			if (literals.getType() != PrimitiveType.STRING && isNumber(value.type)) {
+				return new NumberIn(value, literals, not);
+			}
+		}
+		return rowWise(e, bindings);
+	}
+
+	public VectorExpression visit(IsNullExpression e, Bindings bindings) {
+		return new IsNull(compile(e.getLeftExpression(), bindings), e.isNot());
+	}
+
+	public VectorExpression visit(LikeExpression e, Bindings bindings) {
+		VectorExpression text = compile(e.getLeftExpression(), bindings);
+		VectorExpression pattern = compile(e.getRightExpression(), bindings);
+		if (text.type == PrimitiveType.STRING && pattern instanceof Constant && pattern.type == PrimitiveType.STRING
+		    && (e.getEscape() == null || e.getEscape().length() == 1)) {
+			String p = ((StringValue)((Constant)pattern).value).getValue();
+			int escape = e.getEscape() == null ? -1 : e.getEscape().charAt(0);
+			boolean not = e.isNot();
+			return new StringTest(text, s -> Eval.like(s, p, escape) != not);
+		}
+		return rowWise(e, bindings);
+	}
+
+	private static int row(int[] sel, int j) {
+		return sel == null ? j : sel[j];
+	}
+
+	/**
+	 * @return    The values of a vector of LONGs, DATEs, TIMEs or TIMESTAMPs as 
+	 *            longs, at least in the selected rows that are not NULL
+	 */
+	static long[] longs(ColumnVector vector, int size, int[] sel, int count) {
+		if (vector.longs != null) { return vector.longs; }
+		long[] ret = new long[size];
+		for (int j = 0; j < count; j++) {
+			int i = row(sel, j);
+			if (vector.isNull(i)) { continue; }
+			PrimitiveValue value = vector.values[i];
+			switch (value.getType()) {
+				case DATE: ret[i] = ((DateValue)value).getEpochDay(); break;
+				case TIME: ret[i] = ((TimeValue)value).getMicrosOfDay(); break;
+				case TIMESTAMP: ret[i] = ((TimestampValue)value).getEpochMicros(); break;
+				default: ret[i] = ((LongValue)value).getValue(); break;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * @return    The values of a vector of numbers as doubles, at least in the 
+	 *            selected rows that are not NULL
+	 */
+	static double[] doubles(ColumnVector vector, int size, int[] sel, int count) {
+		if (vector.doubles != null) { return vector.doubles; }
+		double[] ret = new double[size];
+		if (vector.longs != null) {
+			long[] longs = vector.longs;
+			for (int i = 0; i < size; i++) {
+				ret[i] = longs[i];
+			}
+			return ret;
+		}
+		for (int j = 0; j < count; j++) {
+			int i = row(sel, j);
+			if (!vector.isNull(i)) { ret[i] = vector.getDouble(i); }
+		}
+		return ret;
+	}
+
+	/**
+	 * @return    The rows where either is NULL, or null if there are none
+	 */
+	static boolean[] nulls(ColumnVector a, ColumnVector b, int size) {
+		if (a.nulls == null) { return b.nulls; }
+		if (b.nulls == null) { return a.nulls; }
+		boolean[] ret = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			ret[i] = a.nulls[i] | b.nulls[i];
+		}
+		return ret;
+	}
+
+	static int select(VectorExpression condition, Batch batch, int[] sel, int count, int[] out, boolean want) {
+		return want ? condition.select(batch, sel, count, out) : condition.selectFalse(batch, sel, count, out);
+	}
+
+	/**
+	 * The rows that are TRUE (or FALSE) on both sides: those of the left side, 
+	 * narrowed in place by the right.
+	 */
+	static int both(VectorExpression left, VectorExpression right, Batch batch, int[] sel, int count, int[] out, boolean want) {
+		int n = select(left, batch, sel, count, out, want);
+		return n == 0 ? 0 : select(right, batch, out, n, out, want);
+	}
+
+	/**
+	 * The rows that are TRUE (or FALSE) on either side, where the right side 
+	 * only sees the rows the left side did not take.
+	 */
+	static int either(VectorExpression left, VectorExpression right, Batch batch, int[] sel, int count, int[] out, boolean want) {
+		int[] first = new int[count];
+		int n = select(left, batch, sel, count, first, want);
+		int[] rest = new int[count - n];
+		int m = 0, k = 0;
+		for (int j = 0; j < count; j++) {
+			int i = row(sel, j);
+			if (k < n && first[k] == i) { k++; } else { rest[m++] = i; }
+		}
+		if (m > 0) { m = select(right, batch, rest, m, rest, want); }
+		int a = 0, b = 0, ret = 0;
+		while (a < n && b < m) {
+			out[ret++] = first[a] < rest[b] ? first[a++] : rest[b++];
+		}
+		while (a < n) { out[ret++] = first[a++]; }
+		while (b < m) { out[ret++] = rest[b++]; }
+		return ret;
+	}
+
+	/**
+	 * A node whose result is TRUE, FALSE or NULL, and which finds the rows 
+	 * for each without building a vector of them.
+	 */
+	private static abstract class Condition extends VectorExpression {
+		Condition() {
+			super(PrimitiveType.BOOL);
+		}
+
+		abstract int select(Batch batch, int[] sel, int count, int[] out, boolean want);
+
+		public int select(Batch batch, int[] sel, int count, int[] out) {
+			return select(batch, sel, count, out, true);
+		}
+
+		public int selectFalse(Batch batch, int[] sel, int count, int[] out) {
+			return select(batch, sel, count, out, false);
+		}
+
+		public ColumnVector evaluate(Batch batch, int[] sel, int count) {
+			int size = batch.getSize();
+			boolean[] bools = new boolean[size], nulls = new boolean[size];
+			for (int j = 0; j < count; j++) {
+				nulls[row(sel, j)] = true;
+			}
+			int[] rows = new int[count];
+			int n = select(batch, sel, count, rows, true);
+			for (int k = 0; k < n; k++) {
+				bools[rows[k]] = true;
+				nulls[rows[k]] = false;
+			}
+			n = select(batch, sel, count, rows, false);
+			for (int k = 0; k < n; k++) {
+				nulls[rows[k]] = false;
+			}
+			return ColumnVector.ofBools(bools, nulls);
+		}
+	}
+
+	private static final class RowWise extends VectorExpression {
+		private final CompiledExpression compiled;
+
+		RowWise(CompiledExpression compiled) {
+			super(compiled.getType());
+			this.compiled = compiled;
+		}
+
+		public ColumnVector evaluate(Batch batch, int[] sel, int count) {
+			Batch.Cursor row = new Batch.Cursor(batch);
+			int size = batch.getSize();
+			boolean nullable = compiled.isNullable();
+			boolean[] nulls = nullable ? new boolean[size] : null;
+			if (type == PrimitiveType.LONG || type == PrimitiveType.DOUBLE || type == PrimitiveType.BOOL) {
+				long[] longs = type == PrimitiveType.LONG ? new long[size] : null;
+				double[] doubles = type == PrimitiveType.DOUBLE ? new double[size] : null;
+				boolean[] bools = type == PrimitiveType.BOOL ? new boolean[size] : null;
+				for (int j = 0; j < count; j++) {
+					int i = row(sel, j);
+					row.row = i;
+					if (bools != null) {
+						bools[i] = compiled.evalBool(row);
+						if (nullable && !bools[i]) { nulls[i] = !compiled.isFalse(row); }
+					} else if (nullable && compiled.isNull(row)) {
+						nulls[i] = true;
+					} else if (longs != null) {
+						longs[i] = compiled.evalLong(row);
+					} else {
+						doubles[i] = compiled.evalDouble(row);
+					}
+				}
+				if (longs != null) { return ColumnVector.ofLongs(longs, nulls); }
+				if (doubles != null) { return ColumnVector.ofDoubles(doubles, nulls); }
+				return ColumnVector.ofBools(bools, nulls);
+			}
+			PrimitiveValue[] values = new PrimitiveValue[size];
+			for (int j = 0; j < count; j++) {
+				int i = row(sel, j);
+				row.row = i;
+				values[i] = compiled.eval(row);
+			}
+			return ColumnVector.ofValues(type, values);
+		}
+
+		public int select(Batch batch, int[] sel, int count, int[] out) {
+			Batch.Cursor row = new Batch.Cursor(batch);
+			int n = 0;
+			for (int j = 0; j < count; j++) {
+				int i = row(sel, j);
+				row.row = i;
+				if (compiled.evalBool(row)) { out[n++] = i; }
+			}
+			return n;
+		}
+
+		public int selectFalse(Batch batch, int[] sel, int count, int[] out) {
+			Batch.Cursor row = new Batch.Cursor(batch);
+			int n = 0;
+			for (int j = 0; j < count; j++) {
+				int i = row(sel, j);
+				row.row = i;
+				if (compiled.isFalse(row)) { out[n++] = i; }
+			}
+			return n;
+		}
+	}
+
+	/**
+	 * A constant, filled out to a vector once for the largest batch it has seen.
+	 */
+	private static final class Constant extends VectorExpression {
+		final PrimitiveValue value;
+		private volatile ColumnVector filled;
+
+		Constant(PrimitiveValue value) {
+			super(Eval.isNull(value) ? null : value.getType());
+			this.value = value;
+		}
+
+		public ColumnVector evaluate(Batch batch, int[] sel, int count) {
+			ColumnVector ret = filled;
+			if (ret == null || ret.length() < batch.getSize()) {
+				ret = fill(batch.getSize());
+				filled = ret;
+			}
+			return ret;
+		}
+
+		private ColumnVector fill(int size) {
+			if (type == PrimitiveType.LONG || type == PrimitiveType.DATE || type == PrimitiveType.TIME) {
+				long[] longs = new long[size];
+				Arrays.fill(longs, type == PrimitiveType.LONG ? ((LongValue)value).getValue() 
+					: type == PrimitiveType.DATE ? ((DateValue)value).getEpochDay() : ((TimeValue)value).getMicrosOfDay());
+				return type == PrimitiveType.LONG ? ColumnVector.ofLongs(longs, null) : ColumnVector.ofTemporals(type, longs, null);
+			}
+			if (type == PrimitiveType.DOUBLE) {
+				double[] doubles = new double[size];
+				Arrays.fill(doubles, ((DoubleValue)value).getValue());
+				return ColumnVector.ofDoubles(doubles, null);
+			}
+			if (type == PrimitiveType.BOOL) {
+				boolean[] bools = new boolean[size];
+				Arrays.fill(bools, ((BooleanValue)value).getValue());
+				return ColumnVector.ofBools(bools, null);
+			}
+			PrimitiveValue[] values = new PrimitiveValue[size];
+			Arrays.fill(values, value);
+			return ColumnVector.ofValues(type, values);
+		}
+	}
+
+	private static final class ColumnRef extends VectorExpression {
+		private final int index;
+
+		ColumnRef(int index, PrimitiveType type) {
+			super(type);
+			this.index = index;
+		}
+
+		public ColumnVector evaluate(Batch batch, int[] sel, int count) {
+			return batch.getColumn(index);
+		}
+	}
+
+	/**
+	 * +, -, * and the bitwise operators run over every row of the batch, and 
+	 * look for an overflow in the selected rows only if one happened anywhere.
+	 */
+	private static final class LongArithmetic extends VectorExpression {
+		private final char operator;
+		private final VectorExpression left, right;
+
+		LongArithmetic(char operator, VectorExpression left, VectorExpression right) {
+			super(PrimitiveType.LONG);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		public ColumnVector evaluate(Batch batch, int[] sel, int count) {
+			int size = batch.getSize();
+			ColumnVector l = left.evaluate(batch, sel, count), r = right.evaluate(batch, sel, count);
+			long[] a = longs(l, size, sel, count), b = longs(r, size, sel, count);
+			boolean[] nulls = nulls(l, r, size);
+			long[] ret = new long[size];
+			long overflow = 0;
+			switch (operator) {
+				case '+':
+					for (int i = 0; i < size; i++) {
+						long x = a[i], y = b[i], z = x + y;
+						ret[i] = z;
+						overflow |= (x ^ z) & (y ^ z);
+					}
+					overflow &= Long.MIN_VALUE;
+					break;
+				case '-':
+					for (int i = 0; i < size; i++) {
+						long x = a[i], y = b[i], z = x - y;
+						ret[i] = z;
+						overflow |= (x ^ y) & (x ^ z);
+					}
+					overflow &= Long.MIN_VALUE;
+					break;
+				case '*':
+					for (int i = 0; i < size; i++) {
+						long x = a[i], y = b[i], z = x * y;
+						ret[i] = z;
+						overflow |= Math.multiplyHigh(x, y) ^ (z >> 63);
+					}
+					break;
+				case '&':
+					for (int i = 0; i < size; i++) { ret[i] = a[i] & b[i]; }
+					break;
+				case '|':
+					for (int i = 0; i < size; i++) { ret[i] = a[i] | b[i]; }
+					break;
+				case '^':
+					for (int i = 0; i < size; i++) { ret[i] = a[i] ^ b[i]; }
+					break;
+				default:
+					// division by zero throws, so only the rows that count are divided
+					overflow = 1;
+					break;
+			}
+			if (overflow != 0) {
+				for (int j = 0; j < count; j++) {
+					int i = row(sel, j);
+					if (nulls == null || !nulls[i]) { ret[i] = Eval.arithmetic(operator, a[i], b[i]); }
+				}
+			}
+			return ColumnVector.ofLongs(ret, nulls);
+		}
+	}
+
+	private static final class DoubleArithmetic extends VectorExpression {
+		private final char operator;
+		private final VectorExpression left, right;
+
+		DoubleArithmetic(char operator, VectorExpression left, VectorExpression right) {
+			super(PrimitiveType.DOUBLE);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		public ColumnVector evaluate(Batch batch, int[] sel, int count) {
+			int size = batch.getSize();
+			ColumnVector l = left.evaluate(batch, sel, count), r = right.evaluate(batch, sel, count);
+			double[] a = doubles(l, size, sel, count), b = doubles(r, size, sel, count);
+			boolean[] nulls = nulls(l, r, size);
+			double[] ret = new double[size];
+			switch (operator) {
+				case '+':
+					for (int i = 0; i < size; i++) { ret[i] = a[i] + b[i]; }
+					break;
+				case '-':
+					for (int i = 0; i < size; i++) { ret[i] = a[i] - b[i]; }
+					break;
+				case '*':
+					for (int i = 0; i < size; i++) { ret[i] = a[i] * b[i]; }
+					break;
+				default:
+					for (int j = 0; j < count; j++) {
+						int i = row(sel, j);
+						if (nulls == null || !nulls[i]) { ret[i] = Eval.arithmetic('/', a[i], b[i]); }
+					}
+					break;
+			}
+			return ColumnVector.ofDoubles(ret, nulls);
+		}
+	}
+
+	/**
+	 * x compared with a constant, as lo <= x <= hi, or its negation.  An empty 
+	 * range has lo > hi.
+	 */
+	private static final class LongRange extends Condition {
+		private final FilterKernels kernels;
+		private final VectorExpression value;
+		private final long lo, hi;
+		private final boolean negate;
+
+		LongRange(FilterKernels kernels, VectorExpression value, long lo, long hi, boolean negate) {
+			this.kernels = kernels;
+			this.value = value;
+			this.lo = lo;
+			this.hi = hi;
+			this.negate = negate;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			ColumnVector vector = value.evaluate(batch, sel, count);
+			long[] a = longs(vector, batch.getSize(), sel, count);
+			return kernels.selectRange(a, vector.nulls, lo, hi, want != negate, sel, count, out);
+		}
+	}
+
+	/**
+	 * x compared with a constant, as lo <= x <= hi or, if <code>nan</code>, x 
+	 * is NaN; or its negation.
+	 */
+	private static final class DoubleRange extends Condition {
+		private final FilterKernels kernels;
+		private final VectorExpression value;
+		private final double lo, hi;
+		private final boolean nan, negate;
+
+		DoubleRange(FilterKernels kernels, VectorExpression value, double lo, double hi, boolean nan, boolean negate) {
+			this.kernels = kernels;
+			this.value = value;
+			this.lo = lo;
+			this.hi = hi;
+			this.nan = nan;
+			this.negate = negate;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			ColumnVector vector = value.evaluate(batch, sel, count);
+			double[] a = doubles(vector, batch.getSize(), sel, count);
+			return kernels.selectRange(a, vector.nulls, lo, hi, nan, want != negate, sel, count, out);
+		}
+	}
+
+	/**
+	 * Two numeric vectors compared row by row.  As in {@link Eval}, the right 
+	 * side is not evaluated in the rows where the left side is NULL.
+	 */
+	private static final class Compare extends Condition {
+		private final int operator, mode;
+		private final VectorExpression left, right;
+
+		Compare(int operator, int mode, VectorExpression left, VectorExpression right) {
+			this.operator = operator;
+			this.mode = mode;
+			this.left = left;
+			this.right = right;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			int size = batch.getSize();
+			ColumnVector l = left.evaluate(batch, sel, count), r;
+			if (l.nulls == null) {
+				r = right.evaluate(batch, sel, count);
+			} else {
+				int[] known = new int[count];
+				int m = 0;
+				for (int j = 0; j < count; j++) {
+					int i = row(sel, j);
+					known[m] = i;
+					m += l.nulls[i] ? 0 : 1;
+				}
+				r = right.evaluate(batch, known, m);
+			}
+			boolean[] nulls = nulls(l, r, size);
+			int accept = want ? operator : ~operator & 7;
+			int n = 0;
+			if (mode == LONGS) {
+				long[] a = longs(l, size, sel, count), b = longs(r, size, sel, count);
+				for (int j = 0; j < count; j++) {
+					int i = sel == null ? j : sel[j];
+					out[n] = i;
+					n += accept >> (Long.compare(a[i], b[i]) + 1) & (nulls != null && nulls[i] ? 0 : 1);
+				}
+			} else if (mode == DOUBLES) {
+				double[] a = doubles(l, size, sel, count), b = doubles(r, size, sel, count);
+				for (int j = 0; j < count; j++) {
+					int i = sel == null ? j : sel[j];
+					out[n] = i;
+					n += accept >> (Eval.compare(a[i], b[i]) + 1) & (nulls != null && nulls[i] ? 0 : 1);
+				}
+			} else {
+				boolean swap = mode == DOUBLE_LONG;
+				long[] a = longs(swap ? r : l, size, sel, count);
+				double[] b = doubles(swap ? l : r, size, sel, count);
+				int sign = swap ? -1 : 1;
+				for (int j = 0; j < count; j++) {
+					int i = sel == null ? j : sel[j];
+					out[n] = i;
+					n += accept >> (sign * Eval.compare(a[i], b[i]) + 1) & (nulls != null && nulls[i] ? 0 : 1);
+				}
+			}
+			return n;
+		}
+	}
+
+	/**
+	 * A test of a STRING that is not NULL; on a dictionary it is made once 
+	 * for each string, and each row looks its result up by code.  The results 
+	 * for the last dictionary are kept, since the batches of a column often 
+	 * share one.
+	 */
+	private static final class StringTest extends Condition {
+		private final VectorExpression value;
+		private final Predicate<String> test;
+		private volatile Matches last;
+
+		StringTest(VectorExpression value, Predicate<String> test) {
+			this.value = value;
+			this.test = test;
+		}
+
+		private static final class Matches {
+			final String[] dictionary;
+			final boolean[] results;
+
+			Matches(String[] dictionary, boolean[] results) {
+				this.dictionary = dictionary;
+				this.results = results;
+			}
+		}
+
+		private boolean[] results(String[] dictionary) {
+			Matches matches = last;
+			if (matches == null || matches.dictionary != dictionary) {
+				boolean[] results = new boolean[dictionary.length];
+				for (int k = 0; k < dictionary.length; k++) {
+					results[k] = test.test(dictionary[k]);
+				}
+				matches = new Matches(dictionary, results);
+				last = matches;
+			}
+			return matches.results;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			ColumnVector vector = value.evaluate(batch, sel, count);
+			boolean[] nulls = vector.nulls;
+			int n = 0;
+			if (vector.dictionary == null) {
+				for (int j = 0; j < count; j++) {
+					int i = row(sel, j);
+					if (!vector.isNull(i) && test.test(vector.getString(i)) == want) { out[n++] = i; }
+				}
+				return n;
+			}
+			boolean[] results = results(vector.dictionary);
+			int[] codes = vector.codes;
+			for (int j = 0; j < count; j++) {
+				int i = sel == null ? j : sel[j];
+				out[n] = i;
+				n += results[codes[i]] == want & !(nulls != null && nulls[i]) ? 1 : 0;
+			}
+			return n;
+		}
+	}
+
+	private static final class NumberIn extends Condition {
+		private final VectorExpression value;
+		private final LiteralList list;
+		private final boolean not;
+
+		NumberIn(VectorExpression value, LiteralList list, boolean not) {
+			this.value = value;
+			this.list = list;
+			this.not = not;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			ColumnVector vector = value.evaluate(batch, sel, count);
+			boolean[] nulls = vector.nulls;
+			boolean found = want != not;
+			int n = 0;
+			if (value.type == PrimitiveType.LONG) {
+				long[] a = longs(vector, batch.getSize(), sel, count);
+				for (int j = 0; j < count; j++) {
+					int i = sel == null ? j : sel[j];
+					if (!(nulls != null && nulls[i]) && list.contains(a[i]) == found) { out[n++] = i; }
+				}
+			} else {
+				double[] a = doubles(vector, batch.getSize(), sel, count);
+				for (int j = 0; j < count; j++) {
+					int i = sel == null ? j : sel[j];
+					if (!(nulls != null && nulls[i]) && list.contains(a[i]) == found) { out[n++] = i; }
+				}
+			}
+			return n;
+		}
+	}
+
+	private static final class IsNull extends Condition {
+		private final VectorExpression value;
+		private final boolean not;
+
+		IsNull(VectorExpression value, boolean not) {
+			this.value = value;
+			this.not = not;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			boolean[] nulls = value.evaluate(batch, sel, count).nulls;
+			boolean wanted = want != not;
+			int n = 0;
+			if (nulls == null) {
+				if (wanted) { return 0; }
+				for (int j = 0; j < count; j++) {
+					out[n++] = row(sel, j);
+				}
+				return n;
+			}
+			for (int j = 0; j < count; j++) {
+				int i = sel == null ? j : sel[j];
+				out[n] = i;
+				n += nulls[i] == wanted ? 1 : 0;
+			}
+			return n;
+		}
+	}
+
+	private static final class Not extends Condition {
+		private final VectorExpression operand;
+
+		Not(VectorExpression operand) {
+			this.operand = operand;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			return VectorCompiler.select(operand, batch, sel, count, out, !want);
+		}
+	}
+
+	/**
+	 * TRUE rows are those the left side keeps and then the right side keeps; 
+	 * FALSE rows are the union of the FALSE rows of each side.
+	 */
+	private static final class And extends Condition {
+		private final VectorExpression left, right;
+
+		And(VectorExpression left, VectorExpression right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			return want ? both(left, right, batch, sel, count, out, true) 
+			            : either(left, right, batch, sel, count, out, false);
+		}
+	}
+
+	private static final class Or extends Condition {
+		private final VectorExpression left, right;
+
+		Or(VectorExpression left, VectorExpression right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		int select(Batch batch, int[] sel, int count, int[] out, boolean want) {
+			return want ? either(left, right, batch, sel, count, out, true) 
+			            : both(left, right, batch, sel, count, out, false);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval;
+
+import net.sf.jsqlparser.schema.PrimitiveType;
+
+/**
+ * An expression made ready by a {@link VectorCompiler} to be evaluated a 
+ * {@link Batch} at a time.  The rows to work on are given as a selection 
+ * vector: the positions of the rows in <code>sel[0]</code> to 
+ * <code>sel[count - 1]</code>, in increasing order, or all rows from 0 to 
+ * <code>count - 1</code> if <code>sel</code> is null.  A value comes back as 
+ * a {@link ColumnVector}, and a condition as the selection of the rows for 
+ * which it is TRUE, or FALSE, so that AND and OR only combine lists of rows.
+ * <p>
+ * The methods here work on any expression by way of {@link #evaluate}; the 
+ * subclasses for conditions override the select methods.
+ */
+public abstract class VectorExpression {
+	protected final PrimitiveType type;
+
+	/**
+	 * @param type    The type of every non-NULL result, or null if it is not 
+	 *                known before evaluation
+	 */
+	protected VectorExpression(PrimitiveType type) {
+		this.type = type;
+	}
+
+	/**
+	 * @return    The type of every non-NULL result, or null if it is not known 
+	 *            before evaluation
+	 */
+	public PrimitiveType getType() {
+		return type;
+	}
+
+	/**
+	 * @return    The results, as many as the batch has rows, of which those 
+	 *            outside the selection are undefined.  It may be a column of the 
+	 *            batch itself, and must not be changed.
+	 */
+	public abstract ColumnVector evaluate(Batch batch, int[] sel, int count);
+
+	/**
+	 * Writes to <code>out</code>, in order, the selected rows for which the 
+	 * condition is TRUE.
+	 * @param out    Room for <code>count</code> rows; it may be <code>sel</code> 
+	 *               itself
+	 * @return       The number of rows written
+	 */
+	public int select(Batch batch, int[] sel, int count, int[] out) {
+		return select(evaluate(batch, sel, count), sel, count, out, true);
+	}
+
+	/**
+	 * Writes to <code>out</code>, in order, the selected rows for which the 
+	 * condition is FALSE; those for which it is NULL are in neither selection.
+	 * @see #select(Batch, int[], int, int[])
+	 */
+	public int selectFalse(Batch batch, int[] sel, int count, int[] out) {
+		return select(evaluate(batch, sel, count), sel, count, out, false);
+	}
+
+	/**
+	 * Writes to <code>out</code>, in order, every row of the batch for which 
+	 * the condition is TRUE, as a WHERE clause would keep them.
+	 * @return    The number of rows written
+	 */
+	public int select(Batch batch, int[] out) {
+		return select(batch, null, batch.getSize(), out);
+	}
+
+	private static int select(ColumnVector vector, int[] sel, int count, int[] out, boolean want) {
+		boolean[] nulls = vector.nulls;
+		int n = 0;
+		if (vector.bools != null) {
+			boolean[] bools = vector.bools;
+			for (int j = 0; j < count; j++) {
+				int i = sel == null ? j : sel[j];
+				out[n] = i;
+				n += bools[i] == want & !(nulls != null && nulls[i]) ? 1 : 0;
+			}
+			return n;
+		}
+		if (vector.values == null) { throw new EvalException("Not a condition: " + vector.getType()); }
+		int truth = want ? CompiledExpression.TRUE : CompiledExpression.FALSE;
+		for (int j = 0; j < count; j++) {
+			int i = sel == null ? j : sel[j];
+			if (CompiledExpression.truth(vector.values[i]) == truth) { out[n++] = i; }
+		}
+		return n;
+	}
+}
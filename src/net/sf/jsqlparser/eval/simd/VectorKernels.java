@@ -0,0 +1,143 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.eval.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+import net.sf.jsqlparser.eval.FilterKernels;
+
+/**
+ * {@link FilterKernels} on the Vector API: a whole register of values is 
+ * compared with the range at once, and the rows of the resulting mask are 
+ * written out from its bits.  A selection without NULLs is gathered through 
+ * its indexes; with NULLs, and for the rows left over at the end, the 
+ * scalar loops are used.
+ * <p>
+ * This class needs <code>jdk.incubator.vector</code> to compile and to load; 
+ * it is only made by {@link FilterKernels#get}, which does without it.
+ */
+public class VectorKernels extends FilterKernels {
+	// at most 8 lanes, so that there is a shuffle for every mask
+	private static final VectorSpecies<Long> LONGS = 
+		LongVector.SPECIES_PREFERRED.length() > 8 ? LongVector.SPECIES_512 : LongVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLES = VectorSpecies.of(double.class, LONGS.vectorShape());
+	private static final VectorSpecies<Integer> INTS = 
+		VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+	private static final IntVector IOTA = (IntVector)INTS.iotaShuffle(0, 1, false).toVector();
+	private static final VectorShuffle<Integer>[] COMPRESS = compress();
+
+	/**
+	 * @throws UnsupportedOperationException    if the registers hold fewer than 
+	 *                                          four longs, where the scalar loops 
+	 *                                          are as fast
+	 */
+	public VectorKernels() {
+		if (LONGS.length() < 4) { throw new UnsupportedOperationException("No SIMD registers of 256 bits"); }
+	}
+
+	public String getName() {
+		return "simd" + LONGS.vectorBitSize();
+	}
+
+	/**
+	 * @return    For each mask of the lanes, the shuffle that moves the lanes 
+	 *            that are set to the front, in order
+	 */
+	@SuppressWarnings("unchecked")
+	private static VectorShuffle<Integer>[] compress() {
+		int lanes = INTS.length();
+		VectorShuffle<Integer>[] ret = (VectorShuffle<Integer>[])new VectorShuffle<?>[1 << lanes];
+		int[] order = new int[lanes];
+		for (int bits = 0; bits < ret.length; bits++) {
+			int n = 0;
+			for (int k = 0; k < lanes; k++) {
+				if ((bits >> k & 1) != 0) { order[n++] = k; }
+			}
+			for (int k = 0; k < lanes; k++) {
+				if ((bits >> k & 1) == 0) { order[n++] = k; }
+			}
+			ret[bits] = VectorShuffle.fromArray(INTS, order, 0);
+		}
+		return ret;
+	}
+
+	/**
+	 * Writes the rows of a mask, by moving them to the front of a vector of 
+	 * the row numbers and storing all of it; the lanes past the last row set 
+	 * are written over next time, and never reach past the row that was read 
+	 * last, so <code>out</code> may be <code>sel</code>.
+	 */
+	private static int write(long bits, int[] sel, int j, int[] out, int n) {
+		if (bits == 0) { return n; }
+		IntVector rows = sel == null ? IOTA.add(j) : IntVector.fromArray(INTS, sel, j);
+		rows.rearrange(COMPRESS[(int)bits]).intoArray(out, n);
+		return n + Long.bitCount(bits);
+	}
+
+	public int selectRange(long[] values, boolean[] nulls, long lo, long hi, boolean inside, 
+	                       int[] sel, int count, int[] out) {
+		if (sel != null && nulls != null || lo > hi) { return scalar(values, nulls, lo, hi, inside, sel, count, out, 0); }
+		// lo <= x <= hi is 0 <= x - lo <= hi - lo, unsigned
+		long width = hi - lo;
+		int lanes = LONGS.length(), bound = LONGS.loopBound(count), n = 0, j = 0;
+		for (; j < bound; j += lanes) {
+			LongVector x = sel == null ? LongVector.fromArray(LONGS, values, j) 
+			                           : LongVector.fromArray(LONGS, values, 0, sel, j);
+			VectorMask<Long> hit = x.sub(lo).compare(VectorOperators.UNSIGNED_LE, width);
+			if (!inside) { hit = hit.not(); }
+			if (nulls != null) { hit = hit.andNot(VectorMask.fromArray(LONGS, nulls, j)); }
+			// the rows are written in place of sel only after they are read
+			n = write(hit.toLong(), sel, j, out, n);
+		}
+		return j == count ? n : scalar(values, nulls, lo, hi, inside, tail(sel, j, count), count - j, out, n);
+	}
+
+	public int selectRange(double[] values, boolean[] nulls, double lo, double hi, boolean nan, boolean inside, 
+	                       int[] sel, int count, int[] out) {
+		if (sel != null && nulls != null) { return scalar(values, nulls, lo, hi, nan, inside, sel, count, out, 0); }
+		int lanes = DOUBLES.length(), bound = DOUBLES.loopBound(count), n = 0, j = 0;
+		for (; j < bound; j += lanes) {
+			DoubleVector x = sel == null ? DoubleVector.fromArray(DOUBLES, values, j) 
+			                             : DoubleVector.fromArray(DOUBLES, values, 0, sel, j);
+			VectorMask<Double> hit = x.compare(VectorOperators.GE, lo).and(x.compare(VectorOperators.LE, hi));
+			if (nan) { hit = hit.or(x.test(VectorOperators.IS_NAN)); }
+			if (!inside) { hit = hit.not(); }
+			if (nulls != null) { hit = hit.andNot(VectorMask.fromArray(DOUBLES, nulls, j)); }
+			n = write(hit.toLong(), sel, j, out, n);
+		}
+		return j == count ? n : scalar(values, nulls, lo, hi, nan, inside, tail(sel, j, count), count - j, out, n);
+	}
+
+	/**
+	 * @return    The rows of the selection from its <code>j</code>th on
+	 */
+	private static int[] tail(int[] sel, int j, int count) {
+		int[] ret = new int[count - j];
+		for (int k = 0; k < ret.length; k++) {
+			ret[k] = sel == null ? j + k : sel[j + k];
+		}
+		return ret;
+	}
+}
@@ -12,9 +12,27 @@ public class AllComparisonExpression implements Expression {
 	public SubSelect getSubSelect() {
 		return subSelect;
 	}
+
+	public void setSubSelect(SubSelect subSelect) {
+		this.subSelect = subSelect;
+	}
 	
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
+	public int getChildCount() {
+		return 1;
+	}
+
+	public Expression getChild(int index) {
+		switch (index) {
+			case 0: return subSelect;
+			default: throw new IndexOutOfBoundsException("Index: "+index);
+		}
+	}
 }
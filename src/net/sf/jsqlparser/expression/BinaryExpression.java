@@ -61,4 +61,16 @@ public abstract class BinaryExpression implements Expression {
 
 	public abstract String getStringExpression();
 	
+
+	public int getChildCount() {
+		return 2;
+	}
+
+	public Expression getChild(int index) {
+		switch (index) {
+			case 0: return leftExpression;
+			case 1: return rightExpression;
+			default: throw new IndexOutOfBoundsException("Index: "+index);
+		}
+	}
 }
@@ -0,0 +1,169 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.expression;
+
+import java.nio.ByteBuffer;
+
+import net.sf.jsqlparser.schema.PrimitiveType;
+
+/**
+ * A binary string in the form X'0123abcd', or the value of a BINARY, VARBINARY
+ * or BLOB column.<br>
+ *
+ * The bytes are held in a read-only ByteBuffer.  A literal is decoded once,
+ * straight from its token into the array behind the buffer; a value built
+ * from a buffer shares the bytes of that buffer instead of copying them.
+ */
+public class BinaryValue implements Expression, PrimitiveValue, Comparable<BinaryValue> {
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	private ByteBuffer value;
+
+	/**
+	 * @param value    The bytes between the position and the limit of
+	 *                 <code>value</code>, which are shared, not copied
+	 */
+	public BinaryValue(ByteBuffer value) {
+		setValue(value);
+	}
+
+	/**
+	 * @param value    The bytes, which are shared, not copied
+	 */
+	public BinaryValue(byte[] value) {
+		this.value = ByteBuffer.wrap(value).asReadOnlyBuffer();
+	}
+
+	/**
+	 * @param escapedValue    The literal as <code>X'hex digits'</code>, with an
+	 *                        even number of digits
+	 */
+	public static BinaryValue parseEscaped(String escapedValue) {
+		int start = 2, end = escapedValue.length() - 1;
+		if ((end - start) % 2 != 0) {
+			throw new IllegalArgumentException("Odd number of hex digits in a binary literal");
+		}
+		byte[] bytes = new byte[(end - start) / 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int high = Character.digit(escapedValue.charAt(start + 2 * i), 16);
+			int low = Character.digit(escapedValue.charAt(start + 2 * i + 1), 16);
+			if (high < 0 || low < 0) {
+				throw new IllegalArgumentException("Not a hex digit in a binary literal, at byte "+i);
+			}
+			bytes[i] = (byte)(high << 4 | low);
+		}
+		return new BinaryValue(bytes);
+	}
+
+	public void accept(ExpressionVisitor expressionVisitor) {
+		expressionVisitor.visit(this);
+	}
+
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
+	/**
+	 * @return    A read-only view of the bytes, from position 0; each call
+	 *            returns a new view, so reading one moves no one else's position
+	 */
+	public ByteBuffer getValue() {
+		return value.duplicate();
+	}
+
+	public void setValue(ByteBuffer value) {
+		this.value = value.slice().asReadOnlyBuffer();
+	}
+
+	/** @return    The number of bytes */
+	public int getLength() {
+		return value.limit();
+	}
+
+	/** @return    Byte <code>index</code>, from 0 to 255 */
+	public int getByte(int index) {
+		return value.get(index) & 0xff;
+	}
+
+	/** @return    A copy of the bytes */
+	public byte[] toByteArray() {
+		byte[] bytes = new byte[value.limit()];
+		value.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/** Compares the bytes as unsigned numbers, and a prefix before a longer value */
+	public int compareTo(BinaryValue other) {
+		int length = Math.min(getLength(), other.getLength());
+		for (int i = 0; i < length; i++) {
+			int cmp = getByte(i) - other.getByte(i);
+			if (cmp != 0) { return cmp; }
+		}
+		return getLength() - other.getLength();
+	}
+
+	public long toLong() throws PrimitiveValue.InvalidPrimitive
+		{ throw new PrimitiveValue.InvalidPrimitive(); }
+	public double toDouble() throws PrimitiveValue.InvalidPrimitive
+		{ throw new PrimitiveValue.InvalidPrimitive(); }
+	public boolean toBool() throws PrimitiveValue.InvalidPrimitive
+		{ throw new PrimitiveValue.InvalidPrimitive(); }
+
+	/** @return    The bytes as hex digits */
+	public String toRawString() {
+		return appendHex(new StringBuilder(2 * getLength())).toString();
+	}
+
+	public String toString() {
+		return appendTo(new StringBuilder(2 * getLength() + 3)).toString();
+	}
+
+	/**
+	 * Writes the literal, <code>X'hex digits'</code>, to <code>buffer</code>.
+	 */
+	public StringBuilder appendTo(StringBuilder buffer) {
+		return appendHex(buffer.append("X'")).append('\'');
+	}
+
+	private StringBuilder appendHex(StringBuilder buffer) {
+		for (int i = 0; i < getLength(); i++) {
+			int b = getByte(i);
+			buffer.append(HEX[b >> 4]).append(HEX[b & 15]);
+		}
+		return buffer;
+	}
+
+	public boolean equals(Object o) {
+		return o instanceof BinaryValue && value.equals(((BinaryValue)o).value);
+	}
+
+	public int hashCode() {
+		return value.hashCode();
+	}
+
+	public PrimitiveType getType() { return PrimitiveType.BINARY; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
+}
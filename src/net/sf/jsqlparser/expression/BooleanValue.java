@@ -60,6 +60,15 @@ public class BooleanValue implements PrimitiveValue, Expression {
   }
 
   public void accept(ExpressionVisitor visitor) { visitor.visit(this); }
+  public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) { return visitor.visit(this, context); }
 
   public PrimitiveType getType() { return PrimitiveType.BOOL; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -70,6 +70,10 @@ public class CaseExpression implements Expression {
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
+
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
 	
 	/**
 	 * @return Returns the switchExpression.
@@ -116,4 +120,20 @@ public class CaseExpression implements Expression {
 				((elseExpression!=null)?"ELSE "+elseExpression+" ":"")+
 				"END";
 	}
+
+	/**
+	 * The switch expression, then each {@link WhenClause}, then the else expression.  
+	 * The first and last are null when absent.
+	 */
+	public int getChildCount() {
+		return whenClauses == null ? 2 : whenClauses.size() + 2;
+	}
+
+	public Expression getChild(int index) {
+		int whens = getChildCount() - 2;
+		if (index == 0) { return switchExpression; }
+		if (index > 0 && index <= whens) { return whenClauses.get(index - 1); }
+		if (index == whens + 1) { return elseExpression; }
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -22,50 +22,110 @@
 package net.sf.jsqlparser.expression;
 
 import java.sql.Date;
-import java.text.SimpleDateFormat;
 import net.sf.jsqlparser.schema.PrimitiveType;
 
 
 /**
- * A Date in the form {d 'yyyy-mm-dd'}
+ * A Date in the form {d 'yyyy-mm-dd'}.<br>
+ *
+ * The date is held as the number of days since 1970-01-01, so comparing two
+ * dates or reading their fields costs no allocation and no time zone
+ * arithmetic.  A java.sql.Date is only built when {@link #getValue()} asks
+ * for one.
  */
-public class DateValue implements Expression, PrimitiveValue {
-	private Date value;
-	
+public class DateValue implements Expression, PrimitiveValue, Comparable<DateValue> {
+	private long epochDay;
+
+	public DateValue(Date value) {
+		setValue(value);
+	}
+
+	/**
+	 * @param value    The date as <code>yyyy-[m]m-[d]d</code>
+	 */
 	public DateValue(String value) {
-		this.value = Date.valueOf(value);
+		this(Dates.parseDate(value, 0, value.length()));
+	}
+
+	private DateValue(long epochDay) {
+		this.epochDay = epochDay;
 	}
 
+  /**
+   * @param escapedValue    The date as <code>'yyyy-[m]m-[d]d'</code>, in quotes
+   */
   public static DateValue parseEscaped(String escapedValue) {
-    return new DateValue(escapedValue.substring(1, escapedValue.length()-1));
+    return new DateValue(Dates.parseDate(escapedValue, 1, escapedValue.length()-1));
+  }
+
+  /**
+   * @return    The date <code>epochDay</code> days after 1970-01-01
+   */
+  public static DateValue ofEpochDay(long epochDay) {
+    return new DateValue(epochDay);
   }
 	
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
-  
+
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
+  /** @return    The number of days since 1970-01-01 */
+  public long getEpochDay() {
+    return epochDay;
+  }
+
+  /** @return    The year, e.g. 2004 */
+  public int getFullYear() {
+    return Dates.year(Dates.civil(epochDay));
+  }
+  /** @return    The month, from 1 to 12 */
+  public int getMonthOfYear() {
+    return Dates.month(Dates.civil(epochDay));
+  }
+  /** @return    The day of the month, from 1 */
+  public int getDayOfMonth() {
+    return Dates.day(Dates.civil(epochDay));
+  }
+
+  /** @return    The year minus 1900, as java.util.Date counts it */
   public int getYear() {
-    return value.getYear();
+    return getFullYear() - 1900;
   }
+  /** @return    The month, from 0 to 11, as java.util.Date counts it */
   public int getMonth() {
-    return value.getMonth();
+    return getMonthOfYear() - 1;
   }
   public int getDate() {
-    return value.getDate();
+    return getDayOfMonth();
   }
 
+	/**
+	 * @return    A new java.sql.Date for midnight of this date in the default
+	 *            time zone, as Date.valueOf would give
+	 */
+	@SuppressWarnings("deprecation")
 	public Date getValue() {
-		return value;
+		long civil = Dates.civil(epochDay);
+		return new Date(Dates.year(civil) - 1900, Dates.month(civil) - 1, Dates.day(civil));
 	}
 
+	@SuppressWarnings("deprecation")
 	public void setValue(Date d) {
-		value = d;
+		epochDay = Dates.epochDay(d.getYear() + 1900, d.getMonth() + 1, d.getDate());
 	}
+
+  public int compareTo(DateValue other) {
+    return Long.compare(epochDay, other.epochDay);
+  }
   
   public String toRawString(){ return toString(); }
   public String toString()
   {
-    return value.toString();
+    return Dates.appendDate(new StringBuilder(10), epochDay).toString();
   }
   
   public long toLong() throws PrimitiveValue.InvalidPrimitive 
@@ -77,15 +137,19 @@ public class DateValue implements Expression, PrimitiveValue {
   
   public boolean equals(Object o)
   {
-    try { 
-      return value.equals(((DateValue)o).value);
-    } catch(ClassCastException e){
-      return false;
-    }
+    return o instanceof DateValue && ((DateValue)o).epochDay == epochDay;
   }
   public int hashCode(){
-    return value.hashCode();
+    return Long.hashCode(epochDay);
   }
 
   public PrimitiveType getType() { return PrimitiveType.DATE; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
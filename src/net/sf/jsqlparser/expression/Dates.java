@@ -0,0 +1,166 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.expression;
+
+/**
+ * Calendar arithmetic for the packed representations of {@link DateValue},
+ * {@link TimeValue} and {@link TimestampValue}: days since 1970-01-01 in the
+ * proleptic Gregorian calendar, and microseconds within a day.  Dates and
+ * times are local; no time zone is involved until a value is converted to
+ * one of the java.sql types.<br>
+ *
+ * The parsers read the text in place and accept what Date.valueOf,
+ * Time.valueOf and Timestamp.valueOf accept, including their leniency: a
+ * day past the end of its month, or an hour past the end of its day, rolls
+ * over into the next one.
+ */
+final class Dates {
+
+	static final long MICROS_PER_SECOND = 1000000L;
+	static final long MICROS_PER_DAY = 86400L * MICROS_PER_SECOND;
+
+	private Dates() {}
+
+	/**
+	 * @return    The day number of the given date, counting from 1970-01-01.
+	 *            <code>day</code> may run past the end of <code>month</code>.
+	 */
+	static long epochDay(long year, int month, int day) {
+		// Counts from March, so that the leap day is the last day of the year
+		if(month <= 2){ year--; }
+		long era = Math.floorDiv(year, 400);
+		long yearOfEra = year - era * 400;
+		long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097 + dayOfEra - 719468;
+	}
+
+	/**
+	 * @return    The year, month (1-12) and day of <code>epochDay</code>,
+	 *            packed as year &lt;&lt; 9 | month &lt;&lt; 5 | day
+	 */
+	static long civil(long epochDay) {
+		long shifted = epochDay + 719468;
+		long era = Math.floorDiv(shifted, 146097);
+		long dayOfEra = shifted - era * 146097;
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long monthFromMarch = (5 * dayOfYear + 2) / 153;
+		long day = dayOfYear - (153 * monthFromMarch + 2) / 5 + 1;
+		long month = monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9;
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		return year << 9 | month << 5 | day;
+	}
+
+	static int year(long civil) { return (int)(civil >> 9); }
+	static int month(long civil) { return (int)(civil >> 5) & 15; }
+	static int day(long civil) { return (int)civil & 31; }
+
+	/**
+	 * Reads <code>yyyy-[m]m-[d]d</code> from <code>text</code> between
+	 * <code>start</code> and <code>end</code>.
+	 *
+	 * @return    The day number of the date
+	 */
+	static long parseDate(String text, int start, int end) {
+		int firstDash = start + 4;
+		int secondDash = text.indexOf('-', firstDash + 1);
+		if(end - start < 8 || text.charAt(firstDash) != '-' || secondDash < 0
+				|| secondDash - firstDash > 3 || end - secondDash < 2 || end - secondDash > 3){
+			throw malformed(text, start, end);
+		}
+		int year = digits(text, start, firstDash);
+		int month = digits(text, firstDash + 1, secondDash);
+		int day = digits(text, secondDash + 1, end);
+		if(month < 1 || month > 12 || day < 1 || day > 31){
+			throw malformed(text, start, end);
+		}
+		return epochDay(year, month, day);
+	}
+
+	/**
+	 * Reads <code>hh:mm:ss</code> from <code>text</code> between
+	 * <code>start</code> and <code>end</code>.
+	 *
+	 * @return    The seconds since midnight, which may be a day or more
+	 */
+	static long parseSeconds(String text, int start, int end) {
+		int firstColon = text.indexOf(':', start);
+		int secondColon = firstColon < 0 ? -1 : text.indexOf(':', firstColon + 1);
+		if(firstColon <= start || secondColon < 0 || secondColon >= end - 1){
+			throw malformed(text, start, end);
+		}
+		long hours = digits(text, start, firstColon);
+		long minutes = digits(text, firstColon + 1, secondColon);
+		long seconds = digits(text, secondColon + 1, end);
+		return hours * 3600 + minutes * 60 + seconds;
+	}
+
+	/**
+	 * @return    The unsigned decimal number between <code>start</code> and
+	 *            <code>end</code>
+	 */
+	static int digits(String text, int start, int end) {
+		if(start >= end){ throw malformed(text, start, end); }
+		long value = 0;
+		for(int i = start; i < end; i++){
+			char c = text.charAt(i);
+			if(c < '0' || c > '9'){ throw malformed(text, start, end); }
+			value = value * 10 + (c - '0');
+			if(value > Integer.MAX_VALUE){ throw malformed(text, start, end); }
+		}
+		return (int)value;
+	}
+
+	static IllegalArgumentException malformed(String text, int start, int end) {
+		return new IllegalArgumentException("Malformed date or time: "+text);
+	}
+
+	/**
+	 * Writes <code>epochDay</code> as <code>yyyy-mm-dd</code>.
+	 */
+	static StringBuilder appendDate(StringBuilder buffer, long epochDay) {
+		long civil = civil(epochDay);
+		int year = year(civil);
+		if(year < 0){
+			buffer.append('-');
+			year = -year;
+		}
+		pad(buffer, year, 4).append('-');
+		pad(buffer, month(civil), 2).append('-');
+		return pad(buffer, day(civil), 2);
+	}
+
+	/**
+	 * Writes the whole seconds of <code>microsOfDay</code> as <code>hh:mm:ss</code>.
+	 */
+	static StringBuilder appendTime(StringBuilder buffer, long microsOfDay) {
+		int seconds = (int)(microsOfDay / MICROS_PER_SECOND);
+		pad(buffer, seconds / 3600, 2).append(':');
+		pad(buffer, seconds / 60 % 60, 2).append(':');
+		return pad(buffer, seconds % 60, 2);
+	}
+
+	static StringBuilder pad(StringBuilder buffer, int value, int width) {
+		for(int limit = 10; --width > 0; limit *= 10){
+			if(value < limit){ buffer.append('0'); }
+		}
+		return buffer.append(value);
+	}
+}
@@ -0,0 +1,332 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.expression;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import net.sf.jsqlparser.schema.PrimitiveType;
+
+/**
+ * An exact decimal number, as held by a DECIMAL or NUMERIC column.<br>
+ *
+ * The value is an unscaled long and a scale, meaning unscaled * 10^-scale, so
+ * adding, subtracting, multiplying and comparing values costs long arithmetic
+ * and no allocation beyond the result.  A value whose unscaled part does not
+ * fit in a long is held as a BigDecimal instead, and operations on it go
+ * through BigDecimal; results that fit are brought back to the long form.<br>
+ *
+ * Values are compared numerically, so 1.5 equals 1.50, though they print
+ * differently.
+ */
+public class DecimalValue implements Expression, PrimitiveValue, Comparable<DecimalValue> {
+	private static final long[] POWERS_OF_TEN = new long[19];
+	/** The powers of ten that doubles hold exactly */
+	private static final double[] DOUBLE_POWERS_OF_TEN = new double[23];
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+		DOUBLE_POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < DOUBLE_POWERS_OF_TEN.length; i++) {
+			DOUBLE_POWERS_OF_TEN[i] = DOUBLE_POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private long unscaledValue;
+	private int scale;
+	/** The value, when its unscaled part does not fit in a long; otherwise null */
+	private BigDecimal big;
+
+	/**
+	 * The value <code>unscaledValue * 10^-scale</code>
+	 */
+	public DecimalValue(long unscaledValue, int scale) {
+		this.unscaledValue = unscaledValue;
+		this.scale = scale;
+	}
+
+	public DecimalValue(BigDecimal value) {
+		setValue(value);
+	}
+
+	/**
+	 * @param value    The number, as <code>[+-]digits[.digits]</code> or in any
+	 *                 form BigDecimal accepts
+	 */
+	public DecimalValue(String value) {
+		if (!parse(value)) {
+			setValue(new BigDecimal(value));
+		}
+	}
+
+	/**
+	 * Reads a plain number of up to 18 digits without allocating.
+	 *
+	 * @return    false if the number has another form
+	 */
+	private boolean parse(String value) {
+		int i = 0, length = value.length();
+		boolean negative = false;
+		if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+			negative = value.charAt(0) == '-';
+			i++;
+		}
+		long unscaled = 0;
+		int digits = 0, point = -1;
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '.' && point < 0) {
+				point = digits;
+			} else if (c >= '0' && c <= '9' && digits < 18) {
+				unscaled = unscaled * 10 + (c - '0');
+				digits++;
+			} else {
+				return false;
+			}
+		}
+		if (digits == 0) { return false; }
+		this.unscaledValue = negative ? -unscaled : unscaled;
+		this.scale = point < 0 ? 0 : digits - point;
+		this.big = null;
+		return true;
+	}
+
+	public void accept(ExpressionVisitor expressionVisitor) {
+		expressionVisitor.visit(this);
+	}
+
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
+	/**
+	 * @return    Whether the value is held as an unscaled long and a scale,
+	 *            rather than as a BigDecimal
+	 */
+	public boolean isCompact() {
+		return big == null;
+	}
+
+	/**
+	 * @return    The unscaled value
+	 * @throws ArithmeticException    if it does not fit in a long
+	 */
+	public long getUnscaledValue() {
+		if (big != null) { throw new ArithmeticException("Unscaled value out of long range: "+big); }
+		return unscaledValue;
+	}
+
+	/** @return    The number of digits after the decimal point */
+	public int getScale() {
+		return big == null ? scale : big.scale();
+	}
+
+	/** @return    The value as a BigDecimal, which is built unless it is held as one */
+	public BigDecimal getValue() {
+		return big == null ? BigDecimal.valueOf(unscaledValue, scale) : big;
+	}
+
+	public void setValue(BigDecimal value) {
+		if (value.unscaledValue().bitLength() < 64) {
+			unscaledValue = value.unscaledValue().longValue();
+			scale = value.scale();
+			big = null;
+		} else {
+			big = value;
+		}
+	}
+
+	/** @return    <code>this + other</code> */
+	public DecimalValue add(DecimalValue other) {
+		return new DecimalValue(0, 0).sum(this, other, false);
+	}
+
+	/** @return    <code>this - other</code> */
+	public DecimalValue subtract(DecimalValue other) {
+		return new DecimalValue(0, 0).sum(this, other, true);
+	}
+
+	/** @return    <code>this * other</code>, with the sum of their scales */
+	public DecimalValue multiply(DecimalValue other) {
+		if (big == null && other.big == null) {
+			try {
+				return new DecimalValue(Math.multiplyExact(unscaledValue, other.unscaledValue),
+				                        Math.addExact(scale, other.scale));
+			} catch (ArithmeticException e) {
+				// falls back to BigDecimal
+			}
+		}
+		return new DecimalValue(getValue().multiply(other.getValue()));
+	}
+
+	/**
+	 * Adds <code>other</code> to this value in place, for running totals that
+	 * should not allocate a value per row.
+	 *
+	 * @return    This value
+	 */
+	public DecimalValue accumulate(DecimalValue other) {
+		return sum(this, other, false);
+	}
+
+	/** Sets this value to <code>a + b</code>, or <code>a - b</code> */
+	private DecimalValue sum(DecimalValue a, DecimalValue b, boolean subtract) {
+		if (a.big == null && b.big == null) {
+			try {
+				int resultScale = Math.max(a.scale, b.scale);
+				long x = scaleUp(a.unscaledValue, resultScale - a.scale);
+				long y = scaleUp(b.unscaledValue, resultScale - b.scale);
+				unscaledValue = subtract ? Math.subtractExact(x, y) : Math.addExact(x, y);
+				scale = resultScale;
+				big = null;
+				return this;
+			} catch (ArithmeticException e) {
+				// falls back to BigDecimal
+			}
+		}
+		setValue(subtract ? a.getValue().subtract(b.getValue()) : a.getValue().add(b.getValue()));
+		return this;
+	}
+
+	/**
+	 * @return    This value with <code>newScale</code> digits after the point,
+	 *            rounded by <code>mode</code> if that drops digits
+	 */
+	public DecimalValue setScale(int newScale, RoundingMode mode) {
+		if (big == null && newScale >= scale) {
+			try {
+				return new DecimalValue(scaleUp(unscaledValue, newScale - scale), newScale);
+			} catch (ArithmeticException e) {
+				// falls back to BigDecimal
+			}
+		}
+		return new DecimalValue(getValue().setScale(newScale, mode));
+	}
+
+	/**
+	 * @return    <code>value * 10^digits</code>
+	 * @throws ArithmeticException    if that overflows
+	 */
+	private static long scaleUp(long value, int digits) {
+		if (digits == 0 || value == 0) { return value; }
+		if (digits >= POWERS_OF_TEN.length) { throw new ArithmeticException("Overflow"); }
+		return Math.multiplyExact(value, POWERS_OF_TEN[digits]);
+	}
+
+	public int compareTo(DecimalValue other) {
+		if (big == null && other.big == null) {
+			if (scale == other.scale) { return Long.compare(unscaledValue, other.unscaledValue); }
+			int sign = Long.signum(unscaledValue), otherSign = Long.signum(other.unscaledValue);
+			if (sign != otherSign) { return sign - otherSign; }
+			try {
+				if (scale < other.scale) {
+					return Long.compare(scaleUp(unscaledValue, other.scale - scale), other.unscaledValue);
+				}
+				return Long.compare(unscaledValue, scaleUp(other.unscaledValue, scale - other.scale));
+			} catch (ArithmeticException e) {
+				// falls back to BigDecimal
+			}
+		}
+		return getValue().compareTo(other.getValue());
+	}
+
+	/** @return    The value with its fraction dropped */
+	public long toLong() {
+		if (big == null) {
+			if (scale == 0) { return unscaledValue; }
+			if (scale > 0 && scale < POWERS_OF_TEN.length) { return unscaledValue / POWERS_OF_TEN[scale]; }
+		}
+		return getValue().longValue();
+	}
+
+	public double toDouble() {
+		// Both operands are exact doubles, so the quotient is correctly rounded
+		if (big == null && scale >= 0 && scale < DOUBLE_POWERS_OF_TEN.length
+				&& Math.abs(unscaledValue) <= 1L << 53) {
+			return unscaledValue / DOUBLE_POWERS_OF_TEN[scale];
+		}
+		return getValue().doubleValue();
+	}
+
+	public boolean toBool() throws PrimitiveValue.InvalidPrimitive
+		{ throw new PrimitiveValue.InvalidPrimitive(); }
+
+	public String toRawString() { return toString(); }
+
+	/**
+	 * @return    The value in plain notation, with exactly {@link #getScale()}
+	 *            digits after the point if that is positive
+	 */
+	public String toString() {
+		if (big != null || unscaledValue == Long.MIN_VALUE) { return getValue().toPlainString(); }
+		if (scale <= 0) {
+			StringBuilder buffer = new StringBuilder(20 - scale).append(unscaledValue);
+			for (int i = 0; unscaledValue != 0 && i < -scale; i++) { buffer.append('0'); }
+			return buffer.toString();
+		}
+		StringBuilder buffer = new StringBuilder(21 + scale);
+		if (unscaledValue < 0) { buffer.append('-'); }
+		int start = buffer.length();
+		buffer.append(Math.abs(unscaledValue));
+		int digits = buffer.length() - start;
+		if (digits <= scale) {
+			buffer.insert(start, "0.");
+			for (int i = digits; i < scale; i++) { buffer.insert(start + 2, '0'); }
+		} else {
+			buffer.insert(buffer.length() - scale, '.');
+		}
+		return buffer.toString();
+	}
+
+	public boolean equals(Object o) {
+		return o instanceof DecimalValue && compareTo((DecimalValue)o) == 0;
+	}
+
+	/** Consistent with {@link #equals}: trailing zeros of the fraction are ignored */
+	public int hashCode() {
+		long unscaled = unscaledValue;
+		int s = scale;
+		if (big != null) {
+			BigDecimal stripped = big.stripTrailingZeros();
+			BigInteger digits = stripped.unscaledValue();
+			if (digits.bitLength() >= 64) { return stripped.hashCode(); }
+			unscaled = digits.longValue();
+			s = stripped.scale();
+		}
+		if (unscaled == 0) { return 0; }
+		while (unscaled % 10 == 0) {
+			unscaled /= 10;
+			s--;
+		}
+		return 31 * Long.hashCode(unscaled) + s;
+	}
+
+	public PrimitiveType getType() { return PrimitiveType.DECIMAL; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
+}
@@ -27,27 +27,78 @@ import net.sf.jsqlparser.schema.PrimitiveType;
  * Every number with a point or a exponential format is a DoubleValue
  */
 public class DoubleValue implements Expression, PrimitiveValue {
+	private static final int CACHE_LOW = -128;
+	private static final int CACHE_HIGH = 1024;
+	private static final DoubleValue[] CACHE = new DoubleValue[CACHE_HIGH - CACHE_LOW + 1];
+	static {
+		for (int i = 0; i < CACHE.length; i++) {
+			CACHE[i] = new DoubleValue(i + CACHE_LOW);
+			CACHE[i].shared = true;
+		}
+	}
+
 	private double value;
+	private boolean shared;
 
   public DoubleValue(double value) { this.value = value; }
 
 	public DoubleValue(String value) {
+		this.value = parse(value);
+	}
+
+	/**
+	 * A DoubleValue for <code>value</code>.  Whole numbers from -128.0 to 1024.0 
+	 * come from a cache and are shared by everyone who asks for them, so they can 
+	 * not be modified; any other value is a new instance.
+	 */
+	public static DoubleValue valueOf(double value) {
+		if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+			int i = (int)value;
+			// -0.0 prints differently from 0.0, so it is not cached
+			if (i == value && (i != 0 || 1 / value > 0)) {
+				return CACHE[i - CACHE_LOW];
+			}
+		}
+		return new DoubleValue(value);
+	}
+
+	/**
+	 * @see #valueOf(double)
+	 */
+	public static DoubleValue valueOf(String value) {
+		return valueOf(parse(value));
+	}
+
+	/**
+	 * @return    The value of the literal <code>value</code>, without creating a node
+	 */
+	public static double parse(String value) {
 	    if (value.charAt(0) == '+') {
 	        value = value.substring(1);
 	    }
-		this.value = Double.parseDouble(value);
+		return Double.parseDouble(value);
 	}
 	
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 
 	public double getValue() {
 		return value;
 	}
 
+	/**
+	 * @throws UnsupportedOperationException    if this instance is shared; see {@link #valueOf(double)}
+	 */
 	public void setValue(double d) {
+		if (shared) {
+			throw new UnsupportedOperationException("Shared literal "+value+" can not be modified");
+		}
 		value = d;
 	}
 
@@ -72,8 +123,25 @@ public class DoubleValue implements Expression, PrimitiveValue {
     }
   }
   public int hashCode(){
-    return new Double(value).hashCode();
+    return hashCode(value);
+  }
+
+  /**
+   * The hash of a number, equal for every LongValue and DoubleValue that are 
+   * equal; 0.0 and -0.0 hash alike.
+   */
+  static int hashCode(double value) {
+    long bits = Double.doubleToLongBits(value == 0 ? 0.0 : value);
+    return (int)(bits ^ (bits >>> 32));
   }
   
   public PrimitiveType getType() { return PrimitiveType.DOUBLE; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -25,4 +25,17 @@
 
 public interface Expression {
 	public void accept(ExpressionVisitor expressionVisitor);
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context);
+
+	/**
+	 * @return    The number of direct sub-expressions of this expression
+	 */
+	public int getChildCount();
+
+	/**
+	 * @param index    0 to getChildCount()-1
+	 * @return    The direct sub-expression at <code>index</code>; null where an optional 
+	 *            part, such as the ELSE of a CASE, is absent
+	 */
+	public Expression getChild(int index);
 }
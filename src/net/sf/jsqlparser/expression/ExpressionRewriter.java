@@ -0,0 +1,316 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * A {@link GenericExpressionVisitor} that rebuilds an expression bottom-up.  
+ * Each visit method rewrites the children of its node first; if every child 
+ * comes back as the same instance, the node itself is returned, and otherwise 
+ * a new node of the same type is built around the new children.  The original 
+ * tree is never modified, and the parts of it that did not change are shared 
+ * by the result.
+ * <p>
+ * By default nothing changes and the result is the original expression.  
+ * Subclasses override the visit methods for the nodes they replace, usually 
+ * leaves such as {@link Column} or {@link JdbcParameter}, or call the method 
+ * they override and inspect its result.  A visit method for a 
+ * {@link WhenClause} must return a WhenClause, and one for a {@link SubSelect} 
+ * below an IN, ALL or ANY must return a SubSelect.  Sub-selects are leaves 
+ * here: the expressions inside their select bodies are not visited.
+ */
+public class ExpressionRewriter<C> implements GenericExpressionVisitor<Expression, C> {
+
+	/**
+	 * @return    The rewritten expression, or null if <code>expression</code> is null
+	 */
+	public Expression rewrite(Expression expression, C context) {
+		return expression == null ? null : expression.accept(this, context);
+	}
+
+	public Expression rewrite(Expression expression) {
+		return rewrite(expression, null);
+	}
+
+	/**
+	 * @return    The rewritten items, or null if <code>itemsList</code> is null
+	 */
+	public ItemsList rewrite(ItemsList itemsList, C context) {
+		if(itemsList instanceof SubSelect){
+			return subSelect((SubSelect)itemsList, context);
+		}
+		if(itemsList instanceof ExpressionList){
+			return rewrite((ExpressionList)itemsList, context);
+		}
+		return itemsList;
+	}
+
+	/**
+	 * Rewrites each expression of the list.  The items of a {@link LiteralList} 
+	 * are not expressions of their own and are left as they are.
+	 * @return    <code>list</code> if no item changed, otherwise a new list
+	 */
+	public ExpressionList rewrite(ExpressionList list, C context) {
+		if(list == null || LiteralList.of(list) != null || list.getExpressions() == null){
+			return list;
+		}
+		List<Expression> expressions = list.getExpressions();
+		List<Expression> rewritten = null;
+		for(int i = 0; i < expressions.size(); i++){
+			Expression e = expressions.get(i);
+			Expression r = rewrite(e, context);
+			if(r != e && rewritten == null){
+				rewritten = new ArrayList<Expression>(expressions.size());
+				rewritten.addAll(expressions.subList(0, i));
+			}
+			if(rewritten != null){ rewritten.add(r); }
+		}
+		return rewritten == null ? list : new ExpressionList(rewritten);
+	}
+
+	private SubSelect subSelect(SubSelect subSelect, C context) {
+		if(subSelect == null){ return null; }
+		Expression r = subSelect.accept(this, context);
+		if(!(r instanceof SubSelect)){
+			throw new IllegalStateException("A sub-select was rewritten as a " + r.getClass().getName());
+		}
+		return (SubSelect)r;
+	}
+
+	private Expression binary(BinaryExpression e, C context) {
+		Expression left = rewrite(e.getLeftExpression(), context);
+		Expression right = rewrite(e.getRightExpression(), context);
+		if(left == e.getLeftExpression() && right == e.getRightExpression()){
+			return e;
+		}
+		BinaryExpression rebuilt = newBinary(e);
+		rebuilt.setLeftExpression(left);
+		rebuilt.setRightExpression(right);
+		return rebuilt;
+	}
+
+	/**
+	 * @return    A new, empty binary expression of the same type as <code>e</code>,
+	 *            with the same attributes
+	 */
+	private static BinaryExpression newBinary(BinaryExpression e) {
+		if(e instanceof AndExpression){ return new AndExpression(); }
+		if(e instanceof OrExpression){ return new OrExpression(); }
+		if(e instanceof EqualsTo){ return new EqualsTo(); }
+		if(e instanceof NotEqualsTo){ return new NotEqualsTo(); }
+		if(e instanceof GreaterThan){ return new GreaterThan(); }
+		if(e instanceof GreaterThanEquals){ return new GreaterThanEquals(); }
+		if(e instanceof MinorThan){ return new MinorThan(); }
+		if(e instanceof MinorThanEquals){ return new MinorThanEquals(); }
+		if(e instanceof Addition){ return new Addition(); }
+		if(e instanceof Subtraction){ return new Subtraction(); }
+		if(e instanceof Multiplication){ return new Multiplication(); }
+		if(e instanceof Division){ return new Division(); }
+		if(e instanceof Concat){ return new Concat(); }
+		if(e instanceof Matches){ return new Matches(); }
+		if(e instanceof BitwiseAnd){ return new BitwiseAnd(); }
+		if(e instanceof BitwiseOr){ return new BitwiseOr(); }
+		if(e instanceof BitwiseXor){ return new BitwiseXor(); }
+		if(e instanceof LikeExpression){
+			LikeExpression ret = new LikeExpression();
+			ret.setNot(((LikeExpression)e).isNot());
+			ret.setEscape(((LikeExpression)e).getEscape());
+			return ret;
+		}
+		throw new IllegalArgumentException("Unknown binary expression: " + e.getClass().getName());
+	}
+
+	/**
+	 * A node with no children of its own; returned as it is unless overridden.
+	 */
+	protected Expression leaf(Expression e, C context) {
+		return e;
+	}
+
+	public Expression visit(NullValue e, C context) { return leaf(e, context); }
+	public Expression visit(JdbcParameter e, C context) { return leaf(e, context); }
+	public Expression visit(DoubleValue e, C context) { return leaf(e, context); }
+	public Expression visit(LongValue e, C context) { return leaf(e, context); }
+	public Expression visit(DecimalValue e, C context) { return leaf(e, context); }
+	public Expression visit(DateValue e, C context) { return leaf(e, context); }
+	public Expression visit(TimeValue e, C context) { return leaf(e, context); }
+	public Expression visit(TimestampValue e, C context) { return leaf(e, context); }
+	public Expression visit(BooleanValue e, C context) { return leaf(e, context); }
+	public Expression visit(StringValue e, C context) { return leaf(e, context); }
+	public Expression visit(BinaryValue e, C context) { return leaf(e, context); }
+	public Expression visit(Column e, C context) { return leaf(e, context); }
+	public Expression visit(SubSelect e, C context) { return leaf(e, context); }
+
+	public Expression visit(Function e, C context) {
+		ExpressionList parameters = rewrite(e.getParameters(), context);
+		if(parameters == e.getParameters()){ return e; }
+		Function ret = new Function();
+		ret.setName(e.getName());
+		ret.setParameters(parameters);
+		ret.setAllColumns(e.isAllColumns());
+		ret.setDistinct(e.isDistinct());
+		ret.setEscaped(e.isEscaped());
+		return ret;
+	}
+
+	public Expression visit(InverseExpression e, C context) {
+		Expression expression = rewrite(e.getExpression(), context);
+		return expression == e.getExpression() ? e : new InverseExpression(expression);
+	}
+
+	public Expression visit(Addition e, C context) { return binary(e, context); }
+	public Expression visit(Division e, C context) { return binary(e, context); }
+	public Expression visit(Multiplication e, C context) { return binary(e, context); }
+	public Expression visit(Subtraction e, C context) { return binary(e, context); }
+	public Expression visit(AndExpression e, C context) { return binary(e, context); }
+	public Expression visit(OrExpression e, C context) { return binary(e, context); }
+	public Expression visit(EqualsTo e, C context) { return binary(e, context); }
+	public Expression visit(GreaterThan e, C context) { return binary(e, context); }
+	public Expression visit(GreaterThanEquals e, C context) { return binary(e, context); }
+	public Expression visit(MinorThan e, C context) { return binary(e, context); }
+	public Expression visit(MinorThanEquals e, C context) { return binary(e, context); }
+	public Expression visit(NotEqualsTo e, C context) { return binary(e, context); }
+	public Expression visit(Concat e, C context) { return binary(e, context); }
+	public Expression visit(Matches e, C context) { return binary(e, context); }
+	public Expression visit(BitwiseAnd e, C context) { return binary(e, context); }
+	public Expression visit(BitwiseOr e, C context) { return binary(e, context); }
+	public Expression visit(BitwiseXor e, C context) { return binary(e, context); }
+
+	public Expression visit(LikeExpression e, C context) { return binary(e, context); }
+
+	public Expression visit(Between e, C context) {
+		Expression left = rewrite(e.getLeftExpression(), context);
+		Expression start = rewrite(e.getBetweenExpressionStart(), context);
+		Expression end = rewrite(e.getBetweenExpressionEnd(), context);
+		if(left == e.getLeftExpression() && start == e.getBetweenExpressionStart()
+			&& end == e.getBetweenExpressionEnd()){
+			return e;
+		}
+		Between ret = new Between();
+		ret.setLeftExpression(left);
+		ret.setNot(e.isNot());
+		ret.setBetweenExpressionStart(start);
+		ret.setBetweenExpressionEnd(end);
+		return ret;
+	}
+
+	public Expression visit(InExpression e, C context) {
+		Expression left = rewrite(e.getLeftExpression(), context);
+		ItemsList items = rewrite(e.getItemsList(), context);
+		if(left == e.getLeftExpression() && items == e.getItemsList()){ return e; }
+		InExpression ret = new InExpression(left, items);
+		ret.setNot(e.isNot());
+		return ret;
+	}
+
+	public Expression visit(IsNullExpression e, C context) {
+		Expression left = rewrite(e.getLeftExpression(), context);
+		if(left == e.getLeftExpression()){ return e; }
+		IsNullExpression ret = new IsNullExpression();
+		ret.setLeftExpression(left);
+		ret.setNot(e.isNot());
+		return ret;
+	}
+
+	public Expression visit(CaseExpression e, C context) {
+		Expression switchExpression = rewrite(e.getSwitchExpression(), context);
+		Expression elseExpression = rewrite(e.getElseExpression(), context);
+		List<WhenClause> whens = e.getWhenClauses();
+		List<WhenClause> rewritten = null;
+		if(whens != null){
+			for(int i = 0; i < whens.size(); i++){
+				WhenClause when = whens.get(i);
+				WhenClause r = when == null ? null : (WhenClause)when.accept(this, context);
+				if(r != when && rewritten == null){
+					rewritten = new ArrayList<WhenClause>(whens.size());
+					rewritten.addAll(whens.subList(0, i));
+				}
+				if(rewritten != null){ rewritten.add(r); }
+			}
+		}
+		if(switchExpression == e.getSwitchExpression() && elseExpression == e.getElseExpression()
+			&& rewritten == null){
+			return e;
+		}
+		CaseExpression ret = new CaseExpression();
+		ret.setSwitchExpression(switchExpression);
+		ret.setWhenClauses(rewritten == null ? whens : rewritten);
+		ret.setElseExpression(elseExpression);
+		return ret;
+	}
+
+	public Expression visit(WhenClause e, C context) {
+		Expression when = rewrite(e.getWhenExpression(), context);
+		Expression then = rewrite(e.getThenExpression(), context);
+		if(when == e.getWhenExpression() && then == e.getThenExpression()){ return e; }
+		WhenClause ret = new WhenClause();
+		ret.setWhenExpression(when);
+		ret.setThenExpression(then);
+		return ret;
+	}
+
+	public Expression visit(ExistsExpression e, C context) {
+		Expression right = rewrite(e.getRightExpression(), context);
+		if(right == e.getRightExpression()){ return e; }
+		ExistsExpression ret = new ExistsExpression();
+		ret.setRightExpression(right);
+		ret.setNot(e.isNot());
+		return ret;
+	}
+
+	public Expression visit(AllComparisonExpression e, C context) {
+		SubSelect subSelect = subSelect(e.getSubSelect(), context);
+		return subSelect == e.getSubSelect() ? e : new AllComparisonExpression(subSelect);
+	}
+
+	public Expression visit(AnyComparisonExpression e, C context) {
+		SubSelect subSelect = subSelect(e.getSubSelect(), context);
+		return subSelect == e.getSubSelect() ? e : new AnyComparisonExpression(subSelect);
+	}
+}
@@ -54,11 +54,13 @@ public interface ExpressionVisitor {
 	public void visit(JdbcParameter jdbcParameter);
 	public void visit(DoubleValue doubleValue);
 	public void visit(LongValue longValue);
+	public void visit(DecimalValue decimalValue);
 	public void visit(DateValue dateValue);
 	public void visit(TimeValue timeValue);
 	public void visit(TimestampValue timestampValue);
 	public void visit(BooleanValue booleanValue);
 	public void visit(StringValue stringValue);
+	public void visit(BinaryValue binaryValue);
 	public void visit(Addition addition);
 	public void visit(Division division);
 	public void visit(Multiplication multiplication);
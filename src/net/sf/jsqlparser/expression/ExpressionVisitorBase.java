@@ -42,9 +42,6 @@ import net.sf.jsqlparser.expression.operators.relational.Matches;
 import net.sf.jsqlparser.expression.operators.relational.MinorThan;
 import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
 import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
-import net.sf.jsqlparser.expression.operators.relational.ItemsList;
-import net.sf.jsqlparser.expression.operators.relational.ItemsListVisitor;
-import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.select.SubSelect;
 
@@ -52,6 +49,7 @@ public abstract class ExpressionVisitorBase implements ExpressionVisitor {
 
 	public java.io.PrintWriter verboseUnhandled;
 	public boolean recur;
+	private ExpressionWalker walker;
 
 	public ExpressionVisitorBase() { this(null, true); }
 	public ExpressionVisitorBase(boolean recur) { this(null, recur); }
@@ -69,26 +67,43 @@ public abstract class ExpressionVisitorBase implements ExpressionVisitor {
 		if(recur){ recur(e); }
 	}
 
+	/**
+	 * Visit the children of <code>e</code>, each one before this returns, so 
+	 * that code after recur() in a visit method runs after the children.
+	 */
 	public void recur(Expression e)
 	{
-		for(Expression child : getChildren(e)){
-			if(child != null) {
-				child.accept(this);
-			}
+		for(int i = 0; i < e.getChildCount(); i++){
+			Expression child = e.getChild(i);
+			if(child != null){ child.accept(this); }
 		}
 	}
 
+	/**
+	 * Visit the children of <code>e</code> on an explicit stack rather than by 
+	 * recursion, so that a tree of any depth can be visited.  Called from a visit 
+	 * method, this only schedules the children: they are visited after that visit 
+	 * method returns, in the same order as {@link #recur} visits them.
+	 */
+	public void descend(Expression e)
+	{
+		if(walker == null){ walker = new ExpressionWalker(); }
+		walker.descend(e, this);
+	}
+
 	public void visit(NullValue e) { unhandled(e); }
 	public void visit(Function e) { unhandled(e); }
 	public void visit(InverseExpression e) { unhandled(e); }
 	public void visit(JdbcParameter e) { unhandled(e); }
 	public void visit(DoubleValue e) { unhandled(e); }
 	public void visit(LongValue e) { unhandled(e); }
+	public void visit(DecimalValue e) { unhandled(e); }
 	public void visit(DateValue e) { unhandled(e); }
 	public void visit(TimeValue e) { unhandled(e); }
 	public void visit(TimestampValue e) { unhandled(e); }
 	public void visit(BooleanValue e) { unhandled(e); }
 	public void visit(StringValue e) { unhandled(e); }
+	public void visit(BinaryValue e) { unhandled(e); }
 	public void visit(Addition e) { unhandled(e); }
 	public void visit(Division e) { unhandled(e); }
 	public void visit(Multiplication e) { unhandled(e); }
@@ -118,106 +133,16 @@ public abstract class ExpressionVisitorBase implements ExpressionVisitor {
 	public void visit(BitwiseOr e) { unhandled(e); }
 	public void visit(BitwiseXor e) { unhandled(e); }
 
+	/**
+	 * @return    A new list of the children of <code>expr</code>, as given by 
+	 *            {@link Expression#getChild}
+	 */
 	public static List<Expression> getChildren(Expression expr) {
-		final List<Expression> children = new ArrayList<Expression>();
-		expr.accept(new ExpressionVisitor() {
-			public void binary(BinaryExpression be) {
-				children.add(be.getLeftExpression());
-				children.add(be.getRightExpression());
-			}
-			public void itemList(ItemsList il)
-			{
-				if(il == null){ return; }
-				il.accept(new ItemsListVisitor(){
-					public void visit(ExpressionList el){ 
-						if(el.getExpressions() != null){
-							children.addAll(el.getExpressions());
-						}
-					}
-					public void visit(SubSelect ss){
-						children.add(ss);
-					}
-				});
-			}
-			public void visit(NullValue nullValue) {}
-			public void visit(Function function) { itemList(function.getParameters()); }
-			public void visit(InverseExpression inverseExpression)
-			{
-				children.add(inverseExpression.getExpression());
-			}
-			public void visit(JdbcParameter jdbcParameter) {}
-			public void visit(DoubleValue doubleValue) {}
-			public void visit(LongValue longValue) {}
-			public void visit(DateValue dateValue) {}
-			public void visit(TimeValue timeValue) {}
-			public void visit(TimestampValue timestampValue) {}
-			public void visit(BooleanValue booleanValue) {}
-			public void visit(StringValue stringValue) {}
-			public void visit(Addition addition) { binary(addition); }
-			public void visit(Division division) { binary(division); }
-			public void visit(Multiplication multiplication) { binary(multiplication); }
-			public void visit(Subtraction subtraction) { binary(subtraction); }
-			public void visit(AndExpression andExpression) { binary(andExpression); }
-			public void visit(OrExpression orExpression) { binary(orExpression); }
-			public void visit(Between between) 
-			{
-				children.add(between.getLeftExpression());
-				children.add(between.getBetweenExpressionStart());
-				children.add(between.getBetweenExpressionEnd());
-			}
-			public void visit(EqualsTo equalsTo) { binary(equalsTo); }
-			public void visit(GreaterThan greaterThan) { binary(greaterThan); }
-			public void visit(GreaterThanEquals greaterThanEquals) { binary(greaterThanEquals); }
-			public void visit(InExpression inExpression) 
-			{
-				children.add(inExpression.getLeftExpression());
-				itemList(inExpression.getItemsList());
-			}
-			public void visit(IsNullExpression isNullExpression)
-			{
-				children.add(isNullExpression.getLeftExpression());
-			}
-			public void visit(LikeExpression likeExpression) { binary(likeExpression); }
-			public void visit(MinorThan minorThan) { binary(minorThan); }
-			public void visit(MinorThanEquals minorThanEquals) { binary(minorThanEquals); }
-			public void visit(NotEqualsTo notEqualsTo) { binary(notEqualsTo); }
-			public void visit(Column tableColumn) { }
-			public void visit(SubSelect subSelect) { /* ignore */ }
-			public void visit(CaseExpression caseExpression)
-			{
-				if(caseExpression.getSwitchExpression() != null){
-					children.add(caseExpression.getSwitchExpression());
-				}
-				for(WhenClause when : caseExpression.getWhenClauses()){ visit(when); }
-				children.add(caseExpression.getElseExpression());
-			}
-			public void visit(WhenClause whenClause)
-			{
-				children.add(whenClause.getWhenExpression());
-				children.add(whenClause.getThenExpression());
-			}
-			public void visit(ExistsExpression existsExpression)
-			{
-				children.add(existsExpression.getRightExpression());
-			}
-			public void visit(AllComparisonExpression allComparisonExpression) 
-			{ 
-				children.add(allComparisonExpression.getSubSelect());
-			}
-			public void visit(AnyComparisonExpression anyComparisonExpression)
-			{ 
-				children.add(anyComparisonExpression.getSubSelect());
-			}
-			public void visit(Concat concat) { binary(concat); }
-			public void visit(Matches matches) { binary(matches); }
-			public void visit(BitwiseAnd bitwiseAnd) { binary(bitwiseAnd); }
-			public void visit(BitwiseOr bitwiseOr) { binary(bitwiseOr); }
-			public void visit(BitwiseXor bitwiseXor) { binary(bitwiseXor); }
-
-		});
+		int count = expr.getChildCount();
+		List<Expression> children = new ArrayList<Expression>(count);
+		for(int i = 0; i < count; i++){
+			children.add(expr.getChild(i));
+		}
 		return children;
 	}
-
-
-
 }
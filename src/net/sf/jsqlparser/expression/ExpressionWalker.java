@@ -0,0 +1,128 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.expression;
+
+import java.util.Arrays;
+
+/**
+ * Walks an expression tree depth-first, parents before children, using an explicit 
+ * stack instead of recursion: no objects are allocated per node, and there is no 
+ * limit on the depth of the tree.  A walker can be reused, but is not thread-safe.
+ */
+public class ExpressionWalker {
+	private Expression[] nodes = new Expression[16];
+	private int[] next = new int[16];
+	private int depth = 0;
+	private ExpressionVisitor visitor = null;
+
+	/**
+	 * Visit <code>root</code> and every expression below it.  The visitor should not 
+	 * call {@link #descend} itself, or the nodes it descends into are visited twice.
+	 */
+	public void walk(Expression root, ExpressionVisitor visitor) {
+		if (root == null) { return; }
+		int base = depth;
+		ExpressionVisitor outer = this.visitor;
+		this.visitor = null;
+		try {
+			root.accept(visitor);
+			push(root);
+			while (depth > base) {
+				Expression child = nextChild();
+				if (child != null) {
+					child.accept(visitor);
+					push(child);
+				}
+			}
+		} finally {
+			unwind(base);
+			this.visitor = outer;
+		}
+	}
+
+	/**
+	 * Visit the children of <code>parent</code>; their children are only visited if 
+	 * <code>visitor</code> in turn calls descend() on them.<br>
+	 * Called from within a visit method of the walk in progress, this only schedules 
+	 * the children: they are visited after that visit method returns, and before 
+	 * the next sibling of <code>parent</code>.  So the order in which nodes are 
+	 * visited is that of a recursive walk, but anything the visit method does after 
+	 * calling descend() happens before the children are visited.
+	 */
+	public void descend(Expression parent, ExpressionVisitor visitor) {
+		if (parent == null) { return; }
+		if (this.visitor == visitor) {
+			push(parent);
+			return;
+		}
+		int base = depth;
+		ExpressionVisitor outer = this.visitor;
+		this.visitor = visitor;
+		try {
+			push(parent);
+			while (depth > base) {
+				Expression child = nextChild();
+				if (child != null) {
+					child.accept(visitor);
+				}
+			}
+		} finally {
+			unwind(base);
+			this.visitor = outer;
+		}
+	}
+
+	/**
+	 * @return    The next child of the node on top of the stack, or null once that node 
+	 *            has been popped because it has no children left
+	 */
+	private Expression nextChild() {
+		int top = depth - 1;
+		Expression node = nodes[top];
+		int index = next[top];
+		if (index >= node.getChildCount()) {
+			nodes[top] = null;
+			depth = top;
+			return null;
+		}
+		next[top] = index + 1;
+		return node.getChild(index);
+	}
+
+	private void push(Expression node) {
+		if (node.getChildCount() == 0) { return; }
+		if (depth == nodes.length) {
+			nodes = Arrays.copyOf(nodes, depth * 2);
+			next = Arrays.copyOf(next, depth * 2);
+		}
+		nodes[depth] = node;
+		next[depth] = 0;
+		depth++;
+	}
+
+	private void unwind(int base) {
+		while (depth > base) {
+			nodes[--depth] = null;
+		}
+	}
+}
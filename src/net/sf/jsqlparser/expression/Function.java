@@ -38,6 +38,10 @@ public class Function implements Expression {
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
+
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
 	
 	/**
 	 * The name of he function, i.e. "MAX"
@@ -121,4 +125,19 @@ public class Function implements Expression {
     	
     	return ans;
     }
+
+	/**
+	 * The children of a function are its parameters.
+	 */
+	public int getChildCount() {
+		if (parameters == null || parameters.getExpressions() == null) { return 0; }
+		return parameters.getExpressions().size();
+	}
+
+	public Expression getChild(int index) {
+		if (index < 0 || index >= getChildCount()) {
+			throw new IndexOutOfBoundsException("Index: "+index);
+		}
+		return parameters.getExpressions().get(index);
+	}
 }
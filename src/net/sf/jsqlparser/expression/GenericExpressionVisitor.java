@@ -0,0 +1,100 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+ package net.sf.jsqlparser.expression;
+
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * A visitor of expressions that returns a value and takes a context argument, 
+ * so that a visitor which keeps no state of its own can be shared and reused.
+ * Nodes take it in accept(visitor, context).
+ * @see ExpressionVisitor
+ */
+public interface GenericExpressionVisitor<R, C> {
+	public R visit(NullValue nullValue, C context);
+	public R visit(Function function, C context);
+	public R visit(InverseExpression inverseExpression, C context);
+	public R visit(JdbcParameter jdbcParameter, C context);
+	public R visit(DoubleValue doubleValue, C context);
+	public R visit(LongValue longValue, C context);
+	public R visit(DecimalValue decimalValue, C context);
+	public R visit(DateValue dateValue, C context);
+	public R visit(TimeValue timeValue, C context);
+	public R visit(TimestampValue timestampValue, C context);
+	public R visit(BooleanValue booleanValue, C context);
+	public R visit(StringValue stringValue, C context);
+	public R visit(BinaryValue binaryValue, C context);
+	public R visit(Addition addition, C context);
+	public R visit(Division division, C context);
+	public R visit(Multiplication multiplication, C context);
+	public R visit(Subtraction subtraction, C context);
+	public R visit(AndExpression andExpression, C context);
+	public R visit(OrExpression orExpression, C context);
+	public R visit(Between between, C context);
+	public R visit(EqualsTo equalsTo, C context);
+	public R visit(GreaterThan greaterThan, C context);
+	public R visit(GreaterThanEquals greaterThanEquals, C context);
+	public R visit(InExpression inExpression, C context);
+	public R visit(IsNullExpression isNullExpression, C context);
+	public R visit(LikeExpression likeExpression, C context);
+	public R visit(MinorThan minorThan, C context);
+	public R visit(MinorThanEquals minorThanEquals, C context);
+	public R visit(NotEqualsTo notEqualsTo, C context);
+	public R visit(Column tableColumn, C context);
+	public R visit(SubSelect subSelect, C context);
+	public R visit(CaseExpression caseExpression, C context);
+	public R visit(WhenClause whenClause, C context);
+	public R visit(ExistsExpression existsExpression, C context);
+	public R visit(AllComparisonExpression allComparisonExpression, C context);
+	public R visit(AnyComparisonExpression anyComparisonExpression, C context);
+	public R visit(Concat concat, C context);
+	public R visit(Matches matches, C context);
+	public R visit(BitwiseAnd bitwiseAnd, C context);
+	public R visit(BitwiseOr bitwiseOr, C context);
+	public R visit(BitwiseXor bitwiseXor, C context);
+
+
+}
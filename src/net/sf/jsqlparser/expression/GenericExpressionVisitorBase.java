@@ -0,0 +1,95 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.expression;
+
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * A {@link GenericExpressionVisitor} that hands every node to {@link #unhandled}; 
+ * subclasses override the visit methods for the nodes they treat specially.
+ */
+public abstract class GenericExpressionVisitorBase<R, C> implements GenericExpressionVisitor<R, C> {
+
+	public abstract R unhandled(Expression e, C context);
+
+	public R visit(NullValue e, C context) { return unhandled(e, context); }
+	public R visit(Function e, C context) { return unhandled(e, context); }
+	public R visit(InverseExpression e, C context) { return unhandled(e, context); }
+	public R visit(JdbcParameter e, C context) { return unhandled(e, context); }
+	public R visit(DoubleValue e, C context) { return unhandled(e, context); }
+	public R visit(LongValue e, C context) { return unhandled(e, context); }
+	public R visit(DecimalValue e, C context) { return unhandled(e, context); }
+	public R visit(DateValue e, C context) { return unhandled(e, context); }
+	public R visit(TimeValue e, C context) { return unhandled(e, context); }
+	public R visit(TimestampValue e, C context) { return unhandled(e, context); }
+	public R visit(BooleanValue e, C context) { return unhandled(e, context); }
+	public R visit(StringValue e, C context) { return unhandled(e, context); }
+	public R visit(BinaryValue e, C context) { return unhandled(e, context); }
+	public R visit(Addition e, C context) { return unhandled(e, context); }
+	public R visit(Division e, C context) { return unhandled(e, context); }
+	public R visit(Multiplication e, C context) { return unhandled(e, context); }
+	public R visit(Subtraction e, C context) { return unhandled(e, context); }
+	public R visit(AndExpression e, C context) { return unhandled(e, context); }
+	public R visit(OrExpression e, C context) { return unhandled(e, context); }
+	public R visit(Between e, C context) { return unhandled(e, context); }
+	public R visit(EqualsTo e, C context) { return unhandled(e, context); }
+	public R visit(GreaterThan e, C context) { return unhandled(e, context); }
+	public R visit(GreaterThanEquals e, C context) { return unhandled(e, context); }
+	public R visit(InExpression e, C context) { return unhandled(e, context); }
+	public R visit(IsNullExpression e, C context) { return unhandled(e, context); }
+	public R visit(LikeExpression e, C context) { return unhandled(e, context); }
+	public R visit(MinorThan e, C context) { return unhandled(e, context); }
+	public R visit(MinorThanEquals e, C context) { return unhandled(e, context); }
+	public R visit(NotEqualsTo e, C context) { return unhandled(e, context); }
+	public R visit(Column e, C context) { return unhandled(e, context); }
+	public R visit(SubSelect e, C context) { return unhandled(e, context); }
+	public R visit(CaseExpression e, C context) { return unhandled(e, context); }
+	public R visit(WhenClause e, C context) { return unhandled(e, context); }
+	public R visit(ExistsExpression e, C context) { return unhandled(e, context); }
+	public R visit(AllComparisonExpression e, C context) { return unhandled(e, context); }
+	public R visit(AnyComparisonExpression e, C context) { return unhandled(e, context); }
+	public R visit(Concat e, C context) { return unhandled(e, context); }
+	public R visit(Matches e, C context) { return unhandled(e, context); }
+	public R visit(BitwiseAnd e, C context) { return unhandled(e, context); }
+	public R visit(BitwiseOr e, C context) { return unhandled(e, context); }
+	public R visit(BitwiseXor e, C context) { return unhandled(e, context); }
+}
@@ -50,6 +50,10 @@ public class InverseExpression implements Expression {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String toString() 
 	{
 		if(
@@ -71,4 +75,15 @@ public class InverseExpression implements Expression {
 		){ return "NOT (" + expression.toString() + ")"; }
 		else { return "-(" + expression.toString() + ")"; }
 	}
+
+	public int getChildCount() {
+		return 1;
+	}
+
+	public Expression getChild(int index) {
+		switch (index) {
+			case 0: return expression;
+			default: throw new IndexOutOfBoundsException("Index: "+index);
+		}
+	}
 }
@@ -30,7 +30,19 @@ public class JdbcParameter implements Expression {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String toString() {
 		return "?";
 	}
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -27,26 +27,73 @@ import net.sf.jsqlparser.schema.PrimitiveType;
  * Every number without a point or an exponential format is a LongValue
  */
 public class LongValue implements Expression, PrimitiveValue {
+	private static final int CACHE_LOW = -128;
+	private static final int CACHE_HIGH = 1024;
+	private static final LongValue[] CACHE = new LongValue[CACHE_HIGH - CACHE_LOW + 1];
+	static {
+		for (int i = 0; i < CACHE.length; i++) {
+			CACHE[i] = new LongValue(i + CACHE_LOW);
+			CACHE[i].shared = true;
+		}
+	}
+
 	private long value;
+	private boolean shared;
 
   public LongValue(long value) { this.value = value; }
 
 	public LongValue(String value) {
+		this.value = parse(value);
+	}
+
+	/**
+	 * A LongValue for <code>value</code>.  Values from -128 to 1024 come from a 
+	 * cache and are shared by everyone who asks for them, so they can not be 
+	 * modified; any other value is a new instance.
+	 */
+	public static LongValue valueOf(long value) {
+		if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+			return CACHE[(int)value - CACHE_LOW];
+		}
+		return new LongValue(value);
+	}
+
+	/**
+	 * @see #valueOf(long)
+	 */
+	public static LongValue valueOf(String value) {
+		return valueOf(parse(value));
+	}
+
+	/**
+	 * @return    The value of the literal <code>value</code>, without creating a node
+	 */
+	public static long parse(String value) {
 	    if (value.charAt(0) == '+') {
 	        value = value.substring(1);
 	    }
-		this.value = Long.parseLong(value);
+		return Long.parseLong(value);
 	}
 
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public long getValue() {
 		return value;
 	}
 
+	/**
+	 * @throws UnsupportedOperationException    if this instance is shared; see {@link #valueOf(long)}
+	 */
 	public void setValue(long d) {
+		if (shared) {
+			throw new UnsupportedOperationException("Shared literal "+value+" can not be modified");
+		}
 		value = d;
 	}
 
@@ -70,8 +117,17 @@ public class LongValue implements Expression, PrimitiveValue {
     }
   }
   public int hashCode(){
-    return new Long(value).hashCode();
+    // as DoubleValue does, since a LongValue can equal a DoubleValue
+    return DoubleValue.hashCode((double)value);
   }
 
   public PrimitiveType getType() { return PrimitiveType.LONG; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -27,10 +27,17 @@ import net.sf.jsqlparser.schema.PrimitiveType;
  *  A "NULL" in a sql statement
  */
 public class NullValue implements Expression, PrimitiveValue {
+	/** A NullValue has no state, so this one instance can stand for every NULL */
+	public static final NullValue NULL = new NullValue();
+
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
   public String toRawString(){ return ""; }
 	public String toString() {
 		return "NULL";
@@ -51,4 +58,12 @@ public class NullValue implements Expression, PrimitiveValue {
   }
 
   public PrimitiveType getType() { return null; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
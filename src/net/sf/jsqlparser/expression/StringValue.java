@@ -27,7 +27,17 @@ import net.sf.jsqlparser.schema.PrimitiveType;
  * A string as in 'example_string'
  */
 public class StringValue implements Expression, PrimitiveValue {
+	/** The empty string, then each ASCII character on its own */
+	private static final StringValue[] CACHE = new StringValue[129];
+	static {
+		for (int i = 0; i < CACHE.length; i++) {
+			CACHE[i] = new StringValue(i == 0 ? "" : String.valueOf((char)(i - 1)));
+			CACHE[i].shared = true;
+		}
+	}
+
 	private String value = "";
+	private boolean shared;
 	
 	public StringValue(String value)
 	{
@@ -37,6 +47,25 @@ public class StringValue implements Expression, PrimitiveValue {
 	public static StringValue parseEscaped(String escapedValue) {
 		return new StringValue(escapedValue.substring(1, escapedValue.length() - 1));
 	}
+
+	/**
+	 * A StringValue for <code>value</code>.  The empty string and strings of a 
+	 * single ASCII character come from a fixed cache and are shared by everyone 
+	 * who asks for them, so they can not be modified; any other string is a new 
+	 * instance.
+	 */
+	public static StringValue valueOf(String value) {
+		if (value.length() == 0) { return CACHE[0]; }
+		if (value.length() == 1 && value.charAt(0) < 128) { return CACHE[value.charAt(0) + 1]; }
+		return new StringValue(value);
+	}
+
+	/**
+	 * @see #valueOf(String)
+	 */
+	public static StringValue valueOfEscaped(String escapedValue) {
+		return valueOf(escapedValue.substring(1, escapedValue.length() - 1));
+	}
 	
 	public String getValue() {
 		return value;
@@ -46,7 +75,13 @@ public class StringValue implements Expression, PrimitiveValue {
 		return value;
 	}
 
+	/**
+	 * @throws UnsupportedOperationException    if this instance is shared; see {@link #valueOf(String)}
+	 */
 	public void setValue(String string) {
+		if (shared) {
+			throw new UnsupportedOperationException("Shared literal '"+value+"' can not be modified");
+		}
 		value = string;
 	}
 	
@@ -54,6 +89,10 @@ public class StringValue implements Expression, PrimitiveValue {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String toRawString() {
 		return value;
 	}
@@ -81,4 +120,12 @@ public class StringValue implements Expression, PrimitiveValue {
   }
 
   public PrimitiveType getType() { return PrimitiveType.STRING; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -26,31 +26,86 @@ import net.sf.jsqlparser.schema.PrimitiveType;
 
 
 /**
- * A Time in the form {t 'hh:mm:ss'}
+ * A Time in the form {t 'hh:mm:ss'}.<br>
+ *
+ * The time is held as the number of microseconds since midnight; a
+ * java.sql.Time is only built when {@link #getValue()} asks for one.
  */
-public class TimeValue implements Expression, PrimitiveValue {
-	private Time value;
+public class TimeValue implements Expression, PrimitiveValue, Comparable<TimeValue> {
+	private long microsOfDay;
+
+	public TimeValue(Time value) {
+		setValue(value);
+	}
 
+	/**
+	 * @param value    The time as <code>'hh:mm:ss'</code>, in quotes.  Hours
+	 *                 past the end of the day wrap around.
+	 */
 	public TimeValue(String value) {
-		this.value = Time.valueOf(value.substring(1, value.length()-1));
+		long seconds = Dates.parseSeconds(value, 1, value.length()-1);
+		this.microsOfDay = Math.floorMod(seconds, 86400L) * Dates.MICROS_PER_SECOND;
+	}
+
+	private TimeValue(long microsOfDay) {
+		this.microsOfDay = microsOfDay;
+	}
+
+	/**
+	 * @return    The time <code>microsOfDay</code> microseconds after
+	 *            midnight, wrapped around into a single day
+	 */
+	public static TimeValue ofMicrosOfDay(long microsOfDay) {
+		return new TimeValue(Math.floorMod(microsOfDay, Dates.MICROS_PER_DAY));
 	}
 	
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
+	/** @return    The number of microseconds since midnight */
+	public long getMicrosOfDay() {
+		return microsOfDay;
+	}
+
+	public int getHour() {
+		return (int)(microsOfDay / (3600 * Dates.MICROS_PER_SECOND));
+	}
+	public int getMinute() {
+		return (int)(microsOfDay / (60 * Dates.MICROS_PER_SECOND) % 60);
+	}
+	public int getSecond() {
+		return (int)(microsOfDay / Dates.MICROS_PER_SECOND % 60);
+	}
 
+	/**
+	 * @return    A new java.sql.Time for this time of 1970-01-01 in the
+	 *            default time zone, as Time.valueOf would give
+	 */
+	@SuppressWarnings("deprecation")
 	public Time getValue() {
+		Time value = new Time(getHour(), getMinute(), getSecond());
+		value.setTime(value.getTime() + microsOfDay / 1000 % 1000);
 		return value;
 	}
 
+	@SuppressWarnings("deprecation")
 	public void setValue(Time d) {
-		value = d;
+		long seconds = d.getHours() * 3600 + d.getMinutes() * 60 + d.getSeconds();
+		microsOfDay = seconds * Dates.MICROS_PER_SECOND + Math.floorMod(d.getTime(), 1000L) * 1000;
+	}
+
+	public int compareTo(TimeValue other) {
+		return Long.compare(microsOfDay, other.microsOfDay);
 	}
 
-	public String toRawString(){ return value.toString(); }
+	public String toRawString(){ return Dates.appendTime(new StringBuilder(8), microsOfDay).toString(); }
 	public String toString() {
-		return "{t '"+value+"'}";
+		return Dates.appendTime(new StringBuilder(14).append("{t '"), microsOfDay).append("'}").toString();
 	}
 
 	public long toLong() throws PrimitiveValue.InvalidPrimitive 
@@ -61,15 +116,19 @@ public class TimeValue implements Expression, PrimitiveValue {
 		{ throw new PrimitiveValue.InvalidPrimitive(); }
   
   public boolean equals(Object o){
-    try { 
-      return value.equals(((TimeValue)o).value);
-    } catch(ClassCastException e){
-      return false;
-    }
+    return o instanceof TimeValue && ((TimeValue)o).microsOfDay == microsOfDay;
   }
   public int hashCode(){
-    return value.hashCode();
+    return Long.hashCode(microsOfDay);
   }
 
   public PrimitiveType getType() { return PrimitiveType.TIME; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -27,31 +27,157 @@ import net.sf.jsqlparser.schema.PrimitiveType;
 
 
 /**
- * A Timestamp in the form {ts 'yyyy-mm-dd hh:mm:ss.f . . .'}
+ * A Timestamp in the form {ts 'yyyy-mm-dd hh:mm:ss.f . . .'}.<br>
+ *
+ * The timestamp is held as the number of microseconds since 1970-01-01
+ * 00:00:00, read as a local date and time, and the nanoseconds left over,
+ * so comparing two timestamps or reading their fields costs no allocation
+ * and no time zone arithmetic.  A java.sql.Timestamp is only built when
+ * {@link #getValue()} asks for one.
  */
-public class TimestampValue implements Expression, PrimitiveValue {
-	private Timestamp value;
+public class TimestampValue implements Expression, PrimitiveValue, Comparable<TimestampValue> {
+	private long epochMicros;
+	/** The nanoseconds past <code>epochMicros</code>, from 0 to 999 */
+	private int nanosOfMicro;
+
+	public TimestampValue(Timestamp value) {
+		setValue(value);
+	}
 
+	/**
+	 * @param value    The timestamp as <code>'yyyy-[m]m-[d]d hh:mm:ss[.f...]'</code>,
+	 *                 in quotes, with up to nine digits of fractional seconds
+	 */
 	public TimestampValue(String value) {
-		this.value = Timestamp.valueOf(value.substring(1, value.length()-1));
+		int start = 1, end = value.length()-1;
+		while(start < end && value.charAt(start) <= ' '){ start++; }
+		while(end > start && value.charAt(end-1) <= ' '){ end--; }
+		int space = value.indexOf(' ', start);
+		if(space < 0 || space >= end){ throw Dates.malformed(value, start, end); }
+		long epochDay = Dates.parseDate(value, start, space);
+		int period = value.indexOf('.', space);
+		if(period >= end){ period = -1; }
+		long seconds = Dates.parseSeconds(value, space+1, period < 0 ? end : period);
+		int nanos = 0;
+		if(period >= 0){
+			int digits = end - period - 1;
+			if(digits < 1 || digits > 9){ throw Dates.malformed(value, start, end); }
+			nanos = Dates.digits(value, period+1, end);
+			for(; digits < 9; digits++){ nanos *= 10; }
+		}
+		set(epochDay, seconds, nanos);
+	}
+
+	private TimestampValue(long epochMicros, int nanosOfMicro) {
+		this.epochMicros = epochMicros;
+		this.nanosOfMicro = nanosOfMicro;
+	}
+
+	/**
+	 * @return    The timestamp <code>epochMicros</code> microseconds after
+	 *            1970-01-01 00:00:00
+	 */
+	public static TimestampValue ofEpochMicros(long epochMicros) {
+		return new TimestampValue(epochMicros, 0);
+	}
+
+	/**
+	 * @param nanosOfMicro    The nanoseconds past <code>epochMicros</code>, from 0 to 999
+	 */
+	public static TimestampValue ofEpochMicros(long epochMicros, int nanosOfMicro) {
+		if(nanosOfMicro < 0 || nanosOfMicro > 999){
+			throw new IllegalArgumentException("Nanoseconds out of range: "+nanosOfMicro);
+		}
+		return new TimestampValue(epochMicros, nanosOfMicro);
+	}
+
+	private void set(long epochDay, long seconds, int nanos) {
+		epochMicros = (epochDay * 86400 + seconds) * Dates.MICROS_PER_SECOND + nanos / 1000;
+		nanosOfMicro = nanos % 1000;
 	}
 	
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
+	/** @return    The number of microseconds since 1970-01-01 00:00:00 */
+	public long getEpochMicros() {
+		return epochMicros;
+	}
+
+	/** @return    The nanoseconds past {@link #getEpochMicros()}, from 0 to 999 */
+	public int getNanosOfMicro() {
+		return nanosOfMicro;
+	}
 
+	/** @return    The number of days since 1970-01-01 */
+	public long getEpochDay() {
+		return Math.floorDiv(epochMicros, Dates.MICROS_PER_DAY);
+	}
+
+	/** @return    The number of microseconds since midnight */
+	public long getMicrosOfDay() {
+		return Math.floorMod(epochMicros, Dates.MICROS_PER_DAY);
+	}
+
+	public int getFullYear() { return Dates.year(Dates.civil(getEpochDay())); }
+	public int getMonthOfYear() { return Dates.month(Dates.civil(getEpochDay())); }
+	public int getDayOfMonth() { return Dates.day(Dates.civil(getEpochDay())); }
+	public int getHour() { return (int)(getMicrosOfDay() / (3600 * Dates.MICROS_PER_SECOND)); }
+	public int getMinute() { return (int)(getMicrosOfDay() / (60 * Dates.MICROS_PER_SECOND) % 60); }
+	public int getSecond() { return (int)(getMicrosOfDay() / Dates.MICROS_PER_SECOND % 60); }
+
+	/** @return    The fraction of the second in nanoseconds, as Timestamp.getNanos() gives it */
+	public int getNanos() {
+		return (int)Math.floorMod(epochMicros, Dates.MICROS_PER_SECOND) * 1000 + nanosOfMicro;
+	}
+
+	/**
+	 * @return    A new java.sql.Timestamp for this date and time in the
+	 *            default time zone, as Timestamp.valueOf would give
+	 */
+	@SuppressWarnings("deprecation")
 	public Timestamp getValue() {
-		return value;
+		long civil = Dates.civil(getEpochDay());
+		return new Timestamp(Dates.year(civil) - 1900, Dates.month(civil) - 1, Dates.day(civil),
+		                     getHour(), getMinute(), getSecond(), getNanos());
 	}
 
+	@SuppressWarnings("deprecation")
 	public void setValue(Timestamp d) {
-		value = d;
+		long epochDay = Dates.epochDay(d.getYear() + 1900, d.getMonth() + 1, d.getDate());
+		set(epochDay, d.getHours() * 3600 + d.getMinutes() * 60 + d.getSeconds(), d.getNanos());
 	}
 
-	public String toRawString(){ return value.toString(); }
+	public int compareTo(TimestampValue other) {
+		int cmp = Long.compare(epochMicros, other.epochMicros);
+		return cmp != 0 ? cmp : nanosOfMicro - other.nanosOfMicro;
+	}
+
+	public String toRawString(){ return appendTo(new StringBuilder(29)).toString(); }
 	public String toString() {
-		return "{ts '"+value+"'}";
+		return appendTo(new StringBuilder(35).append("{ts '")).append("'}").toString();
+	}
+
+	/**
+	 * Writes the timestamp as Timestamp.toString() does, with the trailing
+	 * zeros of the nanoseconds dropped.
+	 */
+	private StringBuilder appendTo(StringBuilder buffer) {
+		Dates.appendDate(buffer, getEpochDay()).append(' ');
+		Dates.appendTime(buffer, getMicrosOfDay()).append('.');
+		int nanos = getNanos();
+		if(nanos == 0){ return buffer.append('0'); }
+		int digits = 9;
+		while(nanos % 10 == 0){
+			nanos /= 10;
+			digits--;
+		}
+		return Dates.pad(buffer, nanos, digits);
 	}
 
 	public long toLong() throws PrimitiveValue.InvalidPrimitive 
@@ -62,15 +188,21 @@ public class TimestampValue implements Expression, PrimitiveValue {
 		{ throw new PrimitiveValue.InvalidPrimitive(); }
   
   public boolean equals(Object o){
-    try { 
-      return value.equals(((TimestampValue)o).value);
-    } catch(ClassCastException e){
-      return false;
-    }
+    if(!(o instanceof TimestampValue)){ return false; }
+    TimestampValue other = (TimestampValue)o;
+    return other.epochMicros == epochMicros && other.nanosOfMicro == nanosOfMicro;
   }
   public int hashCode(){
-    return value.hashCode();
+    return Long.hashCode(epochMicros) * 31 + nanosOfMicro;
   }
 
   public PrimitiveType getType() { return PrimitiveType.TIMESTAMP; }
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -41,6 +41,10 @@ public class WhenClause implements Expression {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	/**
 	 * @return Returns the thenExpression.
 	 */
@@ -69,4 +73,16 @@ public class WhenClause implements Expression {
 	public String toString() {
 		return "WHEN "+whenExpression+" THEN "+thenExpression;
 	}
+
+	public int getChildCount() {
+		return 2;
+	}
+
+	public Expression getChild(int index) {
+		switch (index) {
+			case 0: return whenExpression;
+			case 1: return thenExpression;
+			default: throw new IndexOutOfBoundsException("Index: "+index);
+		}
+	}
 }
@@ -25,6 +25,7 @@ package net.sf.jsqlparser.expression.operators.arithmetic;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
 
 
 public class BitwiseOr extends BinaryExpression {
@@ -35,6 +36,10 @@ public class BitwiseOr extends BinaryExpression {
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
+
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
 	
 	public String getStringExpression() {
 		return "|";
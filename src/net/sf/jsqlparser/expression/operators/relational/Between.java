@@ -24,6 +24,7 @@ package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
 
 
 /**
@@ -71,8 +72,25 @@ public class Between implements Expression {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String toString() {
 		return leftExpression + " " + (not?"NOT ":"") + "BETWEEN "+
 		betweenExpressionStart+" AND "+betweenExpressionEnd;
 	}
+
+	public int getChildCount() {
+		return 3;
+	}
+
+	public Expression getChild(int index) {
+		switch (index) {
+			case 0: return leftExpression;
+			case 1: return betweenExpressionStart;
+			case 2: return betweenExpressionEnd;
+			default: throw new IndexOutOfBoundsException("Index: "+index);
+		}
+	}
 }
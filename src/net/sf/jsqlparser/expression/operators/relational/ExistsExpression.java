@@ -24,6 +24,7 @@ package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
 
 
 public class ExistsExpression implements Expression {
@@ -50,6 +51,10 @@ public class ExistsExpression implements Expression {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String getStringExpression() {
 		return ((not)?"NOT ":"")+"EXISTS";
 	}
@@ -57,4 +62,15 @@ public class ExistsExpression implements Expression {
 	public String toString() {
 		return getStringExpression() + " " + rightExpression.toString();
 	}
+
+	public int getChildCount() {
+		return 1;
+	}
+
+	public Expression getChild(int index) {
+		switch (index) {
+			case 0: return rightExpression;
+			default: throw new IndexOutOfBoundsException("Index: "+index);
+		}
+	}
 }
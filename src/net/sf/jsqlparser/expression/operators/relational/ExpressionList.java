@@ -52,6 +52,10 @@ public class ExpressionList implements ItemsList {
 		itemsListVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericItemsListVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String toString() {
 		return PlainSelect.getStringList(expressions, true, true);
 	}
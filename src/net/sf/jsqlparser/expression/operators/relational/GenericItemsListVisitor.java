@@ -0,0 +1,36 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.expression.operators.relational;
+
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * A visitor of items lists that returns a value and takes a context argument, 
+ * so that a visitor which keeps no state of its own can be shared and reused.
+ * Nodes take it in accept(visitor, context).
+ * @see ItemsListVisitor
+ */
+public interface GenericItemsListVisitor<R, C> {
+	public R visit(SubSelect subSelect, C context);
+	public R visit(ExpressionList expressionList, C context);
+}
@@ -23,9 +23,12 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import java.awt.event.ItemListener;
+import java.util.List;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
+import net.sf.jsqlparser.statement.select.SubSelect;
 
 
 
@@ -70,7 +73,35 @@ public class InExpression implements Expression {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String toString() {
 		return leftExpression + " "+((not)?"NOT ":"")+"IN "+ itemsList+"";
 	}
+
+	/**
+	 * The left expression, followed by either the items of an {@link ExpressionList} 
+	 * or a {@link SubSelect}.  The items of an unmodified {@link LiteralList} are 
+	 * values rather than nodes, and are not children; asking for them as nodes 
+	 * would build and keep one for every item.
+	 */
+	public int getChildCount() {
+		if (LiteralList.of(itemsList) != null) { return 1; }
+		if (itemsList instanceof ExpressionList) {
+			List<Expression> items = ((ExpressionList)itemsList).getExpressions();
+			return items == null ? 1 : items.size() + 1;
+		}
+		return itemsList instanceof SubSelect ? 2 : 1;
+	}
+
+	public Expression getChild(int index) {
+		if (index == 0) { return leftExpression; }
+		if (index > 0 && index < getChildCount()) {
+			if (itemsList instanceof SubSelect) { return (SubSelect)itemsList; }
+			return ((ExpressionList)itemsList).getExpressions().get(index - 1);
+		}
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -24,6 +24,7 @@ package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
 
 
 public class IsNullExpression implements Expression {
@@ -49,9 +50,23 @@ public class IsNullExpression implements Expression {
 	public void accept(ExpressionVisitor expressionVisitor) {
 		expressionVisitor.visit(this);
 	}
+
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
 	
 	public String toString() {
         return leftExpression + " IS "+((not)?"NOT ":"")+"NULL";
     }
 
+	public int getChildCount() {
+		return 1;
+	}
+
+	public Expression getChild(int index) {
+		switch (index) {
+			case 0: return leftExpression;
+			default: throw new IndexOutOfBoundsException("Index: "+index);
+		}
+	}
 }
@@ -27,4 +27,5 @@ package net.sf.jsqlparser.expression.operators.relational;
  */
 public interface ItemsList {
 	public void accept(ItemsListVisitor itemsListVisitor);
+	public <R, C> R accept(GenericItemsListVisitor<R, C> visitor, C context);
 }
@@ -24,6 +24,7 @@ package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
 
 
 public class LikeExpression extends BinaryExpression {
@@ -42,6 +43,10 @@ public class LikeExpression extends BinaryExpression {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 
 	public String getStringExpression() {
 		return ((not)?"NOT ":"")+"LIKE";
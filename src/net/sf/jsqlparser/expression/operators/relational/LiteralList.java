@@ -0,0 +1,412 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+ 
+package net.sf.jsqlparser.expression.operators.relational;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+
+/**
+ * A list of literals all of the same type, as in SELECT A FROM TAB WHERE B IN (1,2,3), 
+ * stored in a long[], double[] or String[] instead of one node per item.<br>
+ * {@link #getExpressions()} is the list as {@link LongValue}, {@link DoubleValue} 
+ * or {@link StringValue} nodes, created the first time it is asked for, so code 
+ * written against {@link ExpressionList} keeps working.  The contains methods 
+ * look a value up in a sorted copy of the numbers or a hash set of the strings 
+ * without creating any nodes; a long and a double match only where their 
+ * values are exactly the same, as in comparisons.<br>
+ * 
+ * Once the nodes are modified, through {@link #getExpressions()} or 
+ * {@link #setExpressions}, the list is a plain ExpressionList of whatever 
+ * it now holds: {@link #of} no longer returns it, and the methods that read the 
+ * literals throw IllegalStateException.<br>
+ * 
+ * The nodes, the sorted copies and the hash set are built lazily but published 
+ * safely, so an unmodified list may be read by several threads at once.
+ */
+public class LiteralList extends ExpressionList {
+	private final PrimitiveType type;
+	private final long[] longs;
+	private final double[] doubles;
+	private final String[] strings;
+
+	private volatile Items items;
+	private volatile boolean modified;
+	private volatile long[] sortedLongs;
+	private volatile double[] sortedDoubles;
+	private volatile Set<String> stringSet;
+
+	/**
+	 * @param values    The list items; the array is not copied
+	 */
+	public LiteralList(long[] values) {
+		this(PrimitiveType.LONG, values, null, null);
+	}
+
+	/**
+	 * @param values    The list items; the array is not copied
+	 */
+	public LiteralList(double[] values) {
+		this(PrimitiveType.DOUBLE, null, values, null);
+	}
+
+	/**
+	 * @param values    The unescaped list items; the array is not copied
+	 */
+	public LiteralList(String[] values) {
+		this(PrimitiveType.STRING, null, null, values);
+	}
+
+	/**
+	 * A list with the same items as <code>list</code>, and nodes of its own.
+	 * @throws IllegalStateException    if the nodes of <code>list</code> were modified
+	 */
+	public LiteralList(LiteralList list) {
+		this(list.getType(), list.longs, list.doubles, list.strings);
+	}
+
+	private LiteralList(PrimitiveType type, long[] longs, double[] doubles, String[] strings) {
+		this.type = type;
+		this.longs = longs;
+		this.doubles = doubles;
+		this.strings = strings;
+	}
+
+	/**
+	 * @return    <code>list</code> if it is a LiteralList whose nodes were not 
+	 *            modified, so that its literals may be read instead; otherwise null
+	 */
+	public static LiteralList of(ItemsList list) {
+		if (list instanceof LiteralList && !((LiteralList)list).modified) {
+			return (LiteralList)list;
+		}
+		return null;
+	}
+
+	/**
+	 * @return    true if the nodes were modified since the list was built
+	 */
+	public boolean isModified() {
+		return modified;
+	}
+
+	/**
+	 * @return    LONG, DOUBLE or STRING
+	 */
+	public PrimitiveType getType() {
+		checkUnmodified();
+		return type;
+	}
+
+	private void checkUnmodified() {
+		if (modified) {
+			throw new IllegalStateException("The items of the LiteralList were modified");
+		}
+	}
+
+	public int size() {
+		if (modified) { return items.size(); }
+		switch (type) {
+			case LONG: return longs.length;
+			case DOUBLE: return doubles.length;
+			default: return strings.length;
+		}
+	}
+
+	public long getLong(int index) {
+		checkUnmodified();
+		return longs[index];
+	}
+
+	public double getDouble(int index) {
+		checkUnmodified();
+		return doubles[index];
+	}
+
+	public String getString(int index) {
+		checkUnmodified();
+		return strings[index];
+	}
+
+	/**
+	 * @return    true if an item equals <code>value</code>, by the rules of 
+	 *            {@link LongValue#equals}, {@link DoubleValue#equals} and 
+	 *            {@link StringValue#equals}
+	 */
+	public boolean contains(PrimitiveValue value) {
+		try {
+			switch (value.getType()) {
+				case LONG: return contains(value.toLong());
+				case DOUBLE: return contains(value.toDouble());
+				case STRING: return contains(value.toRawString());
+				default: return false;
+			}
+		} catch (PrimitiveValue.InvalidPrimitive e) {
+			return false;
+		}
+	}
+
+	public boolean contains(long value) {
+		checkUnmodified();
+		switch (type) {
+			case LONG:
+				long[] sorted = sortedLongs;
+				if (sorted == null) {
+					sorted = longs.clone();
+					Arrays.sort(sorted);
+					sortedLongs = sorted;
+				}
+				return Arrays.binarySearch(sorted, value) >= 0;
+			case DOUBLE:
+				// only the nearest double can equal the value, and only if it is exact
+				double d = value;
+				return d < 0x1p63 && (long)d == value && contains(d);
+			default:
+				return false;
+		}
+	}
+
+	public boolean contains(double value) {
+		checkUnmodified();
+		switch (type) {
+			case DOUBLE:
+				double[] sorted = sortedDoubles;
+				if (sorted == null) {
+					sorted = doubles.clone();
+					Arrays.sort(sorted);
+					sortedDoubles = sorted;
+				}
+				if (value != value) { return false; }
+				// binarySearch tells -0.0 and 0.0 apart, == does not
+				if (value == 0.0) {
+					return Arrays.binarySearch(sorted, 0.0) >= 0 
+						|| Arrays.binarySearch(sorted, -0.0) >= 0;
+				}
+				return Arrays.binarySearch(sorted, value) >= 0;
+			case LONG:
+				// a whole number in the range of long is the value of its truncation
+				if (value != value || value >= 0x1p63 || value < -0x1p63) { return false; }
+				long l = (long)value;
+				return (double)l == value && contains(l);
+			default:
+				return false;
+		}
+	}
+
+	public boolean contains(String value) {
+		checkUnmodified();
+		if (type != PrimitiveType.STRING) { return false; }
+		Set<String> set = stringSet;
+		if (set == null) {
+			set = new HashSet<String>(Arrays.asList(strings));
+			stringSet = set;
+		}
+		return set.contains(value);
+	}
+
+	/**
+	 * @return    The items as value nodes, the same ones every time.  Modifying 
+	 *            the list makes this a plain ExpressionList; see {@link #of}.
+	 */
+	public List<Expression> getExpressions() {
+		Items items = this.items;
+		if (items == null) {
+			synchronized (this) {
+				items = this.items;
+				if (items == null) {
+					items = new Items(nodes());
+					this.items = items;
+				}
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Replaces the items, making this a plain ExpressionList; see {@link #of}.
+	 */
+	public void setExpressions(List<Expression> list) {
+		synchronized (this) {
+			items = new Items(list == null ? new ArrayList<Expression>() : list);
+			modified = true;
+		}
+	}
+
+	private List<Expression> nodes() {
+		int size = size();
+		List<Expression> nodes = new ArrayList<Expression>(size);
+		for (int i = 0; i < size; i++) {
+			switch (type) {
+				case LONG: nodes.add(new LongValue(longs[i])); break;
+				case DOUBLE: nodes.add(new DoubleValue(doubles[i])); break;
+				default: nodes.add(new StringValue(strings[i])); break;
+			}
+		}
+		return nodes;
+	}
+
+	/**
+	 * The nodes of the list; any change to them marks the list as modified.
+	 */
+	private final class Items extends AbstractList<Expression> implements RandomAccess {
+		private final List<Expression> list;
+
+		Items(List<Expression> list) {
+			this.list = list;
+		}
+
+		public Expression get(int index) {
+			return list.get(index);
+		}
+
+		public int size() {
+			return list.size();
+		}
+
+		public Expression set(int index, Expression element) {
+			modified = true;
+			return list.set(index, element);
+		}
+
+		public void add(int index, Expression element) {
+			modified = true;
+			list.add(index, element);
+			modCount++;
+		}
+
+		public Expression remove(int index) {
+			modified = true;
+			modCount++;
+			return list.remove(index);
+		}
+	}
+
+	public String toString() {
+		if (modified) {
+			return PlainSelect.getStringList(items, true, true);
+		}
+		StringBuilder sb = new StringBuilder("(");
+		for (int i = 0, size = size(); i < size; i++) {
+			if (i > 0) { sb.append(", "); }
+			switch (type) {
+				case LONG: sb.append(longs[i]); break;
+				case DOUBLE: sb.append(doubles[i]); break;
+				default: sb.append('\'').append(strings[i]).append('\''); break;
+			}
+		}
+		return sb.append(')').toString();
+	}
+
+	/**
+	 * Collects the items of a list while they are all literals of one type.
+	 */
+	public static class Builder {
+		private PrimitiveType type;
+		private long[] longs;
+		private double[] doubles;
+		private String[] strings;
+		private int size;
+
+		/**
+		 * @return    false, adding nothing, if the list already holds items of another type
+		 */
+		public boolean add(long value) {
+			if (!start(PrimitiveType.LONG)) { return false; }
+			if (size == longs.length) { longs = Arrays.copyOf(longs, size * 2); }
+			longs[size++] = value;
+			return true;
+		}
+
+		/**
+		 * @return    false, adding nothing, if the list already holds items of another type
+		 */
+		public boolean add(double value) {
+			if (!start(PrimitiveType.DOUBLE)) { return false; }
+			if (size == doubles.length) { doubles = Arrays.copyOf(doubles, size * 2); }
+			doubles[size++] = value;
+			return true;
+		}
+
+		/**
+		 * @return    false, adding nothing, if the list already holds items of another type
+		 */
+		public boolean add(String value) {
+			if (!start(PrimitiveType.STRING)) { return false; }
+			if (size == strings.length) { strings = Arrays.copyOf(strings, size * 2); }
+			strings[size++] = value;
+			return true;
+		}
+
+		private boolean start(PrimitiveType type) {
+			if (this.type == null) {
+				this.type = type;
+				switch (type) {
+					case LONG: longs = new long[16]; break;
+					case DOUBLE: doubles = new double[16]; break;
+					default: strings = new String[16]; break;
+				}
+			}
+			return this.type == type;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * @return    The items collected so far, or null if there are none
+		 */
+		public LiteralList build() {
+			if (type == null) { return null; }
+			switch (type) {
+				case LONG: return new LiteralList(Arrays.copyOf(longs, size));
+				case DOUBLE: return new LiteralList(Arrays.copyOf(doubles, size));
+				default: return new LiteralList(Arrays.copyOf(strings, size));
+			}
+		}
+
+		/**
+		 * @return    The items collected so far as a new, modifiable list of value nodes
+		 */
+		public List<Expression> toExpressions() {
+			List<Expression> expressions = new ArrayList<Expression>(Math.max(size, 10));
+			LiteralList list = build();
+			if (list != null) {
+				expressions.addAll(list.nodes());
+			}
+			return expressions;
+		}
+	}
+}
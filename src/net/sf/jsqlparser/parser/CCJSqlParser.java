@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Arrays;
 
 import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
 import net.sf.jsqlparser.expression.DoubleValue;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.Function;
@@ -64,6 +65,7 @@ import net.sf.jsqlparser.expression.operators.relational.InExpression;
 import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
 import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
 import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
 import net.sf.jsqlparser.expression.operators.relational.Matches;
 import net.sf.jsqlparser.expression.operators.relational.MinorThan;
@@ -105,6 +107,82 @@ import net.sf.jsqlparser.statement.update.Update;
  */
 public class CCJSqlParser implements CCJSqlParserConstants {
 
+        /**
+	 * Called whenever a literal token becomes a {@link LongValue}, {@link DoubleValue}, 
+	 * {@link StringValue} or {@link BinaryValue} node.  Does nothing; subclasses may override it to map 
+	 * AST nodes back to the tokens they were parsed from.
+	 */
+        protected void literal(Token token, Expression value) {
+        }
+
+        /**
+	 * Whether IN lists made only of literals of one type become a {@link LiteralList}.  
+	 * The items of a LiteralList are not reported to {@link #literal}, so subclasses 
+	 * that need every literal as a node override this to return false.
+	 */
+        protected boolean useLiteralLists() {
+                return true;
+        }
+
+        /**
+	 * Whether NULL and common literals become shared, unmodifiable nodes; see 
+	 * {@link LongValue#valueOf(long)}.  False, so that every literal is a node 
+	 * of its own that may be modified, and has one parent; subclasses that only 
+	 * read the trees they build may override this to return true, to save the 
+	 * memory of repeated small literals.
+	 */
+        protected boolean useSharedLiterals() {
+                return false;
+        }
+
+        private boolean addLiteral(LiteralList.Builder literals, Token token) {
+                switch (token.kind) {
+                        case S_INTEGER: return literals.add(LongValue.parse(token.image));
+                        case S_DOUBLE: return literals.add(DoubleValue.parse(token.image));
+                        default: return literals.add(token.image.substring(1, token.image.length() - 1));
+                }
+        }
+
+        private Expression literalValue(Token token) {
+                Expression value;
+                if (useSharedLiterals()) {
+                        switch (token.kind) {
+                                case S_INTEGER: value = LongValue.valueOf(token.image); break;
+                                case S_DOUBLE: value = DoubleValue.valueOf(token.image); break;
+                                default: value = StringValue.valueOfEscaped(token.image); break;
+                        }
+                } else {
+                        switch (token.kind) {
+                                case S_INTEGER: value = new LongValue(token.image); break;
+                                case S_DOUBLE: value = new DoubleValue(token.image); break;
+                                default: value = StringValue.parseEscaped(token.image); break;
+                        }
+                }
+                literal(token, value);
+                return value;
+        }
+
+        private Expression binaryValue(Token token) throws ParseException {
+                Expression value;
+                try {
+                        value = BinaryValue.parseEscaped(token.image);
+                } catch (IllegalArgumentException e) {
+                        throw new ParseException(e.getMessage()+" at line "+token.beginLine+", column "+token.beginColumn);
+                }
+                literal(token, value);
+                return value;
+        }
+
+        /**
+	 * Move the literals collected so far into <code>expressions</code>, the first 
+	 * time an item does not fit into a LiteralList.
+	 */
+        private static void flush(LiteralList.Builder literals, List expressions) {
+                if (literals != null && expressions.isEmpty()) {
+                        expressions.addAll(literals.toExpressions());
+                }
+        }
+
   final public Statement Statement() throws ParseException {
   Statement stm = null;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -117,11 +195,11 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     case K_UPDATE:
     case K_REPLACE:
     case K_TRUNCATE:
-    case 80:
+    case 82:
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_WITH:
       case K_SELECT:
-      case 80:
+      case 82:
         stm = Select();
         break;
       case K_UPDATE:
@@ -151,8 +229,8 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         throw new ParseException();
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 77:
-        jj_consume_token(77);
+      case 79:
+        jj_consume_token(79);
         break;
       default:
         jj_la1[1] = jj_gen;
@@ -183,22 +261,22 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     table = TableWithAlias();
     jj_consume_token(K_SET);
     tableColumn = Column();
-    jj_consume_token(78);
+    jj_consume_token(80);
     value = SimpleExpression();
                                                                 columns.add(tableColumn); expList.add(value);
     label_1:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 79:
+      case 81:
         ;
         break;
       default:
         jj_la1[3] = jj_gen;
         break label_1;
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       tableColumn = Column();
-      jj_consume_token(78);
+      jj_consume_token(80);
       value = SimpleExpression();
                                                                             columns.add(tableColumn); expList.add(value);
     }
@@ -242,22 +320,22 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     case K_SET:
       jj_consume_token(K_SET);
       tableColumn = Column();
-      jj_consume_token(78);
+      jj_consume_token(80);
       value = SimpleExpression();
                                                                                 columns.add(tableColumn); expList.add(value);
       label_2:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 79:
+        case 81:
           ;
           break;
         default:
           jj_la1[6] = jj_gen;
           break label_2;
         }
-        jj_consume_token(79);
+        jj_consume_token(81);
         tableColumn = Column();
-        jj_consume_token(78);
+        jj_consume_token(80);
         value = SimpleExpression();
                                                                                    columns.add(tableColumn); expList.add(value);
       }
@@ -265,54 +343,54 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       break;
     case K_SELECT:
     case K_VALUES:
-    case 80:
+    case 82:
       if (jj_2_1(2)) {
-        jj_consume_token(80);
+        jj_consume_token(82);
         tableColumn = Column();
                                                               columns.add(tableColumn);
         label_3:
         while (true) {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-          case 79:
+          case 81:
             ;
             break;
           default:
             jj_la1[7] = jj_gen;
             break label_3;
           }
-          jj_consume_token(79);
+          jj_consume_token(81);
           tableColumn = Column();
                                                                                                                       columns.add(tableColumn);
         }
-        jj_consume_token(81);
+        jj_consume_token(83);
       } else {
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_VALUES:
         jj_consume_token(K_VALUES);
-        jj_consume_token(80);
+        jj_consume_token(82);
         exp = PrimaryExpression();
                                                                           expList.add(exp);
         label_4:
         while (true) {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-          case 79:
+          case 81:
             ;
             break;
           default:
             jj_la1[8] = jj_gen;
             break label_4;
           }
-          jj_consume_token(79);
+          jj_consume_token(81);
           exp = PrimaryExpression();
                                                                                 expList.add(exp);
         }
-        jj_consume_token(81);
+        jj_consume_token(83);
                                                                                                              itemsList = new ExpressionList(expList);
         break;
       case K_SELECT:
-      case 80:
+      case 82:
                                           replace.setUseValues(false);
         itemsList = SubSelect();
         break;
@@ -364,62 +442,62 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     }
     table = Table();
     if (jj_2_2(2)) {
-      jj_consume_token(80);
+      jj_consume_token(82);
       tableColumn = Column();
                                               columns.add(tableColumn);
       label_5:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 79:
+        case 81:
           ;
           break;
         default:
           jj_la1[13] = jj_gen;
           break label_5;
         }
-        jj_consume_token(79);
+        jj_consume_token(81);
         tableColumn = Column();
                                                                                                       columns.add(tableColumn);
       }
-      jj_consume_token(81);
+      jj_consume_token(83);
     } else {
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_VALUES:
       jj_consume_token(K_VALUES);
-      jj_consume_token(80);
+      jj_consume_token(82);
       exp = SimpleExpression();
                                                          primaryExpList.add(exp);
       label_6:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 79:
+        case 81:
           ;
           break;
         default:
           jj_la1[14] = jj_gen;
           break label_6;
         }
-        jj_consume_token(79);
+        jj_consume_token(81);
         exp = SimpleExpression();
                                                                primaryExpList.add(exp);
       }
-      jj_consume_token(81);
+      jj_consume_token(83);
                                                                                                    itemsList = new ExpressionList(primaryExpList);
       break;
     case K_SELECT:
-    case 80:
+    case 82:
       if (jj_2_3(2)) {
-        jj_consume_token(80);
+        jj_consume_token(82);
       } else {
         ;
       }
                           insert.setUseValues(false);
       itemsList = SubSelect();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 81:
-        jj_consume_token(81);
+      case 83:
+        jj_consume_token(83);
         break;
       default:
         jj_la1[15] = jj_gen;
@@ -474,12 +552,12 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     // [schema.][tabella.]colonna
         name1 = RelObjectName();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 82:
-      jj_consume_token(82);
+    case 84:
+      jj_consume_token(84);
       name2 = RelObjectName();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 82:
-        jj_consume_token(82);
+      case 84:
+        jj_consume_token(84);
         name3 = RelObjectName();
         break;
       default:
@@ -566,7 +644,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         String name2 = null;
     if (jj_2_4(3)) {
       name1 = RelObjectName();
-      jj_consume_token(82);
+      jj_consume_token(84);
       name2 = RelObjectName();
                                                                    table = new Table(name1, name2);
     } else {
@@ -609,19 +687,31 @@ public class CCJSqlParser implements CCJSqlParserConstants {
   }
 
   final public SelectBody SelectBody() throws ParseException {
-  SelectBody selectBody = null;
-    if (jj_2_5(2147483647)) {
-      selectBody = Union();
-    } else {
+        SelectBody selectBody = null;
+        PlainSelect select = null;
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case 82:
+      jj_consume_token(82);
+      select = PlainSelect();
+      jj_consume_token(83);
+      selectBody = ParenthesizedUnion(select);
+      break;
+    case K_SELECT:
+      select = PlainSelect();
+                                   selectBody = select;
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case K_SELECT:
-        selectBody = PlainSelect();
+      case K_UNION:
+        selectBody = Union(select);
         break;
       default:
         jj_la1[25] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
+        ;
       }
+      break;
+    default:
+      jj_la1[26] = jj_gen;
+      jj_consume_token(-1);
+      throw new ParseException();
     }
           {if (true) return selectBody;}
     throw new Error("Missing return statement in function");
@@ -653,24 +743,24 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_ON:
           jj_consume_token(K_ON);
-          jj_consume_token(80);
+          jj_consume_token(82);
           distinctOn = SelectItemsList();
                                                                            plainSelect.getDistinct().setOnSelectItems(distinctOn);
-          jj_consume_token(81);
+          jj_consume_token(83);
           break;
         default:
-          jj_la1[26] = jj_gen;
+          jj_la1[27] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[27] = jj_gen;
+        jj_la1[28] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[28] = jj_gen;
+      jj_la1[29] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -679,7 +769,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                       plainSelect.setTop(top);
       break;
     default:
-      jj_la1[29] = jj_gen;
+      jj_la1[30] = jj_gen;
       ;
     }
     selectItems = SelectItemsList();
@@ -688,7 +778,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       IntoClause();
       break;
     default:
-      jj_la1[30] = jj_gen;
+      jj_la1[31] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -698,7 +788,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       joins = JoinsList();
       break;
     default:
-      jj_la1[31] = jj_gen;
+      jj_la1[32] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -707,7 +797,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                             plainSelect.setWhere(where);
       break;
     default:
-      jj_la1[32] = jj_gen;
+      jj_la1[33] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -716,7 +806,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                                                           plainSelect.setGroupByColumnReferences(groupByColumnReferences);
       break;
     default:
-      jj_la1[33] = jj_gen;
+      jj_la1[34] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -725,7 +815,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                         plainSelect.setHaving(having);
       break;
     default:
-      jj_la1[34] = jj_gen;
+      jj_la1[35] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -734,7 +824,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                                                                          plainSelect.setOrderByElements(orderByElements);
       break;
     default:
-      jj_la1[35] = jj_gen;
+      jj_la1[36] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -744,7 +834,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                           plainSelect.setLimit(limit);
       break;
     default:
-      jj_la1[36] = jj_gen;
+      jj_la1[37] = jj_gen;
       ;
     }
                 plainSelect.setSelectItems(selectItems);
@@ -757,18 +847,54 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public Union Union() throws ParseException {
+/*
+The first select has already been parsed by the caller; these only parse the rest.
+this is not 100% right, since multiple UNION could have different ALL/DISTINCT clauses...
+*/
+  final public Union ParenthesizedUnion(PlainSelect first) throws ParseException {
         Union union = new Union();
         List orderByElements = null;
         Limit limit = null;
         PlainSelect select = null;
         ArrayList selects = new ArrayList();
+          selects.add(first);
+    jj_consume_token(K_UNION);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 80:
-      jj_consume_token(80);
-      select = PlainSelect();
-                                                  selects.add(select);
-      jj_consume_token(81);
+    case K_ALL:
+    case K_DISTINCT:
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case K_ALL:
+        jj_consume_token(K_ALL);
+                              union.setAll(true);
+        break;
+      case K_DISTINCT:
+        jj_consume_token(K_DISTINCT);
+                                                                          union.setDistinct(true);
+        break;
+      default:
+        jj_la1[38] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+      break;
+    default:
+      jj_la1[39] = jj_gen;
+      ;
+    }
+    jj_consume_token(82);
+    select = PlainSelect();
+                                  selects.add(select);
+    jj_consume_token(83);
+    label_7:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case K_UNION:
+        ;
+        break;
+      default:
+        jj_la1[40] = jj_gen;
+        break label_7;
+      }
       jj_consume_token(K_UNION);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_ALL:
@@ -776,85 +902,89 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_ALL:
           jj_consume_token(K_ALL);
-                                                      union.setAll(true);
           break;
         case K_DISTINCT:
           jj_consume_token(K_DISTINCT);
-                                                                                                  union.setDistinct(true);
           break;
         default:
-          jj_la1[37] = jj_gen;
+          jj_la1[41] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[38] = jj_gen;
+        jj_la1[42] = jj_gen;
         ;
       }
-      jj_consume_token(80);
+      jj_consume_token(82);
       select = PlainSelect();
-                                                  selects.add(select);
-      jj_consume_token(81);
-      label_7:
-      while (true) {
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case K_UNION:
-          ;
-          break;
-        default:
-          jj_la1[39] = jj_gen;
-          break label_7;
-        }
-        jj_consume_token(K_UNION);
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case K_ALL:
-        case K_DISTINCT:
-          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-          case K_ALL:
-            jj_consume_token(K_ALL);
-            break;
-          case K_DISTINCT:
-            jj_consume_token(K_DISTINCT);
-            break;
-          default:
-            jj_la1[40] = jj_gen;
-            jj_consume_token(-1);
-            throw new ParseException();
-          }
-          break;
-        default:
-          jj_la1[41] = jj_gen;
-          ;
-        }
-        jj_consume_token(80);
-        select = PlainSelect();
-                                                                                               selects.add(select);
-        jj_consume_token(81);
-      }
+                                                                               selects.add(select);
+      jj_consume_token(83);
+    }
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_ORDER:
+      orderByElements = OrderByElements();
+                                            union.setOrderByElements(orderByElements);
+      break;
+    default:
+      jj_la1[43] = jj_gen;
+      ;
+    }
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_LIMIT:
+    case K_OFFSET:
+      limit = Limit();
+                        union.setLimit(limit);
+      break;
+    default:
+      jj_la1[44] = jj_gen;
+      ;
+    }
+                union.setPlainSelects(selects);
+                {if (true) return union;}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public Union Union(PlainSelect first) throws ParseException {
+        Union union = new Union();
+        PlainSelect select = null;
+        ArrayList selects = new ArrayList();
+          selects.add(first);
+    jj_consume_token(K_UNION);
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_ALL:
+    case K_DISTINCT:
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case K_ORDER:
-        orderByElements = OrderByElements();
-                                                            union.setOrderByElements(orderByElements);
+      case K_ALL:
+        jj_consume_token(K_ALL);
+                              union.setAll(true);
+        break;
+      case K_DISTINCT:
+        jj_consume_token(K_DISTINCT);
+                                                                          union.setDistinct(true);
         break;
       default:
-        jj_la1[42] = jj_gen;
-        ;
+        jj_la1[45] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
       }
+      break;
+    default:
+      jj_la1[46] = jj_gen;
+      ;
+    }
+    select = PlainSelect();
+                              selects.add(select);
+    label_8:
+    while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case K_LIMIT:
-      case K_OFFSET:
-        limit = Limit();
-                                        union.setLimit(limit);
+      case K_UNION:
+        ;
         break;
       default:
-        jj_la1[43] = jj_gen;
-        ;
+        jj_la1[47] = jj_gen;
+        break label_8;
       }
-      break;
-    case K_SELECT:
-      select = PlainSelect();
-                                              selects.add(select);
       jj_consume_token(K_UNION);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_ALL:
@@ -862,63 +992,22 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_ALL:
           jj_consume_token(K_ALL);
-                                                      union.setAll(true);
           break;
         case K_DISTINCT:
           jj_consume_token(K_DISTINCT);
-                                                                                                  union.setDistinct(true);
           break;
         default:
-          jj_la1[44] = jj_gen;
+          jj_la1[48] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[45] = jj_gen;
+        jj_la1[49] = jj_gen;
         ;
       }
       select = PlainSelect();
-                                              selects.add(select);
-      label_8:
-      while (true) {
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case K_UNION:
-          ;
-          break;
-        default:
-          jj_la1[46] = jj_gen;
-          break label_8;
-        }
-        jj_consume_token(K_UNION);
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case K_ALL:
-        case K_DISTINCT:
-          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-          case K_ALL:
-            jj_consume_token(K_ALL);
-            break;
-          case K_DISTINCT:
-            jj_consume_token(K_DISTINCT);
-            break;
-          default:
-            jj_la1[47] = jj_gen;
-            jj_consume_token(-1);
-            throw new ParseException();
-          }
-          break;
-        default:
-          jj_la1[48] = jj_gen;
-          ;
-        }
-        select = PlainSelect();
-                                                                                           selects.add(select);
-      }
-      break;
-    default:
-      jj_la1[49] = jj_gen;
-      jj_consume_token(-1);
-      throw new ParseException();
+                                                                           selects.add(select);
     }
                 union.setPlainSelects(selects);
                 {if (true) return union;}
@@ -934,14 +1023,14 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     label_9:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 79:
+      case 81:
         ;
         break;
       default:
         jj_la1[50] = jj_gen;
         break label_9;
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       with = WithItem();
                                                                                      withItemsList.add(with);
     }
@@ -957,10 +1046,10 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     name = RelObjectName();
                                 with.setName(name);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 80:
-      jj_consume_token(80);
+    case 82:
+      jj_consume_token(82);
       selectItems = SelectItemsList();
-      jj_consume_token(81);
+      jj_consume_token(83);
                                                    with.setWithItemList(selectItems);
       break;
     default:
@@ -968,10 +1057,10 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       ;
     }
     jj_consume_token(K_AS);
-    jj_consume_token(80);
+    jj_consume_token(82);
     selectBody = SelectBody();
                                          with.setSelectBody(selectBody);
-    jj_consume_token(81);
+    jj_consume_token(83);
            {if (true) return with;}
     throw new Error("Missing return statement in function");
   }
@@ -984,14 +1073,14 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     label_10:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 79:
+      case 81:
         ;
         break;
       default:
         jj_la1[52] = jj_gen;
         break label_10;
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       selectItem = SelectItem();
                                                                                                 selectItemsList.add(selectItem);
     }
@@ -1009,13 +1098,13 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         Expression expression = null;
         SubSelect subSelect = null;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 83:
-      jj_consume_token(83);
+    case 85:
+      jj_consume_token(85);
            selectItem = new AllColumns();
       break;
     default:
       jj_la1[54] = jj_gen;
-      if (jj_2_6(2147483647)) {
+      if (jj_2_5(2147483647)) {
         selectItem = AllTableColumns();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1032,15 +1121,16 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         case S_INTEGER:
         case S_IDENTIFIER:
         case S_CHAR_LITERAL:
+        case S_BINARY_LITERAL:
         case S_QUOTED_IDENTIFIER:
-        case 80:
-        case 84:
-        case 96:
-        case 97:
-        case 100:
+        case 82:
+        case 86:
+        case 98:
+        case 99:
         case 102:
         case 103:
-        case 104:
+        case 105:
+        case 106:
           expression = Expression();
                                    selectExpressionItem = new SelectExpressionItem(); selectExpressionItem.setExpression(expression);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1073,8 +1163,8 @@ public class CCJSqlParser implements CCJSqlParserConstants {
   final public AllTableColumns AllTableColumns() throws ParseException {
         Table table = null;
     table = Table();
-    jj_consume_token(82);
-    jj_consume_token(83);
+    jj_consume_token(84);
+    jj_consume_token(85);
                 {if (true) return new AllTableColumns(table);}
     throw new Error("Missing return statement in function");
   }
@@ -1100,14 +1190,14 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     label_11:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 79:
+      case 81:
         ;
         break;
       default:
         jj_la1[57] = jj_gen;
         break label_11;
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       Table();
     }
   }
@@ -1116,23 +1206,10 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         FromItem fromItem = null;
         String alias = null;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 80:
-      jj_consume_token(80);
-      if (jj_2_7(2147483647)) {
-        fromItem = SubJoin();
-      } else {
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case K_SELECT:
-        case 80:
-          fromItem = SubSelect();
-          break;
-        default:
-          jj_la1[58] = jj_gen;
-          jj_consume_token(-1);
-          throw new ParseException();
-        }
-      }
-      jj_consume_token(81);
+    case 82:
+      jj_consume_token(82);
+      fromItem = ParenthesizedFromItem();
+      jj_consume_token(83);
       break;
     case K_KEY:
     case K_END:
@@ -1142,7 +1219,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       fromItem = Table();
       break;
     default:
-      jj_la1[59] = jj_gen;
+      jj_la1[58] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1157,19 +1234,110 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                          fromItem.setAlias(alias);
       break;
     default:
-      jj_la1[60] = jj_gen;
+      jj_la1[59] = jj_gen;
       ;
     }
                 {if (true) return fromItem;}
     throw new Error("Missing return statement in function");
   }
 
-  final public FromItem SubJoin() throws ParseException {
+/*
+"((SELECT ...) ..." is either a parenthesized union or a join whose left side is a
+sub-select; which one is only known once the first PlainSelect has been parsed.
+*/
+  final public FromItem ParenthesizedFromItem() throws ParseException {
         FromItem fromItem = null;
+        PlainSelect select = null;
+        SelectBody selectBody = null;
+        SubSelect subSelect = new SubSelect();
+        String alias = null;
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_SELECT:
+      select = PlainSelect();
+                                       selectBody = select;
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case K_UNION:
+        selectBody = Union(select);
+        break;
+      default:
+        jj_la1[60] = jj_gen;
+        ;
+      }
+                  subSelect.setSelectBody(selectBody); fromItem = subSelect;
+      break;
+    default:
+      jj_la1[63] = jj_gen;
+      if (jj_2_6(2)) {
+        jj_consume_token(82);
+        select = PlainSelect();
+        jj_consume_token(83);
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case K_UNION:
+          selectBody = ParenthesizedUnion(select);
+                          subSelect.setSelectBody(selectBody); fromItem = subSelect;
+          break;
+        case K_AS:
+        case K_KEY:
+        case K_END:
+        case K_JOIN:
+        case K_LEFT:
+        case K_FULL:
+        case K_BEGIN:
+        case K_INNER:
+        case K_OUTER:
+        case K_RIGHT:
+        case K_NATURAL:
+        case S_IDENTIFIER:
+        case S_QUOTED_IDENTIFIER:
+        case 81:
+                          subSelect.setSelectBody(select); fromItem = subSelect;
+          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+          case K_AS:
+          case K_KEY:
+          case K_END:
+          case K_BEGIN:
+          case S_IDENTIFIER:
+          case S_QUOTED_IDENTIFIER:
+            alias = Alias();
+                                         fromItem.setAlias(alias);
+            break;
+          default:
+            jj_la1[61] = jj_gen;
+            ;
+          }
+          fromItem = SubJoin(fromItem);
+          break;
+        default:
+          jj_la1[62] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      } else {
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case K_KEY:
+        case K_END:
+        case K_BEGIN:
+        case S_IDENTIFIER:
+        case S_QUOTED_IDENTIFIER:
+        case 82:
+          fromItem = FromItem();
+          fromItem = SubJoin(fromItem);
+          break;
+        default:
+          jj_la1[64] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
+    }
+                {if (true) return fromItem;}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public FromItem SubJoin(FromItem left) throws ParseException {
         Join join = null;
         SubJoin subJoin = new SubJoin();
-    fromItem = FromItem();
-                              subJoin.setLeft(fromItem);
+          subJoin.setLeft(left);
     join = JoinerExpression();
                                   subJoin.setJoin(join);
                 {if (true) return subJoin;}
@@ -1189,11 +1357,11 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       case K_OUTER:
       case K_RIGHT:
       case K_NATURAL:
-      case 79:
+      case 81:
         ;
         break;
       default:
-        jj_la1[61] = jj_gen;
+        jj_la1[65] = jj_gen;
         break label_12;
       }
       join = JoinerExpression();
@@ -1232,13 +1400,13 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                                 join.setNatural(true);
         break;
       default:
-        jj_la1[62] = jj_gen;
+        jj_la1[66] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[63] = jj_gen;
+      jj_la1[67] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1254,25 +1422,25 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                               join.setInner(true);
         break;
       default:
-        jj_la1[64] = jj_gen;
+        jj_la1[68] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[65] = jj_gen;
+      jj_la1[69] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_JOIN:
       jj_consume_token(K_JOIN);
       break;
-    case 79:
-      jj_consume_token(79);
+    case 81:
+      jj_consume_token(81);
                                join.setSimple(true);
       break;
     default:
-      jj_la1[66] = jj_gen;
+      jj_la1[70] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1288,34 +1456,34 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         break;
       case K_USING:
         jj_consume_token(K_USING);
-        jj_consume_token(80);
+        jj_consume_token(82);
         tableColumn = Column();
                                                        columns = new ArrayList(); columns.add(tableColumn);
         label_13:
         while (true) {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-          case 79:
+          case 81:
             ;
             break;
           default:
-            jj_la1[67] = jj_gen;
+            jj_la1[71] = jj_gen;
             break label_13;
           }
-          jj_consume_token(79);
+          jj_consume_token(81);
           tableColumn = Column();
                                                             columns.add(tableColumn);
         }
-        jj_consume_token(81);
+        jj_consume_token(83);
                     join.setUsingColumns(columns);
         break;
       default:
-        jj_la1[68] = jj_gen;
+        jj_la1[72] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[69] = jj_gen;
+      jj_la1[73] = jj_gen;
       ;
     }
         join.setRightItem(right);
@@ -1341,14 +1509,14 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     label_14:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 79:
+      case 81:
         ;
         break;
       default:
-        jj_la1[70] = jj_gen;
+        jj_la1[74] = jj_gen;
         break label_14;
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       columnReference = SimpleExpression();
                                               columnReferences.add(columnReference);
     }
@@ -1374,14 +1542,14 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     label_15:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 79:
+      case 81:
         ;
         break;
       default:
-        jj_la1[71] = jj_gen;
+        jj_la1[75] = jj_gen;
         break label_15;
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       orderByElement = OrderByElement();
                                                orderByList.add(orderByElement);
     }
@@ -1406,13 +1574,13 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                            orderByElement.setAsc(false);
         break;
       default:
-        jj_la1[72] = jj_gen;
+        jj_la1[76] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[73] = jj_gen;
+      jj_la1[77] = jj_gen;
       ;
     }
         orderByElement.setExpression(columnReference);
@@ -1423,34 +1591,34 @@ public class CCJSqlParser implements CCJSqlParserConstants {
   final public Limit Limit() throws ParseException {
         Limit limit = new Limit();
         Token token = null;
-    if (jj_2_8(3)) {
+    if (jj_2_7(3)) {
       jj_consume_token(K_LIMIT);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case S_INTEGER:
         token = jj_consume_token(S_INTEGER);
                                                                     limit.setOffset(Long.parseLong(token.image));
         break;
-      case 84:
-        jj_consume_token(84);
+      case 86:
+        jj_consume_token(86);
                                                       limit.setOffsetJdbcParameter(true);
         break;
       default:
-        jj_la1[74] = jj_gen;
+        jj_la1[78] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case S_INTEGER:
         token = jj_consume_token(S_INTEGER);
                                                     limit.setRowCount(Long.parseLong(token.image));
         break;
-      case 84:
-        jj_consume_token(84);
+      case 86:
+        jj_consume_token(86);
                                                                                                               limit.setRowCountJdbcParameter(true);
         break;
       default:
-        jj_la1[75] = jj_gen;
+        jj_la1[79] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1463,12 +1631,12 @@ public class CCJSqlParser implements CCJSqlParserConstants {
           token = jj_consume_token(S_INTEGER);
                                                       limit.setOffset(Long.parseLong(token.image));
           break;
-        case 84:
-          jj_consume_token(84);
+        case 86:
+          jj_consume_token(86);
                                                                                                               limit.setOffsetJdbcParameter(true);
           break;
         default:
-          jj_la1[76] = jj_gen;
+          jj_la1[80] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -1480,8 +1648,8 @@ public class CCJSqlParser implements CCJSqlParserConstants {
           token = jj_consume_token(S_INTEGER);
                                                             limit.setRowCount(Long.parseLong(token.image));
           break;
-        case 84:
-          jj_consume_token(84);
+        case 86:
+          jj_consume_token(86);
                                               limit.setRowCountJdbcParameter(true);
           break;
         case K_ALL:
@@ -1489,7 +1657,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                                                   limit.setLimitAll(true);
           break;
         default:
-          jj_la1[77] = jj_gen;
+          jj_la1[81] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -1501,23 +1669,23 @@ public class CCJSqlParser implements CCJSqlParserConstants {
             token = jj_consume_token(S_INTEGER);
                                                               limit.setOffset(Long.parseLong(token.image));
             break;
-          case 84:
-            jj_consume_token(84);
+          case 86:
+            jj_consume_token(86);
                                                                                                                       limit.setOffsetJdbcParameter(true);
             break;
           default:
-            jj_la1[78] = jj_gen;
+            jj_la1[82] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[79] = jj_gen;
+          jj_la1[83] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[80] = jj_gen;
+        jj_la1[84] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1535,12 +1703,12 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       token = jj_consume_token(S_INTEGER);
                                     top.setRowCount(Long.parseLong(token.image));
       break;
-    case 84:
-      jj_consume_token(84);
+    case 86:
+      jj_consume_token(86);
                       top.setRowCountJdbcParameter(true);
       break;
     default:
-      jj_la1[81] = jj_gen;
+      jj_la1[85] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1561,7 +1729,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                                result = left;
     label_16:
     while (true) {
-      if (jj_2_9(2147483647)) {
+      if (jj_2_8(2147483647)) {
         ;
       } else {
         break label_16;
@@ -1581,7 +1749,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                            result = left;
     label_17:
     while (true) {
-      if (jj_2_10(2147483647)) {
+      if (jj_2_9(2147483647)) {
         ;
       } else {
         break label_17;
@@ -1595,18 +1763,56 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
+// Every condition but EXISTS starts with a SimpleExpression, so parse that once 
+// and pick the kind of condition from the few tokens that follow it.  Trying 
+// each kind with a syntactic LOOKAHEAD re-scans the left side once per kind and 
+// level of nesting, which is exponential in the depth of nested parentheses.
   final public Expression Condition() throws ParseException {
         Expression result;
         Token tok;
-    if (jj_2_11(2147483647)) {
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case K_NOT:
       jj_consume_token(K_NOT);
       result = Condition();
                                                           result = new InverseExpression(result);
-    } else if (jj_2_12(2147483647)) {
-      result = SQLCondition();
-    } else if (jj_2_13(2147483647)) {
-      result = RegularCondition();
-    } else {
+      break;
+    case K_EXISTS:
+      result = ExistsExpression();
+      break;
+    case K_KEY:
+    case K_END:
+    case K_NULL:
+    case K_CASE:
+    case K_BEGIN:
+    case K_REPLACE:
+    case K_CAST:
+    case S_DOUBLE:
+    case S_INTEGER:
+    case S_IDENTIFIER:
+    case S_CHAR_LITERAL:
+    case S_BINARY_LITERAL:
+    case S_QUOTED_IDENTIFIER:
+    case 82:
+    case 86:
+    case 98:
+    case 99:
+    case 102:
+    case 103:
+    case 105:
+    case 106:
+      result = SimpleExpression();
+      if (jj_2_10(2147483647)) {
+        result = InExpression(result);
+      } else if (jj_2_11(2147483647)) {
+        result = Between(result);
+      } else if (jj_2_12(2147483647)) {
+        result = IsNullExpression(result);
+      } else {
+        result = RegularCondition(result);
+      }
+      break;
+    default:
+      jj_la1[86] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1614,67 +1820,65 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public Expression RegularCondition() throws ParseException {
+  final public Expression RegularCondition(Expression leftExpression) throws ParseException {
         BinaryExpression result;
-        Expression leftExpression;
         Expression rightExpression;
-    leftExpression = SimpleExpression();
-    if (jj_2_14(2147483647)) {
+    if (jj_2_13(2147483647)) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 85:
-        jj_consume_token(85);
+      case 87:
+        jj_consume_token(87);
                 result = new GreaterThan();
         break;
-      case 86:
-        jj_consume_token(86);
+      case 88:
+        jj_consume_token(88);
                 result = new MinorThan();
         break;
       case K_IS:
-      case 78:
-      case 87:
+      case 80:
+      case 89:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 87:
-          jj_consume_token(87);
+        case 89:
+          jj_consume_token(89);
           break;
-        case 78:
-          jj_consume_token(78);
+        case 80:
+          jj_consume_token(80);
           break;
         case K_IS:
           jj_consume_token(K_IS);
           break;
         default:
-          jj_la1[82] = jj_gen;
+          jj_la1[87] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
                                    result = new EqualsTo();
         break;
-      case 89:
-        jj_consume_token(89);
+      case 91:
+        jj_consume_token(91);
                  result = new GreaterThanEquals();
         break;
-      case 88:
-        jj_consume_token(88);
+      case 90:
+        jj_consume_token(90);
                  result = new MinorThanEquals();
         break;
-      case 90:
-      case 91:
+      case 92:
+      case 93:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 90:
-          jj_consume_token(90);
+        case 92:
+          jj_consume_token(92);
           break;
-        case 91:
-          jj_consume_token(91);
+        case 93:
+          jj_consume_token(93);
           break;
         default:
-          jj_la1[83] = jj_gen;
+          jj_la1[88] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
                           result = new NotEqualsTo();
         break;
-      case 92:
-        jj_consume_token(92);
+      case 94:
+        jj_consume_token(94);
                  result = new Matches();
         break;
       case K_LIKE:
@@ -1687,7 +1891,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                              result = new LikeExpression(); ((LikeExpression)result).setNot(true);
         break;
       default:
-        jj_la1[84] = jj_gen;
+        jj_la1[89] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1702,30 +1906,12 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public Expression SQLCondition() throws ParseException {
-        Expression result;
-    if (jj_2_15(2147483647)) {
-      result = InExpression();
-    } else if (jj_2_16(2147483647)) {
-      result = Between();
-    } else if (jj_2_17(2147483647)) {
-      result = IsNullExpression();
-    } else if (jj_2_18(2147483647)) {
-      result = ExistsExpression();
-    } else {
-      jj_consume_token(-1);
-      throw new ParseException();
-    }
-          {if (true) return result;}
-    throw new Error("Missing return statement in function");
-  }
-
   final public ItemsList ItemList() throws ParseException {
         ItemsList itemsList = null;
         Table table = null;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 80:
-      jj_consume_token(80);
+    case 82:
+      jj_consume_token(82);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_KEY:
       case K_NOT:
@@ -1741,33 +1927,61 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       case S_INTEGER:
       case S_IDENTIFIER:
       case S_CHAR_LITERAL:
+      case S_BINARY_LITERAL:
       case S_QUOTED_IDENTIFIER:
-      case 80:
-      case 84:
-      case 96:
-      case 97:
-      case 100:
+      case 82:
+      case 86:
+      case 98:
+      case 99:
       case 102:
       case 103:
-      case 104:
-        if (jj_2_19(2147483647)) {
+      case 105:
+      case 106:
+        if (jj_2_14(2147483647)) {
           itemsList = SubSelect();
-        } else if (jj_2_20(2147483647)) {
-          itemsList = ExpressionList();
         } else {
-          jj_consume_token(-1);
-          throw new ParseException();
+          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+          case K_KEY:
+          case K_NOT:
+          case K_END:
+          case K_NULL:
+          case K_CASE:
+          case K_BEGIN:
+          case K_EXISTS:
+          case K_REPLACE:
+          case K_CAST:
+          case S_DOUBLE:
+          case S_INTEGER:
+          case S_IDENTIFIER:
+          case S_CHAR_LITERAL:
+          case S_BINARY_LITERAL:
+          case S_QUOTED_IDENTIFIER:
+          case 82:
+          case 86:
+          case 98:
+          case 99:
+          case 102:
+          case 103:
+          case 105:
+          case 106:
+            itemsList = LiteralOrExpressionList();
+            break;
+          default:
+            jj_la1[90] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
         }
         break;
       default:
-        jj_la1[85] = jj_gen;
+        jj_la1[91] = jj_gen;
         ;
       }
-      jj_consume_token(81);
+      jj_consume_token(83);
       break;
     default:
-      jj_la1[86] = jj_gen;
-      if (jj_2_21(2147483647)) {
+      jj_la1[92] = jj_gen;
+      if (jj_2_15(2147483647)) {
         table = Table();
                 // Encode `x IN tableName` as `x in (SELECT * FROM tableName)`
                         SubSelect subSel = new SubSelect();
@@ -1788,18 +2002,16 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public Expression InExpression() throws ParseException {
+  final public Expression InExpression(Expression leftExpression) throws ParseException {
         InExpression result = new InExpression();
         ItemsList itemsList = null;
-        Expression leftExpression = null;
-    leftExpression = SimpleExpression();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_NOT:
       jj_consume_token(K_NOT);
                result.setNot(true);
       break;
     default:
-      jj_la1[87] = jj_gen;
+      jj_la1[93] = jj_gen;
       ;
     }
     jj_consume_token(K_IN);
@@ -1810,19 +2022,17 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public Expression Between() throws ParseException {
+  final public Expression Between(Expression leftExpression) throws ParseException {
         Between result = new Between();
-        Expression leftExpression = null;
         Expression betweenExpressionStart = null;
         Expression betweenExpressionEnd = null;
-    leftExpression = SimpleExpression();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_NOT:
       jj_consume_token(K_NOT);
                        result.setNot(true);
       break;
     default:
-      jj_la1[88] = jj_gen;
+      jj_la1[94] = jj_gen;
       ;
     }
     jj_consume_token(K_BETWEEN);
@@ -1847,7 +2057,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                result.setNot(true);
       break;
     default:
-      jj_la1[89] = jj_gen;
+      jj_la1[95] = jj_gen;
       ;
     }
     jj_consume_token(K_LIKE);
@@ -1859,7 +2069,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                                          result.setEscape((StringValue.parseEscaped(token.image)).getValue());
       break;
     default:
-      jj_la1[90] = jj_gen;
+      jj_la1[96] = jj_gen;
       ;
     }
                 result.setLeftExpression(leftExpression);
@@ -1868,10 +2078,8 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public Expression IsNullExpression() throws ParseException {
+  final public Expression IsNullExpression(Expression leftExpression) throws ParseException {
         IsNullExpression result = new IsNullExpression();
-        Expression leftExpression = null;
-    leftExpression = SimpleExpression();
     jj_consume_token(K_IS);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_NOT:
@@ -1879,7 +2087,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                       result.setNot(true);
       break;
     default:
-      jj_la1[91] = jj_gen;
+      jj_la1[97] = jj_gen;
       ;
     }
     jj_consume_token(K_NULL);
@@ -1906,12 +2114,12 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                         expressions.add(expr);
     label_18:
     while (true) {
-      if (jj_2_22(2147483647)) {
+      if (jj_2_16(2147483647)) {
         ;
       } else {
         break label_18;
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       expr = Expression();
                                                expressions.add(expr);
     }
@@ -1920,11 +2128,99 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     throw new Error("Missing return statement in function");
   }
 
+/*
+The items of an IN list.  While they are all literals of one type they are collected 
+into a LiteralList without creating a node per item; the first item that is not turns 
+the list into a plain ExpressionList.
+*/
+  final public ExpressionList LiteralOrExpressionList() throws ParseException {
+        LiteralList.Builder literals = useLiteralLists() ? new LiteralList.Builder() : null;
+        List expressions = new ArrayList();
+    ListItem(literals, expressions);
+    label_19:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case 81:
+        ;
+        break;
+      default:
+        jj_la1[98] = jj_gen;
+        break label_19;
+      }
+      jj_consume_token(81);
+      ListItem(literals, expressions);
+    }
+                if (literals != null && expressions.isEmpty()) {
+                        {if (true) return literals.build();}
+                }
+                {if (true) return new ExpressionList(expressions);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public void ListItem(LiteralList.Builder literals, List expressions) throws ParseException {
+        Token token = null;
+        Expression expr = null;
+    if (jj_2_17(2147483647)) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case S_INTEGER:
+        token = jj_consume_token(S_INTEGER);
+        break;
+      case S_DOUBLE:
+        token = jj_consume_token(S_DOUBLE);
+        break;
+      case S_CHAR_LITERAL:
+        token = jj_consume_token(S_CHAR_LITERAL);
+        break;
+      default:
+        jj_la1[99] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+                        if (literals == null || !expressions.isEmpty() || !addLiteral(literals, token)) {
+                                flush(literals, expressions);
+                                expressions.add(literalValue(token));
+                        }
+    } else {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case K_KEY:
+      case K_NOT:
+      case K_END:
+      case K_NULL:
+      case K_CASE:
+      case K_BEGIN:
+      case K_EXISTS:
+      case K_REPLACE:
+      case K_CAST:
+      case S_DOUBLE:
+      case S_INTEGER:
+      case S_IDENTIFIER:
+      case S_CHAR_LITERAL:
+      case S_BINARY_LITERAL:
+      case S_QUOTED_IDENTIFIER:
+      case 82:
+      case 86:
+      case 98:
+      case 99:
+      case 102:
+      case 103:
+      case 105:
+      case 106:
+        expr = Expression();
+                                    flush(literals, expressions); expressions.add(expr);
+        break;
+      default:
+        jj_la1[100] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    }
+  }
+
   final public Expression ComparisonItem() throws ParseException {
         Expression retval = null;
-    if (jj_2_23(2)) {
+    if (jj_2_18(2)) {
       retval = AllComparisonExpression();
-    } else if (jj_2_24(2)) {
+    } else if (jj_2_19(2)) {
       retval = AnyComparisonExpression();
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1939,19 +2235,20 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       case S_INTEGER:
       case S_IDENTIFIER:
       case S_CHAR_LITERAL:
+      case S_BINARY_LITERAL:
       case S_QUOTED_IDENTIFIER:
-      case 80:
-      case 84:
-      case 96:
-      case 97:
-      case 100:
+      case 82:
+      case 86:
+      case 98:
+      case 99:
       case 102:
       case 103:
-      case 104:
+      case 105:
+      case 106:
         retval = SimpleExpression();
         break;
       default:
-        jj_la1[92] = jj_gen;
+        jj_la1[101] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1964,9 +2261,9 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         AllComparisonExpression retval = null;
         SubSelect subselect = null;
     jj_consume_token(K_ALL);
-    jj_consume_token(80);
+    jj_consume_token(82);
     subselect = SubSelect();
-    jj_consume_token(81);
+    jj_consume_token(83);
                                          retval = new AllComparisonExpression(subselect);
       {if (true) return retval;}
     throw new Error("Missing return statement in function");
@@ -1983,13 +2280,13 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       jj_consume_token(K_SOME);
       break;
     default:
-      jj_la1[93] = jj_gen;
+      jj_la1[102] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
-    jj_consume_token(80);
+    jj_consume_token(82);
     subselect = SubSelect();
-    jj_consume_token(81);
+    jj_consume_token(83);
                                                       retval = new AnyComparisonExpression(subselect);
       {if (true) return retval;}
     throw new Error("Missing return statement in function");
@@ -2007,24 +2304,24 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         Expression result = null;
         Expression rightExpression = null;
     result = ConcatExpression();
-    label_19:
+    label_20:
     while (true) {
-      if (jj_2_25(2)) {
+      if (jj_2_20(2)) {
         ;
       } else {
-        break label_19;
+        break label_20;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 93:
-        jj_consume_token(93);
+      case 95:
+        jj_consume_token(95);
                                               binExp = new BitwiseOr();
         break;
-      case 94:
-        jj_consume_token(94);
+      case 96:
+        jj_consume_token(96);
                                               binExp = new BitwiseAnd();
         break;
       default:
-        jj_la1[94] = jj_gen;
+        jj_la1[103] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2041,17 +2338,17 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         Expression result = null;
         Expression rightExpression = null;
     result = AdditiveExpression();
-    label_20:
+    label_21:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 95:
+      case 97:
         ;
         break;
       default:
-        jj_la1[95] = jj_gen;
-        break label_20;
+        jj_la1[104] = jj_gen;
+        break label_21;
       }
-      jj_consume_token(95);
+      jj_consume_token(97);
       rightExpression = AdditiveExpression();
                         Concat binExp = new Concat();
                         binExp.setLeftExpression(result);
@@ -2067,24 +2364,24 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         Expression result = null;
         Expression rightExpression = null;
     result = MultiplicativeExpression();
-    label_21:
+    label_22:
     while (true) {
-      if (jj_2_26(2)) {
+      if (jj_2_21(2)) {
         ;
       } else {
-        break label_21;
+        break label_22;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 96:
-        jj_consume_token(96);
+      case 98:
+        jj_consume_token(98);
                             binExp = new Addition();
         break;
-      case 97:
-        jj_consume_token(97);
+      case 99:
+        jj_consume_token(99);
                                                                         binExp = new Subtraction();
         break;
       default:
-        jj_la1[96] = jj_gen;
+        jj_la1[105] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2102,24 +2399,24 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         Expression result = null;
         Expression rightExpression = null;
     result = BitwiseXor();
-    label_22:
+    label_23:
     while (true) {
-      if (jj_2_27(2)) {
+      if (jj_2_22(2)) {
         ;
       } else {
-        break label_22;
+        break label_23;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 83:
-        jj_consume_token(83);
+      case 85:
+        jj_consume_token(85);
                             binExp = new Multiplication();
         break;
-      case 98:
-        jj_consume_token(98);
+      case 100:
+        jj_consume_token(100);
                                                                         binExp = new Division();
         break;
       default:
-        jj_la1[97] = jj_gen;
+        jj_la1[106] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2136,17 +2433,17 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         Expression result = null;
         Expression rightExpression = null;
     result = PMExpression();
-    label_23:
+    label_24:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 99:
+      case 101:
         ;
         break;
       default:
-        jj_la1[98] = jj_gen;
-        break label_23;
+        jj_la1[107] = jj_gen;
+        break label_24;
       }
-      jj_consume_token(99);
+      jj_consume_token(101);
       rightExpression = PMExpression();
                         BitwiseXor binExp = new BitwiseXor();
                         binExp.setLeftExpression(result);
@@ -2161,24 +2458,24 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         Expression retval = null;
         boolean isInverse = false;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 96:
-    case 97:
+    case 98:
+    case 99:
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 96:
-        jj_consume_token(96);
+      case 98:
+        jj_consume_token(98);
         break;
-      case 97:
-        jj_consume_token(97);
+      case 99:
+        jj_consume_token(99);
                  isInverse = false;
         break;
       default:
-        jj_la1[99] = jj_gen;
+        jj_la1[108] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[100] = jj_gen;
+      jj_la1[109] = jj_gen;
       ;
     }
     retval = PrimaryExpression();
@@ -2194,80 +2491,105 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_NULL:
       jj_consume_token(K_NULL);
-                   retval = new NullValue();
+                   retval = useSharedLiterals() ? NullValue.NULL : new NullValue();
+      break;
+    case K_CASE:
+      retval = CaseWhenExpression();
+      break;
+    case 86:
+      jj_consume_token(86);
+                retval = new JdbcParameter();
       break;
     default:
-      jj_la1[101] = jj_gen;
-      if (jj_2_30(2147483647)) {
-        retval = CaseWhenExpression();
+      jj_la1[111] = jj_gen;
+      if (jj_2_24(2147483647)) {
+        retval = Function();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 84:
-          jj_consume_token(84);
-                retval = new JdbcParameter();
+        case S_DOUBLE:
+          token = jj_consume_token(S_DOUBLE);
+                             retval = literalValue(token);
           break;
-        default:
-          jj_la1[102] = jj_gen;
-          if (jj_2_31(2147483647)) {
-            retval = Function();
+        case S_INTEGER:
+          token = jj_consume_token(S_INTEGER);
+                              retval = literalValue(token);
+          break;
+        case K_KEY:
+        case K_END:
+        case K_BEGIN:
+        case S_IDENTIFIER:
+        case S_QUOTED_IDENTIFIER:
+          retval = Column();
+          break;
+        case 82:
+          jj_consume_token(82);
+          if (jj_2_23(2147483647)) {
+            retval = SubSelect();
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+            case K_KEY:
+            case K_NOT:
+            case K_END:
+            case K_NULL:
+            case K_CASE:
+            case K_BEGIN:
+            case K_EXISTS:
+            case K_REPLACE:
+            case K_CAST:
             case S_DOUBLE:
-              token = jj_consume_token(S_DOUBLE);
-                             retval = new DoubleValue(token.image);
-              break;
             case S_INTEGER:
-              token = jj_consume_token(S_INTEGER);
-                              retval = new LongValue(token.image);
+            case S_IDENTIFIER:
+            case S_CHAR_LITERAL:
+            case S_BINARY_LITERAL:
+            case S_QUOTED_IDENTIFIER:
+            case 82:
+            case 86:
+            case 98:
+            case 99:
+            case 102:
+            case 103:
+            case 105:
+            case 106:
+              retval = Expression();
               break;
             default:
-              jj_la1[103] = jj_gen;
-              if (jj_2_32(2147483647)) {
-                retval = Column();
-              } else {
-                switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-                case 80:
-                  jj_consume_token(80);
-                  if (jj_2_28(2147483647)) {
-                    retval = SubSelect();
-                  } else if (jj_2_29(2147483647)) {
-                    retval = Expression();
-                  } else {
-                    jj_consume_token(-1);
-                    throw new ParseException();
-                  }
-                  jj_consume_token(81);
-                  break;
-                case S_CHAR_LITERAL:
-                  token = jj_consume_token(S_CHAR_LITERAL);
-                                   retval = StringValue.parseEscaped(token.image);
-                  break;
-                case 100:
-                  jj_consume_token(100);
-                  token = jj_consume_token(S_CHAR_LITERAL);
-                  jj_consume_token(101);
+              jj_la1[110] = jj_gen;
+              jj_consume_token(-1);
+              throw new ParseException();
+            }
+          }
+          jj_consume_token(83);
+          break;
+        case S_CHAR_LITERAL:
+          token = jj_consume_token(S_CHAR_LITERAL);
+                                   retval = literalValue(token);
+          break;
+        case S_BINARY_LITERAL:
+          token = jj_consume_token(S_BINARY_LITERAL);
+                                     retval = binaryValue(token);
+          break;
+        case 103:
+          jj_consume_token(103);
+          token = jj_consume_token(S_CHAR_LITERAL);
+          jj_consume_token(104);
                                                   retval = DateValue.parseEscaped(token.image);
-                  break;
-                case 102:
-                  jj_consume_token(102);
-                  token = jj_consume_token(S_CHAR_LITERAL);
-                  jj_consume_token(101);
+          break;
+        case 105:
+          jj_consume_token(105);
+          token = jj_consume_token(S_CHAR_LITERAL);
+          jj_consume_token(104);
                                                   retval = new TimeValue(token.image);
-                  break;
-                case 103:
-                  jj_consume_token(103);
-                  token = jj_consume_token(S_CHAR_LITERAL);
-                  jj_consume_token(101);
+          break;
+        case 106:
+          jj_consume_token(106);
+          token = jj_consume_token(S_CHAR_LITERAL);
+          jj_consume_token(104);
                                                    retval = new TimestampValue(token.image);
-                  break;
-                default:
-                  jj_la1[104] = jj_gen;
-                  jj_consume_token(-1);
-                  throw new ParseException();
-                }
-              }
-            }
-          }
+          break;
+        default:
+          jj_la1[112] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
         }
       }
     }
@@ -2284,7 +2606,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     jj_consume_token(K_CASE);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_WHEN:
-      label_24:
+      label_25:
       while (true) {
         clause = WhenThenSearchCondition();
                                                  whenClauses.add(clause);
@@ -2293,8 +2615,8 @@ public class CCJSqlParser implements CCJSqlParserConstants {
           ;
           break;
         default:
-          jj_la1[105] = jj_gen;
-          break label_24;
+          jj_la1[113] = jj_gen;
+          break label_25;
         }
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2303,7 +2625,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         elseExp = Expression();
         break;
       default:
-        jj_la1[106] = jj_gen;
+        jj_la1[114] = jj_gen;
         ;
       }
       break;
@@ -2320,25 +2642,26 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     case S_INTEGER:
     case S_IDENTIFIER:
     case S_CHAR_LITERAL:
+    case S_BINARY_LITERAL:
     case S_QUOTED_IDENTIFIER:
-    case 80:
-    case 84:
-    case 96:
-    case 97:
-    case 100:
+    case 82:
+    case 86:
+    case 98:
+    case 99:
     case 102:
     case 103:
-    case 104:
+    case 105:
+    case 106:
       switchExp = Expression();
-      label_25:
+      label_26:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_WHEN:
           ;
           break;
         default:
-          jj_la1[107] = jj_gen;
-          break label_25;
+          jj_la1[115] = jj_gen;
+          break label_26;
         }
         clause = WhenThenValue();
                                         whenClauses.add(clause);
@@ -2349,12 +2672,12 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         elseExp = Expression();
         break;
       default:
-        jj_la1[108] = jj_gen;
+        jj_la1[116] = jj_gen;
         ;
       }
       break;
     default:
-      jj_la1[109] = jj_gen;
+      jj_la1[117] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2403,11 +2726,11 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case K_CAST:
       jj_consume_token(K_CAST);
-      jj_consume_token(80);
+      jj_consume_token(82);
       expression = SimpleExpression();
       jj_consume_token(K_AS);
       tmp = RelObjectName();
-      jj_consume_token(81);
+      jj_consume_token(83);
                 funcName = "CAST";
                 expressionList = new ExpressionList();
                 List expressions = new ArrayList();
@@ -2420,14 +2743,14 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     case K_REPLACE:
     case S_IDENTIFIER:
     case S_QUOTED_IDENTIFIER:
-    case 104:
+    case 102:
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 104:
-        jj_consume_token(104);
+      case 102:
+        jj_consume_token(102);
                    retval.setEscaped(true);
         break;
       default:
-        jj_la1[110] = jj_gen;
+        jj_la1[118] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2443,31 +2766,31 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                           funcName = "REPLACE";
         break;
       default:
-        jj_la1[111] = jj_gen;
+        jj_la1[119] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 82:
-        jj_consume_token(82);
+      case 84:
+        jj_consume_token(84);
         tmp = RelObjectName();
                                   funcName+= "." + tmp;
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 82:
-          jj_consume_token(82);
+        case 84:
+          jj_consume_token(84);
           tmp = RelObjectName();
                                                                                      funcName+= "." + tmp;
           break;
         default:
-          jj_la1[112] = jj_gen;
+          jj_la1[120] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[113] = jj_gen;
+        jj_la1[121] = jj_gen;
         ;
       }
-      jj_consume_token(80);
+      jj_consume_token(82);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_ALL:
       case K_KEY:
@@ -2484,16 +2807,17 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       case S_INTEGER:
       case S_IDENTIFIER:
       case S_CHAR_LITERAL:
+      case S_BINARY_LITERAL:
       case S_QUOTED_IDENTIFIER:
-      case 80:
-      case 83:
-      case 84:
-      case 96:
-      case 97:
-      case 100:
+      case 82:
+      case 85:
+      case 86:
+      case 98:
+      case 99:
       case 102:
       case 103:
-      case 104:
+      case 105:
+      case 106:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_ALL:
         case K_DISTINCT:
@@ -2507,13 +2831,13 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                               retval.setAllColumns(true);
             break;
           default:
-            jj_la1[114] = jj_gen;
+            jj_la1[122] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[115] = jj_gen;
+          jj_la1[123] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2530,43 +2854,44 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         case S_INTEGER:
         case S_IDENTIFIER:
         case S_CHAR_LITERAL:
+        case S_BINARY_LITERAL:
         case S_QUOTED_IDENTIFIER:
-        case 80:
-        case 84:
-        case 96:
-        case 97:
-        case 100:
+        case 82:
+        case 86:
+        case 98:
+        case 99:
         case 102:
         case 103:
-        case 104:
+        case 105:
+        case 106:
           expressionList = ExpressionList();
           break;
-        case 83:
-          jj_consume_token(83);
+        case 85:
+          jj_consume_token(85);
                           retval.setAllColumns(true);
           break;
         default:
-          jj_la1[116] = jj_gen;
+          jj_la1[124] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[117] = jj_gen;
+        jj_la1[125] = jj_gen;
         ;
       }
-      jj_consume_token(81);
+      jj_consume_token(83);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 101:
-        jj_consume_token(101);
+      case 104:
+        jj_consume_token(104);
         break;
       default:
-        jj_la1[118] = jj_gen;
+        jj_la1[126] = jj_gen;
         ;
       }
       break;
     default:
-      jj_la1[119] = jj_gen;
+      jj_la1[127] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2603,7 +2928,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         Index index = null;
         String parameter = null;
     jj_consume_token(K_CREATE);
-    label_26:
+    label_27:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case K_KEY:
@@ -2614,25 +2939,25 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       case S_INTEGER:
       case S_IDENTIFIER:
       case S_CHAR_LITERAL:
-      case 78:
       case 80:
+      case 82:
         ;
         break;
       default:
-        jj_la1[120] = jj_gen;
-        break label_26;
+        jj_la1[128] = jj_gen;
+        break label_27;
       }
       CreateParameter();
     }
     jj_consume_token(K_TABLE);
     table = Table();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 80:
-      jj_consume_token(80);
+    case 82:
+      jj_consume_token(82);
       columnName = jj_consume_token(S_IDENTIFIER);
       colDataType = ColDataType();
                         columnSpecs = new ArrayList();
-      label_27:
+      label_28:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_KEY:
@@ -2643,13 +2968,13 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         case S_INTEGER:
         case S_IDENTIFIER:
         case S_CHAR_LITERAL:
-        case 78:
         case 80:
+        case 82:
           ;
           break;
         default:
-          jj_la1[121] = jj_gen;
-          break label_27;
+          jj_la1[129] = jj_gen;
+          break label_28;
         }
         parameter = CreateParameter();
                                                 columnSpecs.add(parameter);
@@ -2660,17 +2985,17 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                         if (columnSpecs.size() > 0)
                                 coldef.setColumnSpecStrings(columnSpecs);
                         columnDefinitions.add(coldef);
-      label_28:
+      label_29:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 79:
+        case 81:
           ;
           break;
         default:
-          jj_la1[122] = jj_gen;
-          break label_28;
+          jj_la1[130] = jj_gen;
+          break label_29;
         }
-        jj_consume_token(79);
+        jj_consume_token(81);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_INDEX:
           tk = jj_consume_token(K_INDEX);
@@ -2705,7 +3030,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
           columnName = jj_consume_token(S_IDENTIFIER);
           colDataType = ColDataType();
                                                 columnSpecs = new ArrayList();
-          label_29:
+          label_30:
           while (true) {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
             case K_KEY:
@@ -2716,13 +3041,13 @@ public class CCJSqlParser implements CCJSqlParserConstants {
             case S_INTEGER:
             case S_IDENTIFIER:
             case S_CHAR_LITERAL:
-            case 78:
             case 80:
+            case 82:
               ;
               break;
             default:
-              jj_la1[123] = jj_gen;
-              break label_29;
+              jj_la1[131] = jj_gen;
+              break label_30;
             }
             parameter = CreateParameter();
                                                                               columnSpecs.add(parameter);
@@ -2735,13 +3060,13 @@ public class CCJSqlParser implements CCJSqlParserConstants {
                                                 columnDefinitions.add(coldef);
           break;
         default:
-          jj_la1[124] = jj_gen;
+          jj_la1[132] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
       }
-      jj_consume_token(81);
-      label_30:
+      jj_consume_token(83);
+      label_31:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case K_KEY:
@@ -2752,20 +3077,20 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         case S_INTEGER:
         case S_IDENTIFIER:
         case S_CHAR_LITERAL:
-        case 78:
         case 80:
+        case 82:
           ;
           break;
         default:
-          jj_la1[125] = jj_gen;
-          break label_30;
+          jj_la1[133] = jj_gen;
+          break label_31;
         }
         parameter = CreateParameter();
                                                       tableOptions.add(parameter);
       }
       break;
     default:
-      jj_la1[126] = jj_gen;
+      jj_la1[134] = jj_gen;
       ;
     }
                 createTable.setTable(table);
@@ -2785,9 +3110,9 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         ArrayList argumentsStringList = new ArrayList();
     tk = jj_consume_token(S_IDENTIFIER);
                               colDataType.setDataType(tk.image);
-    if (jj_2_33(2)) {
-      jj_consume_token(80);
-      label_31:
+    if (jj_2_25(2)) {
+      jj_consume_token(82);
+      label_32:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case S_INTEGER:
@@ -2795,8 +3120,8 @@ public class CCJSqlParser implements CCJSqlParserConstants {
           ;
           break;
         default:
-          jj_la1[127] = jj_gen;
-          break label_31;
+          jj_la1[135] = jj_gen;
+          break label_32;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case S_INTEGER:
@@ -2806,22 +3131,22 @@ public class CCJSqlParser implements CCJSqlParserConstants {
           tk = jj_consume_token(S_CHAR_LITERAL);
           break;
         default:
-          jj_la1[128] = jj_gen;
+          jj_la1[136] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
                                                                      argumentsStringList.add(tk.image);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 79:
-          jj_consume_token(79);
+        case 81:
+          jj_consume_token(81);
 
           break;
         default:
-          jj_la1[129] = jj_gen;
+          jj_la1[137] = jj_gen;
           ;
         }
       }
-      jj_consume_token(81);
+      jj_consume_token(83);
     } else {
       ;
     }
@@ -2867,15 +3192,15 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       tk = jj_consume_token(S_DOUBLE);
                                         retval = tk.image;
       break;
-    case 78:
-      jj_consume_token(78);
+    case 80:
+      jj_consume_token(80);
                               retval = "=";
       break;
-    case 80:
+    case 82:
       retval = AList();
       break;
     default:
-      jj_la1[130] = jj_gen;
+      jj_la1[138] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2886,8 +3211,8 @@ public class CCJSqlParser implements CCJSqlParserConstants {
   final public String AList() throws ParseException {
         StringBuffer retval = new StringBuffer("(");
         Token tk = null;
-    jj_consume_token(80);
-    label_32:
+    jj_consume_token(82);
+    label_33:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case S_DOUBLE:
@@ -2897,8 +3222,8 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         ;
         break;
       default:
-        jj_la1[131] = jj_gen;
-        break label_32;
+        jj_la1[139] = jj_gen;
+        break label_33;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case S_INTEGER:
@@ -2914,22 +3239,22 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         tk = jj_consume_token(S_IDENTIFIER);
         break;
       default:
-        jj_la1[132] = jj_gen;
+        jj_la1[140] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
                                                                                         retval.append(tk.image);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 79:
-        jj_consume_token(79);
+      case 81:
+        jj_consume_token(81);
                                                                                                                          retval.append(",");
         break;
       default:
-        jj_la1[133] = jj_gen;
+        jj_la1[141] = jj_gen;
         ;
       }
     }
-    jj_consume_token(81);
+    jj_consume_token(83);
                 retval.append(")");
                 {if (true) return retval.toString();}
     throw new Error("Missing return statement in function");
@@ -2938,24 +3263,24 @@ public class CCJSqlParser implements CCJSqlParserConstants {
   final public List ColumnsNamesList() throws ParseException {
         List retval = new ArrayList();
         Token tk = null;
-    jj_consume_token(80);
+    jj_consume_token(82);
     tk = jj_consume_token(S_IDENTIFIER);
                                     retval.add(tk.image);
-    label_33:
+    label_34:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 79:
+      case 81:
         ;
         break;
       default:
-        jj_la1[134] = jj_gen;
-        break label_33;
+        jj_la1[142] = jj_gen;
+        break label_34;
       }
-      jj_consume_token(79);
+      jj_consume_token(81);
       tk = jj_consume_token(S_IDENTIFIER);
                                           retval.add(tk.image);
     }
-    jj_consume_token(81);
+    jj_consume_token(83);
                 {if (true) return retval;}
     throw new Error("Missing return statement in function");
   }
@@ -2976,22 +3301,22 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       tk = jj_consume_token(K_INDEX);
       break;
     default:
-      jj_la1[135] = jj_gen;
+      jj_la1[143] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
       drop.setType(tk.image);
     tk = jj_consume_token(S_IDENTIFIER);
                             drop.setName(tk.image);
-    label_34:
+    label_35:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case S_IDENTIFIER:
         ;
         break;
       default:
-        jj_la1[136] = jj_gen;
-        break label_34;
+        jj_la1[144] = jj_gen;
+        break label_35;
       }
       tk = jj_consume_token(S_IDENTIFIER);
                              dropArgs.add(tk.image);
@@ -3188,1885 +3513,1956 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     finally { jj_save(24, xla); }
   }
 
-  private boolean jj_2_26(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_26(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(25, xla); }
-  }
-
-  private boolean jj_2_27(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_27(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(26, xla); }
-  }
-
-  private boolean jj_2_28(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_28(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(27, xla); }
-  }
-
-  private boolean jj_2_29(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_29(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(28, xla); }
-  }
-
-  private boolean jj_2_30(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_30(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(29, xla); }
-  }
-
-  private boolean jj_2_31(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_31(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(30, xla); }
-  }
-
-  private boolean jj_2_32(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_32(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(31, xla); }
-  }
-
-  private boolean jj_2_33(int xla) {
-    jj_la = xla; jj_lastpos = jj_scanpos = token;
-    try { return !jj_3_33(); }
-    catch(LookaheadSuccess ls) { return true; }
-    finally { jj_save(32, xla); }
+  private boolean jj_3R_103() {
+    if (jj_scan_token(105)) return true;
+    if (jj_scan_token(S_CHAR_LITERAL)) return true;
+    if (jj_scan_token(104)) return true;
+    return false;
   }
 
-  private boolean jj_3_2() {
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_35()) return true;
+  private boolean jj_3R_102() {
+    if (jj_scan_token(103)) return true;
+    if (jj_scan_token(S_CHAR_LITERAL)) return true;
+    if (jj_scan_token(104)) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_108() {
+    if (jj_scan_token(85)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_81() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_219()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_108()) {
+    jj_scanpos = xsp;
+    if (jj_3R_109()) {
+    jj_scanpos = xsp;
+    if (jj_3R_110()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_39()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_48() {
-    if (jj_scan_token(K_EXISTS)) return true;
-    if (jj_3R_78()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_157() {
-    if (jj_3R_49()) return true;
+  private boolean jj_3R_222() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
-    if (jj_scan_token(82)) return true;
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_221() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
-    if (jj_3R_39()) return true;
+  private boolean jj_3R_101() {
+    if (jj_scan_token(S_BINARY_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_39() {
-    if (jj_3R_72()) return true;
-    if (jj_3R_73()) return true;
+  private boolean jj_3_13() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(87)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(88)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(89)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(80)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(90)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(91)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(92)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(93)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(94)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(8)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(24)) {
+    jj_scanpos = xsp;
+    if (jj_3R_42()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_83() {
+  private boolean jj_3R_217() {
     if (jj_scan_token(K_NOT)) return true;
+    if (jj_scan_token(K_LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_47() {
-    if (jj_3R_78()) return true;
-    if (jj_scan_token(K_IS)) return true;
+  private boolean jj_3R_57() {
+    if (jj_3R_37()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_83()) jj_scanpos = xsp;
-    if (jj_scan_token(K_NULL)) return true;
+    if (jj_3R_65()) jj_scanpos = xsp;
+    if (jj_scan_token(82)) return true;
     return false;
   }
 
-  private boolean jj_3_1() {
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_35()) return true;
+  private boolean jj_3R_100() {
+    if (jj_scan_token(S_CHAR_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_103() {
-    if (jj_3R_51()) return true;
+  private boolean jj_3R_216() {
+    if (jj_scan_token(K_LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_104() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_215() {
+    if (jj_scan_token(94)) return true;
     return false;
   }
 
-  private boolean jj_3R_102() {
-    if (jj_scan_token(80)) return true;
+  private boolean jj_3R_214() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_156()) {
+    if (jj_scan_token(92)) {
     jj_scanpos = xsp;
-    if (jj_3R_157()) return true;
+    if (jj_scan_token(93)) return true;
     }
-    if (jj_scan_token(81)) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
-    if (jj_scan_token(79)) return true;
-    if (jj_3R_51()) return true;
+  private boolean jj_3R_191() {
+    if (jj_scan_token(K_DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_49() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3R_213() {
+    if (jj_scan_token(90)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
-    if (jj_3R_50()) return true;
+  private boolean jj_3R_212() {
+    if (jj_scan_token(91)) return true;
     return false;
   }
 
-  private boolean jj_3R_72() {
+  private boolean jj_3R_99() {
+    if (jj_scan_token(82)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_102()) {
+    if (jj_3R_221()) {
     jj_scanpos = xsp;
-    if (jj_3R_103()) return true;
+    if (jj_3R_222()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_104()) jj_scanpos = xsp;
+    if (jj_scan_token(83)) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
-    if (jj_scan_token(83)) return true;
+  private boolean jj_3R_211() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(89)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(80)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(8)) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_193() {
-    if (jj_scan_token(79)) return true;
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_210() {
+    if (jj_scan_token(88)) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_scan_token(K_ALL)) return true;
+  private boolean jj_3_24() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(66)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(102)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(61)) {
+    jj_scanpos = xsp;
+    if (jj_3R_57()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_scan_token(K_DISTINCT)) return true;
+  private boolean jj_3R_209() {
+    if (jj_scan_token(87)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
+  private boolean jj_3R_206() {
     Token xsp;
     xsp = jj_scanpos;
+    if (jj_3R_209()) {
+    jj_scanpos = xsp;
     if (jj_3R_210()) {
     jj_scanpos = xsp;
-    if (jj_3R_211()) return true;
+    if (jj_3R_211()) {
+    jj_scanpos = xsp;
+    if (jj_3R_212()) {
+    jj_scanpos = xsp;
+    if (jj_3R_213()) {
+    jj_scanpos = xsp;
+    if (jj_3R_214()) {
+    jj_scanpos = xsp;
+    if (jj_3R_215()) {
+    jj_scanpos = xsp;
+    if (jj_3R_216()) {
+    jj_scanpos = xsp;
+    if (jj_3R_217()) return true;
+    }
+    }
+    }
     }
+    }
+    }
+    }
+    }
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
-    if (jj_scan_token(K_NOT)) return true;
+  private boolean jj_3R_152() {
+    if (jj_scan_token(86)) return true;
     return false;
   }
 
-  private boolean jj_3R_44() {
-    if (jj_scan_token(K_NOT)) return true;
-    if (jj_scan_token(K_LIKE)) return true;
+  private boolean jj_3R_98() {
+    if (jj_3R_36()) return true;
     return false;
   }
 
-  private boolean jj_3R_136() {
+  private boolean jj_3R_200() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_187()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_188()) {
-    jj_scanpos = xsp;
-    if (jj_3R_189()) return true;
-    }
+    if (jj_3R_206()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_194() {
-    if (jj_scan_token(K_INTO)) return true;
-    if (jj_3R_51()) return true;
+  private boolean jj_3R_68() {
+    if (jj_3R_81()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_218()) { jj_scanpos = xsp; break; }
+      if (jj_3R_82()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_46() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3_12() {
+    if (jj_scan_token(K_IS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_82()) jj_scanpos = xsp;
-    if (jj_scan_token(K_BETWEEN)) return true;
-    if (jj_3R_78()) return true;
-    if (jj_scan_token(K_AND)) return true;
-    if (jj_3R_78()) return true;
+    if (jj_scan_token(16)) jj_scanpos = xsp;
+    if (jj_scan_token(K_NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_97() {
+    if (jj_scan_token(S_INTEGER)) return true;
+    return false;
+  }
+
+  private boolean jj_3_11() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(5)) jj_scanpos = xsp;
-    if (jj_3R_36()) return true;
+    if (jj_scan_token(16)) jj_scanpos = xsp;
+    if (jj_scan_token(K_BETWEEN)) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    if (jj_scan_token(K_REPLACE)) return true;
+  private boolean jj_3_10() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(16)) jj_scanpos = xsp;
+    if (jj_scan_token(K_IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_96() {
+    if (jj_scan_token(S_DOUBLE)) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_95() {
+    if (jj_3R_124()) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_scan_token(82)) return true;
-    if (jj_3R_36()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_186()) jj_scanpos = xsp;
+  private boolean jj_3R_189() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_scan_token(104)) return true;
+  private boolean jj_3R_94() {
+    if (jj_scan_token(86)) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_132()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_133()) {
-    jj_scanpos = xsp;
-    if (jj_3R_134()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_135()) jj_scanpos = xsp;
-    if (jj_scan_token(80)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_136()) jj_scanpos = xsp;
-    if (jj_scan_token(81)) return true;
-    xsp = jj_scanpos;
-    if (jj_scan_token(101)) jj_scanpos = xsp;
+  private boolean jj_3R_188() {
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_38() {
-    if (jj_3R_51()) return true;
-    if (jj_scan_token(82)) return true;
-    if (jj_scan_token(83)) return true;
+  private boolean jj_3R_187() {
+    if (jj_3R_198()) return true;
     return false;
   }
 
-  private boolean jj_3R_45() {
-    if (jj_3R_78()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_80()) jj_scanpos = xsp;
-    if (jj_scan_token(K_IN)) return true;
-    if (jj_3R_81()) return true;
+  private boolean jj_3R_93() {
+    if (jj_3R_123()) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_38()) return true;
+  private boolean jj_3R_194() {
+    if (jj_scan_token(K_DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_80() {
-    if (jj_scan_token(K_NOT)) return true;
+  private boolean jj_3R_186() {
+    if (jj_3R_197()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_54() {
+    if (jj_scan_token(100)) return true;
     return false;
   }
 
   private boolean jj_3R_92() {
-    if (jj_scan_token(K_CAST)) return true;
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_78()) return true;
-    if (jj_scan_token(K_AS)) return true;
-    if (jj_3R_36()) return true;
-    if (jj_scan_token(81)) return true;
+    if (jj_scan_token(K_NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_65() {
+  private boolean jj_3R_192() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_92()) {
+    if (jj_scan_token(12)) {
     jj_scanpos = xsp;
-    if (jj_3R_93()) return true;
+    if (jj_scan_token(64)) return true;
     }
     return false;
   }
 
-  private boolean jj_3_20() {
-    if (jj_3R_50()) return true;
-    return false;
-  }
-
-  private boolean jj_3_19() {
-    if (jj_3R_49()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_154() {
-    if (jj_scan_token(K_DISTINCT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_217() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_177() {
+    if (jj_3R_117()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_230()) jj_scanpos = xsp;
+    if (jj_3R_186()) {
+    jj_scanpos = xsp;
+    if (jj_3R_187()) {
+    jj_scanpos = xsp;
+    if (jj_3R_188()) {
+    jj_scanpos = xsp;
+    if (jj_3R_189()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_51()) return true;
+  private boolean jj_3R_176() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_38()) return true;
+  private boolean jj_3R_175() {
+    if (jj_scan_token(K_NOT)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_50()) return true;
+  private boolean jj_3R_135() {
+    if (jj_scan_token(86)) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_49()) return true;
+  private boolean jj_3R_168() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_175()) {
+    jj_scanpos = xsp;
+    if (jj_3R_176()) {
+    jj_scanpos = xsp;
+    if (jj_3R_177()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_scan_token(83)) return true;
+  private boolean jj_3_9() {
+    if (jj_scan_token(K_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
-    if (jj_scan_token(K_DISTINCT)) return true;
+  private boolean jj_3R_133() {
+    if (jj_scan_token(86)) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_77() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_215()) {
+    if (jj_3R_92()) {
     jj_scanpos = xsp;
-    if (jj_3R_216()) {
+    if (jj_3R_93()) {
     jj_scanpos = xsp;
-    if (jj_3R_217()) return true;
+    if (jj_3R_94()) {
+    jj_scanpos = xsp;
+    if (jj_3R_95()) {
+    jj_scanpos = xsp;
+    if (jj_3R_96()) {
+    jj_scanpos = xsp;
+    if (jj_3R_97()) {
+    jj_scanpos = xsp;
+    if (jj_3R_98()) {
+    jj_scanpos = xsp;
+    if (jj_3R_99()) {
+    jj_scanpos = xsp;
+    if (jj_3R_100()) {
+    jj_scanpos = xsp;
+    if (jj_3R_101()) {
+    jj_scanpos = xsp;
+    if (jj_3R_102()) {
+    jj_scanpos = xsp;
+    if (jj_3R_103()) {
+    jj_scanpos = xsp;
+    if (jj_3R_104()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     }
     }
-    return false;
-  }
-
-  private boolean jj_3R_168() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_205()) {
-    jj_scanpos = xsp;
-    if (jj_3R_206()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_3R_51()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_185() {
-    if (jj_scan_token(K_WHEN)) return true;
-    if (jj_3R_63()) return true;
-    if (jj_scan_token(K_THEN)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_190() {
+    if (jj_scan_token(K_ALL)) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_48()) return true;
+  private boolean jj_3R_178() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_190()) {
+    jj_scanpos = xsp;
+    if (jj_3R_191()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_scan_token(80)) return true;
+  private boolean jj_3R_179() {
+    if (jj_scan_token(K_UNION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_168()) jj_scanpos = xsp;
-    if (jj_scan_token(81)) return true;
+    if (jj_3R_192()) jj_scanpos = xsp;
+    if (jj_3R_39()) return true;
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_47()) return true;
+  private boolean jj_3R_91() {
+    if (jj_scan_token(99)) return true;
     return false;
   }
 
-  private boolean jj_3R_81() {
+  private boolean jj_3R_76() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_120()) {
+    if (jj_scan_token(98)) {
     jj_scanpos = xsp;
-    if (jj_3R_121()) return true;
+    if (jj_3R_91()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_46()) return true;
+  private boolean jj_3R_169() {
+    if (jj_scan_token(K_AND)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_45()) return true;
+  private boolean jj_3R_64() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_76()) jj_scanpos = xsp;
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_77() {
-    if (jj_3R_48()) return true;
+  private boolean jj_3R_195() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(12)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(64)) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_171() {
+    if (jj_scan_token(K_UNION)) return true;
     Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_178()) jj_scanpos = xsp;
+    if (jj_3R_39()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_193()) { jj_scanpos = xsp; break; }
+      if (jj_3R_179()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_76() {
-    if (jj_3R_47()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_184() {
-    if (jj_scan_token(K_WHEN)) return true;
-    if (jj_3R_63()) return true;
-    if (jj_scan_token(K_THEN)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_51() {
+    if (jj_scan_token(99)) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_3R_46()) return true;
+  private boolean jj_3_8() {
+    if (jj_scan_token(K_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_148() {
+    if (jj_3R_168()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(12)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(64)) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_169()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_74() {
-    if (jj_3R_45()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_153() {
+  private boolean jj_3R_193() {
     if (jj_scan_token(K_ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_100() {
+  private boolean jj_3R_180() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_153()) {
+    if (jj_3R_193()) {
     jj_scanpos = xsp;
-    if (jj_3R_154()) return true;
+    if (jj_3R_194()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_42() {
+  private boolean jj_3R_181() {
+    if (jj_scan_token(K_UNION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_74()) {
-    jj_scanpos = xsp;
-    if (jj_3R_75()) {
-    jj_scanpos = xsp;
-    if (jj_3R_76()) {
-    jj_scanpos = xsp;
-    if (jj_3R_77()) return true;
-    }
-    }
-    }
+    if (jj_3R_195()) jj_scanpos = xsp;
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_39()) return true;
+    if (jj_scan_token(83)) return true;
     return false;
   }
 
-  private boolean jj_3R_91() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_149() {
+    if (jj_scan_token(K_OR)) return true;
+    if (jj_3R_148()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_201() {
+    if (jj_scan_token(101)) return true;
+    if (jj_3R_64()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_183() {
+    if (jj_3R_90()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_182() {
+    if (jj_3R_89()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_172() {
+    if (jj_scan_token(K_UNION)) return true;
     Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_180()) jj_scanpos = xsp;
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_39()) return true;
+    if (jj_scan_token(83)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_130()) { jj_scanpos = xsp; break; }
+      if (jj_3R_181()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_131()) jj_scanpos = xsp;
+    if (jj_3R_182()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_183()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_150() {
+  private boolean jj_3R_55() {
+    if (jj_3R_64()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(12)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(64)) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_201()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_53() {
+    if (jj_scan_token(85)) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
-    if (jj_scan_token(K_ELSE)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_129() {
+    if (jj_3R_148()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_149()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_148() {
-    if (jj_scan_token(K_ALL)) return true;
+  private boolean jj_3R_151() {
+    if (jj_scan_token(S_INTEGER)) return true;
     return false;
   }
 
-  private boolean jj_3R_96() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_148()) {
-    jj_scanpos = xsp;
-    if (jj_3R_149()) return true;
-    }
+  private boolean jj_3R_116() {
+    if (jj_3R_129()) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
-    if (jj_scan_token(K_UNION)) return true;
+  private boolean jj_3_22() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_155()) jj_scanpos = xsp;
-    if (jj_3R_95()) return true;
+    if (jj_3R_53()) {
+    jj_scanpos = xsp;
+    if (jj_3R_54()) return true;
+    }
+    if (jj_3R_55()) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_scan_token(K_ELSE)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_138() {
+    if (jj_scan_token(K_ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_107() {
+    if (jj_scan_token(86)) return true;
     return false;
   }
 
-  private boolean jj_3R_90() {
-    Token xsp;
-    if (jj_3R_128()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_128()) { jj_scanpos = xsp; break; }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_129()) jj_scanpos = xsp;
+  private boolean jj_3R_137() {
+    if (jj_scan_token(86)) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
+  private boolean jj_3R_139() {
+    if (jj_scan_token(K_OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(85)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(86)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(87)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(78)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(88)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(89)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(90)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(91)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(92)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(8)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(24)) {
+    if (jj_3R_151()) {
     jj_scanpos = xsp;
-    if (jj_3R_44()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    if (jj_3R_152()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_118() {
-    if (jj_scan_token(K_NOT)) return true;
-    if (jj_scan_token(K_LIKE)) return true;
+  private boolean jj_3R_106() {
+    if (jj_scan_token(S_INTEGER)) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
-    if (jj_scan_token(84)) return true;
+  private boolean jj_3R_136() {
+    if (jj_scan_token(S_INTEGER)) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
-    if (jj_scan_token(K_UNION)) return true;
+  private boolean jj_3R_52() {
+    if (jj_3R_55()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_150()) jj_scanpos = xsp;
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_95()) return true;
-    if (jj_scan_token(81)) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_22()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_117() {
-    if (jj_scan_token(K_LIKE)) return true;
+  private boolean jj_3R_74() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3R_116() {
-    if (jj_scan_token(92)) return true;
+  private boolean jj_3R_105() {
+    if (jj_scan_token(K_ON)) return true;
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_68()) return true;
+    if (jj_scan_token(83)) return true;
     return false;
   }
 
-  private boolean jj_3R_115() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(90)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(91)) return true;
-    }
+  private boolean jj_3R_50() {
+    if (jj_scan_token(98)) return true;
     return false;
   }
 
-  private boolean jj_3R_64() {
-    if (jj_scan_token(K_CASE)) return true;
+  private boolean jj_3R_41() {
+    if (jj_scan_token(86)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_58() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_90()) {
+    if (jj_scan_token(68)) {
     jj_scanpos = xsp;
-    if (jj_3R_91()) return true;
+    if (jj_scan_token(75)) return true;
     }
-    if (jj_scan_token(K_END)) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
-    if (jj_scan_token(88)) return true;
+  private boolean jj_3R_75() {
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_113() {
-    if (jj_scan_token(89)) return true;
+  private boolean jj_3R_40() {
+    if (jj_scan_token(S_INTEGER)) return true;
     return false;
   }
 
-  private boolean jj_3R_99() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3R_80() {
+    if (jj_scan_token(K_TOP)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_106()) {
+    jj_scanpos = xsp;
+    if (jj_3R_107()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_112() {
+  private boolean jj_3R_122() {
+    if (jj_scan_token(K_LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(87)) {
+    if (jj_3R_136()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(78)) {
+    if (jj_3R_137()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(8)) return true;
+    if (jj_3R_138()) return true;
     }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_139()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_98() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_134() {
+    if (jj_scan_token(S_INTEGER)) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_scan_token(86)) return true;
+  private boolean jj_3R_73() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
-    if (jj_scan_token(85)) return true;
+  private boolean jj_3R_72() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_110()) {
-    jj_scanpos = xsp;
-    if (jj_3R_111()) {
-    jj_scanpos = xsp;
-    if (jj_3R_112()) {
-    jj_scanpos = xsp;
-    if (jj_3R_113()) {
-    jj_scanpos = xsp;
-    if (jj_3R_114()) {
-    jj_scanpos = xsp;
-    if (jj_3R_115()) {
-    jj_scanpos = xsp;
-    if (jj_3R_116()) {
-    jj_scanpos = xsp;
-    if (jj_3R_117()) {
-    jj_scanpos = xsp;
-    if (jj_3R_118()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    if (jj_3R_119()) return true;
+  private boolean jj_3R_71() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_132() {
+    if (jj_scan_token(S_INTEGER)) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_49()) return true;
+  private boolean jj_3R_70() {
+    if (jj_scan_token(K_FROM)) return true;
+    if (jj_3R_84()) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_71() {
-    if (jj_3R_95()) return true;
-    if (jj_scan_token(K_UNION)) return true;
+  private boolean jj_3R_69() {
+    if (jj_3R_83()) return true;
+    return false;
+  }
+
+  private boolean jj_3_21() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_100()) jj_scanpos = xsp;
-    if (jj_3R_95()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_101()) { jj_scanpos = xsp; break; }
+    if (jj_3R_50()) {
+    jj_scanpos = xsp;
+    if (jj_3R_51()) return true;
     }
+    if (jj_3R_52()) return true;
     return false;
   }
 
-  private boolean jj_3R_43() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3R_121() {
+    if (jj_scan_token(K_OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_79()) jj_scanpos = xsp;
+    if (jj_3R_134()) {
+    jj_scanpos = xsp;
+    if (jj_3R_135()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_181() {
-    if (jj_scan_token(103)) return true;
-    if (jj_scan_token(S_CHAR_LITERAL)) return true;
-    if (jj_scan_token(101)) return true;
+  private boolean jj_3R_79() {
+    if (jj_scan_token(K_DISTINCT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_105()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_43()) return true;
+  private boolean jj_3R_67() {
+    if (jj_3R_80()) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_42()) return true;
+  private boolean jj_3R_63() {
+    if (jj_3R_52()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_21()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_180() {
-    if (jj_scan_token(102)) return true;
-    if (jj_scan_token(S_CHAR_LITERAL)) return true;
-    if (jj_scan_token(101)) return true;
+  private boolean jj_3_25() {
+    if (jj_scan_token(82)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_58()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(83)) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_scan_token(K_NOT)) return true;
+  private boolean jj_3R_66() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(12)) {
+    jj_scanpos = xsp;
+    if (jj_3R_79()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_179() {
-    if (jj_scan_token(100)) return true;
-    if (jj_scan_token(S_CHAR_LITERAL)) return true;
-    if (jj_scan_token(101)) return true;
+  private boolean jj_3R_48() {
+    if (jj_scan_token(96)) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_47() {
+    if (jj_scan_token(95)) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
-    if (jj_3R_49()) return true;
+  private boolean jj_3_7() {
+    if (jj_scan_token(K_LIMIT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_40()) {
+    jj_scanpos = xsp;
+    if (jj_3R_41()) return true;
+    }
+    if (jj_scan_token(81)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_132()) {
+    jj_scanpos = xsp;
+    if (jj_3R_133()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_70() {
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_95()) return true;
-    if (jj_scan_token(81)) return true;
-    if (jj_scan_token(K_UNION)) return true;
+  private boolean jj_3R_39() {
+    if (jj_scan_token(K_SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_96()) jj_scanpos = xsp;
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_95()) return true;
-    if (jj_scan_token(81)) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_97()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_66()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_67()) jj_scanpos = xsp;
+    if (jj_3R_68()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_98()) jj_scanpos = xsp;
+    if (jj_3R_69()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_99()) jj_scanpos = xsp;
+    if (jj_3R_70()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_71()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_72()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_73()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_74()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_75()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_scan_token(84)) return true;
+  private boolean jj_3R_170() {
+    if (jj_scan_token(97)) return true;
+    if (jj_3R_63()) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_3R_35()) return true;
+  private boolean jj_3R_49() {
+    if (jj_3R_63()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_170()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_43()) return true;
+  private boolean jj_3R_251() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_42()) return true;
+  private boolean jj_3R_244() {
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_39()) return true;
+    if (jj_scan_token(83)) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
-    if (jj_scan_token(S_CHAR_LITERAL)) return true;
+  private boolean jj_3R_245() {
+    if (jj_3R_39()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_251()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_scan_token(K_NOT)) return true;
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_90() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_7()) {
+    jj_scanpos = xsp;
+    if (jj_3R_121()) {
+    jj_scanpos = xsp;
+    if (jj_3R_122()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_scan_token(84)) return true;
+  private boolean jj_3R_235() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_244()) {
+    jj_scanpos = xsp;
+    if (jj_3R_245()) return true;
+    }
     return false;
   }
-
-  private boolean jj_3_10() {
-    if (jj_scan_token(K_AND)) return true;
+
+  private boolean jj_3R_150() {
+    if (jj_scan_token(K_DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
+  private boolean jj_3_20() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_207()) {
+    if (jj_3R_47()) {
     jj_scanpos = xsp;
-    if (jj_3R_208()) {
-    jj_scanpos = xsp;
-    if (jj_3R_209()) return true;
-    }
+    if (jj_3R_48()) return true;
     }
+    if (jj_3R_49()) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_65()) return true;
+  private boolean jj_3R_119() {
+    if (jj_3R_116()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_131()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_177() {
-    if (jj_scan_token(80)) return true;
+  private boolean jj_3R_131() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_235()) {
+    if (jj_scan_token(18)) {
     jj_scanpos = xsp;
-    if (jj_3R_236()) return true;
+    if (jj_3R_150()) return true;
     }
-    if (jj_scan_token(81)) return true;
     return false;
   }
 
-  private boolean jj_3R_37() {
+  private boolean jj_3R_130() {
+    if (jj_3R_49()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_70()) {
-    jj_scanpos = xsp;
-    if (jj_3R_71()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_20()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_176() {
-    if (jj_3R_35()) return true;
+  private boolean jj_3R_120() {
+    if (jj_scan_token(81)) return true;
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3_30() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_62() {
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
-    if (jj_scan_token(S_INTEGER)) return true;
+  private boolean jj_3R_117() {
+    if (jj_3R_130()) return true;
     return false;
   }
 
-  private boolean jj_3R_174() {
-    if (jj_scan_token(S_DOUBLE)) return true;
+  private boolean jj_3R_89() {
+    if (jj_scan_token(K_ORDER)) return true;
+    if (jj_scan_token(K_BY)) return true;
+    if (jj_3R_119()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_120()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_183() {
-    if (jj_scan_token(K_AND)) return true;
-    if (jj_3R_182()) return true;
+  private boolean jj_3_4() {
+    if (jj_3R_37()) return true;
+    if (jj_scan_token(84)) return true;
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
-    if (jj_3R_65()) return true;
+  private boolean jj_3R_44() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_4()) {
+    jj_scanpos = xsp;
+    if (jj_3R_62()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_172() {
-    if (jj_scan_token(84)) return true;
+  private boolean jj_3R_46() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(14)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(34)) return true;
+    }
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_227()) return true;
+    if (jj_scan_token(83)) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_88() {
+    if (jj_scan_token(K_HAVING)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_scan_token(K_OR)) return true;
+  private boolean jj_3R_196() {
+    if (jj_scan_token(84)) return true;
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_61() {
-    if (jj_scan_token(98)) return true;
+  private boolean jj_3R_118() {
+    if (jj_scan_token(81)) return true;
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
-    if (jj_scan_token(K_NULL)) return true;
+  private boolean jj_3R_174() {
+    if (jj_scan_token(81)) return true;
+    if (jj_3R_36()) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_45() {
+    if (jj_scan_token(K_ALL)) return true;
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_227()) return true;
+    if (jj_scan_token(83)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_87() {
+    if (jj_scan_token(K_GROUP)) return true;
+    if (jj_scan_token(K_BY)) return true;
+    if (jj_3R_117()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_183()) { jj_scanpos = xsp; break; }
+      if (jj_3R_118()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_scan_token(K_ON)) return true;
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_140()) return true;
-    if (jj_scan_token(81)) return true;
+  private boolean jj_3R_61() {
+    if (jj_scan_token(K_KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_220() {
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_scan_token(K_OR)) return true;
-    if (jj_3R_126()) return true;
+  private boolean jj_3R_237() {
+    if (jj_scan_token(81)) return true;
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
+  private boolean jj_3R_60() {
+    if (jj_scan_token(K_END)) return true;
+    return false;
+  }
+
+  private boolean jj_3_17() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_170()) {
-    jj_scanpos = xsp;
-    if (jj_3R_171()) {
-    jj_scanpos = xsp;
-    if (jj_3R_172()) {
-    jj_scanpos = xsp;
-    if (jj_3R_173()) {
-    jj_scanpos = xsp;
-    if (jj_3R_174()) {
-    jj_scanpos = xsp;
-    if (jj_3R_175()) {
-    jj_scanpos = xsp;
-    if (jj_3R_176()) {
-    jj_scanpos = xsp;
-    if (jj_3R_177()) {
-    jj_scanpos = xsp;
-    if (jj_3R_178()) {
-    jj_scanpos = xsp;
-    if (jj_3R_179()) {
+    if (jj_scan_token(68)) {
     jj_scanpos = xsp;
-    if (jj_3R_180()) {
+    if (jj_scan_token(67)) {
     jj_scanpos = xsp;
-    if (jj_3R_181()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    if (jj_scan_token(75)) return true;
     }
     }
+    xsp = jj_scanpos;
+    if (jj_scan_token(81)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(83)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_152()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_46()) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
-    if (jj_scan_token(97)) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
-    if (jj_3R_198()) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_45()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3R_59() {
+    if (jj_scan_token(K_BEGIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_124() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(96)) {
-    jj_scanpos = xsp;
-    if (jj_3R_169()) return true;
-    }
+  private boolean jj_3R_86() {
+    if (jj_scan_token(K_WHERE)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_3R_196()) return true;
+  private boolean jj_3R_146() {
+    if (jj_scan_token(81)) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
-    if (jj_3R_126()) return true;
+  private boolean jj_3R_218() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_127()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3_18()) {
+    jj_scanpos = xsp;
+    if (jj_3_19()) {
+    jj_scanpos = xsp;
+    if (jj_3R_220()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_88() {
+  private boolean jj_3R_37() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_124()) jj_scanpos = xsp;
-    if (jj_3R_125()) return true;
+    if (jj_scan_token(72)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(78)) {
+    jj_scanpos = xsp;
+    if (jj_3R_59()) {
+    jj_scanpos = xsp;
+    if (jj_3R_60()) {
+    jj_scanpos = xsp;
+    if (jj_3R_61()) return true;
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_142() {
-    if (jj_scan_token(K_FROM)) return true;
-    if (jj_3R_72()) return true;
-    if (jj_3R_195()) return true;
+  private boolean jj_3R_167() {
+    if (jj_scan_token(K_USING)) return true;
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_36()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_174()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(83)) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_184() {
+    if (jj_scan_token(84)) return true;
+    if (jj_3R_37()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_196()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_58() {
-    if (jj_scan_token(97)) return true;
+  private boolean jj_3R_246() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(68)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(67)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(75)) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_232() {
-    if (jj_scan_token(S_INTEGER)) return true;
+  private boolean jj_3R_166() {
+    if (jj_scan_token(K_ON)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
-    if (jj_scan_token(K_DISTINCT)) return true;
+  private boolean jj_3R_147() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_212()) jj_scanpos = xsp;
+    if (jj_3R_166()) {
+    jj_scanpos = xsp;
+    if (jj_3R_167()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_3R_191()) return true;
+  private boolean jj_3R_165() {
+    if (jj_scan_token(K_INNER)) return true;
     return false;
   }
 
-  private boolean jj_3R_63() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3R_164() {
+    if (jj_scan_token(K_OUTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
-    if (jj_scan_token(K_ALL)) return true;
+  private boolean jj_3R_236() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_246()) {
+    jj_scanpos = xsp;
+    if (jj_3R_247()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_227() {
-    if (jj_scan_token(84)) return true;
+  private boolean jj_3R_163() {
+    if (jj_scan_token(K_NATURAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_scan_token(84)) return true;
+  private boolean jj_3R_162() {
+    if (jj_scan_token(K_FULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
-    if (jj_scan_token(K_OFFSET)) return true;
+  private boolean jj_3R_145() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_232()) {
+    if (jj_3R_164()) {
     jj_scanpos = xsp;
-    if (jj_3R_233()) return true;
+    if (jj_3R_165()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_scan_token(S_INTEGER)) return true;
+  private boolean jj_3R_161() {
+    if (jj_scan_token(K_RIGHT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_160() {
+    if (jj_scan_token(K_LEFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_scan_token(S_INTEGER)) return true;
+  private boolean jj_3R_240() {
+    if (jj_scan_token(84)) return true;
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
+  private boolean jj_3R_144() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(12)) {
+    if (jj_3R_160()) {
+    jj_scanpos = xsp;
+    if (jj_3R_161()) {
+    jj_scanpos = xsp;
+    if (jj_3R_162()) {
     jj_scanpos = xsp;
-    if (jj_3R_190()) return true;
+    if (jj_3R_163()) return true;
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_234() {
-    if (jj_scan_token(99)) return true;
-    if (jj_3R_88()) return true;
+  private boolean jj_3R_36() {
+    if (jj_3R_37()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_184()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_95() {
-    if (jj_scan_token(K_SELECT)) return true;
+  private boolean jj_3R_128() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_138()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_139()) jj_scanpos = xsp;
-    if (jj_3R_140()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_141()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_142()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_143()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_144()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_145()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_146()) jj_scanpos = xsp;
+    if (jj_scan_token(26)) {
+    jj_scanpos = xsp;
+    if (jj_3R_146()) return true;
+    }
+    if (jj_3R_84()) return true;
     xsp = jj_scanpos;
     if (jj_3R_147()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_41() {
-    if (jj_scan_token(84)) return true;
+  private boolean jj_3R_228() {
+    if (jj_3R_236()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_237()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3_5() {
-    if (jj_3R_37()) return true;
+  private boolean jj_3_16() {
+    if (jj_scan_token(81)) return true;
     return false;
   }
 
-  private boolean jj_3R_40() {
-    if (jj_scan_token(S_INTEGER)) return true;
+  private boolean jj_3R_252() {
+    if (jj_scan_token(81)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_62() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3R_115() {
+    if (jj_3R_128()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_85() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_234()) { jj_scanpos = xsp; break; }
+      if (jj_3R_115()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_60() {
-    if (jj_scan_token(83)) return true;
+  private boolean jj_3R_250() {
+    if (jj_3R_116()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_252()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_202() {
-    if (jj_scan_token(K_LIMIT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_226()) {
-    jj_scanpos = xsp;
-    if (jj_3R_227()) {
-    jj_scanpos = xsp;
-    if (jj_3R_228()) return true;
-    }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_229()) jj_scanpos = xsp;
+  private boolean jj_3R_227() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
-    if (jj_scan_token(K_TOP)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_213()) {
-    jj_scanpos = xsp;
-    if (jj_3R_214()) return true;
-    }
+  private boolean jj_3R_242() {
+    if (jj_3R_250()) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
-    if (jj_scan_token(S_INTEGER)) return true;
+  private boolean jj_3R_243() {
+    if (jj_scan_token(85)) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_scan_token(S_INTEGER)) return true;
+  private boolean jj_3R_249() {
+    if (jj_scan_token(K_ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_3R_37()) return true;
+  private boolean jj_3_3() {
+    if (jj_scan_token(82)) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_248() {
+    if (jj_scan_token(K_DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
-    if (jj_scan_token(K_OFFSET)) return true;
+  private boolean jj_3R_241() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) {
+    if (jj_3R_248()) {
     jj_scanpos = xsp;
-    if (jj_3R_225()) return true;
+    if (jj_3R_249()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_27() {
+  private boolean jj_3R_173() {
+    if (jj_3R_127()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_159() {
+    if (jj_3R_128()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_158() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_60()) {
-    jj_scanpos = xsp;
-    if (jj_3R_61()) return true;
-    }
-    if (jj_3R_62()) return true;
+    if (jj_3R_173()) jj_scanpos = xsp;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
+  private boolean jj_3R_234() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_122()) {
+    if (jj_3R_241()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_242()) {
     jj_scanpos = xsp;
-    if (jj_3R_123()) return true;
+    if (jj_3R_243()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_59() {
-    if (jj_3R_62()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_27()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_157() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_57() {
-    if (jj_scan_token(96)) return true;
+  private boolean jj_3R_143() {
+    if (jj_3R_84()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_scan_token(K_LIMIT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_40()) {
-    jj_scanpos = xsp;
-    if (jj_3R_41()) return true;
-    }
-    if (jj_scan_token(79)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_222()) {
-    jj_scanpos = xsp;
-    if (jj_3R_223()) return true;
-    }
+  private boolean jj_3R_185() {
+    if (jj_scan_token(K_EXISTS)) return true;
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_66() {
+  private boolean jj_3R_155() {
+    if (jj_scan_token(K_REPLACE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_233() {
+    if (jj_scan_token(84)) return true;
+    if (jj_3R_37()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(68)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(75)) return true;
-    }
+    if (jj_3R_240()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_86() {
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_205() {
+    if (jj_scan_token(K_NOT)) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_57()) {
-    jj_scanpos = xsp;
-    if (jj_3R_58()) return true;
-    }
-    if (jj_3R_59()) return true;
+  private boolean jj_3R_154() {
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
+  private boolean jj_3_6() {
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_39()) return true;
+    if (jj_scan_token(83)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_8()) {
+    if (jj_3R_157()) {
     jj_scanpos = xsp;
-    if (jj_3R_201()) {
-    jj_scanpos = xsp;
-    if (jj_3R_202()) return true;
-    }
+    if (jj_3R_158()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_3R_59()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_26()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_156() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_153() {
+    if (jj_scan_token(102)) return true;
+    return false;
+  }
+
+  private boolean jj_3_2() {
     if (jj_scan_token(82)) return true;
     if (jj_3R_36()) return true;
     return false;
   }
 
-  private boolean jj_3R_51() {
+  private boolean jj_3R_141() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_4()) {
+    if (jj_3R_153()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_154()) {
     jj_scanpos = xsp;
-    if (jj_3R_86()) return true;
+    if (jj_3R_155()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_233()) jj_scanpos = xsp;
+    if (jj_scan_token(82)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_234()) jj_scanpos = xsp;
+    if (jj_scan_token(83)) return true;
+    xsp = jj_scanpos;
+    if (jj_scan_token(104)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_231() {
-    if (jj_scan_token(K_DESC)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_55() {
-    if (jj_scan_token(94)) return true;
+  private boolean jj_3R_142() {
+    if (jj_3R_39()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_156()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_scan_token(80)) return true;
+  private boolean jj_3R_199() {
+    if (jj_scan_token(K_IS)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_66()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(81)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_205()) jj_scanpos = xsp;
+    if (jj_scan_token(K_NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_54() {
-    if (jj_scan_token(93)) return true;
+  private boolean jj_3R_140() {
+    if (jj_scan_token(K_CAST)) return true;
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_117()) return true;
+    if (jj_scan_token(K_AS)) return true;
+    if (jj_3R_37()) return true;
+    if (jj_scan_token(83)) return true;
     return false;
   }
 
-  private boolean jj_3R_137() {
-    if (jj_scan_token(82)) return true;
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_124() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_140()) {
+    jj_scanpos = xsp;
+    if (jj_3R_141()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_199() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_126() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_221()) jj_scanpos = xsp;
+    if (jj_3R_142()) {
+    jj_scanpos = xsp;
+    if (jj_3_6()) {
+    jj_scanpos = xsp;
+    if (jj_3R_143()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_scan_token(95)) return true;
-    if (jj_3R_87()) return true;
+  private boolean jj_3R_42() {
+    if (jj_scan_token(K_NOT)) return true;
+    if (jj_scan_token(K_LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(18)) {
-    jj_scanpos = xsp;
-    if (jj_3R_231()) return true;
-    }
+  private boolean jj_3_1() {
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_36()) return true;
     return false;
   }
 
-  private boolean jj_3R_56() {
-    if (jj_3R_87()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_204()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_113() {
+    if (jj_3R_44()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
-    if (jj_scan_token(79)) return true;
-    if (jj_3R_199()) return true;
+  private boolean jj_3R_112() {
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_126()) return true;
+    if (jj_scan_token(83)) return true;
     return false;
   }
 
-  private boolean jj_3R_69() {
-    if (jj_scan_token(K_KEY)) return true;
+  private boolean jj_3R_239() {
+    if (jj_scan_token(K_WHEN)) return true;
+    if (jj_3R_116()) return true;
+    if (jj_scan_token(K_THEN)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_68() {
-    if (jj_scan_token(K_END)) return true;
+  private boolean jj_3R_204() {
+    if (jj_scan_token(K_NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_scan_token(K_ORDER)) return true;
-    if (jj_scan_token(K_BY)) return true;
-    if (jj_3R_199()) return true;
+  private boolean jj_3R_198() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_200()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_204()) jj_scanpos = xsp;
+    if (jj_scan_token(K_BETWEEN)) return true;
+    if (jj_3R_117()) return true;
+    if (jj_scan_token(K_AND)) return true;
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_67() {
-    if (jj_scan_token(K_BEGIN)) return true;
+  private boolean jj_3R_114() {
+    if (jj_3R_127()) return true;
     return false;
   }
 
-  private boolean jj_3R_36() {
+  private boolean jj_3R_111() {
+    if (jj_scan_token(81)) return true;
+    if (jj_3R_44()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_84() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(72)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(76)) {
-    jj_scanpos = xsp;
-    if (jj_3R_67()) {
-    jj_scanpos = xsp;
-    if (jj_3R_68()) {
+    if (jj_3R_112()) {
     jj_scanpos = xsp;
-    if (jj_3R_69()) return true;
-    }
-    }
-    }
+    if (jj_3R_113()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_114()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_94() {
+  private boolean jj_3R_43() {
     if (jj_scan_token(82)) return true;
-    if (jj_3R_36()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_137()) jj_scanpos = xsp;
+    if (jj_3R_39()) return true;
+    if (jj_scan_token(83)) return true;
+    if (jj_scan_token(K_UNION)) return true;
     return false;
   }
 
-  private boolean jj_3_25() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_54()) {
-    jj_scanpos = xsp;
-    if (jj_3R_55()) return true;
-    }
-    if (jj_3R_56()) return true;
+  private boolean jj_3R_82() {
+    if (jj_scan_token(81)) return true;
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
-    if (jj_scan_token(K_HAVING)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_238() {
+    if (jj_scan_token(K_WHEN)) return true;
+    if (jj_3R_116()) return true;
+    if (jj_scan_token(K_THEN)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_109() {
-    if (jj_3R_56()) return true;
+  private boolean jj_3R_83() {
+    if (jj_scan_token(K_INTO)) return true;
+    if (jj_3R_44()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_25()) { jj_scanpos = xsp; break; }
+      if (jj_3R_111()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_scan_token(79)) return true;
-    if (jj_3R_78()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_203() {
-    if (jj_scan_token(79)) return true;
-    if (jj_3R_35()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_197() {
-    if (jj_scan_token(K_GROUP)) return true;
-    if (jj_scan_token(K_BY)) return true;
-    if (jj_3R_78()) return true;
+  private boolean jj_3R_226() {
+    if (jj_3R_116()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_220()) { jj_scanpos = xsp; break; }
+      if (jj_3R_231()) { jj_scanpos = xsp; break; }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_232()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_78() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3R_202() {
+    if (jj_scan_token(K_NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_35() {
-    if (jj_3R_36()) return true;
+  private boolean jj_3R_197() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_94()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_196() {
-    if (jj_scan_token(K_WHERE)) return true;
-    if (jj_3R_63()) return true;
+    if (jj_3R_202()) jj_scanpos = xsp;
+    if (jj_scan_token(K_IN)) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_107() {
-    if (jj_scan_token(79)) return true;
+  private boolean jj_3R_127() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(5)) jj_scanpos = xsp;
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_53() {
+  private boolean jj_3_14() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(14)) {
+    if (jj_scan_token(51)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(34)) return true;
+    if (jj_3R_43()) return true;
     }
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_49()) return true;
-    if (jj_scan_token(81)) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
-    if (jj_scan_token(K_USING)) return true;
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_35()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_203()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(81)) return true;
+  private boolean jj_3R_78() {
+    if (jj_scan_token(84)) return true;
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
-    if (jj_scan_token(K_ON)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_232() {
+    if (jj_scan_token(K_ELSE)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_108() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_165()) {
-    jj_scanpos = xsp;
-    if (jj_3R_166()) return true;
-    }
+  private boolean jj_3R_231() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
-    if (jj_scan_token(K_INNER)) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_44()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
-    if (jj_scan_token(K_OUTER)) return true;
+  private boolean jj_3R_125() {
+    if (jj_3R_127()) return true;
     return false;
   }
 
-  private boolean jj_3R_52() {
-    if (jj_scan_token(K_ALL)) return true;
-    if (jj_scan_token(80)) return true;
-    if (jj_3R_49()) return true;
-    if (jj_scan_token(81)) return true;
+  private boolean jj_3R_230() {
+    if (jj_scan_token(K_ELSE)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
-    if (jj_scan_token(K_NATURAL)) return true;
+  private boolean jj_3R_229() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
-    if (jj_scan_token(K_FULL)) return true;
+  private boolean jj_3R_224() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_106() {
+  private boolean jj_3R_225() {
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_163()) {
-    jj_scanpos = xsp;
-    if (jj_3R_164()) return true;
+    if (jj_3R_229()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_229()) { jj_scanpos = xsp; break; }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_230()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_160() {
-    if (jj_scan_token(K_RIGHT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_159() {
-    if (jj_scan_token(K_LEFT)) return true;
+  private boolean jj_3R_223() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3R_219() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_223()) {
+    jj_scanpos = xsp;
+    if (jj_3R_224()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_53()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_44()) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_scan_token(80)) return true;
+  private boolean jj_3R_38() {
+    if (jj_3R_44()) return true;
+    if (jj_scan_token(84)) return true;
+    if (jj_scan_token(85)) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_52()) return true;
+  private boolean jj_3R_56() {
+    if (jj_scan_token(82)) return true;
+    if (jj_3R_39()) return true;
+    if (jj_scan_token(83)) return true;
+    if (jj_scan_token(K_UNION)) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_scan_token(79)) return true;
+  private boolean jj_3_5() {
+    if (jj_3R_38()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
+  private boolean jj_3R_123() {
+    if (jj_scan_token(K_CASE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_159()) {
-    jj_scanpos = xsp;
-    if (jj_3R_160()) {
-    jj_scanpos = xsp;
-    if (jj_3R_161()) {
+    if (jj_3R_225()) {
     jj_scanpos = xsp;
-    if (jj_3R_162()) return true;
-    }
-    }
+    if (jj_3R_226()) return true;
     }
+    if (jj_scan_token(K_END)) return true;
     return false;
   }
 
-  private boolean jj_3R_73() {
+  private boolean jj_3R_207() {
+    if (jj_scan_token(82)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_105()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_106()) jj_scanpos = xsp;
+    if (jj_3R_219()) jj_scanpos = xsp;
+    if (jj_scan_token(83)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_203() {
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(26)) {
+    if (jj_3R_207()) {
     jj_scanpos = xsp;
-    if (jj_3R_107()) return true;
+    if (jj_3R_208()) return true;
     }
-    if (jj_3R_72()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_110() {
+    if (jj_3R_116()) return true;
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_108()) jj_scanpos = xsp;
+    if (jj_3R_125()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_119() {
+  private boolean jj_3R_65() {
+    if (jj_scan_token(84)) return true;
+    if (jj_3R_37()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_23()) {
-    jj_scanpos = xsp;
-    if (jj_3_24()) {
-    jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
-    }
-    }
+    if (jj_3R_78()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_85() {
-    if (jj_scan_token(79)) return true;
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_109() {
+    if (jj_3R_38()) return true;
     return false;
   }
 
-  private boolean jj_3R_50() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3_23() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_85()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_scan_token(51)) {
+    jj_scanpos = xsp;
+    if (jj_3R_56()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_104() {
+    if (jj_scan_token(106)) return true;
+    if (jj_scan_token(S_CHAR_LITERAL)) return true;
+    if (jj_scan_token(104)) return true;
+    return false;
+  }
+
   /** Generated Token Manager. */
   public CCJSqlParserTokenManager token_source;
   SimpleCharStream jj_input_stream;
@@ -5078,7 +5474,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[137];
+  final private int[] jj_la1 = new int[145];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -5090,18 +5486,18 @@ public class CCJSqlParser implements CCJSqlParserConstants {
       jj_la1_init_3();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x2000000,0x0,0x2000001,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x20000,0x400,0x400000,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x108000,0x108020,0x108000,0x0,0x0,0x800,0x1000,0x1000,0x80000,0x400000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x1000,0x1000,0x0,0x0,0x1000,0x1000,0x0,0x1000,0x1000,0x0,0x0,0x0,0x0,0x108020,0x0,0x40918000,0x20,0x0,0x0,0x108000,0x108020,0xc000000,0x8000000,0x8000000,0x0,0x0,0x4000000,0x0,0x800,0x800,0x0,0x0,0x240000,0x240000,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x100,0x0,0x1010100,0x40918000,0x0,0x10000,0x10000,0x10000,0x0,0x10000,0x40908000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x80000000,0x0,0x80000000,0x0,0xc0918000,0x0,0x108000,0x0,0x0,0x1000,0x1000,0x40918000,0x40919000,0x0,0x108000,0x818000,0x818000,0x0,0x818000,0x8000,0x818000,0x0,0x0,0x0,0x0,0x818000,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_0 = new int[] {0x2000000,0x0,0x2000001,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x20000,0x400,0x400000,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x108000,0x108020,0x108000,0x0,0x0,0x0,0x800,0x1000,0x1000,0x80000,0x400000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x1000,0x1000,0x0,0x0,0x1000,0x1000,0x0,0x1000,0x1000,0x0,0x0,0x0,0x108020,0x0,0x40918000,0x20,0x0,0x108000,0x108020,0x0,0x108020,0xc108020,0x0,0x108000,0xc000000,0x8000000,0x8000000,0x0,0x0,0x4000000,0x0,0x800,0x800,0x0,0x0,0x240000,0x240000,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x40918000,0x100,0x0,0x1010100,0x40918000,0x40918000,0x0,0x10000,0x10000,0x10000,0x0,0x10000,0x0,0x0,0x40918000,0x40908000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40918000,0x40800000,0x108000,0x80000000,0x0,0x80000000,0x0,0xc0918000,0x0,0x108000,0x0,0x0,0x1000,0x1000,0x40918000,0x40919000,0x0,0x108000,0x818000,0x818000,0x0,0x818000,0x8000,0x818000,0x0,0x0,0x0,0x0,0x818000,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0xa18e0010,0x0,0xa18e0010,0x0,0x40,0x0,0x0,0x0,0x0,0x2080000,0x2080000,0x0,0x0,0x0,0x0,0x0,0x2080000,0x0,0x40,0x0,0x0,0x400,0x400,0x400,0x10,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x200,0x400000,0x8000,0x102000,0x0,0x0,0x100,0x0,0x0,0x8000,0x102000,0x0,0x0,0x100,0x0,0x0,0x80000,0x0,0x0,0x0,0x400,0x0,0x20200400,0x0,0x0,0x80000,0x400,0x400,0x10015008,0x10010008,0x10010008,0x5000,0x5000,0x0,0x0,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x102000,0x0,0x0,0x0,0x0,0x20280400,0x0,0x0,0x0,0x0,0x4000000,0x0,0x20000400,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x2,0x20200400,0x0,0x20000400,0x0,0x0,0x0,0x0,0x20200400,0x20200400,0x0,0x20000400,0x8000000,0x8000000,0x0,0x8000000,0x8000800,0x8000000,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x820,0x0,};
+      jj_la1_1 = new int[] {0xa18e0010,0x0,0xa18e0010,0x0,0x40,0x0,0x0,0x0,0x0,0x2080000,0x2080000,0x0,0x0,0x0,0x0,0x0,0x2080000,0x0,0x40,0x0,0x0,0x400,0x400,0x400,0x10,0x100,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x200,0x400000,0x8000,0x102000,0x0,0x0,0x100,0x0,0x0,0x8000,0x102000,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x20200400,0x0,0x0,0x400,0x400,0x100,0x400,0x10015508,0x80000,0x400,0x10015008,0x10010008,0x10010008,0x5000,0x5000,0x0,0x0,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x102000,0x0,0x20200400,0x0,0x0,0x0,0x20200400,0x20280400,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x20200400,0x20000400,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20200400,0x0,0x400,0x0,0x2,0x0,0x2,0x20200400,0x0,0x20000400,0x0,0x0,0x0,0x0,0x20200400,0x20200400,0x0,0x20000400,0x8000000,0x8000000,0x0,0x8000000,0x8000800,0x8000000,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x820,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x10000,0x2000,0x10000,0x8000,0x0,0x0,0x8000,0x8000,0x8000,0x10000,0x10000,0x0,0x0,0x8000,0x8000,0x20000,0x10000,0x0,0x0,0x40000,0x40000,0x1100,0x1100,0x1100,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x1,0x1,0x0,0x0,0x1,0x1,0x0,0x1,0x1,0x10000,0x8000,0x10000,0x8000,0x1100,0x80000,0x11191c,0x0,0x8000,0x10000,0x11100,0x1100,0x8000,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0x0,0x8000,0x8000,0x0,0x0,0x100010,0x100010,0x100010,0x100010,0x100010,0x0,0x0,0x100010,0x804000,0xc000000,0x1fe04000,0x11191c,0x10000,0x0,0x0,0x0,0x0,0x0,0x11191c,0x0,0x60000000,0x80000000,0x0,0x80000,0x0,0x0,0x0,0x0,0x100000,0x18,0x10800,0x0,0x0,0x0,0x0,0x11191c,0x0,0x1100,0x40000,0x40000,0x1,0x1,0x19191c,0x19191d,0x0,0x1104,0x14918,0x14918,0x8000,0x14918,0x100,0x14918,0x10000,0x810,0x810,0x8000,0x14918,0x918,0x918,0x8000,0x8000,0x100,0x100,};
+      jj_la1_2 = new int[] {0x40000,0x8000,0x40000,0x20000,0x0,0x0,0x20000,0x20000,0x20000,0x40000,0x40000,0x0,0x0,0x20000,0x20000,0x80000,0x40000,0x0,0x0,0x100000,0x100000,0x4100,0x4100,0x4100,0x0,0x0,0x40000,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x1,0x1,0x0,0x0,0x1,0x1,0x0,0x1,0x1,0x20000,0x40000,0x20000,0x4100,0x200000,0x44591c,0x0,0x20000,0x44100,0x4100,0x0,0x4100,0x24100,0x0,0x44100,0x20000,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x20000,0x20000,0x0,0x0,0x400010,0x400010,0x400010,0x400010,0x400010,0x0,0x0,0x400010,0x44591c,0x2010000,0x30000000,0x7f810000,0x44591c,0x44591c,0x40000,0x0,0x0,0x0,0x0,0x0,0x20000,0x818,0x44591c,0x44591c,0x0,0x80000000,0x0,0x0,0x200000,0x0,0x0,0x0,0x44591c,0x400000,0x45918,0x0,0x0,0x0,0x0,0x44591c,0x0,0x4100,0x100000,0x100000,0x1,0x1,0x64591c,0x64591d,0x0,0x4104,0x50918,0x50918,0x20000,0x50918,0x100,0x50918,0x40000,0x810,0x810,0x20000,0x50918,0x918,0x918,0x20000,0x20000,0x100,0x100,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1d3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1d3,0x0,0x0,0x0,0x0,0x0,0x0,0x1d3,0x0,0x0,0x0,0x3,0x4,0x8,0x3,0x3,0x0,0x0,0x0,0xd0,0x0,0x0,0x0,0x0,0x1d3,0x100,0x0,0x0,0x0,0x0,0x0,0x1d3,0x1d3,0x20,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6cc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6cc,0x0,0x0,0x0,0x6cc,0x6cc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6cc,0x6cc,0x0,0x1,0x2,0xc,0x10,0x20,0xc,0xc,0x6cc,0x0,0x680,0x0,0x0,0x0,0x0,0x6cc,0x40,0x0,0x0,0x0,0x0,0x0,0x6cc,0x6cc,0x100,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[33];
+  final private JJCalls[] jj_2_rtns = new JJCalls[25];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -5116,7 +5512,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 137; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 145; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -5131,7 +5527,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 137; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 145; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -5142,7 +5538,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 137; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 145; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -5153,7 +5549,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 137; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 145; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -5163,7 +5559,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 137; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 145; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -5173,7 +5569,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 137; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 145; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -5285,12 +5681,12 @@ public class CCJSqlParser implements CCJSqlParserConstants {
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[105];
+    boolean[] la1tokens = new boolean[107];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 137; i++) {
+    for (int i = 0; i < 145; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -5308,7 +5704,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
         }
       }
     }
-    for (int i = 0; i < 105; i++) {
+    for (int i = 0; i < 107; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -5335,7 +5731,7 @@ public class CCJSqlParser implements CCJSqlParserConstants {
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 33; i++) {
+    for (int i = 0; i < 25; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -5367,14 +5763,6 @@ public class CCJSqlParser implements CCJSqlParserConstants {
             case 22: jj_3_23(); break;
             case 23: jj_3_24(); break;
             case 24: jj_3_25(); break;
-            case 25: jj_3_26(); break;
-            case 26: jj_3_27(); break;
-            case 27: jj_3_28(); break;
-            case 28: jj_3_29(); break;
-            case 29: jj_3_30(); break;
-            case 30: jj_3_31(); break;
-            case 31: jj_3_32(); break;
-            case 32: jj_3_33(); break;
           }
         }
         p = p.next;
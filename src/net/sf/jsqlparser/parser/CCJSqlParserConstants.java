@@ -176,7 +176,11 @@ public interface CCJSqlParserConstants {
   /** RegularExpression Id. */
   int S_CHAR_LITERAL = 75;
   /** RegularExpression Id. */
-  int S_QUOTED_IDENTIFIER = 76;
+  int S_BINARY_LITERAL = 76;
+  /** RegularExpression Id. */
+  int HEX_DIGIT = 77;
+  /** RegularExpression Id. */
+  int S_QUOTED_IDENTIFIER = 78;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -259,6 +263,8 @@ public interface CCJSqlParserConstants {
     "<LETTER>",
     "<SPECIAL_CHARS>",
     "<S_CHAR_LITERAL>",
+    "<S_BINARY_LITERAL>",
+    "<HEX_DIGIT>",
     "<S_QUOTED_IDENTIFIER>",
     "\";\"",
     "\"=\"",
@@ -283,11 +289,11 @@ public interface CCJSqlParserConstants {
     "\"-\"",
     "\"/\"",
     "\"^\"",
+    "\"{fn\"",
     "\"{d\"",
     "\"}\"",
     "\"{t\"",
     "\"{ts\"",
-    "\"{fn\"",
   };
 
 }
@@ -0,0 +1,169 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package net.sf.jsqlparser.parser;
+
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * The default {@link JSqlParser}, built on the JavaCC generated {@link CCJSqlParser}.
+ * <p>
+ * Constructing a {@link CCJSqlParser} allocates a token manager, a character stream 
+ * with its buffers and the lookahead tables; a manager keeps a bounded pool of parsers 
+ * and resets them instead, so that cost is paid once per pooled parser rather than 
+ * once per statement.  Readers are read through a {@link ReaderCharStream}, so a 
+ * very long token does not make buffering quadratic.
+ * <p>
+ * A manager is safe to share between threads.  Each call to {@link #parse(Reader)} 
+ * takes an idle parser out of the pool (or creates a fresh one if none is idle) and 
+ * returns it afterwards.  The pool is a fixed array of slots claimed with 
+ * compare-and-set, so there is no locking, and at most <code>poolSize</code> idle 
+ * parsers are ever retained.
+ */
+public class CCJSqlParserManager implements JSqlParser {
+
+	/** The number of idle parsers retained by {@link #CCJSqlParserManager()} */
+	public static final int DEFAULT_POOL_SIZE = 
+		2 * Runtime.getRuntime().availableProcessors();
+
+	private final AtomicReferenceArray<CCJSqlParser> pool;
+
+	public CCJSqlParserManager() { this(DEFAULT_POOL_SIZE); }
+
+	/**
+	 * @param poolSize    The maximum number of idle parsers to retain; 0 disables pooling
+	 */
+	public CCJSqlParserManager(int poolSize) {
+		if (poolSize < 0) {
+			throw new IllegalArgumentException("Negative pool size: "+poolSize);
+		}
+		pool = new AtomicReferenceArray<CCJSqlParser>(poolSize);
+	}
+
+	public Statement parse(Reader statementReader) throws JSQLParserException {
+		return parse(acquire(statementReader));
+	}
+
+	/**
+	 * Parse SQL text that is already in memory.  The text is read in place through a 
+	 * {@link CharSequenceCharStream}, without being copied into the parser's buffers.
+	 * A {@link java.nio.CharBuffer} wraps a <code>char[]</code> without copying.
+	 */
+	public Statement parse(CharSequence statement) throws JSQLParserException {
+		return parse(acquire(new CharSequenceCharStream(statement)));
+	}
+
+	private Statement parse(CCJSqlParser parser) throws JSQLParserException {
+		try {
+			return parser.Statement();
+		} catch (ParseException e) {
+			throw new JSQLParserException(e.getMessage(), e);
+		} catch (TokenMgrError e) {
+			throw new JSQLParserException(e.getMessage(), e);
+		} finally {
+			release(parser);
+		}
+	}
+
+	/**
+	 * @return    The maximum number of idle parsers this manager retains
+	 */
+	public int getPoolSize() {
+		return pool.length();
+	}
+
+	/**
+	 * Take an idle parser out of the pool and point it at <code>reader</code>, or 
+	 * create a new parser if every slot is empty.
+	 */
+	protected CCJSqlParser acquire(Reader reader) {
+		CCJSqlParser parser = poll();
+		if (parser == null) {
+			return new CCJSqlParser(new CCJSqlParserTokenManager(new ReaderCharStream(reader)));
+		}
+		// parsers created for a CharSequence have no reader stream to reset
+		SimpleCharStream stream = parser.token_source.input_stream;
+		if (stream instanceof ReaderCharStream) {
+			stream.ReInit(reader);
+		} else {
+			stream = new ReaderCharStream(reader);
+		}
+		parser.token_source.ReInit(stream);
+		parser.ReInit(parser.token_source);
+		return parser;
+	}
+
+	/**
+	 * Take an idle parser out of the pool and point its token manager at 
+	 * <code>stream</code>, or create a new parser if every slot is empty.
+	 */
+	protected CCJSqlParser acquire(SimpleCharStream stream) {
+		CCJSqlParser parser = poll();
+		if (parser == null) {
+			return new CCJSqlParser(new CCJSqlParserTokenManager(stream));
+		}
+		parser.token_source.ReInit(stream);
+		parser.ReInit(parser.token_source);
+		return parser;
+	}
+
+	private CCJSqlParser poll() {
+		int size = pool.length();
+		int start = firstSlot(size);
+		for (int i = 0; i < size; i++) {
+			int slot = (start + i) % size;
+			CCJSqlParser parser = pool.get(slot);
+			if (parser != null && pool.compareAndSet(slot, parser, null)) {
+				return parser;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Offer <code>parser</code> back to the pool.  If every slot is taken the parser 
+	 * is simply dropped.
+	 */
+	protected void release(CCJSqlParser parser) {
+		int size = pool.length();
+		int start = firstSlot(size);
+		for (int i = 0; i < size; i++) {
+			int slot = (start + i) % size;
+			if (pool.get(slot) == null && pool.compareAndSet(slot, null, parser)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Threads start scanning the pool at different slots so that they do not all 
+	 * contend for slot 0.
+	 */
+	private static int firstSlot(int size) {
+		if (size == 0) { return 0; }
+		return (int)(Thread.currentThread().getId() % size);
+	}
+}
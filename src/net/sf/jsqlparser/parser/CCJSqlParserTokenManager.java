@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Arrays;
 import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
 import net.sf.jsqlparser.expression.DoubleValue;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.Function;
@@ -62,6 +63,7 @@ import net.sf.jsqlparser.expression.operators.relational.InExpression;
 import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
 import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
 import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
 import net.sf.jsqlparser.expression.operators.relational.Matches;
 import net.sf.jsqlparser.expression.operators.relational.MinorThan;
@@ -114,18 +116,18 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1)
          if ((active0 & 0xffffffffffffffe0L) != 0L || (active1 & 0x7L) != 0L)
          {
             jjmatchedKind = 72;
-            return 39;
+            return 43;
          }
-         if ((active1 & 0x400000000L) != 0L)
+         if ((active1 & 0x1000000000L) != 0L)
             return 8;
-         if ((active1 & 0x40000L) != 0L)
+         if ((active1 & 0x100000L) != 0L)
             return 1;
-         if ((active1 & 0x200000000L) != 0L)
+         if ((active1 & 0x800000000L) != 0L)
             return 5;
          return -1;
       case 1:
          if ((active0 & 0x80980000440fe0L) != 0L || (active1 & 0x2L) != 0L)
-            return 39;
+            return 43;
          if ((active0 & 0xff7f67ffffbbf000L) != 0L || (active1 & 0x5L) != 0L)
          {
             if (jjmatchedPos != 1)
@@ -133,7 +135,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1)
                jjmatchedKind = 72;
                jjmatchedPos = 1;
             }
-            return 39;
+            return 43;
          }
          return -1;
       case 2:
@@ -141,29 +143,29 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1)
          {
             jjmatchedKind = 72;
             jjmatchedPos = 2;
-            return 39;
+            return 43;
          }
          if ((active0 & 0x1ff000L) != 0L)
-            return 39;
+            return 43;
          return -1;
       case 3:
          if ((active0 & 0xffffffe000000000L) != 0L || (active1 & 0x3L) != 0L)
          {
             jjmatchedKind = 72;
             jjmatchedPos = 3;
-            return 39;
+            return 43;
          }
          if ((active0 & 0x1fffe00000L) != 0L || (active1 & 0x4L) != 0L)
-            return 39;
+            return 43;
          return -1;
       case 4:
          if ((active0 & 0x1ffe000000000L) != 0L)
-            return 39;
+            return 43;
          if ((active0 & 0xfffe000000000000L) != 0L || (active1 & 0x3L) != 0L)
          {
             jjmatchedKind = 72;
             jjmatchedPos = 4;
-            return 39;
+            return 43;
          }
          return -1;
       case 5:
@@ -171,29 +173,29 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1)
          {
             jjmatchedKind = 72;
             jjmatchedPos = 5;
-            return 39;
+            return 43;
          }
          if ((active0 & 0x7fe000000000000L) != 0L)
-            return 39;
+            return 43;
          return -1;
       case 6:
          if ((active0 & 0x8000000000000000L) != 0L || (active1 & 0x3L) != 0L)
          {
             jjmatchedKind = 72;
             jjmatchedPos = 6;
-            return 39;
+            return 43;
          }
          if ((active0 & 0x7800000000000000L) != 0L)
-            return 39;
+            return 43;
          return -1;
       case 7:
          if ((active0 & 0x8000000000000000L) != 0L || (active1 & 0x1L) != 0L)
-            return 39;
+            return 43;
          if ((active1 & 0x2L) != 0L)
          {
             jjmatchedKind = 72;
             jjmatchedPos = 7;
-            return 39;
+            return 43;
          }
          return -1;
       default :
@@ -215,42 +217,42 @@ private int jjMoveStringLiteralDfa0_0()
    switch(curChar)
    {
       case 33:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x8000000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x20000000L);
       case 38:
-         return jjStopAtPos(0, 94);
+         return jjStopAtPos(0, 96);
       case 40:
-         return jjStopAtPos(0, 80);
+         return jjStopAtPos(0, 82);
       case 41:
-         return jjStopAtPos(0, 81);
-      case 42:
          return jjStopAtPos(0, 83);
+      case 42:
+         return jjStopAtPos(0, 85);
       case 43:
-         return jjStopAtPos(0, 96);
+         return jjStopAtPos(0, 98);
       case 44:
-         return jjStopAtPos(0, 79);
+         return jjStopAtPos(0, 81);
       case 45:
-         return jjStartNfaWithStates_0(0, 97, 5);
+         return jjStartNfaWithStates_0(0, 99, 5);
       case 46:
-         return jjStartNfaWithStates_0(0, 82, 1);
+         return jjStartNfaWithStates_0(0, 84, 1);
       case 47:
-         return jjStartNfaWithStates_0(0, 98, 8);
+         return jjStartNfaWithStates_0(0, 100, 8);
       case 59:
-         return jjStopAtPos(0, 77);
+         return jjStopAtPos(0, 79);
       case 60:
-         jjmatchedKind = 86;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x5000000L);
+         jjmatchedKind = 88;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x14000000L);
       case 61:
-         jjmatchedKind = 78;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x800000L);
-      case 62:
-         jjmatchedKind = 85;
+         jjmatchedKind = 80;
          return jjMoveStringLiteralDfa1_0(0x0L, 0x2000000L);
+      case 62:
+         jjmatchedKind = 87;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x8000000L);
       case 63:
-         return jjStopAtPos(0, 84);
+         return jjStopAtPos(0, 86);
       case 64:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x10000000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x40000000L);
       case 94:
-         return jjStopAtPos(0, 99);
+         return jjStopAtPos(0, 101);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa1_0(0x47020L, 0x0L);
@@ -315,12 +317,12 @@ private int jjMoveStringLiteralDfa0_0()
       case 119:
          return jjMoveStringLiteralDfa1_0(0x5080000000L, 0x0L);
       case 123:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x1d000000000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x6c000000000L);
       case 124:
-         jjmatchedKind = 93;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x80000000L);
+         jjmatchedKind = 95;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x200000000L);
       case 125:
-         return jjStopAtPos(0, 101);
+         return jjStopAtPos(0, 104);
       default :
          return jjMoveNfa_0(7, 0);
    }
@@ -335,37 +337,37 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1)
    switch(curChar)
    {
       case 61:
-         if ((active1 & 0x800000L) != 0L)
-            return jjStopAtPos(1, 87);
-         else if ((active1 & 0x1000000L) != 0L)
-            return jjStopAtPos(1, 88);
-         else if ((active1 & 0x2000000L) != 0L)
+         if ((active1 & 0x2000000L) != 0L)
             return jjStopAtPos(1, 89);
+         else if ((active1 & 0x4000000L) != 0L)
+            return jjStopAtPos(1, 90);
          else if ((active1 & 0x8000000L) != 0L)
             return jjStopAtPos(1, 91);
+         else if ((active1 & 0x20000000L) != 0L)
+            return jjStopAtPos(1, 93);
          break;
       case 62:
-         if ((active1 & 0x4000000L) != 0L)
-            return jjStopAtPos(1, 90);
-         break;
-      case 64:
          if ((active1 & 0x10000000L) != 0L)
             return jjStopAtPos(1, 92);
          break;
+      case 64:
+         if ((active1 & 0x40000000L) != 0L)
+            return jjStopAtPos(1, 94);
+         break;
       case 65:
       case 97:
          return jjMoveStringLiteralDfa2_0(active0, 0x1240002040000000L, active1, 0x4L);
       case 68:
       case 100:
-         if ((active1 & 0x1000000000L) != 0L)
-            return jjStopAtPos(1, 100);
+         if ((active1 & 0x8000000000L) != 0L)
+            return jjStopAtPos(1, 103);
          break;
       case 69:
       case 101:
          return jjMoveStringLiteralDfa2_0(active0, 0x600a040008228000L, active1, 0L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa2_0(active0, 0x10000000000000L, active1, 0x10000000000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x10000000000000L, active1, 0x4000000000L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa2_0(active0, 0x4180000000L, active1, 0L);
@@ -383,12 +385,12 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1)
             jjmatchedPos = 1;
          }
          else if ((active0 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(1, 11, 39);
+            return jjStartNfaWithStates_0(1, 11, 43);
          return jjMoveStringLiteralDfa2_0(active0, 0x80190000506000L, active1, 0x2L);
       case 79:
       case 111:
          if ((active0 & 0x80L) != 0L)
-            return jjStartNfaWithStates_0(1, 7, 39);
+            return jjStartNfaWithStates_0(1, 7, 43);
          return jjMoveStringLiteralDfa2_0(active0, 0x404090000L, active1, 0L);
       case 80:
       case 112:
@@ -409,16 +411,16 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1)
             jjmatchedPos = 1;
          }
          else if ((active0 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(1, 8, 39);
+            return jjStartNfaWithStates_0(1, 8, 43);
          return jjMoveStringLiteralDfa2_0(active0, 0x400008000040000L, active1, 0L);
       case 84:
       case 116:
-         if ((active1 & 0x4000000000L) != 0L)
+         if ((active1 & 0x20000000000L) != 0L)
          {
-            jjmatchedKind = 102;
+            jjmatchedKind = 105;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8000000000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x40000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa2_0(active0, 0x400800800000L, active1, 0L);
@@ -428,11 +430,11 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1)
       case 89:
       case 121:
          if ((active0 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(1, 6, 39);
+            return jjStartNfaWithStates_0(1, 6, 43);
          break;
       case 124:
-         if ((active1 & 0x80000000L) != 0L)
-            return jjStopAtPos(1, 95);
+         if ((active1 & 0x200000000L) != 0L)
+            return jjStopAtPos(1, 97);
          break;
       default :
          break;
@@ -456,14 +458,14 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
       case 67:
       case 99:
          if ((active0 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(2, 18, 39);
+            return jjStartNfaWithStates_0(2, 18, 43);
          return jjMoveStringLiteralDfa3_0(active0, 0x400000000000000L, active1, 0L);
       case 68:
       case 100:
          if ((active0 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(2, 13, 39);
+            return jjStartNfaWithStates_0(2, 13, 43);
          else if ((active0 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_0(2, 20, 39);
+            return jjStartNfaWithStates_0(2, 20, 43);
          return jjMoveStringLiteralDfa3_0(active0, 0x100880000000000L, active1, 0L);
       case 69:
       case 101:
@@ -483,15 +485,15 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
       case 76:
       case 108:
          if ((active0 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_0(2, 12, 39);
+            return jjStartNfaWithStates_0(2, 12, 43);
          return jjMoveStringLiteralDfa3_0(active0, 0x20a000800800000L, active1, 0L);
       case 77:
       case 109:
          return jjMoveStringLiteralDfa3_0(active0, 0x200400000000L, active1, 0L);
       case 78:
       case 110:
-         if ((active1 & 0x10000000000L) != 0L)
-            return jjStopAtPos(2, 104);
+         if ((active1 & 0x4000000000L) != 0L)
+            return jjStopAtPos(2, 102);
          return jjMoveStringLiteralDfa3_0(active0, 0x100000000000L, active1, 0L);
       case 79:
       case 111:
@@ -499,19 +501,19 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
       case 80:
       case 112:
          if ((active0 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(2, 19, 39);
+            return jjStartNfaWithStates_0(2, 19, 43);
          return jjMoveStringLiteralDfa3_0(active0, 0x2000000000000000L, active1, 0L);
       case 83:
       case 115:
-         if ((active1 & 0x8000000000L) != 0L)
-            return jjStopAtPos(2, 103);
+         if ((active1 & 0x40000000000L) != 0L)
+            return jjStopAtPos(2, 106);
          return jjMoveStringLiteralDfa3_0(active0, 0x80000240200000L, active1, 0x5L);
       case 84:
       case 116:
          if ((active0 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_0(2, 16, 39);
+            return jjStartNfaWithStates_0(2, 16, 43);
          else if ((active0 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(2, 17, 39);
+            return jjStartNfaWithStates_0(2, 17, 43);
          return jjMoveStringLiteralDfa3_0(active0, 0x5000401000400000L, active1, 0x2L);
       case 85:
       case 117:
@@ -522,9 +524,9 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
       case 89:
       case 121:
          if ((active0 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_0(2, 14, 39);
+            return jjStartNfaWithStates_0(2, 14, 43);
          else if ((active0 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(2, 15, 39);
+            return jjStartNfaWithStates_0(2, 15, 43);
          break;
       default :
          break;
@@ -548,23 +550,23 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
       case 67:
       case 99:
          if ((active0 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(3, 21, 39);
+            return jjStartNfaWithStates_0(3, 21, 43);
          break;
       case 69:
       case 101:
          if ((active0 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 24, 39);
+            return jjStartNfaWithStates_0(3, 24, 43);
          else if ((active0 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 30, 39);
+            return jjStartNfaWithStates_0(3, 30, 43);
          else if ((active0 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 33, 39);
+            return jjStartNfaWithStates_0(3, 33, 43);
          else if ((active0 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 34, 39);
+            return jjStartNfaWithStates_0(3, 34, 43);
          return jjMoveStringLiteralDfa4_0(active0, 0x8ad80000000000L, active1, 0x2L);
       case 72:
       case 104:
          if ((active0 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 36, 39);
+            return jjStartNfaWithStates_0(3, 36, 43);
          return jjMoveStringLiteralDfa4_0(active0, 0x1000000000000L, active1, 0L);
       case 73:
       case 105:
@@ -572,35 +574,35 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
       case 76:
       case 108:
          if ((active0 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(3, 23, 39);
+            return jjStartNfaWithStates_0(3, 23, 43);
          else if ((active0 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 35, 39);
+            return jjStartNfaWithStates_0(3, 35, 43);
          return jjMoveStringLiteralDfa4_0(active0, 0x2000002000000000L, active1, 0L);
       case 77:
       case 109:
          if ((active0 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 28, 39);
+            return jjStartNfaWithStates_0(3, 28, 43);
          return jjMoveStringLiteralDfa4_0(active0, 0x800000000000000L, active1, 0L);
       case 78:
       case 110:
          if ((active0 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 26, 39);
+            return jjStartNfaWithStates_0(3, 26, 43);
          else if ((active0 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 29, 39);
+            return jjStartNfaWithStates_0(3, 29, 43);
          else if ((active0 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 31, 39);
+            return jjStartNfaWithStates_0(3, 31, 43);
          else if ((active0 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 32, 39);
+            return jjStartNfaWithStates_0(3, 32, 43);
          return jjMoveStringLiteralDfa4_0(active0, 0x8000008000000000L, active1, 0L);
       case 79:
       case 111:
          if ((active0 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(3, 22, 39);
+            return jjStartNfaWithStates_0(3, 22, 43);
          return jjMoveStringLiteralDfa4_0(active0, 0x10000000000L, active1, 0L);
       case 80:
       case 112:
          if ((active0 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 25, 39);
+            return jjStartNfaWithStates_0(3, 25, 43);
          break;
       case 82:
       case 114:
@@ -611,9 +613,9 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
       case 84:
       case 116:
          if ((active0 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 27, 39);
+            return jjStartNfaWithStates_0(3, 27, 43);
          else if ((active1 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(3, 66, 39);
+            return jjStartNfaWithStates_0(3, 66, 43);
          return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1L);
       case 85:
       case 117:
@@ -646,14 +648,14 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
       case 69:
       case 101:
          if ((active0 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 37, 39);
+            return jjStartNfaWithStates_0(4, 37, 43);
          else if ((active0 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 38, 39);
+            return jjStartNfaWithStates_0(4, 38, 43);
          return jjMoveStringLiteralDfa5_0(active0, 0x4210000000000000L, active1, 0L);
       case 71:
       case 103:
          if ((active0 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 39, 39);
+            return jjStartNfaWithStates_0(4, 39, 43);
          break;
       case 73:
       case 105:
@@ -661,35 +663,35 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
       case 78:
       case 110:
          if ((active0 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 40, 39);
+            return jjStartNfaWithStates_0(4, 40, 43);
          else if ((active0 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 42, 39);
+            return jjStartNfaWithStates_0(4, 42, 43);
          return jjMoveStringLiteralDfa5_0(active0, 0x40000000000000L, active1, 0L);
       case 80:
       case 112:
          if ((active0 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 41, 39);
+            return jjStartNfaWithStates_0(4, 41, 43);
          return jjMoveStringLiteralDfa5_0(active0, 0x400000000000000L, active1, 0L);
       case 82:
       case 114:
          if ((active0 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 44, 39);
+            return jjStartNfaWithStates_0(4, 44, 43);
          else if ((active0 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 46, 39);
+            return jjStartNfaWithStates_0(4, 46, 43);
          else if ((active0 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 47, 39);
+            return jjStartNfaWithStates_0(4, 47, 43);
          return jjMoveStringLiteralDfa5_0(active0, 0x1080000000000000L, active1, 0x2L);
       case 84:
       case 116:
          if ((active0 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 45, 39);
+            return jjStartNfaWithStates_0(4, 45, 43);
          else if ((active0 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 48, 39);
+            return jjStartNfaWithStates_0(4, 48, 43);
          return jjMoveStringLiteralDfa5_0(active0, 0x126000000000000L, active1, 0L);
       case 88:
       case 120:
          if ((active0 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 43, 39);
+            return jjStartNfaWithStates_0(4, 43, 43);
          break;
       default :
          break;
@@ -716,18 +718,18 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
       case 69:
       case 101:
          if ((active0 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 49, 39);
+            return jjStartNfaWithStates_0(5, 49, 43);
          else if ((active0 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 50, 39);
+            return jjStartNfaWithStates_0(5, 50, 43);
          else if ((active0 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 56, 39);
+            return jjStartNfaWithStates_0(5, 56, 43);
          else if ((active0 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 58, 39);
+            return jjStartNfaWithStates_0(5, 58, 43);
          return jjMoveStringLiteralDfa6_0(active0, 0x4000000000000000L, active1, 0L);
       case 71:
       case 103:
          if ((active0 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 54, 39);
+            return jjStartNfaWithStates_0(5, 54, 43);
          break;
       case 78:
       case 110:
@@ -738,18 +740,18 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
       case 83:
       case 115:
          if ((active0 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 53, 39);
+            return jjStartNfaWithStates_0(5, 53, 43);
          else if ((active0 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 57, 39);
+            return jjStartNfaWithStates_0(5, 57, 43);
          return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x2L);
       case 84:
       case 116:
          if ((active0 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 51, 39);
+            return jjStartNfaWithStates_0(5, 51, 43);
          else if ((active0 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 52, 39);
+            return jjStartNfaWithStates_0(5, 52, 43);
          else if ((active0 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 55, 39);
+            return jjStartNfaWithStates_0(5, 55, 43);
          break;
       default :
          break;
@@ -773,17 +775,17 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
       case 69:
       case 101:
          if ((active0 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 61, 39);
+            return jjStartNfaWithStates_0(6, 61, 43);
          return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x2L);
       case 76:
       case 108:
          if ((active0 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 60, 39);
+            return jjStartNfaWithStates_0(6, 60, 43);
          break;
       case 78:
       case 110:
          if ((active0 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 62, 39);
+            return jjStartNfaWithStates_0(6, 62, 43);
          break;
       case 84:
       case 116:
@@ -791,7 +793,7 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
       case 89:
       case 121:
          if ((active0 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 59, 39);
+            return jjStartNfaWithStates_0(6, 59, 43);
          break;
       default :
          break;
@@ -815,12 +817,12 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
       case 69:
       case 101:
          if ((active0 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 63, 39);
+            return jjStartNfaWithStates_0(7, 63, 43);
          break;
       case 84:
       case 116:
          if ((active1 & 0x1L) != 0L)
-            return jjStartNfaWithStates_0(7, 64, 39);
+            return jjStartNfaWithStates_0(7, 64, 43);
          break;
       default :
          break;
@@ -841,7 +843,7 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
       case 84:
       case 116:
          if ((active1 & 0x2L) != 0L)
-            return jjStartNfaWithStates_0(8, 65, 39);
+            return jjStartNfaWithStates_0(8, 65, 43);
          break;
       default :
          break;
@@ -862,7 +864,7 @@ static final long[] jjbitVec0 = {
 private int jjMoveNfa_0(int startState, int curPos)
 {
    int startsAt = 0;
-   jjnewStateCnt = 39;
+   jjnewStateCnt = 43;
    int i = 1;
    jjstateSet[0] = startState;
    int kind = 0x7fffffff;
@@ -877,6 +879,14 @@ private int jjMoveNfa_0(int startState, int curPos)
          {
             switch(jjstateSet[--i])
             {
+               case 43:
+               case 16:
+                  if ((0x3ff001000000000L & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  jjCheckNAdd(16);
+                  break;
                case 7:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
@@ -885,7 +895,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 5);
                   }
                   else if (curChar == 34)
-                     jjCheckNAddTwoStates(23, 24);
+                     jjCheckNAddTwoStates(27, 28);
                   else if (curChar == 39)
                      jjCheckNAddTwoStates(18, 19);
                   else if (curChar == 47)
@@ -895,14 +905,6 @@ private int jjMoveNfa_0(int startState, int curPos)
                   else if (curChar == 46)
                      jjCheckNAdd(1);
                   break;
-               case 39:
-               case 16:
-                  if ((0x3ff001000000000L & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  jjCheckNAdd(16);
-                  break;
                case 0:
                   if (curChar == 46)
                      jjCheckNAdd(1);
@@ -990,62 +992,74 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if ((0xffffff7fffffffffL & l) != 0L)
                      jjCheckNAddTwoStates(21, 19);
                   break;
-               case 22:
-                  if (curChar == 34)
-                     jjCheckNAddTwoStates(23, 24);
-                  break;
                case 23:
-                  if ((0xfffffffbffffdbffL & l) != 0L)
-                     jjCheckNAddTwoStates(23, 24);
+                  if (curChar == 39)
+                     jjCheckNAddTwoStates(24, 25);
                   break;
                case 24:
-                  if (curChar == 34 && kind > 76)
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddTwoStates(24, 25);
+                  break;
+               case 25:
+                  if (curChar == 39 && kind > 76)
                      kind = 76;
                   break;
                case 26:
+                  if (curChar == 34)
+                     jjCheckNAddTwoStates(27, 28);
+                  break;
+               case 27:
+                  if ((0xfffffffbffffdbffL & l) != 0L)
+                     jjCheckNAddTwoStates(27, 28);
+                  break;
+               case 28:
+                  if (curChar == 34 && kind > 78)
+                     kind = 78;
+                  break;
+               case 30:
                   if ((0xffffffffffffdbffL & l) != 0L)
                      jjAddStates(9, 10);
                   break;
-               case 29:
+               case 33:
                   if ((0xffffffffffffdbffL & l) != 0L)
                      jjAddStates(11, 12);
                   break;
-               case 31:
+               case 35:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
                   if (kind > 68)
                      kind = 68;
                   jjCheckNAddStates(0, 5);
                   break;
-               case 32:
+               case 36:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(32, 0);
+                     jjCheckNAddTwoStates(36, 0);
                   break;
-               case 33:
+               case 37:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(13, 15);
                   break;
-               case 34:
+               case 38:
                   if (curChar == 46)
-                     jjCheckNAdd(35);
+                     jjCheckNAdd(39);
                   break;
-               case 36:
+               case 40:
                   if ((0x280000000000L & l) != 0L)
-                     jjCheckNAdd(37);
+                     jjCheckNAdd(41);
                   break;
-               case 37:
+               case 41:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
                   if (kind > 67)
                      kind = 67;
-                  jjCheckNAdd(37);
+                  jjCheckNAdd(41);
                   break;
-               case 38:
+               case 42:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
                   if (kind > 68)
                      kind = 68;
-                  jjCheckNAdd(38);
+                  jjCheckNAdd(42);
                   break;
                default : break;
             }
@@ -1058,31 +1072,33 @@ private int jjMoveNfa_0(int startState, int curPos)
          {
             switch(jjstateSet[--i])
             {
-               case 7:
+               case 43:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
                      if (kind > 72)
                         kind = 72;
-                     jjCheckNAddTwoStates(15, 16);
+                     jjCheckNAdd(16);
                   }
-                  else if (curChar == 91)
-                     jjCheckNAddTwoStates(29, 30);
-                  else if (curChar == 96)
-                     jjCheckNAddTwoStates(26, 27);
-                  break;
-               case 39:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
                      if (kind > 72)
                         kind = 72;
-                     jjCheckNAdd(16);
+                     jjCheckNAddTwoStates(15, 16);
                   }
+                  break;
+               case 7:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
                      if (kind > 72)
                         kind = 72;
                      jjCheckNAddTwoStates(15, 16);
                   }
+                  else if (curChar == 91)
+                     jjCheckNAddTwoStates(33, 34);
+                  else if (curChar == 96)
+                     jjCheckNAddTwoStates(30, 31);
+                  if ((0x100000001000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 23;
                   break;
                case 2:
                   if ((0x2000000020L & l) != 0L)
@@ -1120,36 +1136,44 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 21:
                   jjCheckNAddTwoStates(21, 19);
                   break;
-               case 23:
-                  jjAddStates(18, 19);
+               case 22:
+                  if ((0x100000001000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 23;
                   break;
-               case 25:
+               case 24:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjAddStates(18, 19);
+                  break;
+               case 27:
+                  jjAddStates(20, 21);
+                  break;
+               case 29:
                   if (curChar == 96)
-                     jjCheckNAddTwoStates(26, 27);
+                     jjCheckNAddTwoStates(30, 31);
                   break;
-               case 26:
+               case 30:
                   if ((0xfffffffeffffffffL & l) != 0L)
-                     jjCheckNAddTwoStates(26, 27);
+                     jjCheckNAddTwoStates(30, 31);
                   break;
-               case 27:
-                  if (curChar == 96 && kind > 76)
-                     kind = 76;
+               case 31:
+                  if (curChar == 96 && kind > 78)
+                     kind = 78;
                   break;
-               case 28:
+               case 32:
                   if (curChar == 91)
-                     jjCheckNAddTwoStates(29, 30);
+                     jjCheckNAddTwoStates(33, 34);
                   break;
-               case 29:
+               case 33:
                   if ((0xffffffffdfffffffL & l) != 0L)
-                     jjCheckNAddTwoStates(29, 30);
+                     jjCheckNAddTwoStates(33, 34);
                   break;
-               case 30:
-                  if (curChar == 93 && kind > 76)
-                     kind = 76;
+               case 34:
+                  if (curChar == 93 && kind > 78)
+                     kind = 78;
                   break;
-               case 35:
+               case 39:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(20, 21);
+                     jjAddStates(22, 23);
                   break;
                default : break;
             }
@@ -1187,15 +1211,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if ((jjbitVec0[i2] & l2) != 0L)
                      jjCheckNAddTwoStates(21, 19);
                   break;
-               case 23:
+               case 27:
                   if ((jjbitVec0[i2] & l2) != 0L)
-                     jjAddStates(18, 19);
+                     jjAddStates(20, 21);
                   break;
-               case 26:
+               case 30:
                   if ((jjbitVec0[i2] & l2) != 0L)
                      jjAddStates(9, 10);
                   break;
-               case 29:
+               case 33:
                   if ((jjbitVec0[i2] & l2) != 0L)
                      jjAddStates(11, 12);
                   break;
@@ -1210,15 +1234,15 @@ private int jjMoveNfa_0(int startState, int curPos)
          kind = 0x7fffffff;
       }
       ++curPos;
-      if ((i = jjnewStateCnt) == (startsAt = 39 - (jjnewStateCnt = startsAt)))
+      if ((i = jjnewStateCnt) == (startsAt = 43 - (jjnewStateCnt = startsAt)))
          return curPos;
       try { curChar = input_stream.readChar(); }
       catch(java.io.IOException e) { return curPos; }
    }
 }
 static final int[] jjnextStates = {
-   32, 0, 33, 34, 35, 38, 10, 11, 13, 26, 27, 29, 30, 33, 34, 35, 
-   3, 4, 23, 24, 36, 37, 
+   36, 0, 37, 38, 39, 42, 10, 11, 13, 30, 31, 33, 34, 37, 38, 39, 
+   3, 4, 24, 25, 27, 28, 40, 41, 
 };
 
 /** Token literal values. */
@@ -1228,17 +1252,17 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, null, null, "\73", "\75", "\54", "\50", "\51", 
-"\56", "\52", "\77", "\76", "\74", "\75\75", "\74\75", "\76\75", "\74\76", "\41\75", 
-"\100\100", "\174", "\46", "\174\174", "\53", "\55", "\57", "\136", null, "\175", null, 
-null, null, };
+null, null, null, null, null, null, null, null, null, null, "\73", "\75", "\54", 
+"\50", "\51", "\56", "\52", "\77", "\76", "\74", "\75\75", "\74\75", "\76\75", 
+"\74\76", "\41\75", "\100\100", "\174", "\46", "\174\174", "\53", "\55", "\57", "\136", 
+null, null, "\175", null, null, };
 
 /** Lexer state names. */
 public static final String[] lexStateNames = {
    "DEFAULT",
 };
 static final long[] jjtoToken = {
-   0xffffffffffffffe1L, 0x1fffffff91fL, 
+   0xffffffffffffffe1L, 0x7ffffffd91fL, 
 };
 static final long[] jjtoSkip = {
    0x1eL, 0xc0L, 
@@ -1247,8 +1271,8 @@ static final long[] jjtoSpecial = {
    0x0L, 0xc0L, 
 };
 protected SimpleCharStream input_stream;
-private final int[] jjrounds = new int[39];
-private final int[] jjstateSet = new int[78];
+private final int[] jjrounds = new int[43];
+private final int[] jjstateSet = new int[86];
 protected char curChar;
 /** Constructor. */
 public CCJSqlParserTokenManager(SimpleCharStream stream){
@@ -1275,7 +1299,7 @@ private void ReInitRounds()
 {
    int i;
    jjround = 0x80000001;
-   for (i = 39; i-- > 0;)
+   for (i = 43; i-- > 0;)
       jjrounds[i] = 0x80000000;
 }
 
@@ -0,0 +1,253 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.AstCopier;
+import net.sf.jsqlparser.util.CopyOnWrite;
+import net.sf.jsqlparser.util.NodeCounter;
+
+/**
+ * A {@link JSqlParser} that remembers the statements it has parsed, keyed by their 
+ * exact SQL text.  The cache is a least-recently-used map bounded both by the number 
+ * of entries and by their total weight, where the weight of an entry is the number 
+ * of AST nodes in its statement.
+ * <p>
+ * Parsed statements are mutable, so the cache never hands out the instance it keeps.  
+ * {@link #parse(String)} and {@link #parse(Reader)} return a private deep copy that 
+ * the caller may modify freely.  Callers that only read the tree can avoid the copy 
+ * with {@link #parseShared(String)}, which returns the cached instance itself; that 
+ * instance is shared with every other caller and must never be modified.  Callers 
+ * that change only a small part of the tree, such as its LIMIT or WHERE clause, can 
+ * use {@link #parseCopyOnWrite(String)} and copy just the nodes they change.
+ * <p>
+ * Statements that fail to parse are not cached.  A caching parser is safe to share 
+ * between threads as long as its delegate is.
+ */
+public class CachingParser implements JSqlParser {
+
+	/** The number of entries retained by {@link #CachingParser()} */
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	private final JSqlParser delegate;
+	private final int maxEntries;
+	private final long maxWeight;
+	private final LinkedHashMap<String, Entry> cache = 
+		new LinkedHashMap<String, Entry>(16, 0.75f, true);
+	private long weight = 0;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	public CachingParser() { this(DEFAULT_MAX_ENTRIES); }
+
+	public CachingParser(int maxEntries) {
+		this(new CCJSqlParserManager(), maxEntries, Long.MAX_VALUE);
+	}
+
+	/**
+	 * @param delegate      The parser used on a cache miss
+	 * @param maxEntries    The maximum number of statements to retain
+	 * @param maxWeight     The maximum total number of AST nodes to retain
+	 */
+	public CachingParser(JSqlParser delegate, int maxEntries, long maxWeight) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("No delegate parser");
+		}
+		if (maxEntries < 0) {
+			throw new IllegalArgumentException("Negative cache size: "+maxEntries);
+		}
+		if (maxWeight < 0) {
+			throw new IllegalArgumentException("Negative cache weight: "+maxWeight);
+		}
+		this.delegate = delegate;
+		this.maxEntries = maxEntries;
+		this.maxWeight = maxWeight;
+	}
+
+	/**
+	 * Read the statement text in full and parse it through the cache.
+	 */
+	public Statement parse(Reader statementReader) throws JSQLParserException {
+		return parse(readFully(statementReader));
+	}
+
+	/**
+	 * @return    A private copy of the statement, which the caller may modify
+	 */
+	public Statement parse(String sql) throws JSQLParserException {
+		Entry entry = lookup(sql);
+		if (entry != null) {
+			return new AstCopier().copy(entry.statement);
+		}
+		Statement statement = delegate.parse(new StringReader(sql));
+		if (statement != null) {
+			AstCopier copier = new AstCopier();
+			Statement cached = copier.copy(statement);
+			store(sql, new Entry(cached, copier.getNodeCount()));
+		}
+		return statement;
+	}
+
+	/**
+	 * Parse through the cache without copying.  The statement returned is the one held 
+	 * by the cache and shared by every caller asking for the same SQL text; it must be 
+	 * treated as read-only.
+	 * @return    The shared, read-only statement
+	 */
+	public Statement parseShared(String sql) throws JSQLParserException {
+		Entry entry = lookup(sql);
+		if (entry != null) {
+			return entry.statement;
+		}
+		Statement statement = delegate.parse(new StringReader(sql));
+		if (statement == null) {
+			return null;
+		}
+		return store(sql, new Entry(statement, NodeCounter.count(statement)));
+	}
+
+	/**
+	 * Parse through the cache, for callers that rewrite part of the statement.  The 
+	 * result wraps the shared statement; {@link CopyOnWrite#edit()} gives each caller 
+	 * a private version in which only the nodes made writable, and their ancestors, 
+	 * are copied.  The index this needs is built once per cached statement.
+	 */
+	public CopyOnWrite parseCopyOnWrite(String sql) throws JSQLParserException {
+		Entry entry = lookup(sql);
+		if (entry == null) {
+			Statement statement = delegate.parse(new StringReader(sql));
+			if (statement == null) {
+				return null;
+			}
+			entry = new Entry(statement, NodeCounter.count(statement));
+			Statement cached = store(sql, entry);
+			if (cached != statement) {
+				// another thread cached the same SQL first
+				return new CopyOnWrite(cached);
+			}
+		}
+		CopyOnWrite shared = entry.shared;
+		if (shared == null) {
+			// racing threads may each build one; any of them will do
+			shared = new CopyOnWrite(entry.statement);
+			entry.shared = shared;
+		}
+		return shared;
+	}
+
+	public long getHits() { return hits.get(); }
+	public long getMisses() { return misses.get(); }
+	public long getEvictions() { return evictions.get(); }
+
+	public int getMaxEntries() { return maxEntries; }
+	public long getMaxWeight() { return maxWeight; }
+
+	/**
+	 * @return    The number of statements currently cached
+	 */
+	public synchronized int size() { return cache.size(); }
+
+	/**
+	 * @return    The total number of AST nodes currently cached
+	 */
+	public synchronized long getWeight() { return weight; }
+
+	/**
+	 * Discard every cached statement.  The counters are left as they are.
+	 */
+	public synchronized void clear() {
+		cache.clear();
+		weight = 0;
+	}
+
+	private synchronized Entry lookup(String sql) {
+		Entry entry = cache.get(sql);
+		if (entry == null) {
+			misses.incrementAndGet();
+		} else {
+			hits.incrementAndGet();
+		}
+		return entry;
+	}
+
+	/**
+	 * Add <code>entry</code> and evict least recently used entries until the cache is 
+	 * back within its bounds.  If another thread cached the same SQL in the meantime, 
+	 * its entry wins and is returned instead.
+	 */
+	private synchronized Statement store(String sql, Entry entry) {
+		if (entry.weight > maxWeight || maxEntries == 0) {
+			return entry.statement;
+		}
+		Entry existing = cache.get(sql);
+		if (existing != null) {
+			return existing.statement;
+		}
+		cache.put(sql, entry);
+		weight += entry.weight;
+		Iterator<Map.Entry<String, Entry>> eldest = cache.entrySet().iterator();
+		while (cache.size() > maxEntries || weight > maxWeight) {
+			Entry victim = eldest.next().getValue();
+			eldest.remove();
+			weight -= victim.weight;
+			evictions.incrementAndGet();
+		}
+		return entry.statement;
+	}
+
+	private static String readFully(Reader reader) throws JSQLParserException {
+		StringBuilder sb = new StringBuilder();
+		char[] buf = new char[1024];
+		try {
+			int len;
+			while ((len = reader.read(buf)) >= 0) {
+				sb.append(buf, 0, len);
+			}
+		} catch (IOException e) {
+			throw new JSQLParserException(e.getMessage(), e);
+		}
+		return sb.toString();
+	}
+
+	private static class Entry {
+		final Statement statement;
+		final int weight;
+		volatile CopyOnWrite shared;
+
+		Entry(Statement statement, int weight) {
+			this.statement = statement;
+			this.weight = weight;
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * A {@link SimpleCharStream} that reads straight out of a {@link CharSequence} or a 
+ * <code>char[]</code> already in memory, instead of copying the text into its own 
+ * buffer through a {@link Reader}.
+ * <p>
+ * {@link SimpleCharStream} also records the line and column of every character it 
+ * buffers.  This stream only tracks offsets; the line and column of a token are 
+ * computed on demand by a cursor that scans forward from the last position asked 
+ * for, so each character is looked at once more at most, and only while tokens 
+ * are being built.
+ * <p>
+ * Use it with {@link CCJSqlParserManager#parse(CharSequence)}, or directly through 
+ * <code>new CCJSqlParser(new CCJSqlParserTokenManager(stream))</code>.
+ */
+public class CharSequenceCharStream extends SimpleCharStream {
+
+	private static final IOException EOF = new IOException("End of input");
+
+	private char[] array;
+	private CharSequence text;
+	private int start;
+	private int end;
+
+	/** The offset of the next character to read */
+	private int pos;
+	private int tokenStart;
+
+	/** The offset of the last character whose position is in line/column */
+	private int cursor;
+
+	public CharSequenceCharStream(CharSequence text) {
+		// the inherited buffers are never used
+		super((Reader)null, 1, 1, 1);
+		ReInit(text);
+	}
+
+	public CharSequenceCharStream(char[] text, int offset, int length) {
+		super((Reader)null, 1, 1, 1);
+		ReInit(text, offset, length);
+	}
+
+	public void ReInit(CharSequence text) {
+		if (text instanceof CharBuffer && ((CharBuffer)text).hasArray()) {
+			CharBuffer buf = (CharBuffer)text;
+			ReInit(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+		} else {
+			init(null, text, 0, text.length());
+		}
+	}
+
+	public void ReInit(char[] text, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > text.length) {
+			throw new IndexOutOfBoundsException("offset "+offset+", length "+length);
+		}
+		init(text, null, offset, offset + length);
+	}
+
+	private void init(char[] array, CharSequence text, int start, int end) {
+		this.array = array;
+		this.text = text;
+		this.start = start;
+		this.end = end;
+		pos = start;
+		tokenStart = start;
+		cursor = start - 1;
+		line = 1;
+		column = 0;
+		prevCharIsCR = false;
+		prevCharIsLF = false;
+	}
+
+	/**
+	 * Not supported; this stream never reads from a {@link Reader}.
+	 */
+	public void ReInit(Reader dstream, int startline, int startcolumn, int buffersize) {
+		throw new UnsupportedOperationException("CharSequenceCharStream can not read from a Reader");
+	}
+
+	public char BeginToken() throws IOException {
+		tokenStart = pos;
+		try {
+			return readChar();
+		} catch (IOException e) {
+			// like SimpleCharStream, an end of input token sits on the last character
+			tokenStart = pos - 1;
+			throw e;
+		}
+	}
+
+	public char readChar() throws IOException {
+		if (pos >= end) {
+			throw EOF;
+		}
+		return array != null ? array[pos++] : text.charAt(pos++);
+	}
+
+	public void backup(int amount) {
+		pos -= amount;
+	}
+
+	public String GetImage() {
+		if (array != null) {
+			return new String(array, tokenStart, pos - tokenStart);
+		}
+		return text.subSequence(tokenStart, pos).toString();
+	}
+
+	public char[] GetSuffix(int len) {
+		char[] ret = new char[len];
+		for (int i = 0; i < len; i++) {
+			ret[i] = charAt(pos - len + i);
+		}
+		return ret;
+	}
+
+	public void Done() {
+	}
+
+	public int getBeginLine() {
+		return lineAt(tokenStart);
+	}
+
+	public int getBeginColumn() {
+		return columnAt(tokenStart);
+	}
+
+	public int getEndLine() {
+		return lineAt(pos - 1);
+	}
+
+	public int getEndColumn() {
+		return columnAt(pos - 1);
+	}
+
+	@Deprecated
+	public int getLine() {
+		return getEndLine();
+	}
+
+	@Deprecated
+	public int getColumn() {
+		return getEndColumn();
+	}
+
+	/**
+	 * Not supported; the grammar has no lexical actions that need it.
+	 */
+	public void adjustBeginLineColumn(int newLine, int newCol) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Before the first character (only when the input is empty) SimpleCharStream 
+	 * reports line and column 0.
+	 */
+	private int lineAt(int offset) {
+		if (offset < start) { return 0; }
+		moveTo(offset);
+		return line;
+	}
+
+	private int columnAt(int offset) {
+		if (offset < start) { return 0; }
+		moveTo(offset);
+		return column;
+	}
+
+	private char charAt(int i) {
+		return array != null ? array[i] : text.charAt(i);
+	}
+
+	/**
+	 * Bring line and column up to the character at <code>offset</code>.  Tokens are 
+	 * built front to back, so this nearly always moves forward; otherwise the cursor 
+	 * starts over from the beginning.
+	 */
+	private void moveTo(int offset) {
+		if (offset < cursor) {
+			cursor = start - 1;
+			line = 1;
+			column = 0;
+			prevCharIsCR = false;
+			prevCharIsLF = false;
+		}
+		while (cursor < offset) {
+			// the same rules as SimpleCharStream.UpdateLineColumn()
+			char c = charAt(++cursor);
+			column++;
+			if (prevCharIsLF) {
+				prevCharIsLF = false;
+				line += (column = 1);
+			} else if (prevCharIsCR) {
+				prevCharIsCR = false;
+				if (c == '\n') {
+					prevCharIsLF = true;
+				} else {
+					line += (column = 1);
+				}
+			}
+			switch (c) {
+				case '\r': prevCharIsCR = true; break;
+				case '\n': prevCharIsLF = true; break;
+				case '\t': column--; column += (tabSize - (column % tabSize)); break;
+			}
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package net.sf.jsqlparser.parser;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.JSQLParserException;
+
+/**
+ * A 128 bit digest of the shape of a SQL statement.  The statement is run through 
+ * the {@link CCJSqlParserTokenManager} and every integer, floating point and string 
+ * literal is replaced by a placeholder for its kind, so statements that differ only 
+ * in their literals (or in whitespace and comments) get the same fingerprint:
+ * <pre>
+ *   SELECT * FROM items WHERE items.seller=5
+ *   select * from items where items.seller = 42
+ * </pre>
+ * Keywords and symbols contribute only their kind, so the case of a keyword does 
+ * not matter; identifiers contribute their exact text, so identifiers that differ 
+ * in case produce different fingerprints.
+ * <p>
+ * The literals themselves are kept, in the order they appear, and can be bound into 
+ * a statement of the same shape; see {@link TemplateCache}.
+ */
+public final class Fingerprint {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+
+	private final long high;
+	private final long low;
+	private final Token[] literals;
+
+	private Fingerprint(long high, long low, Token[] literals) {
+		this.high = high;
+		this.low = low;
+		this.literals = literals;
+	}
+
+	public static Fingerprint of(CharSequence sql) throws JSQLParserException {
+		return of(new CharSequenceCharStream(sql));
+	}
+
+	public static Fingerprint of(Reader reader) throws JSQLParserException {
+		return of(new ReaderCharStream(reader));
+	}
+
+	private static Fingerprint of(SimpleCharStream stream) throws JSQLParserException {
+		CCJSqlParserTokenManager tokens = new CCJSqlParserTokenManager(stream);
+		List<Token> literals = new ArrayList<Token>();
+		long low = FNV_OFFSET;
+		long high = GOLDEN;
+		try {
+			for (Token t = tokens.getNextToken(); t.kind != CCJSqlParserConstants.EOF; t = tokens.getNextToken()) {
+				low = (low ^ t.kind) * FNV_PRIME;
+				high = Long.rotateLeft(high ^ t.kind, 31) * GOLDEN;
+				if (isLiteral(t.kind)) {
+					literals.add(t);
+					continue;
+				}
+				if (!isIdentifier(t.kind)) {
+					// the kind of a keyword or symbol says all there is to its text
+					continue;
+				}
+				String image = t.image;
+				int len = image.length();
+				for (int i = 0; i < len; i++) {
+					char c = image.charAt(i);
+					low = (low ^ c) * FNV_PRIME;
+					high = Long.rotateLeft(high ^ c, 31) * GOLDEN;
+				}
+				// the length separates adjacent tokens of the same kind
+				low = (low ^ len) * FNV_PRIME;
+				high = Long.rotateLeft(high ^ len, 31) * GOLDEN;
+			}
+		} catch (TokenMgrError e) {
+			throw new JSQLParserException(e.getMessage(), e);
+		}
+		return new Fingerprint(mix(high), mix(low), literals.toArray(new Token[literals.size()]));
+	}
+
+	/**
+	 * @return    True for the token kinds that are replaced by placeholders
+	 */
+	public static boolean isLiteral(int kind) {
+		return kind == CCJSqlParserConstants.S_INTEGER 
+			|| kind == CCJSqlParserConstants.S_DOUBLE 
+			|| kind == CCJSqlParserConstants.S_CHAR_LITERAL
+			|| kind == CCJSqlParserConstants.S_BINARY_LITERAL;
+	}
+
+	private static boolean isIdentifier(int kind) {
+		return kind == CCJSqlParserConstants.S_IDENTIFIER 
+			|| kind == CCJSqlParserConstants.S_QUOTED_IDENTIFIER;
+	}
+
+	public long getHigh() { return high; }
+	public long getLow() { return low; }
+
+	/**
+	 * @return    The number of literals replaced by placeholders
+	 */
+	public int getLiteralCount() { return literals.length; }
+
+	/**
+	 * @return    The <code>i</code>th literal token, in the order they appear
+	 */
+	public Token getLiteral(int i) { return literals[i]; }
+
+	public boolean equals(Object o) {
+		if (!(o instanceof Fingerprint)) { return false; }
+		Fingerprint other = (Fingerprint)o;
+		return high == other.high && low == other.low;
+	}
+
+	public int hashCode() {
+		return (int)(low ^ (low >>> 32));
+	}
+
+	public String toString() {
+		return String.format("%016x%016x", high, low);
+	}
+
+	/**
+	 * The MurmurHash3 finalizer, so that every input bit affects every output bit
+	 */
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
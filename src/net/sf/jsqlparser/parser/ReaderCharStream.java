@@ -0,0 +1,66 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package net.sf.jsqlparser.parser;
+
+import java.io.Reader;
+
+/**
+ * A {@link SimpleCharStream} whose buffer grows geometrically.
+ * <p>
+ * A token has to fit in the buffer whole, and {@link SimpleCharStream} grows its
+ * buffer 2048 characters at a time, copying everything buffered so far on each
+ * step; a literal of a few megabytes, such as a blob in a dump, is copied a
+ * thousand times over.  This stream doubles the buffer instead, so buffering a
+ * token of any length costs time linear in its length.
+ */
+public class ReaderCharStream extends SimpleCharStream {
+
+	public ReaderCharStream(Reader reader) {
+		super(reader);
+	}
+
+	protected void ExpandBuff(boolean wrapAround) {
+		int newSize = bufsize + Math.max(2048, bufsize);
+		char[] newBuffer = new char[newSize];
+		int[] newLine = new int[newSize];
+		int[] newColumn = new int[newSize];
+		int head = bufsize - tokenBegin;
+		System.arraycopy(buffer, tokenBegin, newBuffer, 0, head);
+		System.arraycopy(bufline, tokenBegin, newLine, 0, head);
+		System.arraycopy(bufcolumn, tokenBegin, newColumn, 0, head);
+		if (wrapAround) {
+			System.arraycopy(buffer, 0, newBuffer, head, bufpos);
+			System.arraycopy(bufline, 0, newLine, head, bufpos);
+			System.arraycopy(bufcolumn, 0, newColumn, head, bufpos);
+			maxNextCharInd = (bufpos += head);
+		} else {
+			maxNextCharInd = (bufpos -= tokenBegin);
+		}
+		buffer = newBuffer;
+		bufline = newLine;
+		bufcolumn = newColumn;
+		bufsize = newSize;
+		available = bufsize;
+		tokenBegin = 0;
+	}
+}
@@ -0,0 +1,182 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package net.sf.jsqlparser.parser;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.UncheckedJSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Parses a script of <code>;</code> separated statements one statement at a time, 
+ * from a single token stream over a {@link Reader}.  Nothing is read ahead of the 
+ * statement being parsed, and the parser holds no reference to the tokens of a 
+ * statement once it has been returned, so memory use depends on the largest 
+ * statement rather than on the size of the script.
+ * <p>
+ * Empty statements (stray <code>;</code>s) are ignored.  By default a statement that 
+ * does not parse ends the iteration: {@link #next()} throws an 
+ * {@link UncheckedJSQLParserException}.  With <code>skipErrors</code> set the 
+ * iterator instead skips ahead to the next <code>;</code> and carries on; the 
+ * errors are passed to {@link #skipped(JSQLParserException)}.
+ * <p>
+ * An iterator is not safe to share between threads.
+ */
+public class StatementIterator implements Iterator<Statement>, Closeable {
+
+	private static final int SEMICOLON = 
+		Arrays.asList(CCJSqlParserConstants.tokenImage).indexOf("\";\"");
+
+	private final Reader reader;
+	private final SimpleCharStream stream;
+	private final CCJSqlParser parser;
+	private final boolean skipErrors;
+
+	private Statement next = null;
+	private boolean done = false;
+	private int skipped = 0;
+
+	public StatementIterator(Reader reader) { this(reader, false); }
+
+	/**
+	 * @param reader        The script to parse
+	 * @param skipErrors    True to skip statements that do not parse
+	 */
+	public StatementIterator(Reader reader, boolean skipErrors) {
+		this.reader = reader;
+		this.stream = new ReaderCharStream(reader);
+		this.parser = new CCJSqlParser(new CCJSqlParserTokenManager(stream));
+		this.skipErrors = skipErrors;
+	}
+
+	public StatementIterator(File file, boolean skipErrors) throws FileNotFoundException {
+		this(new FileReader(file), skipErrors);
+	}
+
+	public boolean hasNext() {
+		while (next == null && !done) {
+			try {
+				// skip empty statements
+				while (parser.getToken(1).kind == SEMICOLON) {
+					parser.getNextToken();
+				}
+				if (parser.getToken(1).kind == CCJSqlParserConstants.EOF) {
+					done = true;
+					break;
+				}
+				next = parser.Statement();
+			} catch (ParseException e) {
+				error(new JSQLParserException(e.getMessage(), e));
+			} catch (TokenMgrError e) {
+				error(new JSQLParserException(e.getMessage(), e));
+			}
+		}
+		return next != null;
+	}
+
+	public Statement next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Statement ret = next;
+		next = null;
+		return ret;
+	}
+
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @return    A sequential, ordered spliterator over the remaining statements
+	 */
+	public Spliterator<Statement> spliterator() {
+		return Spliterators.spliteratorUnknownSize(this, 
+			Spliterator.ORDERED | Spliterator.NONNULL);
+	}
+
+	/**
+	 * @return    The number of statements skipped because they did not parse
+	 */
+	public int getSkipped() { return skipped; }
+
+	/**
+	 * Called with the error for every statement skipped.  Does nothing; subclasses 
+	 * may override it to log or collect the errors.
+	 */
+	protected void skipped(JSQLParserException e) {
+	}
+
+	public void close() throws IOException {
+		done = true;
+		next = null;
+		reader.close();
+	}
+
+	private void error(JSQLParserException e) {
+		if (!skipErrors) {
+			done = true;
+			throw new UncheckedJSQLParserException(e);
+		}
+		skipped++;
+		skipped(e);
+		// resynchronize on the next ';', which is consumed, or the end of the script
+		Token t;
+		do {
+			t = nextTokenAfterError();
+		} while (t != null && t.kind != SEMICOLON && t.kind != CCJSqlParserConstants.EOF);
+		if (t == null || t.kind == CCJSqlParserConstants.EOF) {
+			done = true;
+		}
+	}
+
+	/**
+	 * The token manager leaves a character it can not match at the head of the 
+	 * stream; such characters are dropped one at a time.
+	 * @return    The next token, or null if the script ends in the middle of a token
+	 */
+	private Token nextTokenAfterError() {
+		while (true) {
+			try {
+				return parser.getNextToken();
+			} catch (TokenMgrError e) {
+				try {
+					stream.readChar();
+				} catch (IOException eof) {
+					return null;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,248 @@
+/* ================================================================
+ * JSQLParser : java based sql parser 
+ * ================================================================
+ *
+ * Project Info:  http://jsqlparser.sourceforge.net
+ * Project Lead:  Leonardo Francalanci (leoonardoo@yahoo.it);
+ *
+ * (C) Copyright 2004, by Leonardo Francalanci
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms
+ * of the GNU Lesser General Public License as published by the Free Software Foundation;
+ * either version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ */
+
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.AstCopier;
+
+/**
+ * A {@link JSqlParser} that parses each distinct statement shape only once.  The 
+ * shape of a statement is its {@link Fingerprint}: the statement text with its 
+ * literals replaced by placeholders.  The first statement of a given shape is parsed 
+ * normally and kept as a template, recording which {@link LongValue}, 
+ * {@link DoubleValue} and {@link StringValue} nodes came from which literal.  Later 
+ * statements of the same shape are tokenized but not parsed: their literals are 
+ * bound into a copy of the template.
+ * <p>
+ * Not every literal ends up in a value node; the row count in <code>LIMIT 10</code> 
+ * or the text of <code>{d '2012-01-01'}</code> for example are stored elsewhere.  
+ * Such literals are part of the template and a statement only reuses it if it has 
+ * the same text in those positions; otherwise the statement is parsed on its own.
+ * <p>
+ * The statements returned are private copies that the caller may modify.  A 
+ * template cache is safe to share between threads.
+ */
+public class TemplateCache implements JSqlParser {
+
+	/** The number of templates retained by {@link #TemplateCache()} */
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	private final int maxEntries;
+	private final LinkedHashMap<Fingerprint, Template> cache = 
+		new LinkedHashMap<Fingerprint, Template>(16, 0.75f, true) {
+			protected boolean removeEldestEntry(Map.Entry<Fingerprint, Template> eldest) {
+				if (size() > maxEntries) {
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	public TemplateCache() { this(DEFAULT_MAX_ENTRIES); }
+
+	/**
+	 * @param maxEntries    The maximum number of templates to retain
+	 */
+	public TemplateCache(int maxEntries) {
+		if (maxEntries < 0) {
+			throw new IllegalArgumentException("Negative cache size: "+maxEntries);
+		}
+		this.maxEntries = maxEntries;
+	}
+
+	public Statement parse(Reader statementReader) throws JSQLParserException {
+		return parse(readFully(statementReader));
+	}
+
+	public Statement parse(String sql) throws JSQLParserException {
+		Fingerprint fingerprint = Fingerprint.of(sql);
+		Template template = lookup(fingerprint);
+		if (template != null && template.matches(fingerprint)) {
+			try {
+				Statement statement = template.bind(fingerprint);
+				hits.incrementAndGet();
+				return statement;
+			} catch (IllegalArgumentException e) {
+				// a literal the grammar rejects, such as X'0af'; parsing reports it 
+				// the way the parser would
+			}
+		}
+		misses.incrementAndGet();
+		Template parsed = Template.parse(sql, fingerprint);
+		if (template == null) {
+			store(fingerprint, parsed);
+		}
+		return parsed.bind(fingerprint);
+	}
+
+	/**
+	 * @return    The number of statements built from a cached template
+	 */
+	public long getHits() { return hits.get(); }
+
+	/**
+	 * @return    The number of statements that had to be parsed
+	 */
+	public long getMisses() { return misses.get(); }
+
+	public long getEvictions() { return evictions.get(); }
+
+	public int getMaxEntries() { return maxEntries; }
+
+	/**
+	 * @return    The number of templates currently cached
+	 */
+	public synchronized int size() { return cache.size(); }
+
+	/**
+	 * Discard every cached template.  The counters are left as they are.
+	 */
+	public synchronized void clear() { cache.clear(); }
+
+	private synchronized Template lookup(Fingerprint fingerprint) {
+		return cache.get(fingerprint);
+	}
+
+	private synchronized void store(Fingerprint fingerprint, Template template) {
+		if (maxEntries > 0 && !cache.containsKey(fingerprint)) {
+			cache.put(fingerprint, template);
+		}
+	}
+
+	private static String readFully(Reader reader) throws JSQLParserException {
+		StringBuilder sb = new StringBuilder();
+		char[] buf = new char[1024];
+		try {
+			int len;
+			while ((len = reader.read(buf)) >= 0) {
+				sb.append(buf, 0, len);
+			}
+		} catch (IOException e) {
+			throw new JSQLParserException(e.getMessage(), e);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * A parsed statement together with the literal each of its value nodes came 
+	 * from.  A template is never modified once built, and only ever copied from.
+	 */
+	private static class Template {
+		final Statement statement;
+		/** Value node -> index of the literal it was parsed from */
+		final IdentityHashMap<Expression, Integer> slots;
+		/** Literal index -> required text, or null where the literal is a slot */
+		final String[] fixed;
+
+		Template(Statement statement, IdentityHashMap<Expression, Integer> slots, String[] fixed) {
+			this.statement = statement;
+			this.slots = slots;
+			this.fixed = fixed;
+		}
+
+		static Template parse(String sql, Fingerprint fingerprint) throws JSQLParserException {
+			final Map<Long, Integer> positions = new HashMap<Long, Integer>();
+			for (int i = 0; i < fingerprint.getLiteralCount(); i++) {
+				positions.put(position(fingerprint.getLiteral(i)), i);
+			}
+			final IdentityHashMap<Expression, Integer> slots = new IdentityHashMap<Expression, Integer>();
+			CCJSqlParser parser = new CCJSqlParser(
+				new CCJSqlParserTokenManager(new CharSequenceCharStream(sql))) {
+				protected void literal(Token token, Expression value) {
+					Integer i = positions.get(position(token));
+					if (i != null) { slots.put(value, i); }
+				}
+
+				protected boolean useLiteralLists() {
+					return false;
+				}
+			};
+			Statement statement;
+			try {
+				statement = parser.Statement();
+			} catch (ParseException e) {
+				throw new JSQLParserException(e.getMessage(), e);
+			} catch (TokenMgrError e) {
+				throw new JSQLParserException(e.getMessage(), e);
+			}
+			String[] fixed = new String[fingerprint.getLiteralCount()];
+			for (int i = 0; i < fixed.length; i++) {
+				fixed[i] = fingerprint.getLiteral(i).image;
+			}
+			for (Integer i : slots.values()) {
+				fixed[i] = null;
+			}
+			return new Template(statement, slots, fixed);
+		}
+
+		boolean matches(Fingerprint fingerprint) {
+			if (fingerprint.getLiteralCount() != fixed.length) { return false; }
+			for (int i = 0; i < fixed.length; i++) {
+				if (fixed[i] != null && !fixed[i].equals(fingerprint.getLiteral(i).image)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		Statement bind(final Fingerprint fingerprint) {
+			AstCopier binder = new AstCopier() {
+				public Expression copy(Expression expression) {
+					Integer i = slots.get(expression);
+					if (i == null) { return super.copy(expression); }
+					Token literal = fingerprint.getLiteral(i);
+					switch (literal.kind) {
+						case CCJSqlParserConstants.S_INTEGER: return new LongValue(literal.image);
+						case CCJSqlParserConstants.S_DOUBLE: return new DoubleValue(literal.image);
+						case CCJSqlParserConstants.S_BINARY_LITERAL: return BinaryValue.parseEscaped(literal.image);
+						default: return StringValue.parseEscaped(literal.image);
+					}
+				}
+			};
+			return binder.copy(statement);
+		}
+
+		static Long position(Token token) {
+			return ((long)token.beginLine << 32) | token.beginColumn;
+		}
+	}
+}
@@ -25,6 +25,7 @@ package net.sf.jsqlparser.schema;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
 
 /**
  * A column. It can have the table name it belongs to. 
@@ -80,6 +81,10 @@ public class Column implements Expression {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String toString() {
 		return getWholeColumnName();
 	}
@@ -98,4 +103,12 @@ public class Column implements Expression {
 		if(table.getName() == null || other.table.getName() == null){ return true; }
 		return table.getName().equalsIgnoreCase(other.table.getName());
 	}
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
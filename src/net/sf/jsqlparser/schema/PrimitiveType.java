@@ -4,7 +4,7 @@ import java.sql.SQLException;
 import net.sf.jsqlparser.expression.*;
 
 public enum PrimitiveType { 
-	LONG, DOUBLE, STRING, BOOL, DATE, TIMESTAMP, TIME;
+	LONG, DOUBLE, STRING, BOOL, DATE, TIMESTAMP, TIME, DECIMAL, BINARY;
 
 	public static PrimitiveType fromString(String in)
 		throws SQLException
@@ -21,8 +21,12 @@ public enum PrimitiveType {
 				return LONG;
 			case "DOUBLE":
 			case "FLOAT":
-			case "DECIMAL":
+			case "REAL":
 				return DOUBLE;
+			case "DECIMAL":
+			case "NUMERIC":
+			case "DEC":
+				return DECIMAL;
 			case "BOOL":
 				return BOOL;
 			case "DATE":
@@ -32,6 +36,14 @@ public enum PrimitiveType {
 				return TIME;
 			case "TIMESTAMP":
 				return TIMESTAMP;
+			case "BINARY":
+			case "VARBINARY":
+			case "BLOB":
+			case "TINYBLOB":
+			case "MEDIUMBLOB":
+			case "LONGBLOB":
+			case "BYTEA":
+				return BINARY;
 		}
 		throw new SQLException("Unknown Type: '"+in.toUpperCase()+"'");
 	}
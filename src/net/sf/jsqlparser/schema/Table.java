@@ -24,6 +24,7 @@ package net.sf.jsqlparser.schema;
 
 import net.sf.jsqlparser.statement.select.FromItem;
 import net.sf.jsqlparser.statement.select.FromItemVisitor;
+import net.sf.jsqlparser.statement.select.GenericFromItemVisitor;
 import net.sf.jsqlparser.statement.select.IntoTableVisitor;
 import net.sf.jsqlparser.statement.select.SelectItemVisitor;
 
@@ -87,6 +88,10 @@ public class Table implements FromItem {
 	public void accept(FromItemVisitor fromItemVisitor) {
 		fromItemVisitor.visit(this);
 	}
+
+	public <R, C> R accept(GenericFromItemVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
 	
 	public void accept(IntoTableVisitor intoTableVisitor) {
 		intoTableVisitor.visit(this);
@@ -28,4 +28,5 @@ package net.sf.jsqlparser.statement;
  */
 public interface Statement {
 	public void accept(StatementVisitor statementVisitor);
+	public <R, C> R accept(GenericStatementVisitor<R, C> visitor, C context);
 }
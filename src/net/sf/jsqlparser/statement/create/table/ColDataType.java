@@ -1,8 +1,10 @@
 package net.sf.jsqlparser.statement.create.table;
 
+import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
 
+import net.sf.jsqlparser.schema.PrimitiveType;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 public class ColDataType {
@@ -26,6 +28,42 @@ public class ColDataType {
         dataType = string;
     }
 
+    /**
+     * @return    The type of the values of this column
+     * @throws SQLException    if the type is not one of the {@link PrimitiveType}s
+     */
+    public PrimitiveType getPrimitiveType() throws SQLException {
+        return PrimitiveType.fromString(dataType);
+    }
+
+    /**
+     * @return    The first argument, e.g. the 10 of DECIMAL(10, 2), or -1 if
+     *            there is none or it is not a number
+     */
+    public int getPrecision() {
+        return numericArgument(0);
+    }
+
+    /**
+     * @return    The second argument, e.g. the 2 of DECIMAL(10, 2); 0 if the
+     *            type has a precision but no scale, and -1 if it has neither
+     */
+    public int getScale() {
+        int scale = numericArgument(1);
+        return scale < 0 && getPrecision() >= 0 ? 0 : scale;
+    }
+
+    private int numericArgument(int index) {
+        if (argumentsStringList == null || argumentsStringList.size() <= index) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(argumentsStringList.get(index));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     public String toString() {
         return dataType + (argumentsStringList!=null?" "+PlainSelect.getStringList(argumentsStringList, true, true):"");
     }
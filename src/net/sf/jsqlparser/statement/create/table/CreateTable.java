@@ -5,6 +5,7 @@ import java.util.List;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.GenericStatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 /**
@@ -23,6 +24,10 @@ public class CreateTable implements Statement {
         statementVisitor.visit(this);
     }
 
+    public <R, C> R accept(GenericStatementVisitor<R, C> visitor, C context) {
+    	return visitor.visit(this, context);
+    }
+
     /**
      * The name of the table to be created
      *
@@ -26,6 +26,7 @@ import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.GenericStatementVisitor;
 
 public class Delete implements Statement {
 	private Table table;
@@ -35,6 +36,10 @@ public class Delete implements Statement {
 		statementVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericStatementVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public Table getTable() {
 		return table;
 	}
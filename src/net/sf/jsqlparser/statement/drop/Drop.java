@@ -4,6 +4,7 @@ import java.util.List;
 
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.GenericStatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 public class Drop implements Statement {
@@ -15,6 +16,10 @@ public class Drop implements Statement {
 		statementVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericStatementVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String getName() {
 		return name;
 	}
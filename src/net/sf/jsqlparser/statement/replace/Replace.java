@@ -29,6 +29,7 @@ import net.sf.jsqlparser.expression.operators.relational.ItemsList;
 import net.sf.jsqlparser.schema.*;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.GenericStatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.SubSelect;
 
@@ -46,6 +47,10 @@ public class Replace implements Statement {
 		statementVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericStatementVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public Table getTable() {
 		return table;
 	}
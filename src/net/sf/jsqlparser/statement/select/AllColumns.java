@@ -30,6 +30,10 @@ public class AllColumns implements SelectItem {
 	public void accept(SelectItemVisitor selectItemVisitor) {
 		selectItemVisitor.visit(this);
 	}
+
+	public <R, C> R accept(GenericSelectItemVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
 	
 	public String toString() {
 		return "*";
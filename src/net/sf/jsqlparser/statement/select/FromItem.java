@@ -28,6 +28,7 @@ package net.sf.jsqlparser.statement.select;
  */
 public interface FromItem {
 	public void accept(FromItemVisitor fromItemVisitor);
+	public <R, C> R accept(GenericFromItemVisitor<R, C> visitor, C context);
 	public String getAlias();
 	public void setAlias(String alias);
 	
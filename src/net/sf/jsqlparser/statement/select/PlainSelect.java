@@ -40,7 +40,7 @@ public class PlainSelect implements SelectBody {
 	private FromItem fromItem;
 	private List<Join> joins;
 	private Expression where;
-	private List<Column> groupByColumnReferences;
+	private List<Expression> groupByColumnReferences;
 	private List<OrderByElement> orderByElements;
 	private Expression having;
 	private Limit limit;
@@ -106,6 +106,10 @@ public class PlainSelect implements SelectBody {
 		selectVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericSelectVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public List<OrderByElement> getOrderByElements() {
 		return orderByElements;
 	}
@@ -151,11 +155,11 @@ public class PlainSelect implements SelectBody {
 	 * It is null in case there is no GROUP BY clause
 	 * @return a list of {@link Expression}s 
 	 */
-	public List<Column> getGroupByColumnReferences() {
+	public List<Expression> getGroupByColumnReferences() {
 		return groupByColumnReferences;
 	}
 
-	public void setGroupByColumnReferences(List<Column> list) {
+	public void setGroupByColumnReferences(List<Expression> list) {
 		groupByColumnReferences = list;
 	}
 
@@ -238,25 +242,25 @@ public class PlainSelect implements SelectBody {
 	 * @return comma separated list of the elements in the list
 	 */
 	public static String getStringList(List list, boolean useComma, boolean useBrackets) {
-		String ans = "";
+		StringBuilder ans = new StringBuilder();
 		String comma = ",";
 		if (!useComma) {
 		    comma = "";
 		}
 		if (list != null) {
 		    if (useBrackets) {
-		        ans += "(";
+		        ans.append("(");
 		    }
 		    
 			for (int i = 0; i < list.size(); i++) {
-				ans += "" + list.get(i) + ((i < list.size() - 1) ? comma + " " : "");
+				ans.append(list.get(i)).append((i < list.size() - 1) ? comma + " " : "");
 			}
 			
 		    if (useBrackets) {
-		        ans += ")";
+		        ans.append(")");
 		    }
 		}
 
-		return ans;
+		return ans.toString();
 	}
 }
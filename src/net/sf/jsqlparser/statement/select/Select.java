@@ -27,6 +27,7 @@ import java.util.List;
 
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.GenericStatementVisitor;
 
 public class Select implements Statement {
 	private SelectBody selectBody;
@@ -36,6 +37,10 @@ public class Select implements Statement {
 		statementVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericStatementVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public SelectBody getSelectBody() {
 		return selectBody;
 	}
@@ -24,4 +24,5 @@ package net.sf.jsqlparser.statement.select;
 
 public interface SelectBody {
 	public void accept(SelectVisitor selectVisitor);
+	public <R, C> R accept(GenericSelectVisitor<R, C> visitor, C context);
 }
@@ -28,4 +28,5 @@ package net.sf.jsqlparser.statement.select;
  */
 public interface SelectItem {
 	public void accept(SelectItemVisitor selectItemVisitor);
+	public <R, C> R accept(GenericSelectItemVisitor<R, C> visitor, C context);
 }
@@ -35,6 +35,10 @@ public class SubJoin implements FromItem {
 		fromItemVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericFromItemVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public FromItem getLeft() {
 		return left;
 	}
@@ -24,8 +24,10 @@ package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.GenericExpressionVisitor;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
 import net.sf.jsqlparser.expression.operators.relational.ItemsListVisitor;
+import net.sf.jsqlparser.expression.operators.relational.GenericItemsListVisitor;
 
 
 /**
@@ -39,6 +41,10 @@ public class SubSelect implements FromItem, Expression, ItemsList {
 		fromItemVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericFromItemVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public SelectBody getSelectBody() {
 		return selectBody;
 	}
@@ -51,6 +57,10 @@ public class SubSelect implements FromItem, Expression, ItemsList {
 		expressionVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericExpressionVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String getAlias() {
 		return alias;
 	}
@@ -63,7 +73,19 @@ public class SubSelect implements FromItem, Expression, ItemsList {
 		itemsListVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericItemsListVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public String toString () {
 		return "("+selectBody+")"+((alias!=null)?" "+alias:"");
 	}
+
+	public int getChildCount() {
+		return 0;
+	}
+
+	public Expression getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: "+index);
+	}
 }
@@ -39,6 +39,10 @@ public class Union implements SelectBody {
 		selectVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericSelectVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public List<OrderByElement> getOrderByElements() {
 		return orderByElements;
 	}
@@ -93,7 +97,7 @@ public class Union implements SelectBody {
 	
 	public String toString() {
 
-		String selects = "";
+		StringBuilder selects = new StringBuilder();
 		String allDistinct = "";
 		if (isAll()) {
 			allDistinct = "ALL ";
@@ -102,10 +106,10 @@ public class Union implements SelectBody {
 		}
 			
 		for (int i = 0; i < plainSelects.size(); i++) {
-			selects += plainSelects.get(i) + ((i < plainSelects.size() - 1) ? " UNION " + allDistinct : "");
+			selects.append(plainSelects.get(i)).append((i < plainSelects.size() - 1) ? " UNION " + allDistinct : "");
 		}
 
-		return selects + 
+		return selects.toString() + 
 				((orderByElements!=null)?PlainSelect.orderByToString(orderByElements):"") +
 				((limit!=null)?limit+"":"");  
 	}
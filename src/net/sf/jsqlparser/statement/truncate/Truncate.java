@@ -3,6 +3,7 @@ package net.sf.jsqlparser.statement.truncate;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.GenericStatementVisitor;
 
 /**
  * A TRUNCATE TABLE statement
@@ -14,6 +15,10 @@ public class Truncate implements Statement {
 		statementVisitor.visit(this);
 	}
 
+	public <R, C> R accept(GenericStatementVisitor<R, C> visitor, C context) {
+		return visitor.visit(this, context);
+	}
+
 	public Table getTable() {
 		return table;
 	}
@@ -0,0 +1,663 @@
+package net.sf.jsqlparser.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.ItemsListVisitor;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.create.table.ColDataType;
+import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.table.Index;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.Distinct;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.FromItemVisitor;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.statement.select.SelectItemVisitor;
+import net.sf.jsqlparser.statement.select.SelectVisitor;
+import net.sf.jsqlparser.statement.select.SubJoin;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Top;
+import net.sf.jsqlparser.statement.select.Union;
+import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+
+/**
+ * Produces deep copies of statements, select bodies and expressions.  The copy
+ * shares no mutable state with the original: every node and list is
+ * duplicated.  Strings, the BooleanValue singletons and the bytes of a
+ * BinaryValue are shared, since they can not be modified.
+ * <p>
+ * A copier keeps its intermediate result in a field, so an instance must not be
+ * used by more than one thread at a time.  Copiers are cheap; create one per use.
+ */
+public class AstCopier implements StatementVisitor, SelectVisitor, FromItemVisitor,
+		ExpressionVisitor, ItemsListVisitor, SelectItemVisitor {
+
+	private Object result;
+	private int nodeCount;
+
+	/**
+	 * The number of AST nodes created by this copier so far.  Useful as a rough
+	 * measure of the size of a tree.
+	 * @return    The number of nodes copied since this copier was created
+	 */
+	public int getNodeCount() { return nodeCount; }
+
+	public Statement copy(Statement statement) {
+		if(statement == null){ return null; }
+		statement.accept(this);
+		return (Statement)take();
+	}
+
+	public SelectBody copy(SelectBody body) {
+		if(body == null){ return null; }
+		body.accept(this);
+		return (SelectBody)take();
+	}
+
+	public FromItem copy(FromItem fromItem) {
+		if(fromItem == null){ return null; }
+		fromItem.accept((FromItemVisitor)this);
+		return (FromItem)take();
+	}
+
+	public Expression copy(Expression expression) {
+		if(expression == null){ return null; }
+		expression.accept((ExpressionVisitor)this);
+		return (Expression)take();
+	}
+
+	public ItemsList copy(ItemsList itemsList) {
+		if(itemsList == null){ return null; }
+		itemsList.accept((ItemsListVisitor)this);
+		return (ItemsList)take();
+	}
+
+	public SelectItem copy(SelectItem selectItem) {
+		if(selectItem == null){ return null; }
+		selectItem.accept(this);
+		return (SelectItem)take();
+	}
+
+	public Table copy(Table table) {
+		if(table == null){ return null; }
+		nodeCount++;
+		Table ret = new Table(table.getSchemaName(), table.getName());
+		ret.setAlias(table.getAlias());
+		return ret;
+	}
+
+	public Column copy(Column column) {
+		if(column == null){ return null; }
+		nodeCount++;
+		return new Column(copy(column.getTable()), column.getColumnName());
+	}
+
+	public Join copy(Join join) {
+		if(join == null){ return null; }
+		nodeCount++;
+		Join ret = new Join();
+		ret.setOuter(join.isOuter());
+		ret.setRight(join.isRight());
+		ret.setLeft(join.isLeft());
+		ret.setNatural(join.isNatural());
+		ret.setFull(join.isFull());
+		ret.setInner(join.isInner());
+		ret.setSimple(join.isSimple());
+		ret.setRightItem(copy(join.getRightItem()));
+		ret.setOnExpression(copy(join.getOnExpression()));
+		ret.setUsingColumns(copyColumns(join.getUsingColumns()));
+		return ret;
+	}
+
+	public OrderByElement copy(OrderByElement element) {
+		if(element == null){ return null; }
+		nodeCount++;
+		OrderByElement ret = new OrderByElement();
+		ret.setAsc(element.isAsc());
+		ret.setExpression(copy(element.getExpression()));
+		return ret;
+	}
+
+	public Limit copy(Limit limit) {
+		if(limit == null){ return null; }
+		nodeCount++;
+		Limit ret = new Limit();
+		ret.setOffset(limit.getOffset());
+		ret.setRowCount(limit.getRowCount());
+		ret.setOffsetJdbcParameter(limit.isOffsetJdbcParameter());
+		ret.setRowCountJdbcParameter(limit.isRowCountJdbcParameter());
+		ret.setLimitAll(limit.isLimitAll());
+		return ret;
+	}
+
+	public Top copy(Top top) {
+		if(top == null){ return null; }
+		nodeCount++;
+		Top ret = new Top();
+		ret.setRowCount(top.getRowCount());
+		ret.setRowCountJdbcParameter(top.isRowCountJdbcParameter());
+		return ret;
+	}
+
+	public Distinct copy(Distinct distinct) {
+		if(distinct == null){ return null; }
+		nodeCount++;
+		Distinct ret = new Distinct();
+		ret.setOnSelectItems(copySelectExpressionItems(distinct.getOnSelectItems()));
+		return ret;
+	}
+
+	public WithItem copy(WithItem with) {
+		if(with == null){ return null; }
+		nodeCount++;
+		WithItem ret = new WithItem();
+		ret.setName(with.getName());
+		ret.setWithItemList(copySelectExpressionItems(with.getWithItemList()));
+		ret.setSelectBody(copy(with.getSelectBody()));
+		return ret;
+	}
+
+	public WhenClause copy(WhenClause when) {
+		if(when == null){ return null; }
+		nodeCount++;
+		WhenClause ret = new WhenClause();
+		ret.setWhenExpression(copy(when.getWhenExpression()));
+		ret.setThenExpression(copy(when.getThenExpression()));
+		return ret;
+	}
+
+	public SubSelect copy(SubSelect subSelect) {
+		if(subSelect == null){ return null; }
+		nodeCount++;
+		SubSelect ret = new SubSelect();
+		ret.setSelectBody(copy(subSelect.getSelectBody()));
+		ret.setAlias(subSelect.getAlias());
+		return ret;
+	}
+
+	public PlainSelect copy(PlainSelect plainSelect) {
+		if(plainSelect == null){ return null; }
+		nodeCount++;
+		PlainSelect ret = new PlainSelect();
+		ret.setDistinct(copy(plainSelect.getDistinct()));
+		if(plainSelect.getSelectItems() != null){
+			List<SelectItem> items = new ArrayList<SelectItem>(plainSelect.getSelectItems().size());
+			for(SelectItem item : plainSelect.getSelectItems()){ items.add(copy(item)); }
+			ret.setSelectItems(items);
+		}
+		ret.setInto(copy(plainSelect.getInto()));
+		ret.setFromItem(copy(plainSelect.getFromItem()));
+		if(plainSelect.getJoins() != null){
+			List<Join> joins = new ArrayList<Join>(plainSelect.getJoins().size());
+			for(Join join : plainSelect.getJoins()){ joins.add(copy(join)); }
+			ret.setJoins(joins);
+		}
+		ret.setWhere(copy(plainSelect.getWhere()));
+		ret.setGroupByColumnReferences(copyExpressions(plainSelect.getGroupByColumnReferences()));
+		ret.setOrderByElements(copyOrderBy(plainSelect.getOrderByElements()));
+		ret.setHaving(copy(plainSelect.getHaving()));
+		ret.setLimit(copy(plainSelect.getLimit()));
+		ret.setTop(copy(plainSelect.getTop()));
+		return ret;
+	}
+
+	public ExpressionList copy(ExpressionList list) {
+		if(list == null){ return null; }
+		nodeCount++;
+		if(LiteralList.of(list) != null){ return new LiteralList((LiteralList)list); }
+		return new ExpressionList(copyExpressions(list.getExpressions()));
+	}
+
+	public List<Expression> copyExpressions(List<Expression> list) {
+		if(list == null){ return null; }
+		List<Expression> ret = new ArrayList<Expression>(list.size());
+		for(Expression e : list){ ret.add(copy(e)); }
+		return ret;
+	}
+
+	public List<Column> copyColumns(List<Column> list) {
+		if(list == null){ return null; }
+		List<Column> ret = new ArrayList<Column>(list.size());
+		for(Column c : list){ ret.add(copy(c)); }
+		return ret;
+	}
+
+	public List<OrderByElement> copyOrderBy(List<OrderByElement> list) {
+		if(list == null){ return null; }
+		List<OrderByElement> ret = new ArrayList<OrderByElement>(list.size());
+		for(OrderByElement o : list){ ret.add(copy(o)); }
+		return ret;
+	}
+
+	public List<SelectExpressionItem> copySelectExpressionItems(List<SelectExpressionItem> list) {
+		if(list == null){ return null; }
+		List<SelectExpressionItem> ret = new ArrayList<SelectExpressionItem>(list.size());
+		for(SelectExpressionItem item : list){ ret.add((SelectExpressionItem)copy(item)); }
+		return ret;
+	}
+
+	private static <T> List<T> copyStrings(List<T> list) {
+		if(list == null){ return null; }
+		return new ArrayList<T>(list);
+	}
+
+	private Object take() {
+		Object ret = result;
+		result = null;
+		return ret;
+	}
+
+	private void binary(BinaryExpression source, BinaryExpression target) {
+		nodeCount++;
+		target.setLeftExpression(copy(source.getLeftExpression()));
+		target.setRightExpression(copy(source.getRightExpression()));
+		result = target;
+	}
+
+	/////////////// Statements ///////////////
+
+	public void visit(Select select) {
+		nodeCount++;
+		Select ret = new Select();
+		if(select.getWithItemsList() != null){
+			List<WithItem> with = new ArrayList<WithItem>(select.getWithItemsList().size());
+			for(WithItem item : select.getWithItemsList()){ with.add(copy(item)); }
+			ret.setWithItemsList(with);
+		}
+		ret.setSelectBody(copy(select.getSelectBody()));
+		result = ret;
+	}
+
+	public void visit(Delete delete) {
+		nodeCount++;
+		Delete ret = new Delete();
+		ret.setTable(copy(delete.getTable()));
+		ret.setWhere(copy(delete.getWhere()));
+		result = ret;
+	}
+
+	public void visit(Update update) {
+		nodeCount++;
+		Update ret = new Update();
+		ret.setTable(copy(update.getTable()));
+		ret.setWhere(copy(update.getWhere()));
+		ret.setColumns(copyColumns(update.getColumns()));
+		ret.setExpressions(copyExpressions(update.getExpressions()));
+		result = ret;
+	}
+
+	public void visit(Insert insert) {
+		nodeCount++;
+		Insert ret = new Insert();
+		ret.setTable(copy(insert.getTable()));
+		ret.setColumns(copyColumns(insert.getColumns()));
+		ret.setItemsList(copy(insert.getItemsList()));
+		ret.setUseValues(insert.isUseValues());
+		ret.setIsOrReplace(insert.isOrReplace());
+		result = ret;
+	}
+
+	public void visit(Replace replace) {
+		nodeCount++;
+		Replace ret = new Replace();
+		ret.setTable(copy(replace.getTable()));
+		ret.setColumns(copyColumns(replace.getColumns()));
+		ret.setItemsList(copy(replace.getItemsList()));
+		ret.setExpressions(copyExpressions(replace.getExpressions()));
+		ret.setUseValues(replace.isUseValues());
+		result = ret;
+	}
+
+	public void visit(Drop drop) {
+		nodeCount++;
+		Drop ret = new Drop();
+		ret.setName(drop.getName());
+		ret.setType(drop.getType());
+		ret.setParameters(copyStrings(drop.getParameters()));
+		result = ret;
+	}
+
+	public void visit(Truncate truncate) {
+		nodeCount++;
+		Truncate ret = new Truncate();
+		ret.setTable(copy(truncate.getTable()));
+		result = ret;
+	}
+
+	public void visit(CreateTable createTable) {
+		nodeCount++;
+		CreateTable ret = new CreateTable();
+		ret.setTable(copy(createTable.getTable()));
+		ret.setTableIfNotExists(createTable.getTableIfNotExists());
+		ret.setOrReplaceTable(createTable.getOrReplaceTable());
+		ret.setTableOptionsStrings(copyStrings(createTable.getTableOptionsStrings()));
+		if(createTable.getColumnDefinitions() != null){
+			List<ColumnDefinition> defs =
+				new ArrayList<ColumnDefinition>(createTable.getColumnDefinitions().size());
+			for(ColumnDefinition def : createTable.getColumnDefinitions()){
+				nodeCount += 2;
+				ColumnDefinition newDef = new ColumnDefinition();
+				newDef.setColumnName(def.getColumnName());
+				newDef.setColumnSpecStrings(copyStrings(def.getColumnSpecStrings()));
+				if(def.getColDataType() != null){
+					ColDataType type = new ColDataType();
+					type.setDataType(def.getColDataType().getDataType());
+					type.setArgumentsStringList(copyStrings(def.getColDataType().getArgumentsStringList()));
+					newDef.setColDataType(type);
+				}
+				defs.add(newDef);
+			}
+			ret.setColumnDefinitions(defs);
+		}
+		if(createTable.getIndexes() != null){
+			List<Index> indexes = new ArrayList<Index>(createTable.getIndexes().size());
+			for(Index index : createTable.getIndexes()){
+				nodeCount++;
+				Index newIndex = new Index();
+				newIndex.setType(index.getType());
+				newIndex.setName(index.getName());
+				newIndex.setColumnsNames(copyStrings(index.getColumnsNames()));
+				indexes.add(newIndex);
+			}
+			ret.setIndexes(indexes);
+		}
+		result = ret;
+	}
+
+	/////////////// Select Bodies ///////////////
+
+	public void visit(PlainSelect plainSelect) {
+		result = copy(plainSelect);
+	}
+
+	public void visit(Union union) {
+		nodeCount++;
+		Union ret = new Union();
+		if(union.getPlainSelects() != null){
+			List<PlainSelect> selects = new ArrayList<PlainSelect>(union.getPlainSelects().size());
+			for(PlainSelect ps : union.getPlainSelects()){ selects.add(copy(ps)); }
+			ret.setPlainSelects(selects);
+		}
+		ret.setOrderByElements(copyOrderBy(union.getOrderByElements()));
+		ret.setLimit(copy(union.getLimit()));
+		ret.setDistinct(union.isDistinct());
+		ret.setAll(union.isAll());
+		result = ret;
+	}
+
+	/////////////// From Items ///////////////
+
+	public void visit(Table table) {
+		result = copy(table);
+	}
+
+	public void visit(SubSelect subSelect) {
+		result = copy(subSelect);
+	}
+
+	public void visit(SubJoin subjoin) {
+		nodeCount++;
+		SubJoin ret = new SubJoin();
+		ret.setLeft(copy(subjoin.getLeft()));
+		ret.setJoin(copy(subjoin.getJoin()));
+		ret.setAlias(subjoin.getAlias());
+		result = ret;
+	}
+
+	/////////////// Select Items ///////////////
+
+	public void visit(AllColumns allColumns) {
+		nodeCount++;
+		result = new AllColumns();
+	}
+
+	public void visit(AllTableColumns allTableColumns) {
+		nodeCount++;
+		result = new AllTableColumns(copy(allTableColumns.getTable()));
+	}
+
+	public void visit(SelectExpressionItem selectExpressionItem) {
+		nodeCount++;
+		SelectExpressionItem ret = new SelectExpressionItem();
+		ret.setExpression(copy(selectExpressionItem.getExpression()));
+		ret.setAlias(selectExpressionItem.getAlias());
+		result = ret;
+	}
+
+	/////////////// Items Lists ///////////////
+
+	public void visit(ExpressionList expressionList) {
+		result = copy(expressionList);
+	}
+
+	/////////////// Expressions ///////////////
+
+	public void visit(NullValue nullValue) {
+		nodeCount++;
+		result = new NullValue();
+	}
+
+	public void visit(Function function) {
+		nodeCount++;
+		Function ret = new Function();
+		ret.setName(function.getName());
+		ret.setParameters(copy(function.getParameters()));
+		ret.setAllColumns(function.isAllColumns());
+		ret.setDistinct(function.isDistinct());
+		ret.setEscaped(function.isEscaped());
+		result = ret;
+	}
+
+	public void visit(InverseExpression inverseExpression) {
+		nodeCount++;
+		result = new InverseExpression(copy(inverseExpression.getExpression()));
+	}
+
+	public void visit(JdbcParameter jdbcParameter) {
+		nodeCount++;
+		result = new JdbcParameter();
+	}
+
+	public void visit(DoubleValue doubleValue) {
+		nodeCount++;
+		result = new DoubleValue(doubleValue.getValue());
+	}
+
+	public void visit(LongValue longValue) {
+		nodeCount++;
+		result = new LongValue(longValue.getValue());
+	}
+
+	public void visit(DecimalValue decimalValue) {
+		nodeCount++;
+		result = decimalValue.isCompact()
+			? new DecimalValue(decimalValue.getUnscaledValue(), decimalValue.getScale())
+			: new DecimalValue(decimalValue.getValue());
+	}
+
+	public void visit(DateValue dateValue) {
+		nodeCount++;
+		result = DateValue.ofEpochDay(dateValue.getEpochDay());
+	}
+
+	public void visit(TimeValue timeValue) {
+		nodeCount++;
+		result = TimeValue.ofMicrosOfDay(timeValue.getMicrosOfDay());
+	}
+
+	public void visit(TimestampValue timestampValue) {
+		nodeCount++;
+		result = TimestampValue.ofEpochMicros(timestampValue.getEpochMicros(), timestampValue.getNanosOfMicro());
+	}
+
+	public void visit(BooleanValue booleanValue) {
+		nodeCount++;
+		result = booleanValue;
+	}
+
+	public void visit(StringValue stringValue) {
+		nodeCount++;
+		result = new StringValue(stringValue.getValue());
+	}
+
+	public void visit(BinaryValue binaryValue) {
+		nodeCount++;
+		result = new BinaryValue(binaryValue.getValue());
+	}
+
+	public void visit(Addition addition) { binary(addition, new Addition()); }
+	public void visit(Division division) { binary(division, new Division()); }
+	public void visit(Multiplication multiplication) { binary(multiplication, new Multiplication()); }
+	public void visit(Subtraction subtraction) { binary(subtraction, new Subtraction()); }
+	public void visit(AndExpression andExpression) { binary(andExpression, new AndExpression()); }
+	public void visit(OrExpression orExpression) { binary(orExpression, new OrExpression()); }
+	public void visit(EqualsTo equalsTo) { binary(equalsTo, new EqualsTo()); }
+	public void visit(GreaterThan greaterThan) { binary(greaterThan, new GreaterThan()); }
+	public void visit(GreaterThanEquals greaterThanEquals) { binary(greaterThanEquals, new GreaterThanEquals()); }
+	public void visit(MinorThan minorThan) { binary(minorThan, new MinorThan()); }
+	public void visit(MinorThanEquals minorThanEquals) { binary(minorThanEquals, new MinorThanEquals()); }
+	public void visit(NotEqualsTo notEqualsTo) { binary(notEqualsTo, new NotEqualsTo()); }
+	public void visit(Concat concat) { binary(concat, new Concat()); }
+	public void visit(Matches matches) { binary(matches, new Matches()); }
+	public void visit(BitwiseAnd bitwiseAnd) { binary(bitwiseAnd, new BitwiseAnd()); }
+	public void visit(BitwiseOr bitwiseOr) { binary(bitwiseOr, new BitwiseOr()); }
+	public void visit(BitwiseXor bitwiseXor) { binary(bitwiseXor, new BitwiseXor()); }
+
+	public void visit(LikeExpression likeExpression) {
+		LikeExpression ret = new LikeExpression();
+		ret.setNot(likeExpression.isNot());
+		ret.setEscape(likeExpression.getEscape());
+		binary(likeExpression, ret);
+	}
+
+	public void visit(Between between) {
+		nodeCount++;
+		Between ret = new Between();
+		ret.setLeftExpression(copy(between.getLeftExpression()));
+		ret.setNot(between.isNot());
+		ret.setBetweenExpressionStart(copy(between.getBetweenExpressionStart()));
+		ret.setBetweenExpressionEnd(copy(between.getBetweenExpressionEnd()));
+		result = ret;
+	}
+
+	public void visit(InExpression inExpression) {
+		nodeCount++;
+		InExpression ret = new InExpression(
+			copy(inExpression.getLeftExpression()),
+			copy(inExpression.getItemsList())
+		);
+		ret.setNot(inExpression.isNot());
+		result = ret;
+	}
+
+	public void visit(IsNullExpression isNullExpression) {
+		nodeCount++;
+		IsNullExpression ret = new IsNullExpression();
+		ret.setLeftExpression(copy(isNullExpression.getLeftExpression()));
+		ret.setNot(isNullExpression.isNot());
+		result = ret;
+	}
+
+	public void visit(Column tableColumn) {
+		result = copy(tableColumn);
+	}
+
+	public void visit(CaseExpression caseExpression) {
+		nodeCount++;
+		CaseExpression ret = new CaseExpression();
+		ret.setSwitchExpression(copy(caseExpression.getSwitchExpression()));
+		if(caseExpression.getWhenClauses() != null){
+			List<WhenClause> whens = new ArrayList<WhenClause>(caseExpression.getWhenClauses().size());
+			for(WhenClause when : caseExpression.getWhenClauses()){ whens.add(copy(when)); }
+			ret.setWhenClauses(whens);
+		}
+		ret.setElseExpression(copy(caseExpression.getElseExpression()));
+		result = ret;
+	}
+
+	public void visit(WhenClause whenClause) {
+		result = copy(whenClause);
+	}
+
+	public void visit(ExistsExpression existsExpression) {
+		nodeCount++;
+		ExistsExpression ret = new ExistsExpression();
+		ret.setRightExpression(copy(existsExpression.getRightExpression()));
+		ret.setNot(existsExpression.isNot());
+		result = ret;
+	}
+
+	public void visit(AllComparisonExpression allComparisonExpression) {
+		nodeCount++;
+		result = new AllComparisonExpression(copy(allComparisonExpression.getSubSelect()));
+	}
+
+	public void visit(AnyComparisonExpression anyComparisonExpression) {
+		nodeCount++;
+		result = new AnyComparisonExpression(copy(anyComparisonExpression.getSubSelect()));
+	}
+}
@@ -0,0 +1,446 @@
+package net.sf.jsqlparser.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.Distinct;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.statement.select.SubJoin;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Top;
+import net.sf.jsqlparser.statement.select.Union;
+import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+
+/**
+ * Structural sharing for statements that must not be modified, such as those
+ * held by a {@link net.sf.jsqlparser.parser.CachingParser}.  Instead of a deep
+ * copy of the whole tree, an {@link Edit} copies only the nodes on the path
+ * from the root to each node the caller asks to change; every other node is
+ * shared with the original.<br>
+ *
+ * <pre>
+ *   CopyOnWrite shared = new CopyOnWrite(cached);     // once per statement
+ *   CopyOnWrite.Edit edit = shared.edit();             // once per rewrite
+ *   PlainSelect select = edit.writable(cachedPlainSelect);
+ *   select.setLimit(limit);
+ *   Statement rewritten = edit.getStatement();
+ * </pre>
+ *
+ * Building a CopyOnWrite indexes the parent of every node, which takes time
+ * linear in the size of the tree; after that, each edit costs time linear in
+ * the depth of the nodes it makes writable.  A CopyOnWrite never changes once
+ * built and may be shared between threads; an Edit may not.<br>
+ *
+ * A node reached by more than one path, e.g. an expression shared by an
+ * {@link ExpressionInterner}, has no single place to copy it to, so neither
+ * it nor anything below it can be made writable; make the nodes that hold it
+ * writable instead, and replace it there.  The column definitions and
+ * indexes of a CREATE TABLE are not indexed; they are copied along with it.
+ */
+public class CopyOnWrite {
+
+	private final Statement statement;
+	private final Map<Object, Object> parents = new IdentityHashMap<Object, Object>();
+	/** The nodes reached by more than one path */
+	private final Map<Object, Object> repeated = new IdentityHashMap<Object, Object>();
+
+	public CopyOnWrite(Statement statement) {
+		if(statement == null){ throw new IllegalArgumentException("No statement"); }
+		this.statement = statement;
+		NodeCopier indexer = new NodeCopier();
+		List<Object> pending = new ArrayList<Object>();
+		indexer.parents = parents;
+		indexer.repeated = repeated;
+		indexer.pending = pending;
+		parents.put(statement, null);
+		pending.add(statement);
+		while(!pending.isEmpty()){
+			indexer.shallowCopy(pending.remove(pending.size() - 1));
+		}
+	}
+
+	/**
+	 * @return    The shared statement, which must not be modified
+	 */
+	public Statement getStatement() { return statement; }
+
+	/**
+	 * @return    The number of nodes in the shared statement
+	 */
+	public int size() { return parents.size(); }
+
+	/**
+	 * @return    True if <code>node</code> is part of the shared statement
+	 */
+	public boolean contains(Object node) { return parents.containsKey(node); }
+
+	/**
+	 * @return    The node holding <code>node</code> in the shared statement, or
+	 *            null for the statement itself; the first one found, if more
+	 *            than one holds it
+	 */
+	public Object getParent(Object node) {
+		if(!parents.containsKey(node)){
+			throw new IllegalArgumentException("Not part of the statement: " + describe(node));
+		}
+		return parents.get(node);
+	}
+
+	/**
+	 * @return    True if <code>node</code> is reached by more than one path in the
+	 *            shared statement, and so can not be made writable
+	 */
+	public boolean isRepeated(Object node) { return repeated.containsKey(node); }
+
+	/**
+	 * Start a new set of changes to the shared statement.
+	 */
+	public Edit edit() {
+		return new Edit();
+	}
+
+	private static String describe(Object node) {
+		return node == null ? "null" : node.getClass().getName();
+	}
+
+	/**
+	 * A private version of the shared statement, made up of copies of the nodes
+	 * asked for, their ancestors, and the original of every other node.
+	 */
+	public class Edit {
+
+		private final Map<Object, Object> copies = new IdentityHashMap<Object, Object>();
+		private final Map<Object, Object> owned = new IdentityHashMap<Object, Object>();
+		private final NodeCopier copier = new NodeCopier();
+		private Statement root;
+
+		private Edit() { }
+
+		/**
+		 * Return this edit's private copy of <code>node</code>, copying it and the
+		 * nodes above it that have not been copied yet.  The copy refers to the
+		 * shared children of <code>node</code>; make those writable in turn before
+		 * modifying them.  Lists held by the copy are its own and may be modified.
+		 * @param node    A node of the shared statement, or a copy returned earlier
+		 * @return        The copy of <code>node</code> in {@link #getStatement()}
+		 * @throws IllegalArgumentException    if <code>node</code>, or a node above
+		 *            it, is reached by more than one path; see {@link #isRepeated}
+		 */
+		@SuppressWarnings("unchecked")
+		public <T> T writable(T node) {
+			if(owned.containsKey(node)){ return node; }
+			Object copy = copies.get(node);
+			if(copy != null){ return (T)copy; }
+			if(!parents.containsKey(node)){
+				throw new IllegalArgumentException("Not part of the statement: " + describe(node));
+			}
+
+			// walk up to the statement or to the first ancestor already copied,
+			// then copy back down, hooking each copy into the one above it
+			List<Object> path = new ArrayList<Object>();
+			Object above = node;
+			while(above != null && !copies.containsKey(above)){
+				if(repeated.containsKey(above)){
+					throw new IllegalArgumentException("A " + describe(above)
+						+ " held in more than one place can not be made writable");
+				}
+				path.add(above);
+				above = parents.get(above);
+			}
+			Object parentCopy = above == null ? null : copies.get(above);
+			for(int i = path.size() - 1; i >= 0; i--){
+				Object original = path.get(i);
+				copy = copier.shallowCopy(original);
+				if(parentCopy == null){
+					root = (Statement)copy;
+				} else if(!replace(parentCopy, original, copy)){
+					throw new IllegalStateException("A " + describe(original)
+						+ " is no longer held by the copy of its parent");
+				}
+				copies.put(original, copy);
+				owned.put(copy, copy);
+				parentCopy = copy;
+			}
+			return (T)copy;
+		}
+
+		/**
+		 * @return    The edited statement, or the shared one if nothing was made writable
+		 */
+		public Statement getStatement() {
+			return root == null ? statement : root;
+		}
+
+		/**
+		 * @return    The number of nodes copied so far
+		 */
+		public int getCopyCount() { return copies.size(); }
+	}
+
+	/**
+	 * Puts <code>to</code> in place of <code>from</code> among the children of
+	 * <code>parent</code>.
+	 * @return    False if <code>from</code> is not a child of <code>parent</code>
+	 */
+	static boolean replace(Object parent, Object from, Object to) {
+		Swap r = new Swap(from, to);
+		if(parent instanceof Select){
+			Select p = (Select)parent;
+			r.in(p.getWithItemsList());
+			p.setSelectBody(r.in(p.getSelectBody()));
+		} else if(parent instanceof PlainSelect){
+			PlainSelect p = (PlainSelect)parent;
+			p.setDistinct(r.in(p.getDistinct()));
+			r.in(p.getSelectItems());
+			p.setInto(r.in(p.getInto()));
+			p.setFromItem(r.in(p.getFromItem()));
+			r.in(p.getJoins());
+			p.setWhere(r.in(p.getWhere()));
+			r.in(p.getGroupByColumnReferences());
+			r.in(p.getOrderByElements());
+			p.setHaving(r.in(p.getHaving()));
+			p.setLimit(r.in(p.getLimit()));
+			p.setTop(r.in(p.getTop()));
+		} else if(parent instanceof Union){
+			Union p = (Union)parent;
+			r.in(p.getPlainSelects());
+			r.in(p.getOrderByElements());
+			p.setLimit(r.in(p.getLimit()));
+		} else if(parent instanceof Delete){
+			Delete p = (Delete)parent;
+			p.setTable(r.in(p.getTable()));
+			p.setWhere(r.in(p.getWhere()));
+		} else if(parent instanceof Update){
+			Update p = (Update)parent;
+			p.setTable(r.in(p.getTable()));
+			p.setWhere(r.in(p.getWhere()));
+			r.in(p.getColumns());
+			r.in(p.getExpressions());
+		} else if(parent instanceof Insert){
+			Insert p = (Insert)parent;
+			p.setTable(r.in(p.getTable()));
+			r.in(p.getColumns());
+			p.setItemsList(r.in(p.getItemsList()));
+		} else if(parent instanceof Replace){
+			Replace p = (Replace)parent;
+			p.setTable(r.in(p.getTable()));
+			r.in(p.getColumns());
+			p.setItemsList(r.in(p.getItemsList()));
+			r.in(p.getExpressions());
+		} else if(parent instanceof Truncate){
+			Truncate p = (Truncate)parent;
+			p.setTable(r.in(p.getTable()));
+		} else if(parent instanceof CreateTable){
+			CreateTable p = (CreateTable)parent;
+			p.setTable(r.in(p.getTable()));
+		} else if(parent instanceof Join){
+			Join p = (Join)parent;
+			p.setRightItem(r.in(p.getRightItem()));
+			p.setOnExpression(r.in(p.getOnExpression()));
+			r.in(p.getUsingColumns());
+		} else if(parent instanceof SubJoin){
+			SubJoin p = (SubJoin)parent;
+			p.setLeft(r.in(p.getLeft()));
+			p.setJoin(r.in(p.getJoin()));
+		} else if(parent instanceof OrderByElement){
+			OrderByElement p = (OrderByElement)parent;
+			p.setExpression(r.in(p.getExpression()));
+		} else if(parent instanceof Distinct){
+			r.in(((Distinct)parent).getOnSelectItems());
+		} else if(parent instanceof WithItem){
+			WithItem p = (WithItem)parent;
+			r.in(p.getWithItemList());
+			p.setSelectBody(r.in(p.getSelectBody()));
+		} else if(parent instanceof SubSelect){
+			SubSelect p = (SubSelect)parent;
+			p.setSelectBody(r.in(p.getSelectBody()));
+		} else if(parent instanceof AllTableColumns){
+			AllTableColumns p = (AllTableColumns)parent;
+			p.setTable(r.in(p.getTable()));
+		} else if(parent instanceof SelectExpressionItem){
+			SelectExpressionItem p = (SelectExpressionItem)parent;
+			p.setExpression(r.in(p.getExpression()));
+		} else if(parent instanceof LiteralList && !((LiteralList)parent).isModified()){
+			// holds no child nodes
+		} else if(parent instanceof ExpressionList){
+			r.in(((ExpressionList)parent).getExpressions());
+		} else if(parent instanceof Function){
+			Function p = (Function)parent;
+			p.setParameters(r.in(p.getParameters()));
+		} else if(parent instanceof InverseExpression){
+			InverseExpression p = (InverseExpression)parent;
+			p.setExpression(r.in(p.getExpression()));
+		} else if(parent instanceof BinaryExpression){
+			BinaryExpression p = (BinaryExpression)parent;
+			p.setLeftExpression(r.in(p.getLeftExpression()));
+			p.setRightExpression(r.in(p.getRightExpression()));
+		} else if(parent instanceof Between){
+			Between p = (Between)parent;
+			p.setLeftExpression(r.in(p.getLeftExpression()));
+			p.setBetweenExpressionStart(r.in(p.getBetweenExpressionStart()));
+			p.setBetweenExpressionEnd(r.in(p.getBetweenExpressionEnd()));
+		} else if(parent instanceof InExpression){
+			InExpression p = (InExpression)parent;
+			p.setLeftExpression(r.in(p.getLeftExpression()));
+			p.setItemsList(r.in(p.getItemsList()));
+		} else if(parent instanceof IsNullExpression){
+			IsNullExpression p = (IsNullExpression)parent;
+			p.setLeftExpression(r.in(p.getLeftExpression()));
+		} else if(parent instanceof Column){
+			Column p = (Column)parent;
+			p.setTable(r.in(p.getTable()));
+		} else if(parent instanceof CaseExpression){
+			CaseExpression p = (CaseExpression)parent;
+			p.setSwitchExpression(r.in(p.getSwitchExpression()));
+			r.in(p.getWhenClauses());
+			p.setElseExpression(r.in(p.getElseExpression()));
+		} else if(parent instanceof WhenClause){
+			WhenClause p = (WhenClause)parent;
+			p.setWhenExpression(r.in(p.getWhenExpression()));
+			p.setThenExpression(r.in(p.getThenExpression()));
+		} else if(parent instanceof ExistsExpression){
+			ExistsExpression p = (ExistsExpression)parent;
+			p.setRightExpression(r.in(p.getRightExpression()));
+		} else if(parent instanceof AllComparisonExpression){
+			AllComparisonExpression p = (AllComparisonExpression)parent;
+			p.setSubSelect(r.in(p.getSubSelect()));
+		} else if(parent instanceof AnyComparisonExpression){
+			AnyComparisonExpression p = (AnyComparisonExpression)parent;
+			p.setSubSelect(r.in(p.getSubSelect()));
+		}
+		return r.found;
+	}
+
+	private static final class Swap {
+		private final Object from;
+		private final Object to;
+		boolean found;
+
+		Swap(Object from, Object to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> T in(T field) {
+			if(field != from){ return field; }
+			found = true;
+			return (T)to;
+		}
+
+		@SuppressWarnings("unchecked")
+		void in(List<?> list) {
+			if(list == null){ return; }
+			for(int i = 0; i < list.size(); i++){
+				if(list.get(i) == from){
+					((List<Object>)list).set(i, to);
+					found = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * An AstCopier that copies only the node it is given and keeps the original
+	 * children.  While indexing, it records the parent of every child it passes.
+	 */
+	private static final class NodeCopier extends AstCopier {
+
+		private Object target;
+		Map<Object, Object> parents;
+		Map<Object, Object> repeated;
+		List<Object> pending;
+
+		Object shallowCopy(Object node) {
+			target = node;
+			try {
+				if(node instanceof Statement){ return copy((Statement)node); }
+				if(node instanceof SelectBody){ return copy((SelectBody)node); }
+				if(node instanceof Expression){ return copy((Expression)node); }
+				if(node instanceof FromItem){ return copy((FromItem)node); }
+				if(node instanceof ItemsList){ return copy((ItemsList)node); }
+				if(node instanceof SelectItem){ return copy((SelectItem)node); }
+				if(node instanceof Join){ return copy((Join)node); }
+				if(node instanceof OrderByElement){ return copy((OrderByElement)node); }
+				if(node instanceof Limit){ return copy((Limit)node); }
+				if(node instanceof Top){ return copy((Top)node); }
+				if(node instanceof Distinct){ return copy((Distinct)node); }
+				if(node instanceof WithItem){ return copy((WithItem)node); }
+				throw new IllegalArgumentException("Not a statement node: " + describe(node));
+			} finally {
+				target = null;
+			}
+		}
+
+		/**
+		 * @return    True if <code>node</code> is the one being copied; any other
+		 *            node is a child, to be kept as it is
+		 */
+		private boolean isTarget(Object node) {
+			if(node == target){ return true; }
+			if(node != null && parents != null){
+				if(parents.containsKey(node)){
+					repeated.put(node, node);
+				} else {
+					parents.put(node, target);
+					pending.add(node);
+				}
+			}
+			return false;
+		}
+
+		public Statement copy(Statement n) { return isTarget(n) ? super.copy(n) : n; }
+		public SelectBody copy(SelectBody n) { return isTarget(n) ? super.copy(n) : n; }
+		public FromItem copy(FromItem n) { return isTarget(n) ? super.copy(n) : n; }
+		public Expression copy(Expression n) { return isTarget(n) ? super.copy(n) : n; }
+		public ItemsList copy(ItemsList n) { return isTarget(n) ? super.copy(n) : n; }
+		public SelectItem copy(SelectItem n) { return isTarget(n) ? super.copy(n) : n; }
+		public Table copy(Table n) { return isTarget(n) ? super.copy(n) : n; }
+		public Column copy(Column n) { return isTarget(n) ? super.copy(n) : n; }
+		public Join copy(Join n) { return isTarget(n) ? super.copy(n) : n; }
+		public OrderByElement copy(OrderByElement n) { return isTarget(n) ? super.copy(n) : n; }
+		public Limit copy(Limit n) { return isTarget(n) ? super.copy(n) : n; }
+		public Top copy(Top n) { return isTarget(n) ? super.copy(n) : n; }
+		public Distinct copy(Distinct n) { return isTarget(n) ? super.copy(n) : n; }
+		public WithItem copy(WithItem n) { return isTarget(n) ? super.copy(n) : n; }
+		public WhenClause copy(WhenClause n) { return isTarget(n) ? super.copy(n) : n; }
+		public SubSelect copy(SubSelect n) { return isTarget(n) ? super.copy(n) : n; }
+		public PlainSelect copy(PlainSelect n) { return isTarget(n) ? super.copy(n) : n; }
+		public ExpressionList copy(ExpressionList n) { return isTarget(n) ? super.copy(n) : n; }
+	}
+}
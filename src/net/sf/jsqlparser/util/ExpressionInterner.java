@@ -0,0 +1,231 @@
+package net.sf.jsqlparser.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.GenericExpressionVisitorBase;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * Hash-conses expressions: {@link #intern} returns the canonical copy of an
+ * expression, built the first time a structurally equal expression was interned,
+ * with every sub-expression canonical as well.  So two canonical expressions are
+ * structurally equal exactly when they are the same object, duplicate subtrees
+ * are stored once, and the structural hash of each canonical node is computed
+ * once, when it is built.<br>
+ *
+ * Canonical expressions are shared, and must be treated as immutable: modifying
+ * one corrupts the interner and every expression that contains it.  Structure
+ * is compared exactly, so column names are case-sensitive here, and a sub-select
+ * is compared by its SQL text.  Distinct JDBC parameters intern to one node.<br>
+ *
+ * An interner keeps every canonical expression it has built.  It is not
+ * thread-safe.
+ */
+public class ExpressionInterner {
+
+	/** The class-specific attributes of a node that are not sub-expressions */
+	private static final GenericExpressionVisitorBase<String, Void> ATTRIBUTES =
+		new GenericExpressionVisitorBase<String, Void>() {
+			public String unhandled(Expression e, Void context) {
+				return e.getChildCount() == 0 ? e.toString() : "";
+			}
+			public String visit(Column column, Void context) {
+				if(column.getTable() == null){ return column.getColumnName(); }
+				return column.getWholeColumnName();
+			}
+			public String visit(Function function, Void context) {
+				return function.getName()+"/"+function.isAllColumns()+"/"+function.isDistinct()
+					+"/"+function.isEscaped()+"/"+(function.getParameters() == null);
+			}
+			public String visit(Between between, Void context) { return ""+between.isNot(); }
+			public String visit(ExistsExpression exists, Void context) { return ""+exists.isNot(); }
+			public String visit(IsNullExpression isNull, Void context) { return ""+isNull.isNot(); }
+			public String visit(LikeExpression like, Void context) {
+				return like.isNot()+"/"+like.getEscape();
+			}
+			public String visit(InExpression in, Void context) {
+				LiteralList list = LiteralList.of(in.getItemsList());
+				if(list != null){
+					return in.isNot()+"/"+list.getType()+list;
+				}
+				String kind = in.getItemsList() instanceof SubSelect ? "S"
+					: in.getItemsList() instanceof ExpressionList ? "E" : "N";
+				return in.isNot()+"/"+kind;
+			}
+		};
+
+	/**
+	 * A canonical node, with its attributes and canonical children: the key
+	 * and value of the table of canonical nodes.
+	 */
+	private static class Node {
+		final Class<?> type;
+		final String attributes;
+		final Node[] children;
+		final int hash;
+		Expression expression;
+
+		Node(Class<?> type, String attributes, Node[] children) {
+			this.type = type;
+			this.attributes = attributes;
+			this.children = children;
+			int h = type.getName().hashCode() * 31 + attributes.hashCode();
+			for(Node child : children){
+				h = h * 31 + (child == null ? 0 : child.hash);
+			}
+			this.hash = h;
+		}
+
+		public int hashCode() { return hash; }
+
+		public boolean equals(Object o) {
+			if(!(o instanceof Node)){ return false; }
+			Node other = (Node)o;
+			if(hash != other.hash || type != other.type || children.length != other.children.length
+				|| !attributes.equals(other.attributes)){
+				return false;
+			}
+			for(int i = 0; i < children.length; i++){
+				if(children[i] != other.children[i]){ return false; }
+			}
+			return true;
+		}
+	}
+
+	private final Map<Node, Node> table = new HashMap<Node, Node>();
+	private final IdentityHashMap<Expression, Node> canonical = new IdentityHashMap<Expression, Node>();
+
+	/** Nodes for the expressions of the tree being interned */
+	private final IdentityHashMap<Expression, Node> interned = new IdentityHashMap<Expression, Node>();
+	private Expression building;
+
+	/** Builds a canonical node from a node whose children have all been interned */
+	private final AstCopier copier = new AstCopier() {
+		public Expression copy(Expression expression) {
+			if(expression == building){
+				building = null;
+				return super.copy(expression);
+			}
+			Node node = lookup(expression);
+			return node == null ? super.copy(expression) : node.expression;
+		}
+		public WhenClause copy(WhenClause when) {
+			Node node = lookup(when);
+			return node == null ? super.copy(when) : (WhenClause)node.expression;
+		}
+		public SubSelect copy(SubSelect subSelect) {
+			Node node = lookup(subSelect);
+			return node == null ? super.copy(subSelect) : (SubSelect)node.expression;
+		}
+	};
+
+	/**
+	 * @return    The canonical expression structurally equal to <code>expression</code>,
+	 *            or null if it is null
+	 */
+	public Expression intern(Expression expression) {
+		if(expression == null){ return null; }
+		Node node = canonical.get(expression);
+		if(node != null){ return node.expression; }
+		try {
+			// post-order, on an explicit stack
+			Expression[] stack = new Expression[16];
+			int[] next = new int[16];
+			int depth = 0;
+			stack[depth++] = expression;
+			while(depth > 0){
+				Expression top = stack[depth - 1];
+				int index = next[depth - 1];
+				if(index < top.getChildCount()){
+					next[depth - 1] = index + 1;
+					Expression child = top.getChild(index);
+					if(child != null && lookup(child) == null){
+						if(depth == stack.length){
+							stack = Arrays.copyOf(stack, depth * 2);
+							next = Arrays.copyOf(next, depth * 2);
+						}
+						stack[depth] = child;
+						next[depth] = 0;
+						depth++;
+					}
+				} else {
+					interned.put(top, canonicalNode(top));
+					stack[--depth] = null;
+				}
+			}
+			return interned.get(expression).expression;
+		} finally {
+			interned.clear();
+		}
+	}
+
+	/**
+	 * @return    Whether <code>expression</code> was built by this interner
+	 */
+	public boolean isCanonical(Expression expression) {
+		return canonical.containsKey(expression);
+	}
+
+	/**
+	 * @return    Whether the two expressions are structurally equal
+	 */
+	public boolean equal(Expression a, Expression b) {
+		return intern(a) == intern(b);
+	}
+
+	/**
+	 * @return    The structural hash of <code>expression</code>; for a canonical
+	 *            expression this is only a lookup
+	 */
+	public int hash(Expression expression) {
+		if(expression == null){ return 0; }
+		return canonical.get(intern(expression)).hash;
+	}
+
+	/**
+	 * @return    The number of distinct canonical expressions
+	 */
+	public int size() {
+		return table.size();
+	}
+
+	public void clear() {
+		table.clear();
+		canonical.clear();
+	}
+
+	private Node lookup(Expression expression) {
+		Node node = canonical.get(expression);
+		return node != null ? node : interned.get(expression);
+	}
+
+	private Node canonicalNode(Expression expression) {
+		Node[] children = new Node[expression.getChildCount()];
+		for(int i = 0; i < children.length; i++){
+			Expression child = expression.getChild(i);
+			children[i] = child == null ? null : lookup(child);
+		}
+		Node node = new Node(expression.getClass(), expression.accept(ATTRIBUTES, null), children);
+		Node existing = table.get(node);
+		if(existing != null){ return existing; }
+		building = expression;
+		node.expression = copier.copy(expression);
+		table.put(node, node);
+		canonical.put(node.expression, node);
+		return node;
+	}
+}
@@ -0,0 +1,551 @@
+package net.sf.jsqlparser.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.create.table.ColDataType;
+import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.table.Index;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.Distinct;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.statement.select.SubJoin;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Top;
+import net.sf.jsqlparser.statement.select.Union;
+import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.util.FlatStatement.Kind;
+
+/**
+ * Rebuilds the object model of a {@link FlatStatement}.  Every node, list and
+ * mutable value of the result is new, as with {@link AstCopier}.
+ */
+class FlatDecoder {
+
+	private final FlatStatement flat;
+
+	FlatDecoder(FlatStatement flat) {
+		this.flat = flat;
+	}
+
+	private int child(int node, int index) {
+		return flat.child(node, index);
+	}
+
+	Statement statement(int n) {
+		if(n < 0){ return null; }
+		switch(flat.kind(n)){
+			case SELECT: {
+				Select ret = new Select();
+				int with = child(n, 0);
+				if(with >= 0){
+					List<WithItem> items = new ArrayList<WithItem>(flat.count(with));
+					for(int i = 0; i < flat.count(with); i++){ items.add(withItem(child(with, i))); }
+					ret.setWithItemsList(items);
+				}
+				ret.setSelectBody(selectBody(child(n, 1)));
+				return ret;
+			}
+			case DELETE: {
+				Delete ret = new Delete();
+				ret.setTable(table(child(n, 0)));
+				ret.setWhere(expression(child(n, 1)));
+				return ret;
+			}
+			case UPDATE: {
+				Update ret = new Update();
+				ret.setTable(table(child(n, 0)));
+				ret.setWhere(expression(child(n, 1)));
+				ret.setColumns(columns(child(n, 2)));
+				ret.setExpressions(expressions(child(n, 3)));
+				return ret;
+			}
+			case INSERT: {
+				Insert ret = new Insert();
+				ret.setTable(table(child(n, 0)));
+				ret.setColumns(columns(child(n, 1)));
+				ret.setItemsList(itemsList(child(n, 2)));
+				ret.setUseValues(flat.flag(n, FlatStatement.USE_VALUES));
+				ret.setIsOrReplace(flat.flag(n, FlatStatement.OR_REPLACE));
+				return ret;
+			}
+			case REPLACE: {
+				Replace ret = new Replace();
+				ret.setTable(table(child(n, 0)));
+				ret.setColumns(columns(child(n, 1)));
+				ret.setItemsList(itemsList(child(n, 2)));
+				ret.setExpressions(expressions(child(n, 3)));
+				ret.setUseValues(flat.flag(n, FlatStatement.USE_VALUES));
+				return ret;
+			}
+			case DROP: {
+				Drop ret = new Drop();
+				ret.setName(flat.string(n, 0));
+				ret.setType(flat.string(n, 1));
+				ret.setParameters(strings(child(n, 0)));
+				return ret;
+			}
+			case TRUNCATE: {
+				Truncate ret = new Truncate();
+				ret.setTable(table(child(n, 0)));
+				return ret;
+			}
+			case CREATE_TABLE: {
+				CreateTable ret = new CreateTable();
+				ret.setTable(table(child(n, 0)));
+				ret.setTableIfNotExists(flat.flag(n, FlatStatement.IF_NOT_EXISTS));
+				ret.setOrReplaceTable(flat.flag(n, FlatStatement.OR_REPLACE));
+				ret.setTableOptionsStrings(strings(child(n, 1)));
+				int defs = child(n, 2);
+				if(defs >= 0){
+					List<ColumnDefinition> list = new ArrayList<ColumnDefinition>(flat.count(defs));
+					for(int i = 0; i < flat.count(defs); i++){ list.add(columnDefinition(child(defs, i))); }
+					ret.setColumnDefinitions(list);
+				}
+				int indexes = child(n, 3);
+				if(indexes >= 0){
+					List<Index> list = new ArrayList<Index>(flat.count(indexes));
+					for(int i = 0; i < flat.count(indexes); i++){ list.add(index(child(indexes, i))); }
+					ret.setIndexes(list);
+				}
+				return ret;
+			}
+			default:
+				throw unexpected(n);
+		}
+	}
+
+	private ColumnDefinition columnDefinition(int n) {
+		if(n < 0){ return null; }
+		ColumnDefinition ret = new ColumnDefinition();
+		ret.setColumnName(flat.string(n, 0));
+		int t = child(n, 0);
+		if(t >= 0){
+			ColDataType type = new ColDataType();
+			type.setDataType(flat.string(t, 0));
+			type.setArgumentsStringList(strings(child(t, 0)));
+			ret.setColDataType(type);
+		}
+		ret.setColumnSpecStrings(strings(child(n, 1)));
+		return ret;
+	}
+
+	private Index index(int n) {
+		if(n < 0){ return null; }
+		Index ret = new Index();
+		ret.setType(flat.string(n, 0));
+		ret.setName(flat.string(n, 1));
+		ret.setColumnsNames(strings(child(n, 0)));
+		return ret;
+	}
+
+	SelectBody selectBody(int n) {
+		if(n < 0){ return null; }
+		switch(flat.kind(n)){
+			case PLAIN_SELECT:
+				return plainSelect(n);
+			case UNION: {
+				Union ret = new Union();
+				int selects = child(n, 0);
+				if(selects >= 0){
+					List<PlainSelect> list = new ArrayList<PlainSelect>(flat.count(selects));
+					for(int i = 0; i < flat.count(selects); i++){ list.add(plainSelect(child(selects, i))); }
+					ret.setPlainSelects(list);
+				}
+				ret.setOrderByElements(orderBy(child(n, 1)));
+				ret.setLimit(limit(child(n, 2)));
+				ret.setDistinct(flat.flag(n, FlatStatement.DISTINCT));
+				ret.setAll(flat.flag(n, FlatStatement.ALL));
+				return ret;
+			}
+			default:
+				throw unexpected(n);
+		}
+	}
+
+	private PlainSelect plainSelect(int n) {
+		if(n < 0){ return null; }
+		PlainSelect ret = new PlainSelect();
+		int distinct = child(n, 0);
+		if(distinct >= 0){
+			Distinct d = new Distinct();
+			d.setOnSelectItems(selectExpressionItems(child(distinct, 0)));
+			ret.setDistinct(d);
+		}
+		int items = child(n, 1);
+		if(items >= 0){
+			List<SelectItem> list = new ArrayList<SelectItem>(flat.count(items));
+			for(int i = 0; i < flat.count(items); i++){ list.add(selectItem(child(items, i))); }
+			ret.setSelectItems(list);
+		}
+		ret.setInto(table(child(n, 2)));
+		ret.setFromItem(fromItem(child(n, 3)));
+		int joins = child(n, 4);
+		if(joins >= 0){
+			List<Join> list = new ArrayList<Join>(flat.count(joins));
+			for(int i = 0; i < flat.count(joins); i++){ list.add(join(child(joins, i))); }
+			ret.setJoins(list);
+		}
+		ret.setWhere(expression(child(n, 5)));
+		ret.setGroupByColumnReferences(expressions(child(n, 6)));
+		ret.setOrderByElements(orderBy(child(n, 7)));
+		ret.setHaving(expression(child(n, 8)));
+		ret.setLimit(limit(child(n, 9)));
+		int t = child(n, 10);
+		if(t >= 0){
+			Top top = new Top();
+			top.setRowCount(flat.value(t, 0));
+			top.setRowCountJdbcParameter(flat.flag(t, FlatStatement.ROW_COUNT_JDBC));
+			ret.setTop(top);
+		}
+		return ret;
+	}
+
+	private WithItem withItem(int n) {
+		if(n < 0){ return null; }
+		WithItem ret = new WithItem();
+		ret.setName(flat.string(n, 0));
+		ret.setWithItemList(selectExpressionItems(child(n, 0)));
+		ret.setSelectBody(selectBody(child(n, 1)));
+		return ret;
+	}
+
+	private Limit limit(int n) {
+		if(n < 0){ return null; }
+		Limit ret = new Limit();
+		ret.setOffset(flat.value(n, 0));
+		ret.setRowCount(flat.value(n, 1));
+		ret.setRowCountJdbcParameter(flat.flag(n, FlatStatement.ROW_COUNT_JDBC));
+		ret.setOffsetJdbcParameter(flat.flag(n, FlatStatement.OFFSET_JDBC));
+		ret.setLimitAll(flat.flag(n, FlatStatement.LIMIT_ALL));
+		return ret;
+	}
+
+	private List<OrderByElement> orderBy(int n) {
+		if(n < 0){ return null; }
+		List<OrderByElement> ret = new ArrayList<OrderByElement>(flat.count(n));
+		for(int i = 0; i < flat.count(n); i++){
+			int e = child(n, i);
+			OrderByElement element = new OrderByElement();
+			element.setAsc(flat.flag(e, FlatStatement.ASC));
+			element.setExpression(expression(child(e, 0)));
+			ret.add(element);
+		}
+		return ret;
+	}
+
+	private Join join(int n) {
+		if(n < 0){ return null; }
+		Join ret = new Join();
+		ret.setOuter(flat.flag(n, FlatStatement.OUTER));
+		ret.setRight(flat.flag(n, FlatStatement.RIGHT));
+		ret.setLeft(flat.flag(n, FlatStatement.LEFT));
+		ret.setNatural(flat.flag(n, FlatStatement.NATURAL));
+		ret.setFull(flat.flag(n, FlatStatement.FULL));
+		ret.setInner(flat.flag(n, FlatStatement.INNER));
+		ret.setSimple(flat.flag(n, FlatStatement.SIMPLE));
+		ret.setRightItem(fromItem(child(n, 0)));
+		ret.setOnExpression(expression(child(n, 1)));
+		ret.setUsingColumns(columns(child(n, 2)));
+		return ret;
+	}
+
+	private FromItem fromItem(int n) {
+		if(n < 0){ return null; }
+		switch(flat.kind(n)){
+			case TABLE:
+				return table(n);
+			case SUB_SELECT:
+				return subSelect(n);
+			case SUB_JOIN: {
+				SubJoin ret = new SubJoin();
+				ret.setLeft(fromItem(child(n, 0)));
+				ret.setJoin(join(child(n, 1)));
+				ret.setAlias(flat.string(n, 0));
+				return ret;
+			}
+			default:
+				throw unexpected(n);
+		}
+	}
+
+	private Table table(int n) {
+		if(n < 0){ return null; }
+		Table ret = new Table(flat.string(n, 0), flat.string(n, 1));
+		ret.setAlias(flat.string(n, 2));
+		return ret;
+	}
+
+	private SubSelect subSelect(int n) {
+		if(n < 0){ return null; }
+		SubSelect ret = new SubSelect();
+		ret.setSelectBody(selectBody(child(n, 0)));
+		ret.setAlias(flat.string(n, 0));
+		return ret;
+	}
+
+	private SelectItem selectItem(int n) {
+		if(n < 0){ return null; }
+		switch(flat.kind(n)){
+			case ALL_COLUMNS:
+				return new AllColumns();
+			case ALL_TABLE_COLUMNS:
+				return new AllTableColumns(table(child(n, 0)));
+			case SELECT_EXPRESSION_ITEM: {
+				SelectExpressionItem ret = new SelectExpressionItem();
+				ret.setExpression(expression(child(n, 0)));
+				ret.setAlias(flat.string(n, 0));
+				return ret;
+			}
+			default:
+				throw unexpected(n);
+		}
+	}
+
+	private List<SelectExpressionItem> selectExpressionItems(int n) {
+		if(n < 0){ return null; }
+		List<SelectExpressionItem> ret = new ArrayList<SelectExpressionItem>(flat.count(n));
+		for(int i = 0; i < flat.count(n); i++){ ret.add((SelectExpressionItem)selectItem(child(n, i))); }
+		return ret;
+	}
+
+	private List<Column> columns(int n) {
+		if(n < 0){ return null; }
+		List<Column> ret = new ArrayList<Column>(flat.count(n));
+		for(int i = 0; i < flat.count(n); i++){ ret.add((Column)expression(child(n, i))); }
+		return ret;
+	}
+
+	private List<Expression> expressions(int n) {
+		if(n < 0){ return null; }
+		List<Expression> ret = new ArrayList<Expression>(flat.count(n));
+		for(int i = 0; i < flat.count(n); i++){ ret.add(expression(child(n, i))); }
+		return ret;
+	}
+
+	private List<String> strings(int n) {
+		if(n < 0){ return null; }
+		List<String> ret = new ArrayList<String>(flat.count(n));
+		for(int i = 0; i < flat.count(n); i++){ ret.add(flat.stringAt(n, i)); }
+		return ret;
+	}
+
+	private ItemsList itemsList(int n) {
+		if(n < 0){ return null; }
+		int count = flat.count(n);
+		switch(flat.kind(n)){
+			case SUB_SELECT:
+				return subSelect(n);
+			case EXPRESSION_LIST:
+				return new ExpressionList(expressions(n));
+			case LONG_LITERALS: {
+				long[] values = new long[count];
+				for(int i = 0; i < count; i++){ values[i] = flat.value(n, i); }
+				return new LiteralList(values);
+			}
+			case DOUBLE_LITERALS: {
+				double[] values = new double[count];
+				for(int i = 0; i < count; i++){ values[i] = flat.doubleValue(n, i); }
+				return new LiteralList(values);
+			}
+			case STRING_LITERALS: {
+				String[] values = new String[count];
+				for(int i = 0; i < count; i++){ values[i] = flat.stringAt(n, i); }
+				return new LiteralList(values);
+			}
+			default:
+				throw unexpected(n);
+		}
+	}
+
+	Expression expression(int n) {
+		if(n < 0){ return null; }
+		switch(flat.kind(n)){
+			case NULL:
+				return new NullValue();
+			case JDBC_PARAMETER:
+				return new JdbcParameter();
+			case LONG:
+				return new LongValue(flat.value(n, 0));
+			case DOUBLE:
+				return new DoubleValue(flat.doubleValue(n, 0));
+			case DECIMAL:
+				return new DecimalValue(flat.string(n, 0));
+			case STRING:
+				return new StringValue(flat.string(n, 0));
+			case BINARY: {
+				byte[] bytes = new byte[(int)flat.value(n, 0)];
+				for(int i = 0; i < bytes.length; i++){ bytes[i] = (byte)(flat.value(n, 1 + i / 8) >>> 56 - 8 * (i % 8)); }
+				return new BinaryValue(bytes);
+			}
+			case BOOLEAN:
+				return flat.flag(n, FlatStatement.TRUE) ? BooleanValue.TRUE : BooleanValue.FALSE;
+			case DATE:
+				return DateValue.ofEpochDay(flat.value(n, 0));
+			case TIME:
+				return TimeValue.ofMicrosOfDay(flat.value(n, 0));
+			case TIMESTAMP:
+				return TimestampValue.ofEpochMicros(flat.value(n, 0), (int)flat.value(n, 1));
+			case FUNCTION: {
+				Function ret = new Function();
+				ret.setName(flat.string(n, 0));
+				ret.setParameters((ExpressionList)itemsList(child(n, 0)));
+				ret.setAllColumns(flat.flag(n, FlatStatement.ALL_COLUMNS));
+				ret.setDistinct(flat.flag(n, FlatStatement.DISTINCT));
+				ret.setEscaped(flat.flag(n, FlatStatement.ESCAPED));
+				return ret;
+			}
+			case INVERSE:
+				return new InverseExpression(expression(child(n, 0)));
+			case COLUMN:
+				return new Column(table(child(n, 0)), flat.string(n, 0));
+			case CASE: {
+				CaseExpression ret = new CaseExpression();
+				ret.setSwitchExpression(expression(child(n, 0)));
+				int whens = child(n, 1);
+				if(whens >= 0){
+					List<WhenClause> list = new ArrayList<WhenClause>(flat.count(whens));
+					for(int i = 0; i < flat.count(whens); i++){ list.add((WhenClause)expression(child(whens, i))); }
+					ret.setWhenClauses(list);
+				}
+				ret.setElseExpression(expression(child(n, 2)));
+				return ret;
+			}
+			case WHEN: {
+				WhenClause ret = new WhenClause();
+				ret.setWhenExpression(expression(child(n, 0)));
+				ret.setThenExpression(expression(child(n, 1)));
+				return ret;
+			}
+			case BETWEEN: {
+				Between ret = new Between();
+				ret.setLeftExpression(expression(child(n, 0)));
+				ret.setNot(flat.flag(n, FlatStatement.NOT));
+				ret.setBetweenExpressionStart(expression(child(n, 1)));
+				ret.setBetweenExpressionEnd(expression(child(n, 2)));
+				return ret;
+			}
+			case IN: {
+				InExpression ret = new InExpression(expression(child(n, 0)), itemsList(child(n, 1)));
+				ret.setNot(flat.flag(n, FlatStatement.NOT));
+				return ret;
+			}
+			case IS_NULL: {
+				IsNullExpression ret = new IsNullExpression();
+				ret.setLeftExpression(expression(child(n, 0)));
+				ret.setNot(flat.flag(n, FlatStatement.NOT));
+				return ret;
+			}
+			case EXISTS: {
+				ExistsExpression ret = new ExistsExpression();
+				ret.setRightExpression(expression(child(n, 0)));
+				ret.setNot(flat.flag(n, FlatStatement.NOT));
+				return ret;
+			}
+			case SUB_SELECT:
+				return subSelect(n);
+			case ALL_COMPARISON:
+				return new AllComparisonExpression(subSelect(child(n, 0)));
+			case ANY_COMPARISON:
+				return new AnyComparisonExpression(subSelect(child(n, 0)));
+			case LIKE: {
+				LikeExpression ret = new LikeExpression();
+				ret.setNot(flat.flag(n, FlatStatement.NOT));
+				ret.setEscape(flat.string(n, 0));
+				return binary(n, ret);
+			}
+			case ADDITION: return binary(n, new Addition());
+			case DIVISION: return binary(n, new Division());
+			case MULTIPLICATION: return binary(n, new Multiplication());
+			case SUBTRACTION: return binary(n, new Subtraction());
+			case AND: return binary(n, new AndExpression());
+			case OR: return binary(n, new OrExpression());
+			case EQUALS_TO: return binary(n, new EqualsTo());
+			case GREATER_THAN: return binary(n, new GreaterThan());
+			case GREATER_THAN_EQUALS: return binary(n, new GreaterThanEquals());
+			case MINOR_THAN: return binary(n, new MinorThan());
+			case MINOR_THAN_EQUALS: return binary(n, new MinorThanEquals());
+			case NOT_EQUALS_TO: return binary(n, new NotEqualsTo());
+			case CONCAT: return binary(n, new Concat());
+			case MATCHES: return binary(n, new Matches());
+			case BITWISE_AND: return binary(n, new BitwiseAnd());
+			case BITWISE_OR: return binary(n, new BitwiseOr());
+			case BITWISE_XOR: return binary(n, new BitwiseXor());
+			default:
+				throw unexpected(n);
+		}
+	}
+
+	private BinaryExpression binary(int n, BinaryExpression target) {
+		target.setLeftExpression(expression(child(n, 0)));
+		target.setRightExpression(expression(child(n, 1)));
+		return target;
+	}
+
+	private IllegalStateException unexpected(int n) {
+		return new IllegalStateException("Unexpected "+flat.kind(n)+" node at "+n);
+	}
+}
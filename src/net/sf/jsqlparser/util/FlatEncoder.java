@@ -0,0 +1,731 @@
+package net.sf.jsqlparser.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.ItemsListVisitor;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.create.table.ColDataType;
+import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.table.Index;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.Distinct;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.FromItemVisitor;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.statement.select.SelectItemVisitor;
+import net.sf.jsqlparser.statement.select.SelectVisitor;
+import net.sf.jsqlparser.statement.select.SubJoin;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Top;
+import net.sf.jsqlparser.statement.select.Union;
+import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.util.FlatStatement.Kind;
+
+/**
+ * Encodes statements into {@link FlatStatement}s, in the layout described there.
+ * The arrays grow as needed and are trimmed to size for each statement, so one
+ * encoder can be reused for any number of statements; like {@link AstCopier},
+ * it must not be used by more than one thread at a time.
+ */
+public class FlatEncoder implements StatementVisitor, SelectVisitor, FromItemVisitor,
+		ExpressionVisitor, ItemsListVisitor, SelectItemVisitor {
+
+	private final StringPool pool;
+	private int[] nodes = new int[256];
+	private int size;
+	private long[] values = new long[16];
+	private int valueCount;
+	private int result;
+
+	public FlatEncoder(StringPool pool) {
+		this.pool = pool;
+	}
+
+	public StringPool getPool() { return pool; }
+
+	public FlatStatement encode(Statement statement) {
+		size = 0;
+		valueCount = 0;
+		int root = statement(statement);
+		return new FlatStatement(Arrays.copyOf(nodes, size), Arrays.copyOf(values, valueCount), pool, root);
+	}
+
+	/**
+	 * Appends a node with no attributes and <code>count</code> empty slots.
+	 * @return    The offset of the node
+	 */
+	private int node(Kind kind, int flags, int count) {
+		int n = size;
+		int end = n + FlatStatement.HEADER + count;
+		if(end > nodes.length){ nodes = Arrays.copyOf(nodes, Math.max(end, nodes.length * 2)); }
+		nodes[n] = kind.ordinal() | flags << 8;
+		nodes[n + 1] = -1;
+		nodes[n + 2] = -1;
+		nodes[n + 3] = -1;
+		nodes[n + FlatStatement.COUNT] = count;
+		for(int i = n + FlatStatement.HEADER; i < end; i++){ nodes[i] = -1; }
+		size = end;
+		return n;
+	}
+
+	private int node(Kind kind, int count) {
+		return node(kind, 0, count);
+	}
+
+	// the arena may be reallocated while a child is encoded, so children
+	// are always encoded before the slot is written
+	private void child(int node, int index, int child) {
+		nodes[node + FlatStatement.HEADER + index] = child;
+	}
+
+	private void string(int node, int index, String s) {
+		nodes[node + 1 + index] = pool.intern(s);
+	}
+
+	/** Appends values, and points attribute 0 of the node at the first */
+	private void values(int node, long... v) {
+		if(valueCount + v.length > values.length){
+			values = Arrays.copyOf(values, Math.max(valueCount + v.length, values.length * 2));
+		}
+		nodes[node + 1] = valueCount;
+		for(long l : v){ values[valueCount++] = l; }
+	}
+
+	private static int flag(boolean set, int flag) {
+		return set ? flag : 0;
+	}
+
+	private int statement(Statement statement) {
+		if(statement == null){ return -1; }
+		statement.accept(this);
+		return result;
+	}
+
+	private int selectBody(SelectBody body) {
+		if(body == null){ return -1; }
+		body.accept(this);
+		return result;
+	}
+
+	private int fromItem(FromItem fromItem) {
+		if(fromItem == null){ return -1; }
+		fromItem.accept((FromItemVisitor)this);
+		return result;
+	}
+
+	private int expression(Expression expression) {
+		if(expression == null){ return -1; }
+		expression.accept((ExpressionVisitor)this);
+		return result;
+	}
+
+	private int itemsList(ItemsList itemsList) {
+		if(itemsList == null){ return -1; }
+		itemsList.accept((ItemsListVisitor)this);
+		return result;
+	}
+
+	private int selectItem(SelectItem selectItem) {
+		if(selectItem == null){ return -1; }
+		selectItem.accept(this);
+		return result;
+	}
+
+	private int table(Table table) {
+		if(table == null){ return -1; }
+		int n = node(Kind.TABLE, 0);
+		string(n, 0, table.getSchemaName());
+		string(n, 1, table.getName());
+		string(n, 2, table.getAlias());
+		return n;
+	}
+
+	private int column(Column column) {
+		if(column == null){ return -1; }
+		int n = node(Kind.COLUMN, 1);
+		string(n, 0, column.getColumnName());
+		child(n, 0, table(column.getTable()));
+		return n;
+	}
+
+	private int join(Join join) {
+		if(join == null){ return -1; }
+		int flags = flag(join.isOuter(), FlatStatement.OUTER) | flag(join.isRight(), FlatStatement.RIGHT)
+			| flag(join.isLeft(), FlatStatement.LEFT) | flag(join.isNatural(), FlatStatement.NATURAL)
+			| flag(join.isFull(), FlatStatement.FULL) | flag(join.isInner(), FlatStatement.INNER)
+			| flag(join.isSimple(), FlatStatement.SIMPLE);
+		int n = node(Kind.JOIN, flags, 3);
+		child(n, 0, fromItem(join.getRightItem()));
+		child(n, 1, expression(join.getOnExpression()));
+		child(n, 2, columns(join.getUsingColumns()));
+		return n;
+	}
+
+	private int orderByElement(OrderByElement element) {
+		if(element == null){ return -1; }
+		int n = node(Kind.ORDER_BY_ELEMENT, flag(element.isAsc(), FlatStatement.ASC), 1);
+		child(n, 0, expression(element.getExpression()));
+		return n;
+	}
+
+	private int limit(Limit limit) {
+		if(limit == null){ return -1; }
+		int flags = flag(limit.isRowCountJdbcParameter(), FlatStatement.ROW_COUNT_JDBC)
+			| flag(limit.isOffsetJdbcParameter(), FlatStatement.OFFSET_JDBC)
+			| flag(limit.isLimitAll(), FlatStatement.LIMIT_ALL);
+		int n = node(Kind.LIMIT, flags, 0);
+		values(n, limit.getOffset(), limit.getRowCount());
+		return n;
+	}
+
+	private int top(Top top) {
+		if(top == null){ return -1; }
+		int n = node(Kind.TOP, flag(top.isRowCountJdbcParameter(), FlatStatement.ROW_COUNT_JDBC), 0);
+		values(n, top.getRowCount());
+		return n;
+	}
+
+	private int distinct(Distinct distinct) {
+		if(distinct == null){ return -1; }
+		int n = node(Kind.DISTINCT, 1);
+		child(n, 0, selectItems(distinct.getOnSelectItems()));
+		return n;
+	}
+
+	private int withItem(WithItem with) {
+		if(with == null){ return -1; }
+		int n = node(Kind.WITH_ITEM, 2);
+		string(n, 0, with.getName());
+		child(n, 0, selectItems(with.getWithItemList()));
+		child(n, 1, selectBody(with.getSelectBody()));
+		return n;
+	}
+
+	private int whenClause(WhenClause when) {
+		if(when == null){ return -1; }
+		int n = node(Kind.WHEN, 2);
+		child(n, 0, expression(when.getWhenExpression()));
+		child(n, 1, expression(when.getThenExpression()));
+		return n;
+	}
+
+	private int subSelect(SubSelect subSelect) {
+		if(subSelect == null){ return -1; }
+		int n = node(Kind.SUB_SELECT, 1);
+		string(n, 0, subSelect.getAlias());
+		child(n, 0, selectBody(subSelect.getSelectBody()));
+		return n;
+	}
+
+	private int plainSelect(PlainSelect plainSelect) {
+		if(plainSelect == null){ return -1; }
+		int n = node(Kind.PLAIN_SELECT, 11);
+		child(n, 0, distinct(plainSelect.getDistinct()));
+		List<SelectItem> items = plainSelect.getSelectItems();
+		if(items != null){
+			int list = node(Kind.LIST, items.size());
+			for(int i = 0; i < items.size(); i++){ child(list, i, selectItem(items.get(i))); }
+			child(n, 1, list);
+		}
+		child(n, 2, table(plainSelect.getInto()));
+		child(n, 3, fromItem(plainSelect.getFromItem()));
+		List<Join> joins = plainSelect.getJoins();
+		if(joins != null){
+			int list = node(Kind.LIST, joins.size());
+			for(int i = 0; i < joins.size(); i++){ child(list, i, join(joins.get(i))); }
+			child(n, 4, list);
+		}
+		child(n, 5, expression(plainSelect.getWhere()));
+		child(n, 6, expressions(plainSelect.getGroupByColumnReferences()));
+		child(n, 7, orderBy(plainSelect.getOrderByElements()));
+		child(n, 8, expression(plainSelect.getHaving()));
+		child(n, 9, limit(plainSelect.getLimit()));
+		child(n, 10, top(plainSelect.getTop()));
+		return n;
+	}
+
+	private int expressions(List<Expression> list) {
+		if(list == null){ return -1; }
+		int n = node(Kind.LIST, list.size());
+		for(int i = 0; i < list.size(); i++){ child(n, i, expression(list.get(i))); }
+		return n;
+	}
+
+	private int columns(List<Column> list) {
+		if(list == null){ return -1; }
+		int n = node(Kind.LIST, list.size());
+		for(int i = 0; i < list.size(); i++){ child(n, i, column(list.get(i))); }
+		return n;
+	}
+
+	private int orderBy(List<OrderByElement> list) {
+		if(list == null){ return -1; }
+		int n = node(Kind.LIST, list.size());
+		for(int i = 0; i < list.size(); i++){ child(n, i, orderByElement(list.get(i))); }
+		return n;
+	}
+
+	private int selectItems(List<SelectExpressionItem> list) {
+		if(list == null){ return -1; }
+		int n = node(Kind.LIST, list.size());
+		for(int i = 0; i < list.size(); i++){ child(n, i, selectItem(list.get(i))); }
+		return n;
+	}
+
+	private int strings(List<?> list) {
+		if(list == null){ return -1; }
+		int n = node(Kind.STRINGS, list.size());
+		for(int i = 0; i < list.size(); i++){ child(n, i, pool.intern((String)list.get(i))); }
+		return n;
+	}
+
+	private int binary(Kind kind, int flags, BinaryExpression expression) {
+		int n = node(kind, flags, 2);
+		child(n, 0, expression(expression.getLeftExpression()));
+		child(n, 1, expression(expression.getRightExpression()));
+		return n;
+	}
+
+	private void binary(Kind kind, BinaryExpression expression) {
+		result = binary(kind, 0, expression);
+	}
+
+	/////////////// Statements ///////////////
+
+	public void visit(Select select) {
+		int n = node(Kind.SELECT, 2);
+		List<WithItem> with = select.getWithItemsList();
+		if(with != null){
+			int list = node(Kind.LIST, with.size());
+			for(int i = 0; i < with.size(); i++){ child(list, i, withItem(with.get(i))); }
+			child(n, 0, list);
+		}
+		child(n, 1, selectBody(select.getSelectBody()));
+		result = n;
+	}
+
+	public void visit(Delete delete) {
+		int n = node(Kind.DELETE, 2);
+		child(n, 0, table(delete.getTable()));
+		child(n, 1, expression(delete.getWhere()));
+		result = n;
+	}
+
+	public void visit(Update update) {
+		int n = node(Kind.UPDATE, 4);
+		child(n, 0, table(update.getTable()));
+		child(n, 1, expression(update.getWhere()));
+		child(n, 2, columns(update.getColumns()));
+		child(n, 3, expressions(update.getExpressions()));
+		result = n;
+	}
+
+	public void visit(Insert insert) {
+		int flags = flag(insert.isUseValues(), FlatStatement.USE_VALUES)
+			| flag(insert.isOrReplace(), FlatStatement.OR_REPLACE);
+		int n = node(Kind.INSERT, flags, 3);
+		child(n, 0, table(insert.getTable()));
+		child(n, 1, columns(insert.getColumns()));
+		child(n, 2, itemsList(insert.getItemsList()));
+		result = n;
+	}
+
+	public void visit(Replace replace) {
+		int n = node(Kind.REPLACE, flag(replace.isUseValues(), FlatStatement.USE_VALUES), 4);
+		child(n, 0, table(replace.getTable()));
+		child(n, 1, columns(replace.getColumns()));
+		child(n, 2, itemsList(replace.getItemsList()));
+		child(n, 3, expressions(replace.getExpressions()));
+		result = n;
+	}
+
+	public void visit(Drop drop) {
+		int n = node(Kind.DROP, 1);
+		string(n, 0, drop.getName());
+		string(n, 1, drop.getType());
+		child(n, 0, strings(drop.getParameters()));
+		result = n;
+	}
+
+	public void visit(Truncate truncate) {
+		int n = node(Kind.TRUNCATE, 1);
+		child(n, 0, table(truncate.getTable()));
+		result = n;
+	}
+
+	public void visit(CreateTable createTable) {
+		int flags = flag(createTable.getTableIfNotExists(), FlatStatement.IF_NOT_EXISTS)
+			| flag(createTable.getOrReplaceTable(), FlatStatement.OR_REPLACE);
+		int n = node(Kind.CREATE_TABLE, flags, 4);
+		child(n, 0, table(createTable.getTable()));
+		child(n, 1, strings(createTable.getTableOptionsStrings()));
+		List<ColumnDefinition> defs = createTable.getColumnDefinitions();
+		if(defs != null){
+			int list = node(Kind.LIST, defs.size());
+			for(int i = 0; i < defs.size(); i++){ child(list, i, columnDefinition(defs.get(i))); }
+			child(n, 2, list);
+		}
+		List<Index> indexes = createTable.getIndexes();
+		if(indexes != null){
+			int list = node(Kind.LIST, indexes.size());
+			for(int i = 0; i < indexes.size(); i++){ child(list, i, index(indexes.get(i))); }
+			child(n, 3, list);
+		}
+		result = n;
+	}
+
+	private int columnDefinition(ColumnDefinition def) {
+		if(def == null){ return -1; }
+		int n = node(Kind.COLUMN_DEFINITION, 2);
+		string(n, 0, def.getColumnName());
+		ColDataType type = def.getColDataType();
+		if(type != null){
+			int t = node(Kind.COL_DATA_TYPE, 1);
+			string(t, 0, type.getDataType());
+			child(t, 0, strings(type.getArgumentsStringList()));
+			child(n, 0, t);
+		}
+		child(n, 1, strings(def.getColumnSpecStrings()));
+		return n;
+	}
+
+	private int index(Index index) {
+		if(index == null){ return -1; }
+		int n = node(Kind.INDEX, 1);
+		string(n, 0, index.getType());
+		string(n, 1, index.getName());
+		child(n, 0, strings(index.getColumnsNames()));
+		return n;
+	}
+
+	/////////////// Select Bodies ///////////////
+
+	public void visit(PlainSelect plainSelect) {
+		result = plainSelect(plainSelect);
+	}
+
+	public void visit(Union union) {
+		int flags = flag(union.isDistinct(), FlatStatement.DISTINCT) | flag(union.isAll(), FlatStatement.ALL);
+		int n = node(Kind.UNION, flags, 3);
+		List<PlainSelect> selects = union.getPlainSelects();
+		if(selects != null){
+			int list = node(Kind.LIST, selects.size());
+			for(int i = 0; i < selects.size(); i++){ child(list, i, plainSelect(selects.get(i))); }
+			child(n, 0, list);
+		}
+		child(n, 1, orderBy(union.getOrderByElements()));
+		child(n, 2, limit(union.getLimit()));
+		result = n;
+	}
+
+	/////////////// From Items ///////////////
+
+	public void visit(Table table) {
+		result = table(table);
+	}
+
+	public void visit(SubSelect subSelect) {
+		result = subSelect(subSelect);
+	}
+
+	public void visit(SubJoin subjoin) {
+		int n = node(Kind.SUB_JOIN, 2);
+		string(n, 0, subjoin.getAlias());
+		child(n, 0, fromItem(subjoin.getLeft()));
+		child(n, 1, join(subjoin.getJoin()));
+		result = n;
+	}
+
+	/////////////// Select Items ///////////////
+
+	public void visit(AllColumns allColumns) {
+		result = node(Kind.ALL_COLUMNS, 0);
+	}
+
+	public void visit(AllTableColumns allTableColumns) {
+		int n = node(Kind.ALL_TABLE_COLUMNS, 1);
+		child(n, 0, table(allTableColumns.getTable()));
+		result = n;
+	}
+
+	public void visit(SelectExpressionItem selectExpressionItem) {
+		int n = node(Kind.SELECT_EXPRESSION_ITEM, 1);
+		string(n, 0, selectExpressionItem.getAlias());
+		child(n, 0, expression(selectExpressionItem.getExpression()));
+		result = n;
+	}
+
+	/////////////// Items Lists ///////////////
+
+	public void visit(ExpressionList expressionList) {
+		if(LiteralList.of(expressionList) != null){
+			result = literals((LiteralList)expressionList);
+			return;
+		}
+		List<Expression> list = expressionList.getExpressions();
+		int count = list == null ? 0 : list.size();
+		int n = node(Kind.EXPRESSION_LIST, count);
+		for(int i = 0; i < count; i++){ child(n, i, expression(list.get(i))); }
+		result = n;
+	}
+
+	private int literals(LiteralList list) {
+		int count = list.size();
+		int n;
+		switch(list.getType()){
+			case LONG:
+				n = node(Kind.LONG_LITERALS, 0);
+				long[] longs = new long[count];
+				for(int i = 0; i < count; i++){ longs[i] = list.getLong(i); }
+				values(n, longs);
+				break;
+			case DOUBLE:
+				n = node(Kind.DOUBLE_LITERALS, 0);
+				long[] bits = new long[count];
+				for(int i = 0; i < count; i++){ bits[i] = Double.doubleToRawLongBits(list.getDouble(i)); }
+				values(n, bits);
+				break;
+			default:
+				n = node(Kind.STRING_LITERALS, count);
+				for(int i = 0; i < count; i++){ child(n, i, pool.intern(list.getString(i))); }
+				return n;
+		}
+		nodes[n + FlatStatement.COUNT] = count;
+		return n;
+	}
+
+	/////////////// Expressions ///////////////
+
+	public void visit(NullValue nullValue) {
+		result = node(Kind.NULL, 0);
+	}
+
+	public void visit(Function function) {
+		int flags = flag(function.isAllColumns(), FlatStatement.ALL_COLUMNS)
+			| flag(function.isDistinct(), FlatStatement.DISTINCT)
+			| flag(function.isEscaped(), FlatStatement.ESCAPED);
+		int n = node(Kind.FUNCTION, flags, 1);
+		string(n, 0, function.getName());
+		child(n, 0, itemsList(function.getParameters()));
+		result = n;
+	}
+
+	public void visit(InverseExpression inverseExpression) {
+		int n = node(Kind.INVERSE, 1);
+		child(n, 0, expression(inverseExpression.getExpression()));
+		result = n;
+	}
+
+	public void visit(JdbcParameter jdbcParameter) {
+		result = node(Kind.JDBC_PARAMETER, 0);
+	}
+
+	public void visit(DoubleValue doubleValue) {
+		int n = node(Kind.DOUBLE, 0);
+		values(n, Double.doubleToRawLongBits(doubleValue.getValue()));
+		result = n;
+	}
+
+	public void visit(LongValue longValue) {
+		int n = node(Kind.LONG, 0);
+		values(n, longValue.getValue());
+		result = n;
+	}
+
+	public void visit(DecimalValue decimalValue) {
+		int n = node(Kind.DECIMAL, 0);
+		string(n, 0, decimalValue.toString());
+		result = n;
+	}
+
+	public void visit(DateValue dateValue) {
+		int n = node(Kind.DATE, 0);
+		values(n, dateValue.getEpochDay());
+		result = n;
+	}
+
+	public void visit(TimeValue timeValue) {
+		int n = node(Kind.TIME, 0);
+		values(n, timeValue.getMicrosOfDay());
+		result = n;
+	}
+
+	public void visit(TimestampValue timestampValue) {
+		int n = node(Kind.TIMESTAMP, 0);
+		values(n, timestampValue.getEpochMicros(), timestampValue.getNanosOfMicro());
+		result = n;
+	}
+
+	public void visit(BooleanValue booleanValue) {
+		result = node(Kind.BOOLEAN, flag(booleanValue.getValue(), FlatStatement.TRUE), 0);
+	}
+
+	public void visit(StringValue stringValue) {
+		int n = node(Kind.STRING, 0);
+		string(n, 0, stringValue.getValue());
+		result = n;
+	}
+
+	public void visit(BinaryValue binaryValue) {
+		ByteBuffer bytes = binaryValue.getValue();
+		int length = bytes.remaining();
+		long[] packed = new long[1 + (length + 7) / 8];
+		packed[0] = length;
+		int i = 0;
+		for(; i + 8 <= length; i += 8){ packed[1 + i / 8] = bytes.getLong(i); }
+		for(; i < length; i++){ packed[1 + i / 8] |= (bytes.get(i) & 0xffL) << 56 - 8 * (i % 8); }
+		int n = node(Kind.BINARY, 0);
+		values(n, packed);
+		nodes[n + FlatStatement.COUNT] = packed.length;
+		result = n;
+	}
+
+	public void visit(Addition addition) { binary(Kind.ADDITION, addition); }
+	public void visit(Division division) { binary(Kind.DIVISION, division); }
+	public void visit(Multiplication multiplication) { binary(Kind.MULTIPLICATION, multiplication); }
+	public void visit(Subtraction subtraction) { binary(Kind.SUBTRACTION, subtraction); }
+	public void visit(AndExpression andExpression) { binary(Kind.AND, andExpression); }
+	public void visit(OrExpression orExpression) { binary(Kind.OR, orExpression); }
+	public void visit(EqualsTo equalsTo) { binary(Kind.EQUALS_TO, equalsTo); }
+	public void visit(GreaterThan greaterThan) { binary(Kind.GREATER_THAN, greaterThan); }
+	public void visit(GreaterThanEquals greaterThanEquals) { binary(Kind.GREATER_THAN_EQUALS, greaterThanEquals); }
+	public void visit(MinorThan minorThan) { binary(Kind.MINOR_THAN, minorThan); }
+	public void visit(MinorThanEquals minorThanEquals) { binary(Kind.MINOR_THAN_EQUALS, minorThanEquals); }
+	public void visit(NotEqualsTo notEqualsTo) { binary(Kind.NOT_EQUALS_TO, notEqualsTo); }
+	public void visit(Concat concat) { binary(Kind.CONCAT, concat); }
+	public void visit(Matches matches) { binary(Kind.MATCHES, matches); }
+	public void visit(BitwiseAnd bitwiseAnd) { binary(Kind.BITWISE_AND, bitwiseAnd); }
+	public void visit(BitwiseOr bitwiseOr) { binary(Kind.BITWISE_OR, bitwiseOr); }
+	public void visit(BitwiseXor bitwiseXor) { binary(Kind.BITWISE_XOR, bitwiseXor); }
+
+	public void visit(LikeExpression likeExpression) {
+		int n = binary(Kind.LIKE, flag(likeExpression.isNot(), FlatStatement.NOT), likeExpression);
+		string(n, 0, likeExpression.getEscape());
+		result = n;
+	}
+
+	public void visit(Between between) {
+		int n = node(Kind.BETWEEN, flag(between.isNot(), FlatStatement.NOT), 3);
+		child(n, 0, expression(between.getLeftExpression()));
+		child(n, 1, expression(between.getBetweenExpressionStart()));
+		child(n, 2, expression(between.getBetweenExpressionEnd()));
+		result = n;
+	}
+
+	public void visit(InExpression inExpression) {
+		int n = node(Kind.IN, flag(inExpression.isNot(), FlatStatement.NOT), 2);
+		child(n, 0, expression(inExpression.getLeftExpression()));
+		child(n, 1, itemsList(inExpression.getItemsList()));
+		result = n;
+	}
+
+	public void visit(IsNullExpression isNullExpression) {
+		int n = node(Kind.IS_NULL, flag(isNullExpression.isNot(), FlatStatement.NOT), 1);
+		child(n, 0, expression(isNullExpression.getLeftExpression()));
+		result = n;
+	}
+
+	public void visit(Column tableColumn) {
+		result = column(tableColumn);
+	}
+
+	public void visit(CaseExpression caseExpression) {
+		int n = node(Kind.CASE, 3);
+		child(n, 0, expression(caseExpression.getSwitchExpression()));
+		List<WhenClause> whens = caseExpression.getWhenClauses();
+		if(whens != null){
+			int list = node(Kind.LIST, whens.size());
+			for(int i = 0; i < whens.size(); i++){ child(list, i, whenClause(whens.get(i))); }
+			child(n, 1, list);
+		}
+		child(n, 2, expression(caseExpression.getElseExpression()));
+		result = n;
+	}
+
+	public void visit(WhenClause whenClause) {
+		result = whenClause(whenClause);
+	}
+
+	public void visit(ExistsExpression existsExpression) {
+		int n = node(Kind.EXISTS, flag(existsExpression.isNot(), FlatStatement.NOT), 1);
+		child(n, 0, expression(existsExpression.getRightExpression()));
+		result = n;
+	}
+
+	public void visit(AllComparisonExpression allComparisonExpression) {
+		int n = node(Kind.ALL_COMPARISON, 1);
+		child(n, 0, subSelect(allComparisonExpression.getSubSelect()));
+		result = n;
+	}
+
+	public void visit(AnyComparisonExpression anyComparisonExpression) {
+		int n = node(Kind.ANY_COMPARISON, 1);
+		child(n, 0, subSelect(anyComparisonExpression.getSubSelect()));
+		result = n;
+	}
+}
@@ -0,0 +1,404 @@
+package net.sf.jsqlparser.util;
+
+import java.util.Arrays;
+
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * A statement encoded as a flat node arena: one int[] holding every node,
+ * a long[] holding numeric literals, and a {@link StringPool} (usually shared
+ * by many statements) holding identifiers and string literals.  A simple
+ * query takes a few hundred bytes as an object graph, and a few dozen here,
+ * in three objects.<br>
+ *
+ * A node is addressed by its offset in the arena, and laid out as
+ * <pre>
+ *   kind | flags << 8,  attribute 0,  attribute 1,  attribute 2,  count,  slot 0 ... slot count-1
+ * </pre>
+ * What the attributes, flags and slots mean depends on the {@link Kind} of
+ * the node.  Attributes are either string ids or indexes into the value array,
+ * -1 standing for null.  Slots are the offsets of the child nodes, -1 for a
+ * missing child, except in the {@link Kind#STRINGS} and
+ * {@link Kind#STRING_LITERALS} lists, whose slots are string ids.<br>
+ *
+ * The encoding is read-only.  Navigate it through the offset-based accessors,
+ * or with a {@link Cursor}, neither of which allocates; convert it back with
+ * {@link #toStatement} to use the existing visitors.
+ */
+public class FlatStatement {
+
+	/**
+	 * The kinds of node.  Unless stated otherwise, a node has no attributes,
+	 * flags or children.
+	 */
+	public enum Kind {
+		// statements
+		/** children: with items (LIST), select body */
+		SELECT(0, 0, 2),
+		/** children: table, where */
+		DELETE(0, 0, 2),
+		/** children: table, where, columns (LIST), expressions (LIST) */
+		UPDATE(0, 0, 4),
+		/** flags: USE_VALUES, OR_REPLACE; children: table, columns (LIST), items list */
+		INSERT(0, 0, 3),
+		/** flags: USE_VALUES; children: table, columns (LIST), items list, expressions (LIST) */
+		REPLACE(0, 0, 4),
+		/** attributes: name, type; children: parameters (STRINGS) */
+		DROP(2, 0, 1),
+		/** children: table */
+		TRUNCATE(0, 0, 1),
+		/** flags: IF_NOT_EXISTS, OR_REPLACE; children: table, options (STRINGS), columns (LIST), indexes (LIST) */
+		CREATE_TABLE(0, 0, 4),
+		/** attributes: column name; children: data type, column specs (STRINGS) */
+		COLUMN_DEFINITION(1, 0, 2),
+		/** attributes: data type; children: arguments (STRINGS) */
+		COL_DATA_TYPE(1, 0, 1),
+		/** attributes: type, name; children: column names (STRINGS) */
+		INDEX(2, 0, 1),
+
+		// select bodies and their parts
+		/** children: distinct, select items (LIST), into, from item, joins (LIST), where,
+		 * group by (LIST), order by (LIST), having, limit, top */
+		PLAIN_SELECT(0, 0, 11),
+		/** flags: DISTINCT, ALL; children: plain selects (LIST), order by (LIST), limit */
+		UNION(0, 0, 3),
+		/** attributes: name; children: column items (LIST), select body */
+		WITH_ITEM(1, 0, 2),
+		/** children: on select items (LIST) */
+		DISTINCT(0, 0, 1),
+		/** flags: ROW_COUNT_JDBC, OFFSET_JDBC, LIMIT_ALL; values: offset, row count */
+		LIMIT(0, 2, 0),
+		/** flags: ROW_COUNT_JDBC; values: row count */
+		TOP(0, 1, 0),
+		/** flags: ASC; children: expression */
+		ORDER_BY_ELEMENT(0, 0, 1),
+		/** flags: OUTER ... SIMPLE; children: right item, on expression, using columns (LIST) */
+		JOIN(0, 0, 3),
+		/** attributes: schema name, name, alias */
+		TABLE(3, 0, 0),
+		/** attributes: alias; children: select body */
+		SUB_SELECT(1, 0, 1),
+		/** attributes: alias; children: left item, join */
+		SUB_JOIN(1, 0, 2),
+		ALL_COLUMNS(0, 0, 0),
+		/** children: table */
+		ALL_TABLE_COLUMNS(0, 0, 1),
+		/** attributes: alias; children: expression */
+		SELECT_EXPRESSION_ITEM(1, 0, 1),
+
+		// lists
+		/** children: the elements */
+		LIST(0, 0, -1),
+		/** slots: the string ids of the elements */
+		STRINGS(0, 0, -1),
+		/** children: the expressions */
+		EXPRESSION_LIST(0, 0, -1),
+		/** values: the elements; count: the number of elements, which have no slots */
+		LONG_LITERALS(0, -1, 0),
+		/** values: the raw bits of the elements; count: the number of elements */
+		DOUBLE_LITERALS(0, -1, 0),
+		/** slots: the string ids of the elements */
+		STRING_LITERALS(0, 0, -1),
+
+		// expressions
+		NULL(0, 0, 0),
+		JDBC_PARAMETER(0, 0, 0),
+		/** values: the value */
+		LONG(0, 1, 0),
+		/** values: the raw bits of the value */
+		DOUBLE(0, 1, 0),
+		/** attributes: the value, in plain notation */
+		DECIMAL(1, 0, 0),
+		/** attributes: the value */
+		STRING(1, 0, 0),
+		/** values: the number of bytes, then the bytes, eight to a value, first byte highest;
+		 * count: the number of values */
+		BINARY(0, -1, 0),
+		/** flags: TRUE */
+		BOOLEAN(0, 0, 0),
+		/** values: the days since 1970-01-01 */
+		DATE(0, 1, 0),
+		/** values: the microseconds since midnight */
+		TIME(0, 1, 0),
+		/** values: the microseconds since 1970-01-01 00:00:00 and the nanoseconds past them */
+		TIMESTAMP(0, 2, 0),
+		/** attributes: name; flags: ALL_COLUMNS, DISTINCT, ESCAPED; children: parameters */
+		FUNCTION(1, 0, 1),
+		/** children: expression */
+		INVERSE(0, 0, 1),
+		/** attributes: column name; children: table */
+		COLUMN(1, 0, 1),
+		/** children: switch, when clauses (LIST), else */
+		CASE(0, 0, 3),
+		/** children: when, then */
+		WHEN(0, 0, 2),
+		/** flags: NOT; children: left, start, end */
+		BETWEEN(0, 0, 3),
+		/** flags: NOT; children: left, items list */
+		IN(0, 0, 2),
+		/** flags: NOT; children: left */
+		IS_NULL(0, 0, 1),
+		/** flags: NOT; children: right */
+		EXISTS(0, 0, 1),
+		/** children: sub select */
+		ALL_COMPARISON(0, 0, 1),
+		/** children: sub select */
+		ANY_COMPARISON(0, 0, 1),
+		/** attributes: escape; flags: NOT; children: left, right */
+		LIKE(1, 0, 2),
+		// binary expressions; children: left, right
+		ADDITION(0, 0, 2), DIVISION(0, 0, 2), MULTIPLICATION(0, 0, 2), SUBTRACTION(0, 0, 2),
+		AND(0, 0, 2), OR(0, 0, 2), EQUALS_TO(0, 0, 2), GREATER_THAN(0, 0, 2), GREATER_THAN_EQUALS(0, 0, 2),
+		MINOR_THAN(0, 0, 2), MINOR_THAN_EQUALS(0, 0, 2), NOT_EQUALS_TO(0, 0, 2), CONCAT(0, 0, 2),
+		MATCHES(0, 0, 2), BITWISE_AND(0, 0, 2), BITWISE_OR(0, 0, 2), BITWISE_XOR(0, 0, 2);
+
+		/** The number of leading attributes that are string ids */
+		final int strings;
+		/** The number of values, or -1 for the count of the node */
+		final int values;
+		/** The number of slots, or -1 for the count of the node */
+		final int slots;
+
+		Kind(int strings, int values, int slots) {
+			this.strings = strings;
+			this.values = values;
+			this.slots = slots;
+		}
+
+		private static final Kind[] VALUES = values();
+	}
+
+	// flags; their meaning depends on the kind of the node
+	public static final int NOT = 1;
+	public static final int TRUE = 1;
+	public static final int ASC = 1;
+	public static final int USE_VALUES = 1;
+	public static final int OR_REPLACE = 2;
+	public static final int IF_NOT_EXISTS = 4;
+	public static final int ALL_COLUMNS = 1;
+	public static final int DISTINCT = 2;
+	public static final int ESCAPED = 4;
+	public static final int ALL = 4;
+	public static final int ROW_COUNT_JDBC = 1;
+	public static final int OFFSET_JDBC = 2;
+	public static final int LIMIT_ALL = 4;
+	public static final int OUTER = 1;
+	public static final int RIGHT = 2;
+	public static final int LEFT = 4;
+	public static final int NATURAL = 8;
+	public static final int FULL = 16;
+	public static final int INNER = 32;
+	public static final int SIMPLE = 64;
+
+	static final int HEADER = 5;
+	static final int COUNT = 4;
+
+	private final int[] nodes;
+	private final long[] values;
+	private final StringPool pool;
+	private final int root;
+
+	FlatStatement(int[] nodes, long[] values, StringPool pool, int root) {
+		this.nodes = nodes;
+		this.values = values;
+		this.pool = pool;
+		this.root = root;
+	}
+
+	int[] nodes() { return nodes; }
+	long[] values() { return values; }
+
+	/**
+	 * @return    The number of slots of a node of the given kind with the given count
+	 */
+	static int slots(Kind kind, int count) {
+		return kind.slots < 0 ? count : kind.slots;
+	}
+
+	/**
+	 * @return    Whether the slots of a node of the given kind hold string ids
+	 */
+	static boolean stringSlots(Kind kind) {
+		return kind == Kind.STRINGS || kind == Kind.STRING_LITERALS;
+	}
+
+	/**
+	 * Encodes a statement into <code>pool</code>.
+	 */
+	public static FlatStatement encode(Statement statement, StringPool pool) {
+		return new FlatEncoder(pool).encode(statement);
+	}
+
+	/**
+	 * @return    A new object model of this statement
+	 */
+	public Statement toStatement() {
+		return new FlatDecoder(this).statement(root);
+	}
+
+	public StringPool getPool() { return pool; }
+
+	/**
+	 * @return    The offset of the statement node
+	 */
+	public int root() { return root; }
+
+	/**
+	 * @return    The number of ints in the arena
+	 */
+	public int arenaSize() { return nodes.length; }
+
+	/**
+	 * @return    The number of longs in the value array
+	 */
+	public int valueCount() { return values.length; }
+
+	public Kind kind(int node) {
+		return Kind.VALUES[nodes[node] & 0xff];
+	}
+
+	static Kind kindOf(int kind) {
+		return kind < Kind.VALUES.length ? Kind.VALUES[kind] : null;
+	}
+
+	public boolean flag(int node, int flag) {
+		return (nodes[node] >>> 8 & flag) != 0;
+	}
+
+	public int flags(int node) {
+		return nodes[node] >>> 8;
+	}
+
+	/**
+	 * @return    Attribute <code>index</code> (0 to 2) of the node, as stored
+	 */
+	public int attribute(int node, int index) {
+		return nodes[node + 1 + index];
+	}
+
+	/**
+	 * @return    Attribute <code>index</code> of the node, as a string
+	 */
+	public String string(int node, int index) {
+		return pool.get(nodes[node + 1 + index]);
+	}
+
+	/**
+	 * @return    Whether the node has a value array entry, i.e., for the date and
+	 *            time kinds, whether the value is not null
+	 */
+	public boolean hasValue(int node) {
+		return nodes[node + 1] >= 0;
+	}
+
+	/**
+	 * @return    The <code>index</code>th value of the node
+	 */
+	public long value(int node, int index) {
+		return values[nodes[node + 1] + index];
+	}
+
+	/**
+	 * @return    The <code>index</code>th value of the node, as a double
+	 */
+	public double doubleValue(int node, int index) {
+		return Double.longBitsToDouble(values[nodes[node + 1] + index]);
+	}
+
+	/**
+	 * @return    The number of slots of the node, or of elements of a literal list
+	 */
+	public int count(int node) {
+		return nodes[node + COUNT];
+	}
+
+	/**
+	 * @return    The offset of the child in slot <code>index</code>, or -1 if it is missing
+	 */
+	public int child(int node, int index) {
+		if(index < 0 || index >= nodes[node + COUNT]){
+			throw new IndexOutOfBoundsException("Index: "+index);
+		}
+		return nodes[node + HEADER + index];
+	}
+
+	/**
+	 * @return    The <code>index</code>th element of a STRINGS or STRING_LITERALS node
+	 */
+	public String stringAt(int node, int index) {
+		return pool.get(child(node, index));
+	}
+
+	/**
+	 * Creates a cursor positioned on the root.  A cursor can be moved to any
+	 * other statement with {@link Cursor#reset}, so one is enough to walk any
+	 * number of statements.
+	 */
+	public Cursor cursor() {
+		Cursor cursor = new Cursor();
+		cursor.reset(this);
+		return cursor;
+	}
+
+	/**
+	 * A movable view of one node of a {@link FlatStatement}, remembering the path
+	 * from the root.  A cursor is not thread-safe.
+	 */
+	public static class Cursor {
+		private FlatStatement statement;
+		private int[] path = new int[16];
+		private int depth;
+		private int node;
+
+		/**
+		 * Positions the cursor on the root of <code>statement</code>.
+		 */
+		public Cursor reset(FlatStatement statement) {
+			this.statement = statement;
+			depth = 0;
+			node = statement.root;
+			return this;
+		}
+
+		public FlatStatement statement() { return statement; }
+		public int node() { return node; }
+		public int depth() { return depth; }
+		public Kind kind() { return statement.kind(node); }
+		public boolean flag(int flag) { return statement.flag(node, flag); }
+		public int count() { return statement.count(node); }
+		public String string(int index) { return statement.string(node, index); }
+		public String stringAt(int index) { return statement.stringAt(node, index); }
+		public long value(int index) { return statement.value(node, index); }
+		public double doubleValue(int index) { return statement.doubleValue(node, index); }
+
+		/**
+		 * @return    Whether the child in slot <code>index</code> is present
+		 */
+		public boolean hasChild(int index) {
+			return statement.child(node, index) >= 0;
+		}
+
+		/**
+		 * Moves to the child in slot <code>index</code>.
+		 * @return    false, without moving, if there is no such child
+		 */
+		public boolean toChild(int index) {
+			int child = statement.child(node, index);
+			if(child < 0){ return false; }
+			if(depth == path.length){ path = Arrays.copyOf(path, depth * 2); }
+			path[depth++] = node;
+			node = child;
+			return true;
+		}
+
+		/**
+		 * Moves to the parent.
+		 * @return    false, without moving, on the root
+		 */
+		public boolean toParent() {
+			if(depth == 0){ return false; }
+			node = path[--depth];
+			return true;
+		}
+	}
+}
@@ -0,0 +1,448 @@
+package net.sf.jsqlparser.util;
+
+import java.util.List;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.ItemsListVisitor;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.Distinct;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.FromItemVisitor;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.statement.select.SelectItemVisitor;
+import net.sf.jsqlparser.statement.select.SelectVisitor;
+import net.sf.jsqlparser.statement.select.SubJoin;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Top;
+import net.sf.jsqlparser.statement.select.Union;
+import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+
+/**
+ * Counts the nodes of a tree without copying it.  The count is the one an
+ * {@link AstCopier} reports after copying the same tree, so the two may be used
+ * interchangeably as a measure of its size.
+ * <p>
+ * A counter keeps its running total in a field, so an instance must not be
+ * used by more than one thread at a time.
+ */
+public class NodeCounter implements StatementVisitor, SelectVisitor, FromItemVisitor,
+		ExpressionVisitor, ItemsListVisitor, SelectItemVisitor {
+
+	private int count;
+
+	/**
+	 * @return    The number of nodes in <code>statement</code>
+	 */
+	public static int count(Statement statement) {
+		NodeCounter counter = new NodeCounter();
+		counter.add(statement);
+		return counter.getCount();
+	}
+
+	/**
+	 * @return    The number of nodes counted since this counter was created
+	 */
+	public int getCount() { return count; }
+
+	public void add(Statement statement) {
+		if(statement != null){ statement.accept(this); }
+	}
+
+	public void add(SelectBody body) {
+		if(body != null){ body.accept(this); }
+	}
+
+	public void add(FromItem fromItem) {
+		if(fromItem != null){ fromItem.accept((FromItemVisitor)this); }
+	}
+
+	public void add(Expression expression) {
+		if(expression != null){ expression.accept((ExpressionVisitor)this); }
+	}
+
+	public void add(ItemsList itemsList) {
+		if(itemsList != null){ itemsList.accept((ItemsListVisitor)this); }
+	}
+
+	public void add(SelectItem selectItem) {
+		if(selectItem != null){ selectItem.accept(this); }
+	}
+
+	public void add(Table table) {
+		if(table != null){ count++; }
+	}
+
+	public void add(Column column) {
+		if(column == null){ return; }
+		count++;
+		add(column.getTable());
+	}
+
+	public void add(Join join) {
+		if(join == null){ return; }
+		count++;
+		add(join.getRightItem());
+		add(join.getOnExpression());
+		addColumns(join.getUsingColumns());
+	}
+
+	public void add(OrderByElement element) {
+		if(element == null){ return; }
+		count++;
+		add(element.getExpression());
+	}
+
+	public void add(Limit limit) {
+		if(limit != null){ count++; }
+	}
+
+	public void add(Top top) {
+		if(top != null){ count++; }
+	}
+
+	public void add(Distinct distinct) {
+		if(distinct == null){ return; }
+		count++;
+		addSelectItems(distinct.getOnSelectItems());
+	}
+
+	public void add(WithItem with) {
+		if(with == null){ return; }
+		count++;
+		addSelectItems(with.getWithItemList());
+		add(with.getSelectBody());
+	}
+
+	public void add(WhenClause when) {
+		if(when == null){ return; }
+		count++;
+		add(when.getWhenExpression());
+		add(when.getThenExpression());
+	}
+
+	public void add(SubSelect subSelect) {
+		if(subSelect == null){ return; }
+		count++;
+		add(subSelect.getSelectBody());
+	}
+
+	public void add(PlainSelect plainSelect) {
+		if(plainSelect == null){ return; }
+		count++;
+		add(plainSelect.getDistinct());
+		addSelectItems(plainSelect.getSelectItems());
+		add(plainSelect.getInto());
+		add(plainSelect.getFromItem());
+		if(plainSelect.getJoins() != null){
+			for(Join join : plainSelect.getJoins()){ add(join); }
+		}
+		add(plainSelect.getWhere());
+		addExpressions(plainSelect.getGroupByColumnReferences());
+		addOrderBy(plainSelect.getOrderByElements());
+		add(plainSelect.getHaving());
+		add(plainSelect.getLimit());
+		add(plainSelect.getTop());
+	}
+
+	public void add(ExpressionList list) {
+		if(list == null){ return; }
+		count++;
+		// an unmodified LiteralList holds values, not nodes
+		if(LiteralList.of(list) == null){ addExpressions(list.getExpressions()); }
+	}
+
+	private void addExpressions(List<? extends Expression> list) {
+		if(list == null){ return; }
+		for(Expression e : list){ add(e); }
+	}
+
+	private void addColumns(List<Column> list) {
+		if(list == null){ return; }
+		for(Column c : list){ add(c); }
+	}
+
+	private void addOrderBy(List<OrderByElement> list) {
+		if(list == null){ return; }
+		for(OrderByElement o : list){ add(o); }
+	}
+
+	private void addSelectItems(List<? extends SelectItem> list) {
+		if(list == null){ return; }
+		for(SelectItem item : list){ add(item); }
+	}
+
+	private void binary(BinaryExpression expression) {
+		count++;
+		add(expression.getLeftExpression());
+		add(expression.getRightExpression());
+	}
+
+	/////////////// Statements ///////////////
+
+	public void visit(Select select) {
+		count++;
+		if(select.getWithItemsList() != null){
+			for(WithItem item : select.getWithItemsList()){ add(item); }
+		}
+		add(select.getSelectBody());
+	}
+
+	public void visit(Delete delete) {
+		count++;
+		add(delete.getTable());
+		add(delete.getWhere());
+	}
+
+	public void visit(Update update) {
+		count++;
+		add(update.getTable());
+		add(update.getWhere());
+		addColumns(update.getColumns());
+		addExpressions(update.getExpressions());
+	}
+
+	public void visit(Insert insert) {
+		count++;
+		add(insert.getTable());
+		addColumns(insert.getColumns());
+		add(insert.getItemsList());
+	}
+
+	public void visit(Replace replace) {
+		count++;
+		add(replace.getTable());
+		addColumns(replace.getColumns());
+		add(replace.getItemsList());
+		addExpressions(replace.getExpressions());
+	}
+
+	public void visit(Drop drop) {
+		count++;
+	}
+
+	public void visit(Truncate truncate) {
+		count++;
+		add(truncate.getTable());
+	}
+
+	public void visit(CreateTable createTable) {
+		count++;
+		add(createTable.getTable());
+		if(createTable.getColumnDefinitions() != null){
+			// a column definition and its data type
+			count += 2 * createTable.getColumnDefinitions().size();
+		}
+		if(createTable.getIndexes() != null){
+			count += createTable.getIndexes().size();
+		}
+	}
+
+	/////////////// Select Bodies ///////////////
+
+	public void visit(PlainSelect plainSelect) {
+		add(plainSelect);
+	}
+
+	public void visit(Union union) {
+		count++;
+		if(union.getPlainSelects() != null){
+			for(PlainSelect ps : union.getPlainSelects()){ add(ps); }
+		}
+		addOrderBy(union.getOrderByElements());
+		add(union.getLimit());
+	}
+
+	/////////////// From Items ///////////////
+
+	public void visit(Table table) {
+		add(table);
+	}
+
+	public void visit(SubSelect subSelect) {
+		add(subSelect);
+	}
+
+	public void visit(SubJoin subjoin) {
+		count++;
+		add(subjoin.getLeft());
+		add(subjoin.getJoin());
+	}
+
+	/////////////// Select Items ///////////////
+
+	public void visit(AllColumns allColumns) {
+		count++;
+	}
+
+	public void visit(AllTableColumns allTableColumns) {
+		count++;
+		add(allTableColumns.getTable());
+	}
+
+	public void visit(SelectExpressionItem selectExpressionItem) {
+		count++;
+		add(selectExpressionItem.getExpression());
+	}
+
+	/////////////// Items Lists ///////////////
+
+	public void visit(ExpressionList expressionList) {
+		add(expressionList);
+	}
+
+	/////////////// Expressions ///////////////
+
+	public void visit(NullValue nullValue) { count++; }
+	public void visit(JdbcParameter jdbcParameter) { count++; }
+	public void visit(DoubleValue doubleValue) { count++; }
+	public void visit(LongValue longValue) { count++; }
+	public void visit(DecimalValue decimalValue) { count++; }
+	public void visit(DateValue dateValue) { count++; }
+	public void visit(TimeValue timeValue) { count++; }
+	public void visit(TimestampValue timestampValue) { count++; }
+	public void visit(BooleanValue booleanValue) { count++; }
+	public void visit(StringValue stringValue) { count++; }
+	public void visit(BinaryValue binaryValue) { count++; }
+
+	public void visit(Function function) {
+		count++;
+		add(function.getParameters());
+	}
+
+	public void visit(InverseExpression inverseExpression) {
+		count++;
+		add(inverseExpression.getExpression());
+	}
+
+	public void visit(Addition addition) { binary(addition); }
+	public void visit(Division division) { binary(division); }
+	public void visit(Multiplication multiplication) { binary(multiplication); }
+	public void visit(Subtraction subtraction) { binary(subtraction); }
+	public void visit(AndExpression andExpression) { binary(andExpression); }
+	public void visit(OrExpression orExpression) { binary(orExpression); }
+	public void visit(EqualsTo equalsTo) { binary(equalsTo); }
+	public void visit(GreaterThan greaterThan) { binary(greaterThan); }
+	public void visit(GreaterThanEquals greaterThanEquals) { binary(greaterThanEquals); }
+	public void visit(MinorThan minorThan) { binary(minorThan); }
+	public void visit(MinorThanEquals minorThanEquals) { binary(minorThanEquals); }
+	public void visit(NotEqualsTo notEqualsTo) { binary(notEqualsTo); }
+	public void visit(Concat concat) { binary(concat); }
+	public void visit(Matches matches) { binary(matches); }
+	public void visit(BitwiseAnd bitwiseAnd) { binary(bitwiseAnd); }
+	public void visit(BitwiseOr bitwiseOr) { binary(bitwiseOr); }
+	public void visit(BitwiseXor bitwiseXor) { binary(bitwiseXor); }
+	public void visit(LikeExpression likeExpression) { binary(likeExpression); }
+
+	public void visit(Between between) {
+		count++;
+		add(between.getLeftExpression());
+		add(between.getBetweenExpressionStart());
+		add(between.getBetweenExpressionEnd());
+	}
+
+	public void visit(InExpression inExpression) {
+		count++;
+		add(inExpression.getLeftExpression());
+		add(inExpression.getItemsList());
+	}
+
+	public void visit(IsNullExpression isNullExpression) {
+		count++;
+		add(isNullExpression.getLeftExpression());
+	}
+
+	public void visit(Column tableColumn) {
+		add(tableColumn);
+	}
+
+	public void visit(CaseExpression caseExpression) {
+		count++;
+		add(caseExpression.getSwitchExpression());
+		if(caseExpression.getWhenClauses() != null){
+			for(WhenClause when : caseExpression.getWhenClauses()){ add(when); }
+		}
+		add(caseExpression.getElseExpression());
+	}
+
+	public void visit(WhenClause whenClause) {
+		add(whenClause);
+	}
+
+	public void visit(ExistsExpression existsExpression) {
+		count++;
+		add(existsExpression.getRightExpression());
+	}
+
+	public void visit(AllComparisonExpression allComparisonExpression) {
+		count++;
+		add(allComparisonExpression.getSubSelect());
+	}
+
+	public void visit(AnyComparisonExpression anyComparisonExpression) {
+		count++;
+		add(anyComparisonExpression.getSubSelect());
+	}
+}
@@ -0,0 +1,463 @@
+package net.sf.jsqlparser.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.FlatStatement.Kind;
+
+/**
+ * A compact binary encoding of statements, for parse caches and for passing
+ * statements between processes without printing and re-parsing them.<br>
+ *
+ * A record is the {@link #VERSION} byte, the length of the rest as a varint,
+ * and the nodes of the {@link FlatStatement} of the statement in pre-order.
+ * A node is a varint holding its kind, which of its attributes are present
+ * and its flags, then its strings, its count if its kind has no fixed count,
+ * its values, and its children.  Child offsets are implied by the order, and
+ * a string is written in full where it is first used and by number after
+ * that.  Decoding rebuilds the arena and calls {@link FlatStatement#toStatement},
+ * with no tokenizing or grammar decisions.  Records are self-contained, and
+ * can be written back to back in one stream.<br>
+ *
+ * A codec reuses its buffers, so it must not be used by more than one thread
+ * at a time.
+ */
+public class StatementCodec {
+
+	/** The version of the encoding, the first byte of every record */
+	public static final int VERSION = 4;
+
+	/** The kind of a missing child */
+	private static final int MISSING = 0x7f;
+
+	private final StringPool pool = new StringPool();
+	private final FlatEncoder encoder = new FlatEncoder(pool);
+
+	// output
+	private byte[] out = new byte[256];
+	private int length;
+	/** The local id + 1 of each pool id of the statement being written, 0 if unseen */
+	private int[] local = new int[64];
+	/** The pool ids of the strings of the statement being written, by local id */
+	private int[] written = new int[16];
+	private int stringCount;
+
+	// input
+	private byte[] in;
+	private int position;
+	private int limit;
+	private int[] nodes = new int[256];
+	private int size;
+	private long[] values = new long[16];
+	private int valueCount;
+	/** The ids of the strings of the record being read, by local id */
+	private int[] ids = new int[16];
+	private String[] strings = new String[16];
+	private char[] chars = new char[64];
+
+	/////////////// Writing ///////////////
+
+	/**
+	 * @return    The record of <code>statement</code>
+	 */
+	public byte[] encode(Statement statement) {
+		encodeRecord(statement);
+		return Arrays.copyOf(out, length);
+	}
+
+	/**
+	 * @return    The record of <code>statement</code>
+	 */
+	public byte[] encode(FlatStatement statement) {
+		encodeRecord(statement);
+		return Arrays.copyOf(out, length);
+	}
+
+	public void write(Statement statement, DataOutput output) throws IOException {
+		encodeRecord(statement);
+		output.write(out, 0, length);
+	}
+
+	public void write(FlatStatement statement, DataOutput output) throws IOException {
+		encodeRecord(statement);
+		output.write(out, 0, length);
+	}
+
+	/**
+	 * Puts the record of <code>statement</code> at the position of <code>buffer</code>.
+	 * @throws java.nio.BufferOverflowException    If the record does not fit
+	 */
+	public void write(Statement statement, ByteBuffer buffer) {
+		encodeRecord(statement);
+		buffer.put(out, 0, length);
+	}
+
+	public void write(FlatStatement statement, ByteBuffer buffer) {
+		encodeRecord(statement);
+		buffer.put(out, 0, length);
+	}
+
+	private void encodeRecord(Statement statement) {
+		pool.clear();
+		encodeRecord(encoder.encode(statement));
+	}
+
+	/**
+	 * Leaves the record of the statement in the first <code>length</code> bytes
+	 * of <code>out</code>.
+	 */
+	private void encodeRecord(FlatStatement statement) {
+		// leave room for the version and the largest length varint
+		length = 6;
+		stringCount = 0;
+		try {
+			writeNode(statement, statement.root());
+		} finally {
+			// the local ids are only set for the pool ids of this statement
+			for(int i = 0; i < stringCount; i++){ local[written[i]] = 0; }
+		}
+
+		// move the body up against the header
+		int body = length - 6;
+		int header = 1 + varintSize(body);
+		System.arraycopy(out, 6, out, header, body);
+		out[0] = (byte)VERSION;
+		length = 1;
+		writeVarint(body);
+		length = header + body;
+	}
+
+	private void writeNode(FlatStatement statement, int n) {
+		if(n < 0){
+			writeVarint(MISSING);
+			return;
+		}
+		int[] nodes = statement.nodes();
+		long[] values = statement.values();
+		Kind kind = statement.kind(n);
+		int present = 0;
+		for(int i = 0; i < 3; i++){
+			if(nodes[n + 1 + i] >= 0){ present |= 1 << i; }
+		}
+		writeVarint(kind.ordinal() | present << 7 | statement.flags(n) << 10);
+		for(int i = 0; i < kind.strings; i++){
+			if((present & 1 << i) != 0){ writeString(statement.getPool(), nodes[n + 1 + i]); }
+		}
+		int count = nodes[n + FlatStatement.COUNT];
+		if(kind.values < 0 || kind.slots < 0){ writeVarint(count); }
+		if(kind.values != 0 && (present & 1) != 0){
+			int first = nodes[n + 1];
+			int last = first + (kind.values < 0 ? count : kind.values);
+			boolean doubles = kind == Kind.DOUBLE || kind == Kind.DOUBLE_LITERALS;
+			for(int i = first; i < last; i++){
+				long v = values[i];
+				// reversed, the bits of short decimal fractions make small varints
+				writeVarlong(doubles ? Long.reverse(v) : v << 1 ^ v >> 63);
+			}
+		}
+		int slots = FlatStatement.slots(kind, count);
+		if(FlatStatement.stringSlots(kind)){
+			for(int i = 0; i < slots; i++){ writeString(statement.getPool(), nodes[n + FlatStatement.HEADER + i]); }
+		} else {
+			for(int i = 0; i < slots; i++){ writeNode(statement, nodes[n + FlatStatement.HEADER + i]); }
+		}
+	}
+
+	/**
+	 * Writes 0 for null, the local id + 1 of a string already written, or the
+	 * next local id + 1 followed by the string.
+	 */
+	private void writeString(StringPool source, int id) {
+		if(id < 0){
+			writeVarint(0);
+			return;
+		}
+		if(id >= local.length){ local = Arrays.copyOf(local, Math.max(id + 1, local.length * 2)); }
+		if(local[id] != 0){
+			writeVarint(local[id]);
+			return;
+		}
+		if(stringCount == written.length){ written = Arrays.copyOf(written, stringCount * 2); }
+		written[stringCount++] = id;
+		local[id] = stringCount;
+		writeVarint(stringCount);
+		String s = source.get(id);
+		writeVarint(s.length());
+		ensure(s.length() * 3);
+		for(int c = 0; c < s.length(); c++){ writeVarint(s.charAt(c)); }
+	}
+
+	private void ensure(int bytes) {
+		if(length + bytes > out.length){
+			out = Arrays.copyOf(out, Math.max(length + bytes, out.length * 2));
+		}
+	}
+
+	private void writeVarint(int v) {
+		ensure(5);
+		while((v & ~0x7f) != 0){
+			out[length++] = (byte)(v & 0x7f | 0x80);
+			v >>>= 7;
+		}
+		out[length++] = (byte)v;
+	}
+
+	private void writeVarlong(long v) {
+		ensure(10);
+		while((v & ~0x7fL) != 0){
+			out[length++] = (byte)(v & 0x7f | 0x80);
+			v >>>= 7;
+		}
+		out[length++] = (byte)v;
+	}
+
+	private static int varintSize(int v) {
+		int size = 1;
+		while((v & ~0x7f) != 0){
+			size++;
+			v >>>= 7;
+		}
+		return size;
+	}
+
+	/////////////// Reading ///////////////
+
+	/**
+	 * @return    The statement of a record
+	 * @throws IOException    If the record is truncated or corrupt
+	 */
+	public Statement decode(byte[] record) throws IOException {
+		return toStatement(decodeFlat(record, 0, record.length, null));
+	}
+
+	/**
+	 * Reads one record from <code>input</code>.
+	 * @throws IOException    If the record is truncated or corrupt
+	 */
+	public Statement read(DataInput input) throws IOException {
+		return toStatement(readFlat(input, null));
+	}
+
+	/**
+	 * Reads one record from the position of <code>buffer</code>, and advances
+	 * the position past it.
+	 * @throws IOException    If the record is truncated or corrupt
+	 */
+	public Statement read(ByteBuffer buffer) throws IOException {
+		return toStatement(readFlat(buffer, null));
+	}
+
+	/**
+	 * A record whose nodes are each well formed may still not make up a
+	 * statement, e.g. where a byte has changed the kind of a node; the decoder
+	 * finds that out as it goes.
+	 */
+	private static Statement toStatement(FlatStatement flat) throws IOException {
+		try {
+			return flat.toStatement();
+		} catch(RuntimeException e) {
+			throw new IOException("Malformed record", e);
+		}
+	}
+
+	/**
+	 * Reads one record as a flat statement whose strings are interned into
+	 * <code>target</code>, or into a new pool of their own if it is null.  The
+	 * encoding of each node is checked, but not that the nodes make up a
+	 * statement; a corrupt record may still fail in {@link FlatStatement#toStatement}.
+	 */
+	public FlatStatement readFlat(DataInput input, StringPool target) throws IOException {
+		checkVersion(input.readUnsignedByte());
+		int size = 0;
+		for(int shift = 0; ; shift += 7){
+			if(shift > 28){ throw new IOException("Malformed record length"); }
+			int b = input.readUnsignedByte();
+			size |= (b & 0x7f) << shift;
+			if(b < 0x80){ break; }
+		}
+		if(size < 0){ throw new IOException("Malformed record length"); }
+		byte[] body = out;
+		int read = 0;
+		// the length may be corrupt, so the buffer only grows as the bytes arrive
+		while(read < size){
+			if(read == body.length){ body = Arrays.copyOf(body, (int)Math.min(size, body.length * 2L)); }
+			int chunk = Math.min(size, body.length) - read;
+			input.readFully(body, read, chunk);
+			read += chunk;
+		}
+		return decodeBody(body, 0, size, target);
+	}
+
+	/**
+	 * Reads one record from the position of <code>buffer</code> as a flat statement
+	 * whose strings are interned into <code>target</code>, or into a new pool of
+	 * their own if it is null.
+	 */
+	public FlatStatement readFlat(ByteBuffer buffer, StringPool target) throws IOException {
+		if(buffer.hasArray()){
+			int start = buffer.arrayOffset() + buffer.position();
+			FlatStatement ret = decodeFlat(buffer.array(), start, buffer.remaining(), target);
+			buffer.position(position - buffer.arrayOffset());
+			return ret;
+		}
+		int start = buffer.position();
+		try {
+			checkVersion(buffer.get() & 0xff);
+			int size = 0;
+			for(int shift = 0; ; shift += 7){
+				if(shift > 28){ throw new IOException("Malformed record length"); }
+				int b = buffer.get() & 0xff;
+				size |= (b & 0x7f) << shift;
+				if(b < 0x80){ break; }
+			}
+			if(size < 0){ throw new IOException("Malformed record length"); }
+			// checked before allocating, as the length may be corrupt
+			if(size > buffer.remaining()){
+				buffer.position(start);
+				throw new IOException("Truncated record");
+			}
+			byte[] body = size <= out.length ? out : new byte[size];
+			buffer.get(body, 0, size);
+			return decodeBody(body, 0, size, target);
+		} catch(BufferUnderflowException e) {
+			buffer.position(start);
+			throw new IOException("Truncated record");
+		}
+	}
+
+	private FlatStatement decodeFlat(byte[] record, int offset, int available, StringPool target) throws IOException {
+		in = record;
+		position = offset;
+		limit = offset + available;
+		checkVersion(readByte());
+		int size = readVarint();
+		if(size < 0 || size > limit - position){ throw new IOException("Truncated record"); }
+		return decodeBody(record, position, size, target);
+	}
+
+	private static void checkVersion(int version) throws IOException {
+		if(version != VERSION){
+			throw new IOException("Unsupported statement encoding version "+version);
+		}
+	}
+
+	private FlatStatement decodeBody(byte[] body, int offset, int length, StringPool target) throws IOException {
+		in = body;
+		position = offset;
+		limit = offset + length;
+		size = 0;
+		valueCount = 0;
+		stringCount = 0;
+		try {
+			int root = readNode(target);
+			if(root < 0 || position != limit){ throw new IOException("Malformed record"); }
+			StringPool pool = target != null ? target : new StringPool(Arrays.copyOf(strings, stringCount));
+			return new FlatStatement(Arrays.copyOf(nodes, size), Arrays.copyOf(values, valueCount), pool, root);
+		} finally {
+			in = null;
+			Arrays.fill(strings, 0, stringCount, null);
+		}
+	}
+
+	private int readNode(StringPool target) throws IOException {
+		int head = readVarint();
+		if((head & 0x7f) == MISSING){ return -1; }
+		Kind kind = FlatStatement.kindOf(head & 0x7f);
+		if(kind == null){ throw new IOException("Malformed node"); }
+		int present = head >>> 7 & 7;
+		if((present & ~((1 << kind.strings) - 1 | (kind.values != 0 ? 1 : 0))) != 0){
+			throw new IOException("Malformed node");
+		}
+		int count = kind.values < 0 || kind.slots < 0 ? readLength() : Math.max(kind.slots, 0);
+		int slots = FlatStatement.slots(kind, count);
+		int n = size;
+		int end = n + FlatStatement.HEADER + slots;
+		if(end > nodes.length){ nodes = Arrays.copyOf(nodes, Math.max(end, nodes.length * 2)); }
+		size = end;
+		nodes[n] = kind.ordinal() | head >>> 10 << 8;
+		nodes[n + 1] = -1;
+		nodes[n + 2] = -1;
+		nodes[n + 3] = -1;
+		nodes[n + FlatStatement.COUNT] = count;
+		for(int i = 0; i < kind.strings; i++){
+			if((present & 1 << i) != 0){ nodes[n + 1 + i] = readString(target); }
+		}
+		int number = kind.values < 0 ? count : kind.values;
+		if(number > 0 && (present & 1) == 0){
+			// the accessors would read the values from index -1
+			throw new IOException("Malformed node");
+		}
+		if(kind.values != 0 && (present & 1) != 0){
+			if(valueCount + number > values.length){
+				values = Arrays.copyOf(values, Math.max(valueCount + number, values.length * 2));
+			}
+			nodes[n + 1] = valueCount;
+			boolean doubles = kind == Kind.DOUBLE || kind == Kind.DOUBLE_LITERALS;
+			for(int i = 0; i < number; i++){
+				long v = readVarlong();
+				values[valueCount++] = doubles ? Long.reverse(v) : v >>> 1 ^ -(v & 1);
+			}
+		}
+		boolean stringSlots = FlatStatement.stringSlots(kind);
+		for(int i = 0; i < slots; i++){
+			int child = stringSlots ? readString(target) : readNode(target);
+			nodes[n + FlatStatement.HEADER + i] = child;
+		}
+		return n;
+	}
+
+	private int readString(StringPool target) throws IOException {
+		int v = readVarint();
+		if(v == 0){ return -1; }
+		if(v <= stringCount){ return ids[v - 1]; }
+		if(v != stringCount + 1){ throw new IOException("Malformed string reference "+v); }
+		int length = readLength();
+		if(length > chars.length){ chars = new char[Math.max(length, chars.length * 2)]; }
+		for(int c = 0; c < length; c++){ chars[c] = (char)readVarint(); }
+		String s = new String(chars, 0, length);
+		if(stringCount == strings.length){
+			strings = Arrays.copyOf(strings, stringCount * 2);
+			ids = Arrays.copyOf(ids, stringCount * 2);
+		}
+		strings[stringCount] = s;
+		ids[stringCount] = target == null ? stringCount : target.intern(s);
+		return ids[stringCount++];
+	}
+
+	private int readByte() throws IOException {
+		if(position >= limit){ throw new IOException("Truncated record"); }
+		return in[position++] & 0xff;
+	}
+
+	private int readVarint() throws IOException {
+		int v = 0;
+		for(int shift = 0; shift < 35; shift += 7){
+			int b = readByte();
+			v |= (b & 0x7f) << shift;
+			if(b < 0x80){ return v; }
+		}
+		throw new IOException("Malformed varint");
+	}
+
+	/** A varint that sizes an array, which can not be larger than the rest of the record */
+	private int readLength() throws IOException {
+		int v = readVarint();
+		if(v < 0 || v > limit - position){ throw new IOException("Malformed record"); }
+		return v;
+	}
+
+	private long readVarlong() throws IOException {
+		long v = 0;
+		for(int shift = 0; shift < 70; shift += 7){
+			int b = readByte();
+			v |= (long)(b & 0x7f) << shift;
+			if(b < 0x80){ return v; }
+		}
+		throw new IOException("Malformed varint");
+	}
+}
@@ -0,0 +1,82 @@
+package net.sf.jsqlparser.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns each distinct string a small, dense integer id, so that many
+ * {@link FlatStatement}s can refer to the same identifiers and literals
+ * without each keeping its own copy.  Ids are never reused or forgotten.<br>
+ *
+ * {@link #intern} may be called from several threads at once.  {@link #get}
+ * does not lock; it sees every id handed out before the caller obtained it.
+ */
+public class StringPool {
+
+	private Map<String, Integer> ids;
+	private volatile String[] strings;
+	private int size;
+
+	public StringPool() {
+		ids = new HashMap<String, Integer>();
+		strings = new String[64];
+	}
+
+	/**
+	 * A pool holding exactly <code>strings</code>, which must be distinct, with
+	 * their indexes as ids.  The table for {@link #intern} is only built if it
+	 * is called.
+	 */
+	StringPool(String[] strings) {
+		this.strings = strings;
+		this.size = strings.length;
+	}
+
+	/**
+	 * @return    The id of <code>s</code>, or -1 if it is null
+	 */
+	public synchronized int intern(String s) {
+		if(s == null){ return -1; }
+		if(ids == null){
+			ids = new HashMap<String, Integer>();
+			for(int i = 0; i < size; i++){ ids.put(strings[i], i); }
+		}
+		Integer id = ids.get(s);
+		if(id != null){ return id; }
+		String[] current = strings;
+		if(size == current.length){
+			current = Arrays.copyOf(current, Math.max(16, size * 2));
+		}
+		current[size] = s;
+		strings = current;
+		ids.put(s, size);
+		return size++;
+	}
+
+	/**
+	 * @return    The string with the given id, or null if the id is -1
+	 */
+	public String get(int id) {
+		if(id < 0){ return null; }
+		return strings[id];
+	}
+
+	/**
+	 * @return    The number of distinct strings in the pool
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Forgets every string, for pools private to one user that are reused
+	 * across statements.
+	 */
+	synchronized void clear() {
+		if(ids == null){ ids = new HashMap<String, Integer>(); }
+		ids.clear();
+		Arrays.fill(strings, 0, size, null);
+		size = 0;
+	}
+}
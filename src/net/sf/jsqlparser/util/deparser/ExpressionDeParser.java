@@ -0,0 +1,351 @@
+package net.sf.jsqlparser.util.deparser;
+
+import java.util.List;
+
+import net.sf.jsqlparser.expression.AllComparisonExpression;
+import net.sf.jsqlparser.expression.AnyComparisonExpression;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseAnd;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseOr;
+import net.sf.jsqlparser.expression.operators.arithmetic.BitwiseXor;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExistsExpression;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.ItemsListVisitor;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.expression.operators.relational.Matches;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.SelectVisitor;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * Writes expressions as SQL into an Appendable, producing the same text as
+ * their toString(), in time linear in the length of the text.  Sub-selects are
+ * written by the {@link SelectVisitor} given to the constructor.<br>
+ *
+ * Override a visit method to write a kind of node differently, e.g., to rename
+ * columns on the way out.
+ */
+public class ExpressionDeParser implements ExpressionVisitor, ItemsListVisitor {
+
+	protected SqlWriter buffer;
+	protected SelectVisitor selectVisitor;
+
+	public ExpressionDeParser() {
+		this(null, new StringBuilder());
+	}
+
+	/**
+	 * @param selectVisitor    Writes the bodies of sub-selects into the same buffer
+	 * @param buffer           The buffer to write into: a StringBuilder, StringBuffer, Writer, ...
+	 */
+	public ExpressionDeParser(SelectVisitor selectVisitor, Appendable buffer) {
+		this.selectVisitor = selectVisitor;
+		this.buffer = new SqlWriter(buffer);
+	}
+
+	public Appendable getBuffer() { return buffer.getAppendable(); }
+	public void setBuffer(Appendable buffer) { this.buffer = new SqlWriter(buffer); }
+	public SelectVisitor getSelectVisitor() { return selectVisitor; }
+	public void setSelectVisitor(SelectVisitor selectVisitor) { this.selectVisitor = selectVisitor; }
+
+	/**
+	 * Writes <code>expression</code>, or "null" as string concatenation would.
+	 */
+	public void deparse(Expression expression) {
+		if(expression == null){
+			buffer.append("null");
+		} else {
+			expression.accept(this);
+		}
+	}
+
+	public void deparse(ItemsList itemsList) {
+		if(itemsList == null){
+			buffer.append("null");
+		} else {
+			itemsList.accept(this);
+		}
+	}
+
+	/**
+	 * Writes the expressions separated by ", ", between brackets if asked; nothing
+	 * at all for a null list, as PlainSelect.getStringList does.
+	 */
+	public void deparseList(List<? extends Expression> list, boolean useBrackets) {
+		if(list == null){ return; }
+		if(useBrackets){ buffer.append('('); }
+		for(int i = 0; i < list.size(); i++){
+			if(i > 0){ buffer.append(", "); }
+			deparse(list.get(i));
+		}
+		if(useBrackets){ buffer.append(')'); }
+	}
+
+	public void deparse(Table table) {
+		buffer.append(table.getWholeTableName());
+		if(table.getAlias() != null){ buffer.append(" AS ").append(table.getAlias()); }
+	}
+
+	protected void binary(BinaryExpression expression, String operator) {
+		buffer.append('(');
+		deparse(expression.getLeftExpression());
+		buffer.append(' ').append(operator).append(' ');
+		deparse(expression.getRightExpression());
+		buffer.append(')');
+	}
+
+	protected void subSelect(SubSelect subSelect) {
+		buffer.append('(');
+		if(subSelect.getSelectBody() == null){
+			buffer.append("null");
+		} else {
+			subSelect.getSelectBody().accept(selectVisitor);
+		}
+		buffer.append(')');
+		if(subSelect.getAlias() != null){ buffer.append(' ').append(subSelect.getAlias()); }
+	}
+
+	/////////////// Items Lists ///////////////
+
+	public void visit(ExpressionList expressionList) {
+		itemsList(expressionList, false);
+	}
+
+	/**
+	 * Writes <code>expressionList</code> between brackets, the first of them
+	 * followed by "DISTINCT " if asked, as in <code>count(DISTINCT a)</code>.
+	 */
+	protected void itemsList(ExpressionList expressionList, boolean distinct) {
+		LiteralList list = LiteralList.of(expressionList);
+		if(list != null){
+			buffer.append(distinct ? "(DISTINCT " : "(");
+			for(int i = 0, size = list.size(); i < size; i++){
+				if(i > 0){ buffer.append(", "); }
+				switch(list.getType()){
+					case LONG: buffer.append(list.getLong(i)); break;
+					case DOUBLE: buffer.append(list.getDouble(i)); break;
+					default: buffer.append('\'').append(list.getString(i)).append('\''); break;
+				}
+			}
+			buffer.append(')');
+			return;
+		}
+		List<Expression> expressions = expressionList.getExpressions();
+		if(expressions == null){ return; }
+		buffer.append(distinct ? "(DISTINCT " : "(");
+		deparseList(expressions, false);
+		buffer.append(')');
+	}
+
+	public void visit(SubSelect subSelect) {
+		subSelect(subSelect);
+	}
+
+	/////////////// Expressions ///////////////
+
+	public void visit(NullValue nullValue) {
+		buffer.append("NULL");
+	}
+
+	public void visit(Function function) {
+		buffer.append(function.isEscaped() ? "{fn " : "").append(function.getName());
+		if(function.isAllColumns()){
+			buffer.append("(*)");
+		} else if(function.getParameters() != null){
+			itemsList(function.getParameters(), function.isDistinct());
+		}
+		if(function.isEscaped()){ buffer.append('}'); }
+	}
+
+	public void visit(InverseExpression inverseExpression) {
+		Expression expression = inverseExpression.getExpression();
+		if(expression instanceof BooleanValue || expression instanceof AndExpression
+			|| expression instanceof OrExpression || expression instanceof Between
+			|| expression instanceof EqualsTo || expression instanceof ExistsExpression
+			|| expression instanceof GreaterThan || expression instanceof GreaterThanEquals
+			|| expression instanceof InExpression || expression instanceof IsNullExpression
+			|| expression instanceof LikeExpression || expression instanceof Matches
+			|| expression instanceof MinorThan || expression instanceof MinorThanEquals
+			|| expression instanceof NotEqualsTo){
+			buffer.append("NOT (");
+		} else {
+			buffer.append("-(");
+		}
+		deparse(expression);
+		buffer.append(')');
+	}
+
+	public void visit(JdbcParameter jdbcParameter) {
+		buffer.append('?');
+	}
+
+	public void visit(DoubleValue doubleValue) {
+		buffer.append(doubleValue.getValue());
+	}
+
+	public void visit(LongValue longValue) {
+		buffer.append(longValue.getValue());
+	}
+
+	public void visit(DecimalValue decimalValue) {
+		buffer.append(decimalValue.toString());
+	}
+
+	public void visit(DateValue dateValue) {
+		buffer.append(dateValue.toString());
+	}
+
+	public void visit(TimeValue timeValue) {
+		buffer.append(timeValue.toString());
+	}
+
+	public void visit(TimestampValue timestampValue) {
+		buffer.append(timestampValue.toString());
+	}
+
+	public void visit(BooleanValue booleanValue) {
+		buffer.append(booleanValue.getValue() ? "TRUE" : "FALSE");
+	}
+
+	public void visit(StringValue stringValue) {
+		buffer.append('\'').append(stringValue.getValue()).append('\'');
+	}
+
+	public void visit(BinaryValue binaryValue) {
+		buffer.append(binaryValue.toString());
+	}
+
+	public void visit(Addition addition) { binary(addition, "+"); }
+	public void visit(Division division) { binary(division, "/"); }
+	public void visit(Multiplication multiplication) { binary(multiplication, "*"); }
+	public void visit(Subtraction subtraction) { binary(subtraction, "-"); }
+	public void visit(AndExpression andExpression) { binary(andExpression, "AND"); }
+	public void visit(OrExpression orExpression) { binary(orExpression, "OR"); }
+	public void visit(EqualsTo equalsTo) { binary(equalsTo, "="); }
+	public void visit(GreaterThan greaterThan) { binary(greaterThan, ">"); }
+	public void visit(GreaterThanEquals greaterThanEquals) { binary(greaterThanEquals, ">="); }
+	public void visit(MinorThan minorThan) { binary(minorThan, "<"); }
+	public void visit(MinorThanEquals minorThanEquals) { binary(minorThanEquals, "<="); }
+	public void visit(NotEqualsTo notEqualsTo) { binary(notEqualsTo, "<>"); }
+	public void visit(Concat concat) { binary(concat, "||"); }
+	public void visit(Matches matches) { binary(matches, "@@"); }
+	public void visit(BitwiseAnd bitwiseAnd) { binary(bitwiseAnd, "&"); }
+	public void visit(BitwiseOr bitwiseOr) { binary(bitwiseOr, "|"); }
+	public void visit(BitwiseXor bitwiseXor) { binary(bitwiseXor, "^"); }
+
+	public void visit(LikeExpression likeExpression) {
+		binary(likeExpression, likeExpression.isNot() ? "NOT LIKE" : "LIKE");
+		if(likeExpression.getEscape() != null){
+			buffer.append(" ESCAPE '").append(likeExpression.getEscape()).append('\'');
+		}
+	}
+
+	public void visit(Between between) {
+		deparse(between.getLeftExpression());
+		buffer.append(between.isNot() ? " NOT BETWEEN " : " BETWEEN ");
+		deparse(between.getBetweenExpressionStart());
+		buffer.append(" AND ");
+		deparse(between.getBetweenExpressionEnd());
+	}
+
+	public void visit(InExpression inExpression) {
+		deparse(inExpression.getLeftExpression());
+		buffer.append(inExpression.isNot() ? " NOT IN " : " IN ");
+		deparse(inExpression.getItemsList());
+	}
+
+	public void visit(IsNullExpression isNullExpression) {
+		deparse(isNullExpression.getLeftExpression());
+		buffer.append(isNullExpression.isNot() ? " IS NOT NULL" : " IS NULL");
+	}
+
+	public void visit(Column tableColumn) {
+		String tableName = tableColumn.getTable().getWholeTableName();
+		if(tableName != null && tableName.length() != 0){
+			buffer.append(tableName).append('.');
+		}
+		buffer.append(tableColumn.getColumnName());
+	}
+
+	public void visit(CaseExpression caseExpression) {
+		buffer.append("CASE ");
+		if(caseExpression.getSwitchExpression() != null){
+			deparse(caseExpression.getSwitchExpression());
+			buffer.append(' ');
+		}
+		List<WhenClause> whens = caseExpression.getWhenClauses();
+		if(whens != null){
+			for(int i = 0; i < whens.size(); i++){
+				if(i > 0){ buffer.append(' '); }
+				deparse(whens.get(i));
+			}
+		}
+		buffer.append(' ');
+		if(caseExpression.getElseExpression() != null){
+			buffer.append("ELSE ");
+			deparse(caseExpression.getElseExpression());
+			buffer.append(' ');
+		}
+		buffer.append("END");
+	}
+
+	public void visit(WhenClause whenClause) {
+		buffer.append("WHEN ");
+		deparse(whenClause.getWhenExpression());
+		buffer.append(" THEN ");
+		deparse(whenClause.getThenExpression());
+	}
+
+	public void visit(ExistsExpression existsExpression) {
+		buffer.append(existsExpression.isNot() ? "NOT EXISTS " : "EXISTS ");
+		existsExpression.getRightExpression().accept(this);
+	}
+
+	// these two have no toString() of their own; write them as the grammar reads them
+
+	public void visit(AllComparisonExpression allComparisonExpression) {
+		buffer.append("ALL ");
+		subSelect(allComparisonExpression.getSubSelect());
+	}
+
+	public void visit(AnyComparisonExpression anyComparisonExpression) {
+		buffer.append("ANY ");
+		subSelect(anyComparisonExpression.getSubSelect());
+	}
+}
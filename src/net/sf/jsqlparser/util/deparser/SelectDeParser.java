@@ -0,0 +1,300 @@
+package net.sf.jsqlparser.util.deparser;
+
+import java.util.List;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.Distinct;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.FromItemVisitor;
+import net.sf.jsqlparser.statement.select.Join;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.statement.select.SelectItemVisitor;
+import net.sf.jsqlparser.statement.select.SelectVisitor;
+import net.sf.jsqlparser.statement.select.SubJoin;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Top;
+import net.sf.jsqlparser.statement.select.Union;
+import net.sf.jsqlparser.statement.select.WithItem;
+
+/**
+ * Writes select bodies, from items and select items as SQL into an
+ * Appendable, producing the same text as their toString().  Expressions
+ * are written by the {@link ExpressionVisitor} given to the constructor, which
+ * should share the buffer.
+ */
+public class SelectDeParser implements SelectVisitor, FromItemVisitor, SelectItemVisitor {
+
+	protected SqlWriter buffer;
+	protected ExpressionVisitor expressionVisitor;
+
+	public SelectDeParser() {
+		StringBuilder builder = new StringBuilder();
+		this.buffer = new SqlWriter(builder);
+		this.expressionVisitor = new ExpressionDeParser(this, builder);
+	}
+
+	/**
+	 * @param expressionVisitor    Writes expressions into the same buffer
+	 * @param buffer               The buffer to write into: a StringBuilder, StringBuffer, Writer, ...
+	 */
+	public SelectDeParser(ExpressionVisitor expressionVisitor, Appendable buffer) {
+		this.expressionVisitor = expressionVisitor;
+		this.buffer = new SqlWriter(buffer);
+	}
+
+	public Appendable getBuffer() { return buffer.getAppendable(); }
+	public void setBuffer(Appendable buffer) { this.buffer = new SqlWriter(buffer); }
+	public ExpressionVisitor getExpressionVisitor() { return expressionVisitor; }
+	public void setExpressionVisitor(ExpressionVisitor expressionVisitor) { this.expressionVisitor = expressionVisitor; }
+
+	public void deparse(SelectBody selectBody) {
+		if(selectBody == null){
+			buffer.append("null");
+		} else {
+			selectBody.accept(this);
+		}
+	}
+
+	public void deparse(List<WithItem> withItems, SelectBody selectBody) {
+		if(withItems != null && !withItems.isEmpty()){
+			buffer.append("WITH ");
+			for(int i = 0; i < withItems.size(); i++){
+				deparse(withItems.get(i));
+				if(i < withItems.size() - 1){ buffer.append(','); }
+				buffer.append(' ');
+			}
+		}
+		deparse(selectBody);
+	}
+
+	protected void expression(Expression expression) {
+		if(expression == null){
+			buffer.append("null");
+		} else {
+			expression.accept(expressionVisitor);
+		}
+	}
+
+	protected void fromItem(FromItem fromItem) {
+		if(fromItem == null){
+			buffer.append("null");
+		} else {
+			fromItem.accept(this);
+		}
+	}
+
+	protected void columns(List<? extends Expression> columns) {
+		for(int i = 0; i < columns.size(); i++){
+			if(i > 0){ buffer.append(", "); }
+			expression(columns.get(i));
+		}
+	}
+
+	protected void orderBy(List<OrderByElement> orderByElements) {
+		if(orderByElements == null || orderByElements.isEmpty()){ return; }
+		buffer.append(" ORDER BY ");
+		for(int i = 0; i < orderByElements.size(); i++){
+			if(i > 0){ buffer.append(", "); }
+			OrderByElement element = orderByElements.get(i);
+			expression(element.getExpression());
+			if(!element.isAsc()){ buffer.append(" DESC"); }
+		}
+	}
+
+	protected void deparse(Limit limit) {
+		if(limit.getRowCount() > 0 || limit.isRowCountJdbcParameter()){
+			buffer.append(" LIMIT ");
+			if(limit.isRowCountJdbcParameter()){
+				buffer.append('?');
+			} else {
+				buffer.append(limit.getRowCount());
+			}
+		}
+		if(limit.getOffset() > 0 || limit.isOffsetJdbcParameter()){
+			buffer.append(" OFFSET ");
+			if(limit.isOffsetJdbcParameter()){
+				buffer.append('?');
+			} else {
+				buffer.append(limit.getOffset());
+			}
+		}
+	}
+
+	protected void deparse(Distinct distinct) {
+		buffer.append("DISTINCT");
+		List<SelectExpressionItem> on = distinct.getOnSelectItems();
+		if(on != null && !on.isEmpty()){
+			buffer.append(" ON (");
+			for(int i = 0; i < on.size(); i++){
+				if(i > 0){ buffer.append(", "); }
+				visit(on.get(i));
+			}
+			buffer.append(')');
+		}
+	}
+
+	protected void deparse(Top top) {
+		buffer.append("TOP ");
+		if(top.isRowCountJdbcParameter()){
+			buffer.append('?');
+		} else {
+			buffer.append(top.getRowCount());
+		}
+	}
+
+	protected void deparse(Join join) {
+		if(join.isSimple()){
+			fromItem(join.getRightItem());
+			return;
+		}
+		if(join.isRight()){
+			buffer.append("RIGHT ");
+		} else if(join.isNatural()){
+			buffer.append("NATURAL ");
+		} else if(join.isFull()){
+			buffer.append("FULL ");
+		} else if(join.isLeft()){
+			buffer.append("LEFT ");
+		}
+		if(join.isOuter()){
+			buffer.append("OUTER ");
+		} else if(join.isInner()){
+			buffer.append("INNER ");
+		}
+		buffer.append("JOIN ");
+		fromItem(join.getRightItem());
+		if(join.getOnExpression() != null){
+			buffer.append(" ON ");
+			expression(join.getOnExpression());
+		}
+		if(join.getUsingColumns() != null){
+			buffer.append(" USING (");
+			columns(join.getUsingColumns());
+			buffer.append(')');
+		}
+	}
+
+	protected void deparse(WithItem withItem) {
+		buffer.append(withItem.getName());
+		if(withItem.getWithItemList() != null){
+			buffer.append(" (");
+			for(int i = 0; i < withItem.getWithItemList().size(); i++){
+				if(i > 0){ buffer.append(", "); }
+				visit(withItem.getWithItemList().get(i));
+			}
+			buffer.append(')');
+		}
+		buffer.append(" AS (");
+		deparse(withItem.getSelectBody());
+		buffer.append(')');
+	}
+
+	/////////////// Select Bodies ///////////////
+
+	public void visit(PlainSelect plainSelect) {
+		buffer.append("SELECT ");
+		if(plainSelect.getDistinct() != null){
+			deparse(plainSelect.getDistinct());
+			buffer.append(' ');
+		}
+		if(plainSelect.getTop() != null){
+			deparse(plainSelect.getTop());
+			buffer.append(' ');
+		}
+		List<SelectItem> items = plainSelect.getSelectItems();
+		if(items != null){
+			for(int i = 0; i < items.size(); i++){
+				if(i > 0){ buffer.append(", "); }
+				items.get(i).accept(this);
+			}
+		}
+		buffer.append(" FROM ");
+		fromItem(plainSelect.getFromItem());
+		if(plainSelect.getJoins() != null){
+			for(Join join : plainSelect.getJoins()){
+				buffer.append(join.isSimple() ? ", " : " ");
+				deparse(join);
+			}
+		}
+		if(plainSelect.getWhere() != null){
+			buffer.append(" WHERE ");
+			expression(plainSelect.getWhere());
+		}
+		List<Expression> groupBy = plainSelect.getGroupByColumnReferences();
+		if(groupBy != null && !groupBy.isEmpty()){
+			buffer.append(" GROUP BY ");
+			columns(groupBy);
+		}
+		if(plainSelect.getHaving() != null){
+			buffer.append(" HAVING ");
+			expression(plainSelect.getHaving());
+		}
+		orderBy(plainSelect.getOrderByElements());
+		if(plainSelect.getLimit() != null){
+			deparse(plainSelect.getLimit());
+		}
+	}
+
+	public void visit(Union union) {
+		String allDistinct = union.isAll() ? " UNION ALL " : union.isDistinct() ? " UNION DISTINCT " : " UNION ";
+		List<PlainSelect> selects = union.getPlainSelects();
+		for(int i = 0; i < selects.size(); i++){
+			if(i > 0){ buffer.append(allDistinct); }
+			visit(selects.get(i));
+		}
+		orderBy(union.getOrderByElements());
+		if(union.getLimit() != null){
+			deparse(union.getLimit());
+		}
+	}
+
+	/////////////// From Items ///////////////
+
+	public void visit(Table table) {
+		buffer.append(table.getWholeTableName());
+		if(table.getAlias() != null){ buffer.append(" AS ").append(table.getAlias()); }
+	}
+
+	public void visit(SubSelect subSelect) {
+		buffer.append('(');
+		deparse(subSelect.getSelectBody());
+		buffer.append(')');
+		if(subSelect.getAlias() != null){ buffer.append(' ').append(subSelect.getAlias()); }
+	}
+
+	public void visit(SubJoin subjoin) {
+		buffer.append('(');
+		fromItem(subjoin.getLeft());
+		buffer.append(' ');
+		deparse(subjoin.getJoin());
+		buffer.append(')');
+		if(subjoin.getAlias() != null){ buffer.append(" AS ").append(subjoin.getAlias()); }
+	}
+
+	/////////////// Select Items ///////////////
+
+	public void visit(AllColumns allColumns) {
+		buffer.append('*');
+	}
+
+	public void visit(AllTableColumns allTableColumns) {
+		buffer.append(allTableColumns.getTable()).append(".*");
+	}
+
+	public void visit(SelectExpressionItem selectExpressionItem) {
+		expression(selectExpressionItem.getExpression());
+		if(selectExpressionItem.getAlias() != null){
+			buffer.append(" AS ").append(selectExpressionItem.getAlias());
+		}
+	}
+}
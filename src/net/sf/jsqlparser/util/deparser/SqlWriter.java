@@ -0,0 +1,80 @@
+package net.sf.jsqlparser.util.deparser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The target the deparsers write into: any {@link Appendable}, so that a
+ * StringBuilder, a StringBuffer or a Writer will do.  A StringBuilder is
+ * written to directly; anything else goes through Appendable, and an
+ * IOException it throws is rethrown as an {@link UncheckedIOException}.<br>
+ *
+ * Several deparsers writing the same Appendable may each have their own
+ * SqlWriter, as it keeps no state besides the target.
+ */
+public final class SqlWriter {
+
+	private final Appendable out;
+	private final StringBuilder builder;
+
+	public SqlWriter(Appendable out) {
+		if(out == null){ throw new NullPointerException("out"); }
+		this.out = out;
+		this.builder = out instanceof StringBuilder ? (StringBuilder)out : null;
+	}
+
+	/**
+	 * @return    The Appendable written into
+	 */
+	public Appendable getAppendable() { return out; }
+
+	public SqlWriter append(CharSequence text) {
+		if(builder != null){
+			builder.append(text);
+			return this;
+		}
+		try {
+			out.append(text);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this;
+	}
+
+	public SqlWriter append(char c) {
+		if(builder != null){
+			builder.append(c);
+			return this;
+		}
+		try {
+			out.append(c);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this;
+	}
+
+	public SqlWriter append(long value) {
+		if(builder != null){
+			builder.append(value);
+			return this;
+		}
+		return append(Long.toString(value));
+	}
+
+	public SqlWriter append(double value) {
+		if(builder != null){
+			builder.append(value);
+			return this;
+		}
+		return append(Double.toString(value));
+	}
+
+	public SqlWriter append(Object value) {
+		return append(String.valueOf(value));
+	}
+
+	public String toString() {
+		return out.toString();
+	}
+}
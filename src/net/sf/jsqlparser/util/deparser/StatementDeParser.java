@@ -0,0 +1,240 @@
+package net.sf.jsqlparser.util.deparser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementVisitor;
+import net.sf.jsqlparser.statement.create.table.ColDataType;
+import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.table.Index;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+
+/**
+ * Writes whole statements as SQL, producing the same text as their toString()
+ * but in a single buffer, so that the time taken is linear in the length of
+ * the text however deeply the statement nests.<br>
+ *
+ * UPDATE, and the ALL and ANY comparisons, have no toString(); they are
+ * written as the grammar reads them.
+ */
+public class StatementDeParser implements StatementVisitor {
+
+	protected SqlWriter buffer;
+	protected ExpressionDeParser expressionDeParser;
+	protected SelectDeParser selectDeParser;
+
+	public StatementDeParser() {
+		this(new StringBuilder());
+	}
+
+	/**
+	 * @param buffer    The buffer to write into: a StringBuilder, StringBuffer, Writer, ...
+	 */
+	public StatementDeParser(Appendable buffer) {
+		this.buffer = new SqlWriter(buffer);
+		this.expressionDeParser = new ExpressionDeParser(null, buffer);
+		this.selectDeParser = new SelectDeParser(expressionDeParser, buffer);
+		expressionDeParser.setSelectVisitor(selectDeParser);
+	}
+
+	/**
+	 * @param expressionDeParser    Writes expressions; its select visitor is set to <code>selectDeParser</code>
+	 * @param selectDeParser        Writes select bodies; its expression visitor is set to <code>expressionDeParser</code>
+	 * @param buffer                The buffer both of them write into
+	 */
+	public StatementDeParser(ExpressionDeParser expressionDeParser, SelectDeParser selectDeParser, Appendable buffer) {
+		this.buffer = new SqlWriter(buffer);
+		this.expressionDeParser = expressionDeParser;
+		this.selectDeParser = selectDeParser;
+		expressionDeParser.setBuffer(buffer);
+		expressionDeParser.setSelectVisitor(selectDeParser);
+		selectDeParser.setBuffer(buffer);
+		selectDeParser.setExpressionVisitor(expressionDeParser);
+	}
+
+	public Appendable getBuffer() { return buffer.getAppendable(); }
+	public ExpressionDeParser getExpressionDeParser() { return expressionDeParser; }
+	public SelectDeParser getSelectDeParser() { return selectDeParser; }
+
+	/**
+	 * @return    The SQL text of <code>statement</code>
+	 */
+	public static String deparse(Statement statement) {
+		StatementDeParser deParser = new StatementDeParser();
+		statement.accept(deParser);
+		return deParser.getBuffer().toString();
+	}
+
+	/**
+	 * Writes the SQL text of <code>statement</code> to <code>out</code>.
+	 */
+	public static void deparse(Statement statement, Appendable out) throws IOException {
+		try {
+			statement.accept(new StatementDeParser(out));
+		} catch(UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	protected void strings(List<?> list, String separator) {
+		if(list == null){ return; }
+		for(int i = 0; i < list.size(); i++){
+			if(i > 0){ buffer.append(separator); }
+			buffer.append(list.get(i));
+		}
+	}
+
+	protected void columns(List<Column> columns) {
+		buffer.append('(');
+		for(int i = 0; i < columns.size(); i++){
+			if(i > 0){ buffer.append(", "); }
+			expressionDeParser.deparse(columns.get(i));
+		}
+		buffer.append(')');
+	}
+
+	public void visit(Select select) {
+		selectDeParser.deparse(select.getWithItemsList(), select.getSelectBody());
+	}
+
+	public void visit(Delete delete) {
+		buffer.append("DELETE FROM ");
+		expressionDeParser.deparse(delete.getTable());
+		if(delete.getWhere() != null){
+			buffer.append(" WHERE ");
+			expressionDeParser.deparse(delete.getWhere());
+		}
+	}
+
+	public void visit(Update update) {
+		buffer.append("UPDATE ");
+		expressionDeParser.deparse(update.getTable());
+		buffer.append(" SET ");
+		List<Column> columns = update.getColumns();
+		List<Expression> expressions = update.getExpressions();
+		for(int i = 0; i < columns.size(); i++){
+			if(i > 0){ buffer.append(", "); }
+			expressionDeParser.deparse(columns.get(i));
+			buffer.append(" = ");
+			expressionDeParser.deparse(expressions.get(i));
+		}
+		if(update.getWhere() != null){
+			buffer.append(" WHERE ");
+			expressionDeParser.deparse(update.getWhere());
+		}
+	}
+
+	public void visit(Insert insert) {
+		buffer.append("INSERT INTO ");
+		expressionDeParser.deparse(insert.getTable());
+		buffer.append(' ');
+		if(insert.getColumns() != null){
+			columns(insert.getColumns());
+			buffer.append(' ');
+		}
+		if(insert.isUseValues()){ buffer.append("VALUES "); }
+		expressionDeParser.deparse(insert.getItemsList());
+	}
+
+	public void visit(Replace replace) {
+		buffer.append("REPLACE ");
+		expressionDeParser.deparse(replace.getTable());
+		List<Column> columns = replace.getColumns();
+		if(replace.getExpressions() != null && columns != null){
+			buffer.append(" SET ");
+			for(int i = 0; i < columns.size(); i++){
+				if(i > 0){ buffer.append(", "); }
+				expressionDeParser.deparse(columns.get(i));
+				buffer.append('=');
+				expressionDeParser.deparse(replace.getExpressions().get(i));
+			}
+		} else if(columns != null){
+			buffer.append(' ');
+			columns(columns);
+		}
+		if(replace.getItemsList() != null){
+			if(replace.isUseValues()){ buffer.append(" VALUES"); }
+			buffer.append(' ');
+			expressionDeParser.deparse(replace.getItemsList());
+		}
+	}
+
+	public void visit(Drop drop) {
+		buffer.append("DROP ").append(drop.getType()).append(' ').append(drop.getName());
+		if(drop.getParameters() != null && drop.getParameters().size() > 0){
+			buffer.append(' ');
+			strings(drop.getParameters(), ", ");
+		}
+	}
+
+	public void visit(Truncate truncate) {
+		buffer.append("TRUNCATE TABLE ");
+		expressionDeParser.deparse(truncate.getTable());
+	}
+
+	public void visit(CreateTable createTable) {
+		if(createTable.getOrReplaceTable()){
+			buffer.append("DROP TABLE ");
+			expressionDeParser.deparse(createTable.getTable());
+			buffer.append(";\n");
+		}
+		buffer.append("CREATE TABLE ");
+		if(createTable.getTableIfNotExists()){ buffer.append("IF NOT EXISTS "); }
+		expressionDeParser.deparse(createTable.getTable());
+		buffer.append(" (");
+		List<ColumnDefinition> definitions = createTable.getColumnDefinitions();
+		if(definitions != null){
+			for(int i = 0; i < definitions.size(); i++){
+				if(i > 0){ buffer.append(", "); }
+				deparse(definitions.get(i));
+			}
+		}
+		List<Index> indexes = createTable.getIndexes();
+		if(indexes != null && indexes.size() != 0){
+			for(Index index : indexes){
+				buffer.append(", ");
+				deparse(index);
+			}
+		}
+		buffer.append(") ");
+		strings(createTable.getTableOptionsStrings(), " ");
+	}
+
+	protected void deparse(ColumnDefinition definition) {
+		buffer.append(definition.getColumnName()).append(' ');
+		ColDataType type = definition.getColDataType();
+		if(type == null){
+			buffer.append("null");
+		} else {
+			buffer.append(type.getDataType());
+			if(type.getArgumentsStringList() != null){
+				buffer.append(" (");
+				strings(type.getArgumentsStringList(), ", ");
+				buffer.append(')');
+			}
+		}
+		buffer.append(' ');
+		strings(definition.getColumnSpecStrings(), " ");
+	}
+
+	protected void deparse(Index index) {
+		buffer.append(index.getType()).append(' ');
+		if(index.getColumnsNames() != null){
+			buffer.append('(');
+			strings(index.getColumnsNames(), ", ");
+			buffer.append(')');
+		}
+		if(index.getName() != null){ buffer.append(' ').append(index.getName()); }
+	}
+}
@@ -0,0 +1,127 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.BinaryValue;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.parser.TemplateCache;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.util.AstCopier;
+import net.sf.jsqlparser.util.StatementCodec;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+
+public class BinaryValueTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public BinaryValueTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(BinaryValueTest.class);
+	}
+
+	public void testValue() throws Exception {
+		BinaryValue value = BinaryValue.parseEscaped("x'00ff7F80'");
+		assertEquals(4, value.getLength());
+		assertEquals(0, value.getByte(0));
+		assertEquals(255, value.getByte(1));
+		assertEquals(127, value.getByte(2));
+		assertEquals(128, value.getByte(3));
+		assertEquals("X'00FF7F80'", value.toString());
+		assertEquals("00FF7F80", value.toRawString());
+		assertEquals(PrimitiveType.BINARY, value.getType());
+		assertEquals(new BinaryValue(new byte[] { 0, -1, 127, -128 }), value);
+		assertEquals(new BinaryValue(new byte[] { 0, -1, 127, -128 }).hashCode(), value.hashCode());
+		assertEquals("X''", BinaryValue.parseEscaped("X''").toString());
+
+		ByteBuffer view = value.getValue();
+		assertTrue(view.isReadOnly());
+		view.get();
+		assertEquals(0, value.getValue().position());
+		try {
+			view.put(0, (byte) 1);
+			fail("the bytes are read-only");
+		} catch (ReadOnlyBufferException e) {
+		}
+
+		// a value built from a buffer shares its bytes between position and limit
+		byte[] bytes = { 1, 2, 3, 4, 5 };
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		buffer.position(1).limit(4);
+		BinaryValue slice = new BinaryValue(buffer);
+		assertEquals("X'020304'", slice.toString());
+		bytes[2] = 9;
+		assertEquals(9, slice.getByte(1));
+
+		assertTrue(BinaryValue.parseEscaped("X'01'").compareTo(BinaryValue.parseEscaped("X'FF'")) < 0);
+		assertTrue(BinaryValue.parseEscaped("X'01'").compareTo(BinaryValue.parseEscaped("X'0100'")) < 0);
+		assertEquals(0, BinaryValue.parseEscaped("X'ab'").compareTo(BinaryValue.parseEscaped("X'AB'")));
+
+		try {
+			BinaryValue.parseEscaped("X'ABC'");
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	public void testParse() throws Exception {
+		Delete delete = (Delete) parserManager.parse(new StringReader("DELETE FROM blobs WHERE data = X'CAFEBABE'"));
+		assertTrue(((EqualsTo) delete.getWhere()).getRightExpression() instanceof BinaryValue);
+		String text = delete.toString();
+		assertEquals("DELETE FROM blobs WHERE (data = X'CAFEBABE')", text);
+		assertEquals(text, StatementDeParser.deparse(delete));
+		assertEquals(text, new AstCopier().copy(delete).toString());
+		StatementCodec codec = new StatementCodec();
+		assertEquals(text, codec.decode(codec.encode(delete)).toString());
+
+		try {
+			parserManager.parse(new StringReader("DELETE FROM blobs WHERE data = X'CAF'"));
+			fail("odd number of digits");
+		} catch (JSQLParserException e) {
+		}
+
+		CreateTable create = (CreateTable) parserManager.parse(new StringReader(
+			"CREATE TABLE blobs (id INT, data BLOB, hash VARBINARY (32))"));
+		assertEquals(PrimitiveType.BINARY, create.getColumnDefinitions().get(1).getColDataType().getPrimitiveType());
+		assertEquals(PrimitiveType.BINARY, create.getColumnDefinitions().get(2).getColDataType().getPrimitiveType());
+		assertEquals(32, create.getColumnDefinitions().get(2).getColDataType().getPrecision());
+	}
+
+	public void testLargeInsert() throws Exception {
+		int length = 1 << 20;
+		StringBuilder sql = new StringBuilder(2 * length + 100).append("INSERT INTO blobs (id, data) VALUES (1, X'");
+		for (int i = 0; i < length; i++) {
+			sql.append(Character.forDigit(i >> 4 & 15, 16)).append(Character.forDigit(i & 15, 16));
+		}
+		sql.append("')");
+		Insert insert = (Insert) parserManager.parse(new StringReader(sql.toString()));
+		BinaryValue value = (BinaryValue) ((ExpressionList) insert.getItemsList()).getExpressions().get(1);
+		assertEquals(length, value.getLength());
+		for (int i = 0; i < length; i += 4093) {
+			assertEquals(i & 255, value.getByte(i));
+		}
+		StatementCodec codec = new StatementCodec();
+		Insert decoded = (Insert) codec.decode(codec.encode(insert));
+		assertEquals(value, ((ExpressionList) decoded.getItemsList()).getExpressions().get(1));
+	}
+
+	public void testTemplates() throws Exception {
+		TemplateCache cache = new TemplateCache();
+		Statement first = cache.parse("DELETE FROM blobs WHERE data = X'0102'");
+		Statement second = cache.parse("DELETE FROM blobs WHERE data = X'A0B0C0'");
+		assertEquals("DELETE FROM blobs WHERE (data = X'0102')", first.toString());
+		assertEquals("DELETE FROM blobs WHERE (data = X'A0B0C0')", second.toString());
+		assertEquals(1, cache.size());
+	}
+}
@@ -0,0 +1,137 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.create.table.ColDataType;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.util.AstCopier;
+import net.sf.jsqlparser.util.StatementCodec;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+
+public class DecimalValueTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public DecimalValueTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(DecimalValueTest.class);
+	}
+
+	public void testParse() throws Exception {
+		String[] values = { "0", "1.50", "-0.05", "+12.345", "123456789012345678", ".5", "7.",
+		                    "1234567890123456789.01", "1E+3", "-99999999999999999999999.999" };
+		for (String text : values) {
+			DecimalValue value = new DecimalValue(text);
+			BigDecimal expected = new BigDecimal(text);
+			assertEquals(text, expected.toPlainString(), value.toString());
+			assertEquals(text, expected, value.getValue());
+			assertEquals(text, expected.scale(), value.getScale());
+			assertEquals(text, expected.longValue(), value.toLong());
+			assertEquals(text, expected.doubleValue(), value.toDouble(), 0);
+		}
+		assertTrue(new DecimalValue("1.50").isCompact());
+		assertEquals(150, new DecimalValue("1.50").getUnscaledValue());
+		assertFalse(new DecimalValue("1234567890123456789.01").isCompact());
+		assertEquals("-0.0005", new DecimalValue(-5, 4).toString());
+		assertEquals("12300", new DecimalValue(123, -2).toString());
+		assertEquals(PrimitiveType.DECIMAL, new DecimalValue(1, 0).getType());
+		try {
+			new DecimalValue("1.2.3");
+			fail();
+		} catch (NumberFormatException e) {
+		}
+	}
+
+	public void testArithmetic() throws Exception {
+		DecimalValue a = new DecimalValue("10.25");
+		DecimalValue b = new DecimalValue("0.125");
+		assertEquals("10.375", a.add(b).toString());
+		assertEquals("10.125", a.subtract(b).toString());
+		assertEquals("1.28125", a.multiply(b).toString());
+		assertEquals("10.25", a.toString());
+
+		// 0.1 + 0.2 is exact here
+		assertEquals(new DecimalValue("0.3"), new DecimalValue("0.1").add(new DecimalValue("0.2")));
+
+		DecimalValue total = new DecimalValue(0, 2);
+		DecimalValue cent = new DecimalValue("0.01");
+		for (int i = 0; i < 100000; i++) {
+			assertSame(total, total.accumulate(cent));
+		}
+		assertEquals("1000.00", total.toString());
+
+		// overflow of the long form moves to BigDecimal, and back when the result fits
+		DecimalValue max = new DecimalValue(Long.MAX_VALUE, 0);
+		DecimalValue sum = max.add(new DecimalValue(1, 0));
+		assertFalse(sum.isCompact());
+		assertEquals(new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE), sum.getValue());
+		DecimalValue back = sum.subtract(new DecimalValue(2, 0));
+		assertTrue(back.isCompact());
+		assertEquals(Long.MAX_VALUE - 1, back.getUnscaledValue());
+		assertEquals(new BigDecimal(Long.MAX_VALUE).pow(2), max.multiply(max).getValue());
+		assertEquals("1.000000000000000000000", new DecimalValue(1, 0).add(new DecimalValue(0, 21)).toString());
+
+		assertEquals("1.2500", a.setScale(4, RoundingMode.UNNECESSARY).subtract(new DecimalValue("9")).toString());
+		assertEquals("10.3", a.setScale(1, RoundingMode.HALF_UP).toString());
+	}
+
+	public void testCompare() throws Exception {
+		assertEquals(0, new DecimalValue("1.5").compareTo(new DecimalValue("1.500")));
+		assertEquals(new DecimalValue("1.5"), new DecimalValue("1.500"));
+		assertEquals(new DecimalValue("1.5").hashCode(), new DecimalValue("1.500").hashCode());
+		assertEquals(new DecimalValue("0").hashCode(), new DecimalValue("0.00").hashCode());
+		assertEquals(new DecimalValue("100").hashCode(), new DecimalValue(1, -2).hashCode());
+		assertTrue(new DecimalValue("1.49").compareTo(new DecimalValue("1.5")) < 0);
+		assertTrue(new DecimalValue("-1").compareTo(new DecimalValue("0.001")) < 0);
+		assertTrue(new DecimalValue(Long.MAX_VALUE, 0).compareTo(new DecimalValue("0.5")) > 0);
+		assertTrue(new DecimalValue(1, 0).compareTo(new DecimalValue(Long.MAX_VALUE, 18)) < 0);
+		assertTrue(new DecimalValue("99999999999999999999").compareTo(new DecimalValue(Long.MAX_VALUE, 0)) > 0);
+		assertEquals(new DecimalValue("99999999999999999999.0"), new DecimalValue("99999999999999999999"));
+		assertEquals(new DecimalValue("99999999999999999999.0").hashCode(), new DecimalValue("99999999999999999999").hashCode());
+	}
+
+	public void testColDataType() throws Exception {
+		CreateTable create = (CreateTable) parserManager.parse(new StringReader(
+			"CREATE TABLE accounts (id INT, balance DECIMAL (12, 2), rate NUMERIC (5), amount DOUBLE)"));
+		ColDataType balance = create.getColumnDefinitions().get(1).getColDataType();
+		assertEquals(PrimitiveType.DECIMAL, balance.getPrimitiveType());
+		assertEquals(12, balance.getPrecision());
+		assertEquals(2, balance.getScale());
+		ColDataType rate = create.getColumnDefinitions().get(2).getColDataType();
+		assertEquals(PrimitiveType.DECIMAL, rate.getPrimitiveType());
+		assertEquals(5, rate.getPrecision());
+		assertEquals(0, rate.getScale());
+		ColDataType amount = create.getColumnDefinitions().get(3).getColDataType();
+		assertEquals(PrimitiveType.DOUBLE, amount.getPrimitiveType());
+		assertEquals(-1, amount.getPrecision());
+		assertEquals(-1, amount.getScale());
+		assertEquals(PrimitiveType.LONG, create.getColumnDefinitions().get(0).getColDataType().getPrimitiveType());
+	}
+
+	public void testStatements() throws Exception {
+		Delete delete = (Delete) parserManager.parse(new StringReader("DELETE FROM accounts WHERE balance = 0"));
+		((EqualsTo) delete.getWhere()).setRightExpression(new DecimalValue("-12.50"));
+		String text = delete.toString();
+		assertEquals("DELETE FROM accounts WHERE (balance = -12.50)", text);
+		assertEquals(text, StatementDeParser.deparse(delete));
+		Delete copy = (Delete) new AstCopier().copy(delete);
+		assertEquals(text, copy.toString());
+		assertNotSame(((EqualsTo) delete.getWhere()).getRightExpression(), ((EqualsTo) copy.getWhere()).getRightExpression());
+		StatementCodec codec = new StatementCodec();
+		Delete decoded = (Delete) codec.decode(codec.encode(delete));
+		assertEquals(text, decoded.toString());
+		assertTrue(((EqualsTo) decoded.getWhere()).getRightExpression() instanceof DecimalValue);
+		assertEquals("balance", ((Column) ((EqualsTo) decoded.getWhere()).getLeftExpression()).getColumnName());
+	}
+}
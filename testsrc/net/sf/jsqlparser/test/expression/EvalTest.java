@@ -0,0 +1,224 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.eval.Eval;
+import net.sf.jsqlparser.eval.EvalException;
+import net.sf.jsqlparser.eval.Row;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+
+public class EvalTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+	Eval eval = new Eval();
+	Map<String, PrimitiveValue> values = new HashMap<String, PrimitiveValue>();
+	Row row = column -> values.get(column.getColumnName());
+
+	public EvalTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(EvalTest.class);
+	}
+
+	protected void setUp() {
+		values.put("i", LongValue.valueOf(7));
+		values.put("j", LongValue.valueOf(-2));
+		values.put("d", DoubleValue.valueOf(2.5));
+		values.put("m", new DecimalValue("1.10"));
+		values.put("s", new StringValue("abc"));
+		values.put("n", NullValue.NULL);
+		values.put("t", BooleanValue.TRUE);
+		values.put("f", BooleanValue.FALSE);
+	}
+
+	private PrimitiveValue eval(String expression) throws Exception {
+		Select select = (Select) parserManager.parse("SELECT " + expression + " FROM tab");
+		Expression e = ((SelectExpressionItem) ((PlainSelect) select.getSelectBody()).getSelectItems().get(0)).getExpression();
+		return eval.eval(e, row);
+	}
+
+	private Expression where(String condition) throws Exception {
+		Select select = (Select) parserManager.parse("SELECT i FROM tab WHERE " + condition);
+		return ((PlainSelect) select.getSelectBody()).getWhere();
+	}
+
+	private void assertEval(String expected, String expression) throws Exception {
+		assertEquals(expression, expected, eval(expression).toString());
+	}
+
+	private void assertFails(String expression) throws Exception {
+		try {
+			eval(expression);
+			fail(expression);
+		} catch (EvalException e) {
+		}
+	}
+
+	public void testArithmetic() throws Exception {
+		assertEval("16", "i * 2 - j + 0");
+		assertEval("3", "i / 2");
+		assertEquals(PrimitiveType.DOUBLE, eval("i / 2.0").getType());
+		assertEval("3.5", "i / 2.0");
+		assertEval("9.5", "i + d");
+		assertEval("8.10", "i + m");
+		assertEval("3.6", "m + d");
+		// the grammar drops a unary minus, so these are built by hand
+		assertEquals("-7", eval.eval(new InverseExpression(new Column(null, "i")), row).toString());
+		assertEquals("-1.10", eval.eval(new InverseExpression(new Column(null, "m")), row).toString());
+		assertEquals("NULL", eval.eval(new InverseExpression(new Column(null, "n")), row).toString());
+		assertEval("5", "i & 13");
+		assertEval("15", "i | 8");
+		assertEval("6", "i ^ 1");
+		assertEval("'abc7'", "s || i");
+		assertEval("NULL", "i + n");
+		assertEval("NULL", "n * 0");
+		assertEval("NULL", "s || n");
+		assertFails("i / 0");
+		assertFails("d / 0");
+		assertFails("i + s");
+		assertFails("9223372036854775807 + i");
+		assertFails("-9223372036854775807 * 2");
+		assertFails("i & d");
+		assertFails("nosuchcolumn + 1");
+		assertFails("f(i)");
+		assertFails("?");
+	}
+
+	public void testComparison() throws Exception {
+		assertEval("TRUE", "i = 7");
+		assertEval("TRUE", "i = 7.0");
+		assertEval("FALSE", "i = 7.5");
+		assertEval("TRUE", "i < 7.5");
+		assertEval("TRUE", "9007199254740993 > 9007199254740992.0");
+		assertEval("TRUE", "m = 1.1");
+		assertEval("TRUE", "m < i");
+		assertEval("TRUE", "s >= 'abc'");
+		assertEval("TRUE", "s <> 'abd'");
+		assertEval("TRUE", "{d '2004-04-30'} < {ts '2004-04-30 00:00:00.000000001'}");
+		assertEval("TRUE", "{d '2004-04-30'} = {ts '2004-04-30 00:00:00'}");
+		assertEval("TRUE", "X'01' < X'FF'");
+		assertEval("NULL", "i = n");
+		assertEval("NULL", "n <> n");
+		assertFails("s = i");
+		assertFails("{t '10:00:00'} = {d '2004-04-30'}");
+
+		assertEval("TRUE", "i BETWEEN 1 AND 7");
+		assertEval("FALSE", "i NOT BETWEEN 1 AND 7");
+		assertEval("FALSE", "i BETWEEN 8 AND n");
+		assertEval("NULL", "i BETWEEN 1 AND n");
+		assertEval("NULL", "n BETWEEN 1 AND 2");
+
+		assertEval("TRUE", "n IS NULL");
+		assertEval("FALSE", "n IS NOT NULL");
+		assertEval("TRUE", "i IS NOT NULL");
+	}
+
+	public void testLogic() throws Exception {
+		String[] operands = { "t", "f", "n" };
+		String[] and = { "TRUE", "FALSE", "NULL", "FALSE", "FALSE", "FALSE", "NULL", "FALSE", "NULL" };
+		String[] or = { "TRUE", "TRUE", "TRUE", "TRUE", "FALSE", "NULL", "TRUE", "NULL", "NULL" };
+		for (int a = 0; a < 3; a++) {
+			for (int b = 0; b < 3; b++) {
+				String left = operands[a], right = operands[b];
+				assertEval(and[a * 3 + b], "(" + left + " = t) AND (" + right + " = t)");
+				assertEval(or[a * 3 + b], "(" + left + " = t) OR (" + right + " = t)");
+				assertEquals(and[a * 3 + b], Eval.and(values.get(left), values.get(right)).toString());
+				assertEquals(or[a * 3 + b], Eval.or(values.get(left), values.get(right)).toString());
+			}
+		}
+		Expression where = where("NOT i = 7 OR NOT n = 1");
+		assertEquals("NULL", eval.eval(where, row).toString());
+		assertFalse(eval.test(where, row));
+		values.put("n", LongValue.valueOf(2));
+		assertTrue(eval.test(where, row));
+		// FALSE AND x never looks at x
+		assertFalse(eval.test(where("i = 0 AND nosuchcolumn = 1"), row));
+	}
+
+	public void testIn() throws Exception {
+		assertEval("TRUE", "i IN (1, 7, 9)");
+		assertEval("TRUE", "i IN (1.5, 7.0)");
+		assertEval("FALSE", "i IN (1, 2)");
+		assertEval("TRUE", "i NOT IN (1, 2)");
+		assertEval("TRUE", "s IN ('x', 'abc')");
+		assertEval("TRUE", "m IN (1, 1.1)");
+		assertEval("TRUE", "i IN (j, i + 0)");
+		assertEval("NULL", "i IN (1, n)");
+		assertEval("TRUE", "i IN (n, 7)");
+		assertEval("NULL", "i NOT IN (1, n)");
+		assertEval("NULL", "n IN (1, 2)");
+		assertFails("i IN (SELECT a FROM tab)");
+	}
+
+	public void testInLargeNumbers() throws Exception {
+		// a long and a double are only equal where their values are exactly the same,
+		// whether or not the list is all literals
+		values.put("a", LongValue.valueOf(9007199254740993L));
+		values.put("b", DoubleValue.valueOf(0x1p63));
+		assertEval("FALSE", "b = 9223372036854775807");
+		assertEval("FALSE", "b IN (9223372036854775807)");
+		assertEval("FALSE", "b IN (9223372036854775807, a)");
+		assertEval("TRUE", "b NOT IN (9223372036854775807)");
+		assertEval("FALSE", "a = 9007199254740992.0");
+		assertEval("FALSE", "a IN (9007199254740992.0)");
+		assertEval("FALSE", "a IN (9007199254740992.0, b)");
+		assertEval("TRUE", "a IN (9007199254740993, 1)");
+		values.put("a", LongValue.valueOf(9007199254740992L));
+		assertEval("TRUE", "a IN (9007199254740992.0)");
+	}
+
+	public void testLike() throws Exception {
+		assertTrue(Eval.like("abc", "abc", -1));
+		assertTrue(Eval.like("abc", "a%", -1));
+		assertTrue(Eval.like("abc", "%c", -1));
+		assertTrue(Eval.like("abc", "%b%", -1));
+		assertTrue(Eval.like("abc", "a_c", -1));
+		assertTrue(Eval.like("abc", "%%%", -1));
+		assertTrue(Eval.like("", "%", -1));
+		assertTrue(Eval.like("aXbXc", "%X_", -1));
+		assertTrue(Eval.like("mississippi", "%iss%ppi", -1));
+		assertFalse(Eval.like("abc", "ab", -1));
+		assertFalse(Eval.like("abc", "_", -1));
+		assertFalse(Eval.like("abc", "%d%", -1));
+		assertTrue(Eval.like("50%", "50!%", '!'));
+		assertFalse(Eval.like("500", "50!%", '!'));
+		assertTrue(Eval.like("a!b", "a!!b", '!'));
+		assertEval("TRUE", "s LIKE 'a%'");
+		assertEval("TRUE", "s NOT LIKE 'b%'");
+		assertEval("NULL", "n LIKE 'a%'");
+		LikeExpression like = (LikeExpression) where("'a_c' LIKE 'a!_c'");
+		like.setEscape("!");
+		assertEquals(BooleanValue.TRUE, eval.eval(like, row));
+		like.setLeftExpression(new Column(null, "s"));
+		assertEquals(BooleanValue.FALSE, eval.eval(like, row));
+		assertFails("i LIKE '7'");
+	}
+
+	public void testCase() throws Exception {
+		assertEval("'seven'", "CASE i WHEN 1 THEN 'one' WHEN 7 THEN 'seven' ELSE 'other' END");
+		assertEval("'other'", "CASE i WHEN 1 THEN 'one' ELSE 'other' END");
+		assertEval("NULL", "CASE i WHEN 1 THEN 'one' END");
+		assertEval("'other'", "CASE n WHEN n THEN 'null' ELSE 'other' END");
+		assertEval("'big'", "CASE WHEN i > 100 THEN 'huge' WHEN i > 5 THEN 'big' END");
+		assertEval("'else'", "CASE WHEN n > 1 THEN 'unknown' ELSE 'else' END");
+		assertFails("CASE WHEN i THEN 1 END");
+	}
+}
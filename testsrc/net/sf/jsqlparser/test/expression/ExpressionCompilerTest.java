@@ -0,0 +1,230 @@
+package net.sf.jsqlparser.test.expression;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.eval.Bindings;
+import net.sf.jsqlparser.eval.CompiledExpression;
+import net.sf.jsqlparser.eval.Eval;
+import net.sf.jsqlparser.eval.EvalException;
+import net.sf.jsqlparser.eval.ExpressionCompiler;
+import net.sf.jsqlparser.eval.IndexedRow;
+import net.sf.jsqlparser.eval.TieredExpression;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+
+public class ExpressionCompilerTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+	Eval eval = new Eval();
+	ExpressionCompiler compiler = new ExpressionCompiler();
+	Bindings bindings = new Bindings();
+	ValueRow[] rows;
+
+	static final String[] EXPRESSIONS = {
+		"i + j * 2", "i - d", "d / 4", "i / 2", "i & j | 3", "i * m", "s || 'x'",
+		"i = j", "i < d", "d >= 1.5", "i <> 3", "s > 'b'", "m = 1.10", "b <> b",
+		"i = 1 AND j = 2", "i = 1 OR d > 2.0", "NOT i = 1", "NOT (i = 1 AND j IS NULL)",
+		"i BETWEEN 0 AND j", "d NOT BETWEEN 1 AND 2", "i IN (1, 2, 3)", "d IN (1, 2.5)",
+		"s IN ('a', 'bc')", "i NOT IN (1, j)", "i IN (j, d, NULL)", "i IS NULL", "s IS NOT NULL",
+		"s LIKE 'b%'", "s NOT LIKE '_'", "CASE WHEN i > 1 THEN i ELSE j END",
+		"CASE i WHEN 1 THEN 'one' WHEN 2 THEN 'two' END", "CASE WHEN d > 1 THEN d END * 2",
+		"CASE WHEN i > 1 THEN i = 2 ELSE NULL END OR j = 1", "(i + 1) * (j - 1) > d",
+	};
+
+	/**
+	 * A row of values that also keeps its numbers unboxed.
+	 */
+	static class ValueRow implements IndexedRow {
+		final PrimitiveValue[] values;
+		final long[] longs;
+		final double[] doubles;
+
+		ValueRow(PrimitiveValue... values) {
+			this.values = values;
+			longs = new long[values.length];
+			doubles = new double[values.length];
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] instanceof LongValue) { longs[i] = ((LongValue) values[i]).getValue(); }
+				if (values[i] instanceof DoubleValue) { doubles[i] = ((DoubleValue) values[i]).getValue(); }
+			}
+		}
+
+		public PrimitiveValue get(int index) { return values[index]; }
+		public long getLong(int index) { return longs[index]; }
+		public double getDouble(int index) { return doubles[index]; }
+	}
+
+	public ExpressionCompilerTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(ExpressionCompilerTest.class);
+	}
+
+	protected void setUp() {
+		bindings.add("i", PrimitiveType.LONG);
+		bindings.add("j", PrimitiveType.LONG);
+		bindings.add("d", PrimitiveType.DOUBLE);
+		bindings.add("s", PrimitiveType.STRING);
+		bindings.add("m", PrimitiveType.DECIMAL);
+		bindings.add("b", PrimitiveType.BOOL);
+		PrimitiveValue n = NullValue.NULL;
+		rows = new ValueRow[] {
+			new ValueRow(LongValue.valueOf(1), LongValue.valueOf(2), DoubleValue.valueOf(2.5), 
+				new StringValue("bc"), new DecimalValue("1.10"), BooleanValue.TRUE),
+			new ValueRow(LongValue.valueOf(2), LongValue.valueOf(-1), DoubleValue.valueOf(0.5), 
+				new StringValue("a"), new DecimalValue("3"), BooleanValue.FALSE),
+			new ValueRow(LongValue.valueOf(3), n, DoubleValue.valueOf(1.0), n, n, n),
+			new ValueRow(n, LongValue.valueOf(1), n, new StringValue(""), new DecimalValue("-2.5"), BooleanValue.TRUE),
+			new ValueRow(n, n, n, n, n, n),
+		};
+	}
+
+	private Expression expression(String text) throws Exception {
+		Select select = (Select) parserManager.parse("SELECT " + text + " FROM tab");
+		return ((SelectExpressionItem) ((PlainSelect) select.getSelectBody()).getSelectItems().get(0)).getExpression();
+	}
+
+	private void assertSame(String text, Expression expression) {
+		CompiledExpression compiled = compiler.compile(expression, bindings);
+		for (ValueRow row : rows) {
+			PrimitiveValue expected = eval.eval(expression, bindings.row(row));
+			String message = text + " in row " + row.values[0] + "," + row.values[1];
+			assertEquals(message, expected.toString(), compiled.eval(row).toString());
+			assertEquals(message, Eval.isNull(expected), compiled.isNull(row));
+			if (Eval.isNull(expected)) {
+				assertFalse(message, compiled.evalBool(row));
+				assertFalse(message, compiled.isFalse(row));
+				assertTrue(message, compiled.isNullable());
+				continue;
+			}
+			if (compiled.getType() != null) {
+				assertEquals(message, expected.getType(), compiled.getType());
+			}
+			switch (expected.getType()) {
+				case LONG:
+					assertEquals(message, ((LongValue) expected).getValue(), compiled.evalLong(row));
+					assertEquals(message, ((LongValue) expected).getValue(), compiled.evalDouble(row), 0);
+					break;
+				case DOUBLE:
+					assertEquals(message, ((DoubleValue) expected).getValue(), compiled.evalDouble(row), 0);
+					break;
+				case BOOL:
+					assertEquals(message, Eval.isTrue(expected), compiled.evalBool(row));
+					assertEquals(message, !Eval.isTrue(expected), compiled.isFalse(row));
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
+	public void testSameAsEval() throws Exception {
+		for (String text : EXPRESSIONS) {
+			assertSame(text, expression(text));
+		}
+		assertSame("-i", new InverseExpression(new Column(null, "i")));
+		assertSame("-d", new InverseExpression(new Column(null, "d")));
+		assertSame("-m", new InverseExpression(new Column(null, "m")));
+	}
+
+	public void testTypes() throws Exception {
+		assertEquals(PrimitiveType.LONG, compiler.compile(expression("i + j * 2"), bindings).getType());
+		assertEquals(PrimitiveType.DOUBLE, compiler.compile(expression("i + d"), bindings).getType());
+		assertEquals(PrimitiveType.BOOL, compiler.compile(expression("i IN (1, 2)"), bindings).getType());
+		assertEquals(PrimitiveType.LONG, compiler.compile(expression("CASE WHEN d > 1 THEN i END"), bindings).getType());
+		assertNull(compiler.compile(expression("CASE WHEN d > 1 THEN i ELSE d END"), bindings).getType());
+		assertFalse(compiler.compile(expression("i IS NULL"), bindings).isNullable());
+
+		Bindings notNull = new Bindings();
+		notNull.add(new Column(null, "i"), PrimitiveType.LONG, false);
+		assertFalse(compiler.compile(expression("i * 2 + 1"), notNull).isNullable());
+		assertTrue(compiler.compile(expression("i * NULL"), notNull).isNullable());
+
+		try {
+			compiler.compile(expression("x + 1"), bindings);
+			fail();
+		} catch (EvalException e) {
+		}
+		CompiledExpression divide = compiler.compile(expression("i / (j - j)"), bindings);
+		try {
+			divide.evalLong(rows[0]);
+			fail();
+		} catch (EvalException e) {
+		}
+	}
+
+	/**
+	 * The compiled expression raises an error in the same rows as Eval, 
+	 * whichever way it is asked for its result.
+	 */
+	public void testErrors() throws Exception {
+		String[] texts = {
+			"(0 / (i - i)) IS NOT NULL", "(1 / (i - i)) + j", "(1 / (i - i)) * d", "(j / (i - i)) IS NULL",
+			"(1 / (i - i)) = j", "(1 / (i - i)) < d", "j <= (1 / (i - i))", "(d / 0) IS NULL",
+		};
+		for (String text : texts) {
+			Expression expression = expression(text);
+			CompiledExpression compiled = compiler.compile(expression, bindings);
+			for (ValueRow row : rows) {
+				String message = text + " in row " + row.values[0] + "," + row.values[1];
+				boolean raised = false;
+				try {
+					eval.eval(expression, bindings.row(row));
+				} catch (EvalException e) {
+					raised = true;
+				}
+				assertEquals(message, raised, raises(compiled, row, 0));
+				assertEquals(message, raised, raises(compiled, row, 1));
+				assertEquals(message, raised, raises(compiled, row, 2));
+			}
+		}
+	}
+
+	private static boolean raises(CompiledExpression compiled, ValueRow row, int way) {
+		try {
+			switch (way) {
+				case 0: compiled.eval(row); break;
+				case 1:
+					// the way a caller asks for a typed result
+					if (compiled.isNull(row)) { break; }
+					if (compiled.getType() == PrimitiveType.LONG) { compiled.evalLong(row); }
+					else if (compiled.getType() == PrimitiveType.DOUBLE) { compiled.evalDouble(row); }
+					else { compiled.evalBool(row); }
+					break;
+				default: compiled.evalBool(row); compiled.isFalse(row); break;
+			}
+			return false;
+		} catch (EvalException e) {
+			return true;
+		}
+	}
+
+	public void testTiered() throws Exception {
+		Select select = (Select) parserManager.parse("SELECT * FROM tab WHERE i > 1 AND s LIKE '%'");
+		TieredExpression where = new TieredExpression(((PlainSelect) select.getSelectBody()).getWhere(), 
+			bindings, compiler, 10);
+		int matches = 0;
+		for (int i = 0; i < 10; i++) {
+			if (where.evalBool(rows[i % rows.length])) { matches++; }
+			assertFalse(where.isCompiled());
+		}
+		for (int i = 10; i < 20; i++) {
+			if (where.evalBool(rows[i % rows.length])) { matches++; }
+			assertTrue(where.isCompiled());
+		}
+		assertEquals(4, matches);
+	}
+}
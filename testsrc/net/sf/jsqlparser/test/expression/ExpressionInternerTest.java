@@ -0,0 +1,84 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.io.StringReader;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.ExpressionInterner;
+
+public class ExpressionInternerTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public ExpressionInternerTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(ExpressionInternerTest.class);
+	}
+
+	public void testIntern() throws Exception {
+		ExpressionInterner interner = new ExpressionInterner();
+		Expression a = where("SELECT * FROM t WHERE (x + 1) * 2 = f(y, 'z') AND b NOT IN (1, 2)");
+		Expression b = where("SELECT * FROM t WHERE (x + 1) * 2 = f(y, 'z') AND b NOT IN (1, 2)");
+		assertNotSame(a, b);
+		Expression canonical = interner.intern(a);
+		assertNotSame(a, canonical);
+		assertSame(canonical, interner.intern(b));
+		assertSame(canonical, interner.intern(canonical));
+		assertTrue(interner.isCanonical(canonical));
+		assertFalse(interner.isCanonical(a));
+		assertEquals(a.toString(), canonical.toString());
+		assertEquals(interner.hash(a), interner.hash(b));
+
+		// every difference counts
+		String[] others = new String[] {
+			"SELECT * FROM t WHERE (x + 1) * 2 = f(y, 'z') AND b IN (1, 2)",
+			"SELECT * FROM t WHERE (x + 1) * 2 = f(y, 'z') AND b NOT IN (1, 3)",
+			"SELECT * FROM t WHERE (x + 1) * 2 = f(y, 'z') AND b NOT IN (1.0, 2.0)",
+			"SELECT * FROM t WHERE (x - 1) * 2 = f(y, 'z') AND b NOT IN (1, 2)",
+			"SELECT * FROM t WHERE (x + 1) * 2 = g(y, 'z') AND b NOT IN (1, 2)",
+			"SELECT * FROM t WHERE (x + 1) * 2 = f(y, z) AND b NOT IN (1, 2)",
+			"SELECT * FROM t WHERE (x + 1) * 2 = f(y, 'z') OR b NOT IN (1, 2)",
+			"SELECT * FROM t WHERE (t.x + 1) * 2 = f(y, 'z') AND b NOT IN (1, 2)",
+		};
+		for (String other : others) {
+			assertFalse(other, interner.equal(a, where(other)));
+		}
+	}
+
+	public void testSharing() throws Exception {
+		ExpressionInterner interner = new ExpressionInterner();
+		BinaryExpression where = (BinaryExpression)interner.intern(
+			where("SELECT * FROM t WHERE (a + b = 1 OR c IS NULL) AND (a + b = 1 OR c IS NULL)"));
+		assertSame(where.getLeftExpression(), where.getRightExpression());
+
+		int size = interner.size();
+		interner.intern(where("SELECT * FROM t WHERE CASE WHEN a + b = 1 THEN 1 ELSE 2 END = 1"));
+		// only the CASE, its WHEN, the 2 and the outer comparison are new
+		assertEquals(size + 4, interner.size());
+	}
+
+	public void testDeepTree() throws Exception {
+		ExpressionInterner interner = new ExpressionInterner();
+		Expression a = new Column(null, "a");
+		Expression b = new Column(null, "a");
+		for (int i = 0; i < 100000; i++) {
+			a = new AndExpression(a, new Column(null, "a"+(i % 10)));
+			b = new AndExpression(b, new Column(null, "a"+(i % 10)));
+		}
+		assertSame(interner.intern(a), interner.intern(b));
+		assertEquals(100011, interner.size());
+	}
+
+	private Expression where(String sql) throws Exception {
+		Select select = (Select)parserManager.parse(new StringReader(sql));
+		return ((PlainSelect)select.getSelectBody()).getWhere();
+	}
+}
@@ -0,0 +1,139 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionRewriter;
+import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.test.select.CharStreamSpeedTest;
+import net.sf.jsqlparser.util.AstCopier;
+
+public class ExpressionRewriterTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	static final String EVERY_NODE = "SELECT a FROM t WHERE a LIKE 'x' ESCAPE '!' AND b NOT IN (SELECT c FROM w) "
+		+ "AND c IN (1, 2) AND c IN (a, b + 1) AND d IS NOT NULL AND NOT e = 1 AND -(f) > 1 "
+		+ "AND e NOT BETWEEN 1 AND g AND NOT EXISTS (SELECT 1 FROM w) AND a > ALL (SELECT b FROM u) "
+		+ "AND a < ANY (SELECT c FROM u) AND f(DISTINCT a, 2) >= {fn g(*)} "
+		+ "AND CASE a WHEN 1 THEN b ELSE c END <= CASE WHEN a = 1 THEN NULL END "
+		+ "AND a * b / c - d + e <> 1.5 AND a || 'b' = {d '2010-01-01'} AND a @@ b AND (a & b | c ^ d) = ? "
+		+ "AND a = {t '10:00:00'} OR a = {ts '2010-01-01 10:00:00'} OR TRUE";
+
+	/** Renames every column called a to z */
+	static final ExpressionRewriter<Void> RENAME = new ExpressionRewriter<Void>() {
+		public Expression visit(Column column, Void context) {
+			if (!column.getColumnName().equals("a")) {
+				return column;
+			}
+			return new Column(column.getTable(), "z");
+		}
+	};
+
+	/** Replaces each JDBC parameter with the next value from the context */
+	static final ExpressionRewriter<List<Long>> BIND = new ExpressionRewriter<List<Long>>() {
+		public Expression visit(JdbcParameter parameter, List<Long> values) {
+			return new LongValue("" + values.remove(0));
+		}
+	};
+
+	public ExpressionRewriterTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(ExpressionRewriterTest.class);
+	}
+
+	private Expression where(String sql) throws Exception {
+		return ((PlainSelect)((Select)parserManager.parse(sql)).getSelectBody()).getWhere();
+	}
+
+	public void testIdentity() throws Exception {
+		List<String> sql = new ArrayList<String>(CharStreamSpeedTest.loadStatements());
+		sql.add(EVERY_NODE);
+		ExpressionRewriter<Void> identity = new ExpressionRewriter<Void>();
+		for (String s : sql) {
+			Statement statement = parserManager.parse(s);
+			final List<Expression> expressions = new ArrayList<Expression>();
+			new AstCopier() {
+				public Expression copy(Expression e) {
+					if (e != null) {
+						expressions.add(e);
+					}
+					return super.copy(e);
+				}
+			}.copy(statement);
+			for (Expression e : expressions) {
+				assertSame(e, identity.rewrite(e));
+			}
+		}
+	}
+
+	public void testEveryNode() throws Exception {
+		Expression where = where(EVERY_NODE);
+		String before = where.toString();
+		Expression renamed = RENAME.rewrite(where);
+		assertNotSame(where, renamed);
+		assertEquals(before, where.toString());
+		assertEquals(before.replaceAll("\\ba\\b", "z"), renamed.toString());
+		// renaming z back gives the original text
+		Expression back = new ExpressionRewriter<Void>() {
+			public Expression visit(Column column, Void context) {
+				return column.getColumnName().equals("z") ? new Column(column.getTable(), "a") : column;
+			}
+		}.rewrite(renamed);
+		assertEquals(before, back.toString());
+	}
+
+	public void testSharing() throws Exception {
+		AndExpression where = (AndExpression)where("SELECT * FROM t WHERE (b = 1 AND c IN (1, 2)) AND a = 2");
+		AndExpression renamed = (AndExpression)RENAME.rewrite(where);
+		assertNotSame(where, renamed);
+		// the left side mentions no a, so it is shared as a whole
+		assertSame(where.getLeftExpression(), renamed.getLeftExpression());
+		assertNotSame(where.getRightExpression(), renamed.getRightExpression());
+		assertEquals("(((b = 1) AND c IN (1, 2)) AND (z = 2))", renamed.toString());
+
+		InExpression in = (InExpression)where("SELECT * FROM t WHERE a IN (b, c)");
+		InExpression rewritten = (InExpression)RENAME.rewrite(in);
+		assertSame(in.getItemsList(), rewritten.getItemsList());
+	}
+
+	public void testContext() throws Exception {
+		Expression where = where("SELECT * FROM t WHERE a = ? AND b BETWEEN ? AND c AND d IN (?, e)");
+		List<Long> values = valuesOf(1, 2, 3);
+		assertEquals("(((a = 1) AND b BETWEEN 2 AND c) AND d IN (3, e))", BIND.rewrite(where, values).toString());
+		assertTrue(values.isEmpty());
+		assertNull(BIND.rewrite((Expression)null, values));
+	}
+
+	private static List<Long> valuesOf(long... values) {
+		List<Long> ret = new ArrayList<Long>();
+		for (long v : values) {
+			ret.add(v);
+		}
+		return ret;
+	}
+
+	public void testNewColumnTable() throws Exception {
+		Expression where = where("SELECT * FROM t WHERE t.a = 1");
+		Expression qualified = new ExpressionRewriter<Void>() {
+			public Expression visit(Column column, Void context) {
+				return new Column(new Table("s", column.getTable().getName()), column.getColumnName());
+			}
+		}.rewrite(where);
+		assertEquals("(s.t.a = 1)", qualified.toString());
+		assertEquals("(t.a = 1)", where.toString());
+	}
+}
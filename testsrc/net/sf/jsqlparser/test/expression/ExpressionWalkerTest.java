@@ -0,0 +1,128 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitorBase;
+import net.sf.jsqlparser.expression.ExpressionWalker;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+
+public class ExpressionWalkerTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public ExpressionWalkerTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(ExpressionWalkerTest.class);
+	}
+
+	/**
+	 * Records the class of every node it is handed.
+	 */
+	static class Recorder extends ExpressionVisitorBase {
+		List<String> visited = new ArrayList<String>();
+
+		Recorder(boolean recur) { super(recur); }
+
+		public void unhandled(Expression e) {
+			visited.add(e.getClass().getSimpleName());
+			super.unhandled(e);
+		}
+	}
+
+	public void testChildren() throws Exception {
+		Expression where = where("SELECT * FROM t WHERE a IN (1, b) AND CASE WHEN c THEN 1 END = 2");
+		assertEquals(2, where.getChildCount());
+		Expression in = where.getChild(0);
+		assertEquals(3, in.getChildCount());
+		assertTrue(in.getChild(2) instanceof Column);
+
+		CaseExpression caseExpression = (CaseExpression)where.getChild(1).getChild(0);
+		assertEquals(3, caseExpression.getChildCount());
+		assertNull(caseExpression.getChild(0));
+		assertTrue(caseExpression.getChild(1) instanceof WhenClause);
+		assertNull(caseExpression.getChild(2));
+		assertEquals(3, ExpressionVisitorBase.getChildren(caseExpression).size());
+		try {
+			caseExpression.getChild(3);
+			fail("no child 3");
+		} catch (IndexOutOfBoundsException e) {
+		}
+		assertEquals(0, new LongValue(1).getChildCount());
+	}
+
+	public void testRecur() throws Exception {
+		Recorder recorder = new Recorder(true);
+		where("SELECT * FROM t WHERE (a + 2) * 3 = f(b, 'x') OR NOT c BETWEEN 1 AND 2").accept(recorder);
+		assertEquals("[OrExpression, EqualsTo, Multiplication, Addition, Column, LongValue, LongValue, "
+			+ "Function, Column, StringValue, InverseExpression, Between, Column, LongValue, LongValue]", 
+			recorder.visited.toString());
+
+		recorder = new Recorder(true) {
+			public void visit(Function function) {
+				visited.add("Function");
+			}
+		};
+		where("SELECT * FROM t WHERE f(b, 'x') = 1 AND g(c) = d").accept(recorder);
+		assertEquals("[AndExpression, EqualsTo, Function, LongValue, EqualsTo, Function, Column]", 
+			recorder.visited.toString());
+	}
+
+	public void testPostOrder() throws Exception {
+		final StringBuilder out = new StringBuilder();
+		ExpressionVisitorBase printer = new ExpressionVisitorBase(false) {
+			public void visit(LongValue e) { out.append(e).append(' '); }
+			public void visit(Addition e) { recur(e); out.append("+ "); }
+			public void visit(Multiplication e) { recur(e); out.append("* "); }
+		};
+		where("SELECT * FROM t WHERE 1 + 2 * 3 = 0").getChild(0).accept(printer);
+		assertEquals("1 2 3 * + ", out.toString());
+	}
+
+	public void testWalk() throws Exception {
+		Recorder recorder = new Recorder(false);
+		new ExpressionWalker().walk(where("SELECT * FROM t WHERE a = 1 AND b IN (SELECT c FROM u)"), recorder);
+		assertEquals("[AndExpression, EqualsTo, Column, LongValue, InExpression, Column, SubSelect]", 
+			recorder.visited.toString());
+	}
+
+	public void testDeepTree() throws Exception {
+		Expression expression = new Column(null, "a0");
+		for (int i = 1; i < 200000; i++) {
+			expression = new AndExpression(expression, new Column(null, "a"+i));
+		}
+		Recorder recorder = new Recorder(false) {
+			public void unhandled(Expression e) {
+				super.unhandled(e);
+				descend(e);
+			}
+		};
+		expression.accept(recorder);
+		assertEquals(399999, recorder.visited.size());
+		assertEquals("Column", recorder.visited.get(recorder.visited.size() - 1));
+
+		recorder = new Recorder(false);
+		new ExpressionWalker().walk(expression, recorder);
+		assertEquals(399999, recorder.visited.size());
+	}
+
+	private Expression where(String sql) throws Exception {
+		Select select = (Select)parserManager.parse(new StringReader(sql));
+		return ((PlainSelect)select.getSelectBody()).getWhere();
+	}
+}
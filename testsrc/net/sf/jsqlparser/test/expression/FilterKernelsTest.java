@@ -0,0 +1,103 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.eval.FilterKernels;
+
+/**
+ * Checks the kernels of {@link FilterKernels#get} against a plain loop; they 
+ * are the SIMD ones when the tests run with --add-modules jdk.incubator.vector.
+ */
+public class FilterKernelsTest extends TestCase {
+	FilterKernels kernels = FilterKernels.get();
+	Random random = new Random(7);
+
+	public FilterKernelsTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(FilterKernelsTest.class);
+	}
+
+	private boolean[] nulls(int size) {
+		if (random.nextBoolean()) { return null; }
+		boolean[] ret = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			ret[i] = random.nextInt(5) == 0;
+		}
+		return ret;
+	}
+
+	private int[] selection(int size) {
+		if (random.nextBoolean()) { return null; }
+		int[] ret = new int[size];
+		int n = 0;
+		for (int i = 0; i < size; i++) {
+			if (random.nextInt(3) != 0) { ret[n++] = i; }
+		}
+		return Arrays.copyOf(ret, n);
+	}
+
+	public void testLongs() {
+		long[] specials = { Long.MIN_VALUE, Long.MAX_VALUE, 0, -1 };
+		for (int round = 0; round < 500; round++) {
+			int size = random.nextInt(100);
+			long[] values = new long[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = random.nextInt(10) == 0 ? specials[random.nextInt(4)] : random.nextInt(21) - 10;
+			}
+			boolean[] nulls = nulls(size);
+			int[] sel = selection(size);
+			int count = sel == null ? size : sel.length;
+			long lo = random.nextInt(25) - 12, hi = random.nextInt(4) == 0 ? Long.MAX_VALUE : random.nextInt(25) - 12;
+			boolean inside = random.nextBoolean();
+
+			int[] expected = new int[count];
+			int m = 0;
+			for (int j = 0; j < count; j++) {
+				int i = sel == null ? j : sel[j];
+				if ((nulls == null || !nulls[i]) && (lo <= values[i] && values[i] <= hi) == inside) { expected[m++] = i; }
+			}
+			int[] out = sel == null || random.nextBoolean() ? new int[count] : sel;
+			int n = kernels.selectRange(values, nulls, lo, hi, inside, sel, count, out);
+			assertEquals(kernels.getName(), m, n);
+			for (int k = 0; k < n; k++) {
+				assertEquals(kernels.getName(), expected[k], out[k]);
+			}
+		}
+	}
+
+	public void testDoubles() {
+		double[] specials = { Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+		for (int round = 0; round < 500; round++) {
+			int size = random.nextInt(100);
+			double[] values = new double[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = random.nextInt(10) == 0 ? specials[random.nextInt(5)] : (random.nextInt(41) - 20) / 4.0;
+			}
+			boolean[] nulls = nulls(size);
+			int[] sel = selection(size);
+			int count = sel == null ? size : sel.length;
+			double lo = (random.nextInt(41) - 20) / 4.0, hi = random.nextInt(4) == 0 ? Double.POSITIVE_INFINITY : (random.nextInt(41) - 20) / 4.0;
+			boolean nan = random.nextBoolean(), inside = random.nextBoolean();
+
+			int[] expected = new int[count];
+			int m = 0;
+			for (int j = 0; j < count; j++) {
+				int i = sel == null ? j : sel[j];
+				double x = values[i];
+				boolean in = lo <= x && x <= hi || nan && Double.isNaN(x);
+				if ((nulls == null || !nulls[i]) && in == inside) { expected[m++] = i; }
+			}
+			int[] out = sel == null || random.nextBoolean() ? new int[count] : sel;
+			int n = kernels.selectRange(values, nulls, lo, hi, nan, inside, sel, count, out);
+			assertEquals(kernels.getName(), m, n);
+			for (int k = 0; k < n; k++) {
+				assertEquals(kernels.getName(), expected[k], out[k]);
+			}
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.GenericExpressionVisitorBase;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GenericItemsListVisitor;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.GenericStatementVisitor;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.GenericFromItemVisitor;
+import net.sf.jsqlparser.statement.select.GenericSelectVisitor;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SubJoin;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.select.Union;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+
+public class GenericVisitorTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	/** The height of an expression tree; keeps no state, so one instance serves everyone */
+	static final GenericExpressionVisitorBase<Integer, Void> HEIGHT = new GenericExpressionVisitorBase<Integer, Void>() {
+		public Integer unhandled(Expression e, Void context) {
+			int height = 0;
+			for (int i = 0; i < e.getChildCount(); i++) {
+				Expression child = e.getChild(i);
+				if (child != null) { height = Math.max(height, child.accept(this, null)); }
+			}
+			return height + 1;
+		}
+	};
+
+	/** Adds the names of the columns below an expression to the context */
+	static final GenericExpressionVisitorBase<Void, List<String>> COLUMNS = new GenericExpressionVisitorBase<Void, List<String>>() {
+		public Void unhandled(Expression e, List<String> columns) {
+			for (int i = 0; i < e.getChildCount(); i++) {
+				Expression child = e.getChild(i);
+				if (child != null) { child.accept(this, columns); }
+			}
+			return null;
+		}
+
+		public Void visit(Column column, List<String> columns) {
+			columns.add(column.getWholeColumnName());
+			return null;
+		}
+	};
+
+	/** The name of the first table a statement reads from or writes to */
+	static final GenericStatementVisitor<String, Void> TARGET = new GenericStatementVisitor<String, Void>() {
+		public String visit(Select select, Void context) {
+			return select.getSelectBody().accept(FIRST_TABLE, null);
+		}
+		public String visit(Delete delete, Void context) { return delete.getTable().getName(); }
+		public String visit(Update update, Void context) { return update.getTable().getName(); }
+		public String visit(Insert insert, Void context) { return insert.getTable().getName(); }
+		public String visit(Replace replace, Void context) { return replace.getTable().getName(); }
+		public String visit(Drop drop, Void context) { return drop.getName(); }
+		public String visit(Truncate truncate, Void context) { return truncate.getTable().getName(); }
+		public String visit(CreateTable createTable, Void context) { return createTable.getTable().getName(); }
+	};
+
+	static final GenericSelectVisitor<String, Void> FIRST_TABLE = new GenericSelectVisitor<String, Void>() {
+		public String visit(PlainSelect plainSelect, Void context) {
+			return plainSelect.getFromItem().accept(FROM_TABLE, null);
+		}
+		public String visit(Union union, Void context) {
+			return ((PlainSelect)union.getPlainSelects().get(0)).accept(this, null);
+		}
+	};
+
+	static final GenericFromItemVisitor<String, Void> FROM_TABLE = new GenericFromItemVisitor<String, Void>() {
+		public String visit(Table table, Void context) { return table.getName(); }
+		public String visit(SubSelect subSelect, Void context) { return subSelect.getSelectBody().accept(FIRST_TABLE, null); }
+		public String visit(SubJoin subJoin, Void context) { return subJoin.getLeft().accept(this, null); }
+	};
+
+	static final GenericItemsListVisitor<Integer, Integer> ITEMS = new GenericItemsListVisitor<Integer, Integer>() {
+		public Integer visit(SubSelect subSelect, Integer factor) { return -factor; }
+		public Integer visit(ExpressionList expressionList, Integer factor) { 
+			return expressionList.getExpressions().size() * factor; 
+		}
+	};
+
+	public GenericVisitorTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(GenericVisitorTest.class);
+	}
+
+	public void testExpressionVisitor() throws Exception {
+		Expression where = where("SELECT * FROM t WHERE a.x = 1 AND (b + c) * 2 > d");
+		assertEquals(Integer.valueOf(5), where.accept(HEIGHT, null));
+		List<String> columns = new ArrayList<String>();
+		where.accept(COLUMNS, columns);
+		assertEquals("[a.x, b, c, d]", columns.toString());
+
+		InExpression in = (InExpression)where("SELECT * FROM t WHERE a IN (1, 2, 3)");
+		assertEquals(Integer.valueOf(6), in.getItemsList().accept(ITEMS, 2));
+	}
+
+	public void testStatementVisitor() throws Exception {
+		assertEquals("t", parse("SELECT * FROM (SELECT a FROM t) x").accept(TARGET, null));
+		assertEquals("u", parse("SELECT a FROM u UNION SELECT b FROM v").accept(TARGET, null));
+		assertEquals("w", parse("SELECT * FROM (w JOIN v ON w.a = v.a)").accept(TARGET, null));
+		assertEquals("d", parse("DELETE FROM d WHERE a = 1").accept(TARGET, null));
+		assertEquals("i", parse("INSERT INTO i VALUES (1, 2)").accept(TARGET, null));
+	}
+
+	public void testShared() throws Exception {
+		final Expression[] wheres = new Expression[] {
+			where("SELECT * FROM t WHERE a = 1"),
+			where("SELECT * FROM t WHERE a = 1 AND (b = 2 OR c = 3)"),
+			where("SELECT * FROM t WHERE f(a + 1) = 2 OR NOT b IN (1, 2)")
+		};
+		final int[] expected = new int[] { 2, 4, 5 };
+		final List<Throwable> failures = new ArrayList<Throwable>();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread() {
+				public void run() {
+					try {
+						for (int i = 0; i < 10000; i++) {
+							assertEquals(expected[i % 3], wheres[i % 3].accept(HEIGHT, null).intValue());
+						}
+					} catch (Throwable e) {
+						synchronized (failures) { failures.add(e); }
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals("[]", failures.toString());
+	}
+
+	private Statement parse(String sql) throws Exception {
+		return parserManager.parse(new StringReader(sql));
+	}
+
+	private Expression where(String sql) throws Exception {
+		return ((PlainSelect)((Select)parse(sql)).getSelectBody()).getWhere();
+	}
+}
@@ -0,0 +1,108 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.CCJSqlParser;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.parser.CCJSqlParserTokenManager;
+import net.sf.jsqlparser.parser.CharSequenceCharStream;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.util.AstCopier;
+
+public class PrimitiveValueTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public PrimitiveValueTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(PrimitiveValueTest.class);
+	}
+
+	public void testShared() throws Exception {
+		assertSame(LongValue.valueOf(7), LongValue.valueOf("+7"));
+		assertSame(LongValue.valueOf(-128), LongValue.valueOf(-128));
+		assertNotSame(LongValue.valueOf(100000), LongValue.valueOf(100000));
+		assertSame(DoubleValue.valueOf(1.0), DoubleValue.valueOf("1.0"));
+		assertNotSame(DoubleValue.valueOf(1.5), DoubleValue.valueOf(1.5));
+		assertNotSame(DoubleValue.valueOf(-0.0), DoubleValue.valueOf(0.0));
+		assertEquals("-0.0", DoubleValue.valueOf(-0.0).toString());
+		assertSame(StringValue.valueOf("Y"), StringValue.valueOfEscaped("'Y'"));
+		assertSame(StringValue.valueOf(""), StringValue.valueOfEscaped("''"));
+		assertNotSame(StringValue.valueOf("YN"), StringValue.valueOf("YN"));
+		assertNotSame(StringValue.valueOf("\u00e9"), StringValue.valueOf("\u00e9"));
+
+		try {
+			LongValue.valueOf(1).setValue(2);
+			fail("shared values can not be modified");
+		} catch (UnsupportedOperationException e) {
+		}
+		try {
+			StringValue.valueOf("Y").setValue("N");
+			fail("shared values can not be modified");
+		} catch (UnsupportedOperationException e) {
+		}
+		assertEquals(1, LongValue.valueOf(1).getValue());
+		assertEquals("Y", StringValue.valueOf("Y").getValue());
+
+		LongValue large = LongValue.valueOf(100000);
+		large.setValue(3);
+		assertEquals(3, large.getValue());
+	}
+
+	public void testHashCode() {
+		assertEquals(LongValue.valueOf(5), DoubleValue.valueOf(5.0));
+		assertEquals(LongValue.valueOf(5).hashCode(), DoubleValue.valueOf(5.0).hashCode());
+		assertEquals(new LongValue(1L << 40).hashCode(), new DoubleValue((double)(1L << 40)).hashCode());
+		assertEquals(new DoubleValue(0.0).hashCode(), new DoubleValue(-0.0).hashCode());
+		assertFalse(new LongValue(1).hashCode() == new LongValue(2).hashCode());
+	}
+
+	public void testParser() throws Exception {
+		String sql = "INSERT INTO t VALUES (1, 1, 'N', 'N', NULL, NULL, 2.0, 2.0, 5000)";
+
+		// by default every literal is a node of its own, and may be modified
+		Insert insert = (Insert)parserManager.parse(sql);
+		List<Expression> values = ((ExpressionList)insert.getItemsList()).getExpressions();
+		assertNotSame(values.get(0), values.get(1));
+		assertNotSame(values.get(2), values.get(3));
+		assertNotSame(values.get(4), values.get(5));
+		assertNotSame(LongValue.valueOf(1), values.get(0));
+		((LongValue)values.get(0)).setValue(9);
+		((StringValue)values.get(2)).setValue("Y");
+		assertEquals("INSERT INTO t VALUES (9, 1, 'Y', 'N', NULL, NULL, 2.0, 2.0, 5000)", insert.toString());
+		assertEquals(1, LongValue.valueOf(1).getValue());
+		assertEquals("N", StringValue.valueOf("N").getValue());
+
+		// a parser that asks for them shares the cached literals
+		CCJSqlParser parser = new CCJSqlParser(new CCJSqlParserTokenManager(new CharSequenceCharStream(sql))) {
+			protected boolean useSharedLiterals() {
+				return true;
+			}
+		};
+		insert = (Insert)parser.Statement();
+		values = ((ExpressionList)insert.getItemsList()).getExpressions();
+		assertSame(LongValue.valueOf(1), values.get(0));
+		assertSame(values.get(0), values.get(1));
+		assertSame(values.get(2), values.get(3));
+		assertSame(NullValue.NULL, values.get(4));
+		assertSame(values.get(6), values.get(7));
+		assertNotSame(LongValue.valueOf(5000), values.get(8));
+		assertEquals(sql, insert.toString());
+
+		// copies are private, and may be modified
+		Insert copy = (Insert)new AstCopier().copy(insert);
+		LongValue one = (LongValue)((ExpressionList)copy.getItemsList()).getExpressions().get(0);
+		one.setValue(9);
+		assertEquals("INSERT INTO t VALUES (9, 1, 'N', 'N', NULL, NULL, 2.0, 2.0, 5000)", copy.toString());
+		assertEquals(sql, insert.toString());
+	}
+}
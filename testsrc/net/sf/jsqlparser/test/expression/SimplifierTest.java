@@ -0,0 +1,167 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.eval.Eval;
+import net.sf.jsqlparser.eval.EvalException;
+import net.sf.jsqlparser.eval.Row;
+import net.sf.jsqlparser.eval.Simplifier;
+import net.sf.jsqlparser.expression.BooleanValue;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionRewriter;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+
+public class SimplifierTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+	Simplifier simplifier = new Simplifier();
+
+	/** The grammar reads TRUE and FALSE as columns; these are made literals */
+	static final ExpressionRewriter<Void> BOOLEANS = new ExpressionRewriter<Void>() {
+		public Expression visit(Column column, Void context) {
+			if (column.getColumnName().equals("TRUE")) { return BooleanValue.TRUE; }
+			if (column.getColumnName().equals("FALSE")) { return BooleanValue.FALSE; }
+			return column;
+		}
+	};
+
+	/** Each is checked against the original in every row of {@link #rows} */
+	static final String[] EXPRESSIONS = {
+		"1 = 1 AND i > 2", "i > 2 AND 1 = 0", "p OR 2 > 1", "FALSE OR p", "NULL AND p", "p AND NULL",
+		"NULL OR FALSE", "TRUE AND NULL", "i + 0", "0 + i", "i - 0", "0 - i", "i * 1", "1 * d", "i * 0",
+		"d + 0", "i + 2 * 3", "(i + 1) * (2 - 2)", "i + NULL", "NULL || s", "s = NULL", "i < 7 - 1",
+		"NOT NOT p", "NOT (i = 7)", "NOT (i <> 7)", "NOT (i > 0)", "NOT (i >= 0)", "NOT (i < 7)",
+		"NOT (d <= 2.5)", "NOT (i BETWEEN 0 AND 5)", "NOT (i IN (0, 1))", "NOT (s IS NULL)",
+		"NOT (s LIKE 'a%')", "NOT (NOT (i = 0))", "i BETWEEN NULL AND 5", "NULL BETWEEN i AND 5",
+		"2 BETWEEN 1 AND 3", "i IN (7)", "i NOT IN (7)", "s IN ('abc')", "i IN (7, j)", "NULL IN (i, 2)",
+		"i IN (NULL)", "3 IN (1, 2, NULL)", "3 NOT IN (1, 2, 3)", "NULL IS NULL", "1 IS NOT NULL",
+		"CASE WHEN 1 = 1 THEN i ELSE j END", "CASE WHEN FALSE THEN i WHEN p THEN j ELSE 0 END",
+		"CASE WHEN p THEN i WHEN TRUE THEN j WHEN q THEN 1 END", "CASE WHEN NULL THEN i END",
+		"CASE 2 WHEN 1 THEN i WHEN 2 THEN j END", "CASE i WHEN NULL THEN 1 WHEN 7 THEN 2 END",
+		"CASE NULL WHEN NULL THEN 1 ELSE 2 END", "CASE i + 0 WHEN 1 + 1 THEN j END",
+		"(1 = 1 OR p) AND (q OR 1 = 0) AND NOT NOT (i + 0 IN (7))", "s || 'x' || 'y'", "'a' || 'b'",
+	};
+
+	public SimplifierTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(SimplifierTest.class);
+	}
+
+	private Expression parse(String expression) throws Exception {
+		Select select = (Select) parserManager.parse("SELECT " + expression + " FROM tab");
+		Expression e = ((SelectExpressionItem) ((PlainSelect) select.getSelectBody()).getSelectItems().get(0)).getExpression();
+		return BOOLEANS.rewrite(e);
+	}
+
+	private void assertSimplified(String expected, String expression) throws Exception {
+		assertEquals(expression, parse(expected).toString(), simplifier.rewrite(parse(expression)).toString());
+	}
+
+	public void testRules() throws Exception {
+		assertSimplified("i > 2", "1 = 1 AND i > 2");
+		assertSimplified("FALSE", "i > 2 AND 1 = 0");
+		assertSimplified("TRUE", "p OR 2 > 1");
+		assertSimplified("p", "FALSE OR p");
+		assertSimplified("NULL AND p", "NULL AND p");
+		assertSimplified("FALSE", "NULL AND FALSE");
+		assertSimplified("i", "i + 0");
+		assertSimplified("i", "0 + i");
+		assertSimplified("0 - i", "0 - i");
+		assertSimplified("d", "1 * d");
+		assertSimplified("i * 0", "i * 0");
+		assertSimplified("i + 6", "i + 2 * 3");
+		assertSimplified("NULL", "i + NULL");
+		assertSimplified("NULL", "s = NULL");
+		assertSimplified("p", "NOT NOT p");
+		assertSimplified("i <> 7", "NOT (i = 7)");
+		assertSimplified("i < 0", "NOT (i >= 0)");
+		assertSimplified("i NOT BETWEEN 0 AND 5", "NOT (i BETWEEN 0 AND 5)");
+		assertSimplified("s IS NOT NULL", "NOT (s IS NULL)");
+		assertSimplified("i = 7", "i IN (7)");
+		assertSimplified("i <> 7", "i NOT IN (7)");
+		assertSimplified("NULL", "i IN (NULL)");
+		assertSimplified("NULL", "3 IN (1, 2, NULL)");
+		assertSimplified("FALSE", "3 NOT IN (1, 2, 3)");
+		assertSimplified("TRUE", "NULL IS NULL");
+		assertSimplified("i", "CASE WHEN 1 = 1 THEN i ELSE j END");
+		assertSimplified("CASE WHEN p THEN j ELSE 0 END", "CASE WHEN FALSE THEN i WHEN p THEN j ELSE 0 END");
+		assertSimplified("CASE WHEN p THEN i ELSE j END", "CASE WHEN p THEN i WHEN TRUE THEN j WHEN q THEN 1 END");
+		assertSimplified("NULL", "CASE WHEN NULL THEN i END");
+		assertSimplified("j", "CASE 2 WHEN 1 THEN i WHEN 2 THEN j END");
+		assertSimplified("CASE i WHEN 7 THEN 2 END", "CASE i WHEN NULL THEN 1 WHEN 7 THEN 2 END");
+		assertSimplified("2", "CASE NULL WHEN NULL THEN 1 ELSE 2 END");
+		assertSimplified("q AND i = 7", "(1 = 1 OR p) AND (q OR 1 = 0) AND NOT NOT (i + 0 IN (7))");
+		assertSimplified("'ab'", "'a' || 'b'");
+
+		// errors are left for evaluation to raise
+		assertSimplified("1 / 0", "1 / 0");
+		assertSimplified("'a' + 0", "'a' + 0");
+		assertSimplified("TRUE AND 5", "TRUE AND 5");
+		assertSimplified("f(2)", "f(1 + 1)");
+	}
+
+	public void testUnchanged() throws Exception {
+		for (String text : new String[] { "i > 2 AND p", "CASE WHEN p THEN i ELSE j END", "i IN (1, 2)",
+		                                  "s LIKE 'a%'", "NOT p", "i BETWEEN j AND 7" }) {
+			Expression e = parse(text);
+			assertSame(text, e, simplifier.rewrite(e));
+		}
+		Expression e = parse("1 + 2 > i");
+		String before = e.toString();
+		simplifier.rewrite(e);
+		assertEquals(before, e.toString());
+	}
+
+	public void testSameValues() throws Exception {
+		PrimitiveValue[] longs = { NullValue.NULL, LongValue.valueOf(0), LongValue.valueOf(7) };
+		PrimitiveValue[] bools = { NullValue.NULL, BooleanValue.TRUE, BooleanValue.FALSE };
+		PrimitiveValue[] doubles = { NullValue.NULL, DoubleValue.valueOf(2.5), DoubleValue.valueOf(Double.NaN) };
+		PrimitiveValue[] strings = { NullValue.NULL, new StringValue("abc"), new StringValue("xyz") };
+		Eval eval = new Eval();
+		final Map<String, PrimitiveValue> values = new HashMap<String, PrimitiveValue>();
+		Row row = column -> values.get(column.getColumnName());
+		for (String text : EXPRESSIONS) {
+			Expression original = parse(text);
+			Expression simplified = simplifier.rewrite(original);
+			for (int r = 0; r < 3 * 3 * 3 * 3 * 3 * 3; r++) {
+				values.put("i", longs[r % 3]);
+				values.put("j", longs[r / 3 % 3]);
+				values.put("p", bools[r / 9 % 3]);
+				values.put("q", bools[r / 27 % 3]);
+				values.put("d", doubles[r / 81 % 3]);
+				values.put("s", strings[r / 243 % 3]);
+				PrimitiveValue expected;
+				try {
+					expected = eval.eval(original, row);
+				} catch (EvalException e) {
+					continue;
+				}
+				assertEquals(text + " for " + values, expected.toString(), eval.eval(simplified, row).toString());
+			}
+		}
+	}
+
+	public void testNegation() throws Exception {
+		// the grammar drops a unary minus, so these are built by hand
+		Column i = new Column(null, "i");
+		assertSame(i, simplifier.rewrite(new InverseExpression(new InverseExpression(i))));
+		assertEquals("-7", simplifier.rewrite(new InverseExpression(LongValue.valueOf(7))).toString());
+		assertEquals("FALSE", simplifier.rewrite(new InverseExpression(BooleanValue.TRUE)).toString());
+		Expression overflow = new InverseExpression(LongValue.valueOf(Long.MIN_VALUE));
+		assertSame(overflow, simplifier.rewrite(overflow));
+	}
+}
@@ -0,0 +1,143 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.io.StringReader;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.TimeValue;
+import net.sf.jsqlparser.expression.TimestampValue;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.AstCopier;
+import net.sf.jsqlparser.util.StatementCodec;
+
+public class TemporalValueTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public TemporalValueTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(TemporalValueTest.class);
+	}
+
+	public void testDate() throws Exception {
+		String[] dates = { "2004-04-30", "1970-01-01", "1969-12-31", "2000-02-29", "1900-03-01",
+		                   "0001-01-01", "9999-12-31", "2010-2-3", "2010-02-30" };
+		for (String text : dates) {
+			DateValue value = new DateValue(text);
+			Date expected = Date.valueOf(text);
+			assertEquals(expected.toString(), value.toString());
+			assertEquals(expected, value.getValue());
+			assertEquals(expected.getYear(), value.getYear());
+			assertEquals(expected.getMonth(), value.getMonth());
+			assertEquals(expected.getDate(), value.getDate());
+			assertEquals(value, new DateValue(expected));
+		}
+		assertEquals(0, new DateValue("1970-01-01").getEpochDay());
+		assertEquals(-1, new DateValue("1969-12-31").getEpochDay());
+		assertEquals(11017, new DateValue("2000-03-01").getEpochDay());
+		assertEquals("2000-03-01", DateValue.ofEpochDay(11017).toString());
+		assertEquals(2000, DateValue.ofEpochDay(11017).getFullYear());
+		assertEquals(3, DateValue.ofEpochDay(11017).getMonthOfYear());
+		assertEquals(1, DateValue.ofEpochDay(11017).getDayOfMonth());
+		assertEquals(new DateValue("2004-04-30"), DateValue.parseEscaped("'2004-04-30'"));
+
+		for (String text : new String[] { "", "2004-04", "04-04-30", "2004-13-01", "2004-00-01",
+		                                  "2004-01-32", "2004-1a-01", "2004-001-01" }) {
+			try {
+				new DateValue(text);
+				fail(text);
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	public void testTime() throws Exception {
+		for (String text : new String[] { "04:05:34", "00:00:00", "23:59:59", "4:5:6" }) {
+			TimeValue value = new TimeValue("'" + text + "'");
+			Time expected = Time.valueOf(text);
+			assertEquals(expected.toString(), value.toRawString());
+			assertEquals("{t '" + expected + "'}", value.toString());
+			assertEquals(expected, value.getValue());
+			assertEquals(value, new TimeValue(expected));
+		}
+		TimeValue value = new TimeValue("'04:05:34'");
+		assertEquals(4, value.getHour());
+		assertEquals(5, value.getMinute());
+		assertEquals(34, value.getSecond());
+		assertEquals(((4 * 60 + 5) * 60 + 34) * 1000000L, value.getMicrosOfDay());
+		assertEquals("01:00:00", new TimeValue("'25:00:00'").toRawString());
+		assertEquals(value, TimeValue.ofMicrosOfDay(value.getMicrosOfDay()));
+	}
+
+	public void testTimestamp() throws Exception {
+		String[] timestamps = { "2004-04-30 04:05:34.56", "2004-04-30 04:05:34", "1970-01-01 00:00:00.000000001",
+		                        "1969-12-31 23:59:59.999999999", "2000-02-29 12:00:00.1234567",
+		                        "1900-01-01 00:00:00.010", "2004-04-30 24:00:00" };
+		for (String text : timestamps) {
+			TimestampValue value = new TimestampValue("'" + text + "'");
+			Timestamp expected = Timestamp.valueOf(text);
+			assertEquals(expected.toString(), value.toRawString());
+			assertEquals("{ts '" + expected + "'}", value.toString());
+			assertEquals(expected, value.getValue());
+			assertEquals(expected.getNanos(), value.getNanos());
+			assertEquals(value, new TimestampValue(expected));
+		}
+		TimestampValue value = new TimestampValue("'2004-04-30 04:05:34.000001002'");
+		assertEquals(new DateValue("2004-04-30").getEpochDay(), value.getEpochDay());
+		assertEquals(2004, value.getFullYear());
+		assertEquals(4, value.getMonthOfYear());
+		assertEquals(30, value.getDayOfMonth());
+		assertEquals(4, value.getHour());
+		assertEquals(5, value.getMinute());
+		assertEquals(34, value.getSecond());
+		assertEquals(1002, value.getNanos());
+		assertEquals(2, value.getNanosOfMicro());
+		assertEquals(value, TimestampValue.ofEpochMicros(value.getEpochMicros(), 2));
+		assertEquals(0, TimestampValue.ofEpochMicros(0).getEpochDay());
+		assertEquals("1969-12-31 23:59:59.999999", TimestampValue.ofEpochMicros(-1).toRawString());
+
+		for (String text : new String[] { "2004-04-30", "2004-04-30 04:05", "2004-04-30 04:05:34.",
+		                                  "2004-04-30 04:05:34.1234567890", "2004-04-30 04:05:34.-1" }) {
+			try {
+				new TimestampValue("'" + text + "'");
+				fail(text);
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	public void testCompare() throws Exception {
+		assertTrue(new DateValue("1969-12-31").compareTo(new DateValue("1970-01-01")) < 0);
+		assertTrue(new DateValue("2004-04-30").compareTo(new DateValue("2004-04-29")) > 0);
+		assertEquals(0, new DateValue("2004-4-30").compareTo(new DateValue("2004-04-30")));
+		assertTrue(new TimeValue("'04:05:34'").compareTo(new TimeValue("'04:05:35'")) < 0);
+		assertTrue(new TimestampValue("'2004-04-30 04:05:34.000000001'")
+			.compareTo(new TimestampValue("'2004-04-30 04:05:34'")) > 0);
+		assertTrue(new TimestampValue("'2004-04-30 04:05:34.000001'")
+			.compareTo(new TimestampValue("'2004-04-30 04:05:34.000000999'")) > 0);
+		assertEquals(new TimestampValue("'2004-04-30 04:05:34.5'").hashCode(),
+			new TimestampValue("'2004-04-30 04:05:34.500'").hashCode());
+	}
+
+	public void testStatements() throws Exception {
+		String statement = "SELECT * FROM tab1 WHERE a > {ts '2004-04-30 04:05:34.56'} AND b = {d '2004-04-30'} AND c < {t '04:05:34'}";
+		Select select = (Select) parserManager.parse(new StringReader(statement));
+		String text = select.toString();
+		assertEquals("SELECT * FROM tab1 WHERE (((a > {ts '2004-04-30 04:05:34.56'}) AND (b = 2004-04-30)) AND (c < {t '04:05:34'}))", text);
+		assertEquals(text, new AstCopier().copy(select).toString());
+		StatementCodec codec = new StatementCodec();
+		assertEquals(text, codec.decode(codec.encode(select)).toString());
+
+		select = (Select) parserManager.parse(new StringReader("SELECT * FROM tab1 WHERE a > {ts '2004-04-30 04:05:34.56'}"));
+		TimestampValue value = (TimestampValue) ((GreaterThan) ((PlainSelect) select.getSelectBody()).getWhere()).getRightExpression();
+		assertEquals("2004-04-30 04:05:34.56", value.getValue().toString());
+	}
+}
@@ -0,0 +1,224 @@
+package net.sf.jsqlparser.test.expression;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.eval.Batch;
+import net.sf.jsqlparser.eval.Bindings;
+import net.sf.jsqlparser.eval.ColumnVector;
+import net.sf.jsqlparser.eval.Eval;
+import net.sf.jsqlparser.eval.EvalException;
+import net.sf.jsqlparser.eval.IndexedRow;
+import net.sf.jsqlparser.eval.VectorCompiler;
+import net.sf.jsqlparser.eval.VectorExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.InverseExpression;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+
+public class VectorCompilerTest extends TestCase {
+	static final int SIZE = 1000;
+
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+	Eval eval = new Eval();
+	VectorCompiler compiler = new VectorCompiler();
+	Bindings bindings = new Bindings();
+	Batch batch;
+
+	static final String[] EXPRESSIONS = {
+		"i + j * 2", "i - d", "d * 2", "d / 4", "i & j | 3", "i * m", "s || 'x'", "i + 1.5",
+		"i = j", "i < d", "d > j", "d >= 1.5", "d > 0", "d <= 0", "d = 0", "d <> 2.5", "d < -1", "0 > d",
+		"i > 2.5", "i <= 2.5", "i = 2.0", "i <> 2.5", "i >= -2.5", "2 < i", "i <> 3", "3 = i",
+		"k >= 9223372036854775807", "k > 9223372036854775806", "k < 9300000000000000000.0", "k > 2.5", "k <> d", "d > 9007199254740993",
+		"s > 'b'", "s = 'a'", "'b' <= s", "s <> ''",
+		"t > {d '2000-01-03'}", "t = {d '2000-01-02'}", "{d '2000-01-04'} >= t", "b <> b",
+		"i = 1 AND j = 2", "i = 1 OR d > 2.0", "NOT i = 1", "NOT (i = 1 AND j IS NULL)", "NOT (i > 1 OR d < 1)",
+		"i > 1 AND (s LIKE '%b%' OR d IS NULL)", "(i > 0 OR j > 0) AND (d < 2 OR s = 'a')",
+		"i BETWEEN 0 AND j", "d NOT BETWEEN 1 AND 2", "i BETWEEN -1 AND 2.5", "d BETWEEN -1 AND 2.5", "d BETWEEN 0 AND 0", "k BETWEEN 3 AND 9223372036854775807", "t BETWEEN {d '2000-01-02'} AND {d '2000-01-04'}",
+		"i IN (1, 2, 3)", "d IN (1, 2.5)", "i NOT IN (0, 4.0)", "s IN ('a', 'bc')", "s NOT IN ('a')", 
+		"i NOT IN (1, j)", "i IN (j, d, NULL)", "i IS NULL", "s IS NOT NULL", "(i + j) IS NULL", "(i > j) IS NULL",
+		"s LIKE 'b%'", "s NOT LIKE '_'", "CASE WHEN i > 1 THEN i ELSE j END",
+		"CASE i WHEN 1 THEN 'one' WHEN 2 THEN 'two' END", "CASE WHEN d > 1 THEN d END * 2",
+		"CASE WHEN i > 1 THEN i = 2 ELSE NULL END OR j = 1", "(i + 1) * (j - 1) > d", "i > 1 AND b",
+		"j <> 0 AND i / j > 0", "NULL", "i = NULL", "NULL OR i > 1",
+	};
+
+	public VectorCompilerTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(VectorCompilerTest.class);
+	}
+
+	protected void setUp() {
+		bindings.add("i", PrimitiveType.LONG);
+		bindings.add("j", PrimitiveType.LONG);
+		bindings.add("d", PrimitiveType.DOUBLE);
+		bindings.add("s", PrimitiveType.STRING);
+		bindings.add("m", PrimitiveType.DECIMAL);
+		bindings.add("b", PrimitiveType.BOOL);
+		bindings.add("t", PrimitiveType.DATE);
+		bindings.add(new Column(null, "k"), PrimitiveType.LONG, false);
+
+		Random random = new Random(42);
+		long[] i = new long[SIZE], j = new long[SIZE], k = new long[SIZE], t = new long[SIZE];
+		double[] d = new double[SIZE];
+		int[] s = new int[SIZE];
+		boolean[] b = new boolean[SIZE];
+		PrimitiveValue[] m = new PrimitiveValue[SIZE];
+		boolean[][] nulls = new boolean[7][SIZE];
+		long[] extremes = { Long.MAX_VALUE, Long.MIN_VALUE, 2, 3 };
+		double[] specials = { Double.NaN, -0.0, 0.0, 1.5, 2.5, -1, Double.POSITIVE_INFINITY, 9007199254740992.0 };
+		for (int r = 0; r < SIZE; r++) {
+			i[r] = random.nextInt(9) - 4;
+			k[r] = random.nextInt(4) == 0 ? extremes[random.nextInt(extremes.length)] : random.nextInt(9) - 4;
+			j[r] = random.nextInt(7) - 3;
+			d[r] = random.nextInt(4) == 0 ? specials[random.nextInt(specials.length)] : random.nextInt(40) / 8.0 - 2;
+			s[r] = random.nextInt(5);
+			b[r] = random.nextBoolean();
+			m[r] = new DecimalValue(random.nextInt(100) - 50, 1);
+			t[r] = new DateValue("2000-01-01").getEpochDay() + random.nextInt(5);
+			for (int c = 0; c < nulls.length; c++) {
+				nulls[c][r] = random.nextInt(8) == 0;
+			}
+			if (nulls[4][r]) { m[r] = NullValue.NULL; }
+		}
+		batch = new Batch(SIZE, ColumnVector.ofLongs(i, nulls[0]), ColumnVector.ofLongs(j, nulls[1]), 
+			ColumnVector.ofDoubles(d, nulls[2]), ColumnVector.ofStrings(s, new String[] { "", "a", "b", "bc", "abc" }, nulls[3]), 
+			ColumnVector.ofValues(PrimitiveType.DECIMAL, m), ColumnVector.ofBools(b, null), 
+			ColumnVector.ofTemporals(PrimitiveType.DATE, t, nulls[6]), ColumnVector.ofLongs(k, null));
+	}
+
+	private Expression expression(String text) throws Exception {
+		Select select = (Select) parserManager.parse("SELECT " + text + " FROM tab");
+		return ((SelectExpressionItem) ((PlainSelect) select.getSelectBody()).getSelectItems().get(0)).getExpression();
+	}
+
+	private IndexedRow row(final int r) {
+		return index -> batch.getColumn(index).get(r);
+	}
+
+	private static boolean contains(int[] rows, int n, int row) {
+		for (int k = 0; k < n; k++) {
+			if (rows[k] == row) { return true; }
+		}
+		return false;
+	}
+
+	private void assertSame(String text, Expression expression, int[] sel, int count) {
+		VectorExpression vector = compiler.compile(expression, bindings);
+		PrimitiveValue[] expected = new PrimitiveValue[count];
+		boolean condition = true;
+		for (int j = 0; j < count; j++) {
+			expected[j] = eval.eval(expression, bindings.row(row(sel == null ? j : sel[j])));
+			condition &= Eval.isNull(expected[j]) || expected[j].getType() == PrimitiveType.BOOL;
+		}
+		ColumnVector values = vector.evaluate(batch, sel == null ? null : sel.clone(), count);
+		int[] trues = new int[count], falses = new int[count];
+		int t = condition ? vector.select(batch, sel == null ? null : sel.clone(), count, trues) : 0;
+		int f = condition ? vector.selectFalse(batch, sel == null ? null : sel.clone(), count, falses) : 0;
+		for (int k = 1; k < t; k++) {
+			assertTrue(text, trues[k - 1] < trues[k]);
+		}
+		for (int j = 0; j < count; j++) {
+			int r = sel == null ? j : sel[j];
+			String message = text + " in row " + r;
+			assertEquals(message, expected[j].toString(), values.get(r).toString());
+			if (condition) {
+				assertEquals(message, Eval.isTrue(expected[j]), contains(trues, t, r));
+				assertEquals(message, !Eval.isNull(expected[j]) && !Eval.isTrue(expected[j]), contains(falses, f, r));
+			}
+		}
+		if (sel != null) {
+			for (int k = 0; k < t; k++) {
+				assertTrue(text, contains(sel, count, trues[k]));
+			}
+		}
+	}
+
+	public void testSameAsEval() throws Exception {
+		int[] sel = new int[SIZE];
+		int count = 0;
+		for (int r = 0; r < SIZE; r += 3) {
+			sel[count++] = r;
+		}
+		for (String text : EXPRESSIONS) {
+			Expression expression = expression(text);
+			assertSame(text, expression, null, SIZE);
+			assertSame(text, expression, sel, count);
+			assertSame(text, expression, null, 17);
+		}
+		assertSame("-i", new InverseExpression(new Column(null, "i")), null, SIZE);
+		assertSame("-d", new InverseExpression(new Column(null, "d")), null, SIZE);
+		assertSame("NOT b", new InverseExpression(new Column(null, "b")), null, SIZE);
+	}
+
+	public void testSelect() throws Exception {
+		VectorExpression where = compiler.compile(expression("i > 0 AND s = 'a'"), bindings);
+		int[] rows = new int[SIZE];
+		int n = where.select(batch, rows);
+		assertTrue(n > 0);
+		// selecting again from the result, in place, keeps it
+		assertEquals(n, where.select(batch, rows, n, rows));
+		assertEquals(0, where.selectFalse(batch, rows, n, new int[n]));
+		assertEquals(PrimitiveType.BOOL, where.getType());
+		assertEquals(PrimitiveType.LONG, compiler.compile(expression("i * 2 + j"), bindings).getType());
+		assertEquals(PrimitiveType.DOUBLE, compiler.compile(expression("i * 2.5"), bindings).getType());
+	}
+
+	public void testErrors() throws Exception {
+		try {
+			compiler.compile(expression("x + 1"), bindings);
+			fail();
+		} catch (EvalException e) {
+		}
+		VectorExpression divide = compiler.compile(expression("i / (j - j)"), bindings);
+		try {
+			divide.evaluate(batch, null, SIZE);
+			fail();
+		} catch (EvalException e) {
+		}
+		// the rows that are not selected are not divided
+		divide.evaluate(batch, new int[0], 0);
+		Batch big = new Batch(2, ColumnVector.ofLongs(new long[] { 1, Long.MAX_VALUE }, null));
+		Bindings one = new Bindings();
+		one.add("i", PrimitiveType.LONG);
+		VectorExpression overflow = compiler.compile(expression("i * i > 0"), one);
+		assertEquals(1, overflow.select(big, new int[] { 0 }, 1, new int[1]));
+		try {
+			overflow.select(big, new int[2]);
+			fail();
+		} catch (EvalException e) {
+		}
+		// the overflow is in a NULL row
+		big = new Batch(2, ColumnVector.ofLongs(new long[] { 1, Long.MAX_VALUE }, new boolean[] { false, true }));
+		assertEquals(1, overflow.select(big, new int[2]));
+
+		// as in Eval, the right side is not evaluated where the left side is NULL
+		Bindings two = new Bindings();
+		two.add("j", PrimitiveType.LONG);
+		two.add("d", PrimitiveType.DOUBLE);
+		VectorExpression compare = compiler.compile(expression("j <= d / (d - d)"), two);
+		Batch nulls = new Batch(2, ColumnVector.ofLongs(new long[] { 1, 2 }, new boolean[] { true, true }), 
+			ColumnVector.ofDoubles(new double[] { 1.0, 2.0 }, null));
+		assertEquals(0, compare.select(nulls, new int[2]));
+		assertEquals(0, compare.selectFalse(nulls, null, 2, new int[2]));
+		nulls = new Batch(2, ColumnVector.ofLongs(new long[] { 1, 2 }, new boolean[] { true, false }), 
+			ColumnVector.ofDoubles(new double[] { 1.0, 2.0 }, null));
+		assertEquals(0, compare.select(nulls, new int[] { 0 }, 1, new int[1]));
+		try {
+			compare.select(nulls, new int[2]);
+			fail();
+		} catch (EvalException e) {
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package net.sf.jsqlparser.test.select;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.test.simpleparsing.CCJSqlParserManagerTest;
+
+/**
+ * Compares parsing through a Reader (SimpleCharStream) with parsing a String in 
+ * place (CharSequenceCharStream), on the statements used by SpeedTest.
+ */
+public class CharStreamSpeedTest extends TestCase {
+	private final static int NUM_REPS = 200;
+	private CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public CharStreamSpeedTest(String arg0) {
+		super(arg0);
+	}
+
+	public void testSpeed() throws Exception {
+		List<String> statementsList = loadStatements();
+
+		// it seems that the very first parsing takes a while, so warm up both paths
+		for (String statement : statementsList) {
+			parserManager.parse(new StringReader(statement));
+			parserManager.parse(statement);
+		}
+
+		for (int round = 0; round < 2; round++) {
+			long time = System.currentTimeMillis();
+			for (int i = 0; i < NUM_REPS; i++) {
+				for (String statement : statementsList) {
+					parserManager.parse(new StringReader(statement));
+				}
+			}
+			long readerTime = System.currentTimeMillis() - time;
+
+			time = System.currentTimeMillis();
+			for (int i = 0; i < NUM_REPS; i++) {
+				for (String statement : statementsList) {
+					parserManager.parse(statement);
+				}
+			}
+			long sequenceTime = System.currentTimeMillis() - time;
+
+			int numTests = NUM_REPS * statementsList.size();
+			System.out.println(numTests + " statements parsed from a Reader in " + readerTime + " milliseconds");
+			System.out.println(numTests + " statements parsed from a String in " + sequenceTime + " milliseconds");
+		}
+	}
+
+	/**
+	 * @return    The statements in testfiles/simple_parsing.txt and the valid ones in 
+	 *            testfiles/RUBiS-select-requests.txt
+	 */
+	public static List<String> loadStatements() throws Exception {
+		List<String> statementsList = new ArrayList<String>();
+		BufferedReader in = new BufferedReader(new FileReader("testfiles" + File.separator + "simple_parsing.txt"));
+		while (true) {
+			String statement = CCJSqlParserManagerTest.getStatement(in);
+			if (statement == null)
+				break;
+			statementsList.add(statement);
+		}
+		in.close();
+
+		in = new BufferedReader(new FileReader("testfiles" + File.separator + "RUBiS-select-requests.txt"));
+		while (true) {
+			String line = CCJSqlParserManagerTest.getLine(in);
+			if (line == null) {
+				break;
+			}
+			if (line.length() == 0)
+				continue;
+
+			if (!line.equals("#begin"))
+				break;
+			line = CCJSqlParserManagerTest.getLine(in);
+			StringBuffer buf = new StringBuffer(line);
+			while (true) {
+				line = CCJSqlParserManagerTest.getLine(in);
+				if (line.equals("#end")) {
+					break;
+				}
+				buf.append("\n");
+				buf.append(line);
+			}
+			if (!CCJSqlParserManagerTest.getLine(in).equals("true")) {
+				continue;
+			}
+			statementsList.add(buf.toString());
+
+			// columns, tables, where columns and type
+			for (int i = 0; i < 4; i++) {
+				CCJSqlParserManagerTest.getLine(in);
+			}
+		}
+		in.close();
+		return statementsList;
+	}
+
+	public static void main(String[] args) {
+		TestRunner.run(CharStreamSpeedTest.class);
+	}
+}
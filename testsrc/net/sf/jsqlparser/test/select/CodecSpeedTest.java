@@ -0,0 +1,75 @@
+package net.sf.jsqlparser.test.select;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.StatementCodec;
+
+/**
+ * Compares parsing the statements used by SpeedTest with decoding their
+ * StatementCodec records.
+ */
+public class CodecSpeedTest extends TestCase {
+	private final static int NUM_REPS = 200;
+	private CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public CodecSpeedTest(String arg0) {
+		super(arg0);
+	}
+
+	public void testSpeed() throws Exception {
+		List<String> statementsList = CharStreamSpeedTest.loadStatements();
+		StatementCodec codec = new StatementCodec();
+		List<byte[]> records = new ArrayList<byte[]>();
+		long sqlBytes = 0, recordBytes = 0;
+		for (String statement : statementsList) {
+			Statement parsed = parserManager.parse(statement);
+			byte[] record = codec.encode(parsed);
+			records.add(record);
+			sqlBytes += statement.length();
+			recordBytes += record.length;
+		}
+		System.out.println(statementsList.size() + " statements: " + sqlBytes + " characters of SQL, " 
+			+ recordBytes + " bytes of records");
+
+		// warm up both paths
+		for (int i = 0; i < NUM_REPS / 10; i++) {
+			for (String statement : statementsList) {
+				parserManager.parse(statement);
+			}
+			for (byte[] record : records) {
+				codec.decode(record);
+			}
+		}
+
+		for (int round = 0; round < 2; round++) {
+			long time = System.currentTimeMillis();
+			for (int i = 0; i < NUM_REPS; i++) {
+				for (String statement : statementsList) {
+					parserManager.parse(statement);
+				}
+			}
+			long parseTime = System.currentTimeMillis() - time;
+
+			time = System.currentTimeMillis();
+			for (int i = 0; i < NUM_REPS; i++) {
+				for (byte[] record : records) {
+					codec.decode(record);
+				}
+			}
+			long decodeTime = System.currentTimeMillis() - time;
+
+			int numTests = NUM_REPS * statementsList.size();
+			System.out.println(numTests + " statements parsed in " + parseTime + " milliseconds");
+			System.out.println(numTests + " statements decoded in " + decodeTime + " milliseconds");
+		}
+	}
+
+	public static void main(String[] args) {
+		TestRunner.run(CodecSpeedTest.class);
+	}
+}
@@ -0,0 +1,76 @@
+package net.sf.jsqlparser.test.select;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+
+/**
+ * Compares toString() with StatementDeParser, on the statements used by
+ * SpeedTest and on a UNION of many branches, where toString() copies the
+ * text built so far once per branch.
+ */
+public class DeParserSpeedTest extends TestCase {
+	private final static int NUM_REPS = 200;
+	private final static int UNION_BRANCHES = 1000;
+	private CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public DeParserSpeedTest(String arg0) {
+		super(arg0);
+	}
+
+	public void testSpeed() throws Exception {
+		List<String> statementsList = CharStreamSpeedTest.loadStatements();
+		Statement[] statements = new Statement[statementsList.size()];
+		for (int i = 0; i < statements.length; i++) {
+			statements[i] = parserManager.parse(statementsList.get(i));
+		}
+		time(statements.length + " statements", statements, NUM_REPS);
+
+		StringBuilder union = new StringBuilder();
+		for (int i = 0; i < UNION_BRANCHES; i++) {
+			if (i > 0) {
+				union.append(" UNION ALL ");
+			}
+			union.append("SELECT a, b + ").append(i).append(" FROM t").append(i).append(" WHERE c = 'x").append(i).append("'");
+		}
+		Statement[] unions = { parserManager.parse(union.toString()) };
+		time(UNION_BRANCHES + " branch union", unions, 20);
+	}
+
+	private void time(String name, Statement[] statements, int reps) {
+		// warm up both paths
+		for (int i = 0; i < reps / 10 + 1; i++) {
+			for (Statement statement : statements) {
+				statement.toString();
+				StatementDeParser.deparse(statement);
+			}
+		}
+
+		long time = System.currentTimeMillis();
+		for (int i = 0; i < reps; i++) {
+			for (Statement statement : statements) {
+				statement.toString();
+			}
+		}
+		long toStringTime = System.currentTimeMillis() - time;
+
+		time = System.currentTimeMillis();
+		for (int i = 0; i < reps; i++) {
+			for (Statement statement : statements) {
+				StatementDeParser.deparse(statement);
+			}
+		}
+		long deparseTime = System.currentTimeMillis() - time;
+
+		System.out.println(name + " x " + reps + ": toString in " + toStringTime + " milliseconds");
+		System.out.println(name + " x " + reps + ": deparsed in " + deparseTime + " milliseconds");
+	}
+
+	public static void main(String[] args) {
+		TestRunner.run(DeParserSpeedTest.class);
+	}
+}
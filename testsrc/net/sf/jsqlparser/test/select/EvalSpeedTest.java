@@ -0,0 +1,249 @@
+package net.sf.jsqlparser.test.select;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+import net.sf.jsqlparser.eval.Batch;
+import net.sf.jsqlparser.eval.Bindings;
+import net.sf.jsqlparser.eval.ColumnVector;
+import net.sf.jsqlparser.eval.CompiledExpression;
+import net.sf.jsqlparser.eval.Eval;
+import net.sf.jsqlparser.eval.ExpressionCompiler;
+import net.sf.jsqlparser.eval.IndexedRow;
+import net.sf.jsqlparser.eval.Row;
+import net.sf.jsqlparser.eval.TieredExpression;
+import net.sf.jsqlparser.eval.VectorCompiler;
+import net.sf.jsqlparser.eval.VectorExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.PrimitiveValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+
+/**
+ * Times Eval, ExpressionCompiler, TieredExpression and VectorCompiler on a 
+ * few WHERE clauses over a table of random rows, and a filter written by 
+ * hand for the first.
+ */
+public class EvalSpeedTest extends TestCase {
+	private final static int NUM_ROWS = 100000;
+	private final static int NUM_REPS = 20;
+	private final static int BATCH_SIZE = 1024;
+	static final String[] COLUMNS = { "id", "price", "qty", "name", "discount" };
+	static final String[] CONDITIONS = {
+		"price > 500.0",
+		"qty BETWEEN 10 AND 20 AND discount IS NOT NULL",
+		"id IN (1, 17, 42, 99, 512, 777, 1024) OR name LIKE 'a%z'",
+		"price * (1 - discount) >= 250 AND qty <> 3",
+		"CASE WHEN qty > 50 THEN price ELSE price / 2 END < 100 OR NOT name = 'abc'",
+	};
+
+	private CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public EvalSpeedTest(String arg0) {
+		super(arg0);
+	}
+
+	/**
+	 * A row of the random table, which looks columns up by name for Eval and 
+	 * by position, unboxed, for compiled expressions.
+	 */
+	static class ArrayRow implements Row, IndexedRow {
+		static final Map<String, Integer> INDEX = new HashMap<String, Integer>();
+		static {
+			for (int i = 0; i < COLUMNS.length; i++) {
+				INDEX.put(COLUMNS[i], i);
+			}
+		}
+		final PrimitiveValue[] values;
+		final long[] longs;
+		final double[] doubles;
+		final boolean[] nulls;
+
+		ArrayRow(PrimitiveValue[] values) {
+			this.values = values;
+			longs = new long[values.length];
+			doubles = new double[values.length];
+			nulls = new boolean[values.length];
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] instanceof LongValue) { longs[i] = ((LongValue)values[i]).getValue(); }
+				if (values[i] instanceof DoubleValue) { doubles[i] = ((DoubleValue)values[i]).getValue(); }
+				nulls[i] = values[i] instanceof NullValue;
+			}
+		}
+
+		public PrimitiveValue get(Column column) {
+			Integer index = INDEX.get(column.getColumnName());
+			return index == null ? null : values[index];
+		}
+
+		public PrimitiveValue get(int index) { return values[index]; }
+		public boolean isNull(int index) { return nulls[index]; }
+		public long getLong(int index) { return longs[index]; }
+		public double getDouble(int index) { return doubles[index]; }
+	}
+
+	static Bindings bindings() {
+		Bindings bindings = new Bindings();
+		bindings.add(new Column(null, "id"), PrimitiveType.LONG, false);
+		bindings.add(new Column(null, "price"), PrimitiveType.DOUBLE, false);
+		bindings.add(new Column(null, "qty"), PrimitiveType.LONG, false);
+		bindings.add(new Column(null, "name"), PrimitiveType.STRING, false);
+		bindings.add(new Column(null, "discount"), PrimitiveType.DOUBLE, true);
+		return bindings;
+	}
+
+	static ArrayRow[] rows(int count) {
+		Random random = new Random(42);
+		ArrayRow[] rows = new ArrayRow[count];
+		for (int i = 0; i < count; i++) {
+			StringBuilder name = new StringBuilder();
+			for (int j = random.nextInt(6); j >= 0; j--) {
+				name.append((char)('a' + random.nextInt(26)));
+			}
+			rows[i] = new ArrayRow(new PrimitiveValue[] {
+				LongValue.valueOf(random.nextInt(2048)),
+				new DoubleValue(random.nextDouble() * 1000),
+				LongValue.valueOf(random.nextInt(100)),
+				new StringValue(name.toString()),
+				random.nextInt(4) == 0 ? NullValue.NULL : new DoubleValue(random.nextDouble() / 2)
+			});
+		}
+		return rows;
+	}
+
+	/**
+	 * The rows as batches of column vectors, with the names in one dictionary.
+	 */
+	static Batch[] batches(ArrayRow[] rows, int size) {
+		Map<String, Integer> codes = new HashMap<String, Integer>();
+		List<String> dictionary = new ArrayList<String>();
+		for (ArrayRow row : rows) {
+			String name = ((StringValue)row.values[3]).getValue();
+			if (!codes.containsKey(name)) {
+				codes.put(name, dictionary.size());
+				dictionary.add(name);
+			}
+		}
+		String[] names = dictionary.toArray(new String[dictionary.size()]);
+		Batch[] ret = new Batch[(rows.length + size - 1) / size];
+		for (int b = 0; b < ret.length; b++) {
+			int count = Math.min(size, rows.length - b * size);
+			long[] id = new long[count], qty = new long[count];
+			double[] price = new double[count], discount = new double[count];
+			int[] name = new int[count];
+			boolean[] nulls = new boolean[count];
+			for (int i = 0; i < count; i++) {
+				ArrayRow row = rows[b * size + i];
+				id[i] = row.longs[0];
+				price[i] = row.doubles[1];
+				qty[i] = row.longs[2];
+				name[i] = codes.get(((StringValue)row.values[3]).getValue());
+				discount[i] = row.doubles[4];
+				nulls[i] = row.nulls[4];
+			}
+			ret[b] = new Batch(count, ColumnVector.ofLongs(id, null), ColumnVector.ofDoubles(price, null), 
+				ColumnVector.ofLongs(qty, null), ColumnVector.ofStrings(name, names, null), 
+				ColumnVector.ofDoubles(discount, nulls));
+		}
+		return ret;
+	}
+
+	Expression where(String condition) throws Exception {
+		Select select = (Select) parserManager.parse("SELECT * FROM items WHERE " + condition);
+		return ((PlainSelect) select.getSelectBody()).getWhere();
+	}
+
+	public void testSpeed() throws Exception {
+		ArrayRow[] rows = rows(NUM_ROWS);
+		Eval eval = new Eval();
+		ExpressionCompiler compiler = new ExpressionCompiler();
+		VectorCompiler vectorCompiler = new VectorCompiler(compiler);
+		Batch[] batches = batches(rows, BATCH_SIZE);
+		int[] selection = new int[BATCH_SIZE];
+		Bindings bindings = bindings();
+		for (String condition : CONDITIONS) {
+			Expression where = where(condition);
+			CompiledExpression compiled = compiler.compile(where, bindings);
+			TieredExpression tiered = new TieredExpression(where, bindings);
+			VectorExpression vector = vectorCompiler.compile(where, bindings);
+			System.out.println(condition);
+			for (int round = 0; round < 2; round++) {
+				int matches = 0;
+				long time = System.currentTimeMillis();
+				for (int i = 0; i < NUM_REPS; i++) {
+					for (ArrayRow row : rows) {
+						if (eval.test(where, row)) { matches++; }
+					}
+				}
+				long evalTime = System.currentTimeMillis() - time;
+
+				time = System.currentTimeMillis();
+				for (int i = 0; i < NUM_REPS; i++) {
+					for (ArrayRow row : rows) {
+						if (compiled.evalBool(row)) { matches--; }
+					}
+				}
+				long compiledTime = System.currentTimeMillis() - time;
+
+				time = System.currentTimeMillis();
+				for (int i = 0; i < NUM_REPS; i++) {
+					for (ArrayRow row : rows) {
+						if (tiered.evalBool(row)) { matches++; }
+					}
+				}
+				long tieredTime = System.currentTimeMillis() - time;
+
+				time = System.currentTimeMillis();
+				for (int i = 0; i < NUM_REPS; i++) {
+					for (Batch batch : batches) {
+						matches -= vector.select(batch, selection);
+					}
+				}
+				long vectorTime = System.currentTimeMillis() - time;
+				assertEquals(condition, 0, matches);
+				assertTrue(condition, count(compiled, rows) > 0);
+
+				System.out.println("  " + NUM_REPS * NUM_ROWS + " rows: interpreted in " + evalTime 
+					+ " ms, compiled in " + compiledTime + " ms, tiered in " + tieredTime 
+					+ " ms, vectorized in " + vectorTime + " ms");
+			}
+		}
+
+		for (int round = 0; round < 2; round++) {
+			int matches = 0;
+			long time = System.currentTimeMillis();
+			for (int i = 0; i < NUM_REPS; i++) {
+				for (ArrayRow row : rows) {
+					if (!row.isNull(1) && row.getDouble(1) > 500.0) { matches++; }
+				}
+			}
+			System.out.println(NUM_REPS * NUM_ROWS + " rows filtered by hand in " 
+				+ (System.currentTimeMillis() - time) + " ms: " + CONDITIONS[0]);
+			assertEquals(matches, NUM_REPS * count(compiler.compile(where(CONDITIONS[0]), bindings), rows));
+		}
+	}
+
+	private static int count(CompiledExpression condition, ArrayRow[] rows) {
+		int ret = 0;
+		for (ArrayRow row : rows) {
+			if (condition.evalBool(row)) { ret++; }
+		}
+		return ret;
+	}
+
+	public static void main(String[] args) {
+		TestRunner.run(EvalSpeedTest.class);
+	}
+}
@@ -0,0 +1,104 @@
+package net.sf.jsqlparser.test.select;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+import net.sf.jsqlparser.eval.Batch;
+import net.sf.jsqlparser.eval.Bindings;
+import net.sf.jsqlparser.eval.ColumnVector;
+import net.sf.jsqlparser.eval.ExpressionCompiler;
+import net.sf.jsqlparser.eval.FilterKernels;
+import net.sf.jsqlparser.eval.VectorCompiler;
+import net.sf.jsqlparser.eval.VectorExpression;
+import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+
+/**
+ * Times the scalar filter kernels against those of {@link FilterKernels#get}, 
+ * which are the SIMD ones if this runs with --add-modules jdk.incubator.vector, 
+ * on comparisons of a LONG, DOUBLE or DATE column with constants.
+ */
+public class FilterKernelSpeedTest extends TestCase {
+	private final static int NUM_BATCHES = 1000;
+	private final static int BATCH_SIZE = 1024;
+	private final static int NUM_REPS = 20;
+	static final String[] CONDITIONS = {
+		"qty > 50", "qty = 7", "price <= 250.0", "price BETWEEN 100.0 AND 200.0", 
+		"shipped BETWEEN {d '2004-01-01'} AND {d '2004-03-31'}", "qty > 50 AND price <= 250.0",
+	};
+
+	private CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public FilterKernelSpeedTest(String arg0) {
+		super(arg0);
+	}
+
+	static Batch[] batches() {
+		Random random = new Random(42);
+		long epoch = new DateValue("2003-01-01").getEpochDay();
+		Batch[] ret = new Batch[NUM_BATCHES];
+		for (int b = 0; b < NUM_BATCHES; b++) {
+			long[] qty = new long[BATCH_SIZE], shipped = new long[BATCH_SIZE];
+			double[] price = new double[BATCH_SIZE];
+			for (int i = 0; i < BATCH_SIZE; i++) {
+				qty[i] = random.nextInt(100);
+				price[i] = random.nextDouble() * 1000;
+				shipped[i] = epoch + random.nextInt(730);
+			}
+			ret[b] = new Batch(BATCH_SIZE, ColumnVector.ofLongs(qty, null), ColumnVector.ofDoubles(price, null), 
+				ColumnVector.ofTemporals(PrimitiveType.DATE, shipped, null));
+		}
+		return ret;
+	}
+
+	public void testSpeed() throws Exception {
+		Batch[] batches = batches();
+		Bindings bindings = new Bindings();
+		bindings.add(new Column(null, "qty"), PrimitiveType.LONG, false);
+		bindings.add(new Column(null, "price"), PrimitiveType.DOUBLE, false);
+		bindings.add(new Column(null, "shipped"), PrimitiveType.DATE, false);
+		FilterKernels best = FilterKernels.get();
+		VectorCompiler scalar = new VectorCompiler(new ExpressionCompiler(), FilterKernels.scalar());
+		VectorCompiler simd = new VectorCompiler(new ExpressionCompiler(), best);
+		int[] selection = new int[BATCH_SIZE];
+		System.out.println("kernels: " + best.getName());
+		for (String condition : CONDITIONS) {
+			Select select = (Select) parserManager.parse("SELECT * FROM items WHERE " + condition);
+			VectorExpression a = scalar.compile(((PlainSelect) select.getSelectBody()).getWhere(), bindings);
+			VectorExpression b = simd.compile(((PlainSelect) select.getSelectBody()).getWhere(), bindings);
+			System.out.println(condition);
+			for (int round = 0; round < 3; round++) {
+				int matches = 0;
+				long time = System.nanoTime();
+				for (int i = 0; i < NUM_REPS; i++) {
+					for (Batch batch : batches) {
+						matches += a.select(batch, selection);
+					}
+				}
+				long scalarTime = System.nanoTime() - time;
+
+				time = System.nanoTime();
+				for (int i = 0; i < NUM_REPS; i++) {
+					for (Batch batch : batches) {
+						matches -= b.select(batch, selection);
+					}
+				}
+				long bestTime = System.nanoTime() - time;
+				assertEquals(condition, 0, matches);
+
+				long rows = (long) NUM_REPS * NUM_BATCHES * BATCH_SIZE;
+				System.out.println("  " + rows + " rows: scalar " + rows * 1000 / scalarTime + " rows/us, " 
+					+ best.getName() + " " + rows * 1000 / bestTime + " rows/us");
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		TestRunner.run(FilterKernelSpeedTest.class);
+	}
+}
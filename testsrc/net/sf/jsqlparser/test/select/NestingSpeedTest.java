@@ -0,0 +1,116 @@
+package net.sf.jsqlparser.test.select;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * Parses expressions, conditions and joins nested 1 to 64 levels deep.  The time per 
+ * statement should grow linearly with the depth.
+ */
+public class NestingSpeedTest extends TestCase {
+	private final static int NUM_REPS = 200;
+	private final static int MAX_DEPTH = 64;
+	private CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public NestingSpeedTest(String arg0) {
+		super(arg0);
+	}
+
+	public void testSpeed() throws Exception {
+		// warm up
+		for (int i = 0; i < NUM_REPS; i++) {
+			parserManager.parse(nestedExpression(MAX_DEPTH));
+			parserManager.parse(nestedCondition(MAX_DEPTH));
+			parserManager.parse(nestedJoin(MAX_DEPTH));
+		}
+
+		for (int depth = 1; depth <= MAX_DEPTH; depth *= 2) {
+			String expression = nestedExpression(depth);
+			String condition = nestedCondition(depth);
+			String join = nestedJoin(depth);
+
+			long time = System.nanoTime();
+			for (int i = 0; i < NUM_REPS; i++) {
+				parserManager.parse(expression);
+			}
+			long expressionTime = (System.nanoTime() - time) / NUM_REPS;
+
+			time = System.nanoTime();
+			for (int i = 0; i < NUM_REPS; i++) {
+				parserManager.parse(condition);
+			}
+			long conditionTime = (System.nanoTime() - time) / NUM_REPS;
+
+			time = System.nanoTime();
+			for (int i = 0; i < NUM_REPS; i++) {
+				parserManager.parse(join);
+			}
+			long joinTime = (System.nanoTime() - time) / NUM_REPS;
+
+			System.out.println("depth " + depth + ": " + expressionTime / 1000 + " microseconds per expression, " 
+				+ conditionTime / 1000 + " microseconds per condition, " + joinTime / 1000 + " microseconds per join");
+		}
+	}
+
+	public void testNesting() throws Exception {
+		Statement parsedStm = parserManager.parse(nestedCondition(2));
+		assertEquals("SELECT * FROM t WHERE (((a0 = 0) AND (((a1 = 1) AND b IN (1, 2)) OR NOT (c1 BETWEEN 0 AND 1))) OR NOT (c0 BETWEEN 0 AND 1))", 
+			parsedStm.toString());
+		parsedStm = parserManager.parse(nestedExpression(MAX_DEPTH));
+		assertTrue(parsedStm.toString().startsWith("SELECT * FROM t WHERE (((a0 + ((a1 + "));
+		parsedStm = parserManager.parse(nestedJoin(2));
+		assertEquals("SELECT * FROM (((SELECT a FROM t) x JOIN u1 ON (x.a = u1.a)) JOIN u0 ON (x.a = u0.a))", 
+			parsedStm.toString());
+	}
+
+	/**
+	 * (a0 + (a1 + ... 1) * 2) * 2 > 0
+	 */
+	private static String nestedExpression(int depth) {
+		StringBuilder sb = new StringBuilder("SELECT * FROM t WHERE ");
+		for (int i = 0; i < depth; i++) {
+			sb.append("(a").append(i).append(" + ");
+		}
+		sb.append("1");
+		for (int i = 0; i < depth; i++) {
+			sb.append(") * 2");
+		}
+		return sb.append(" > 0").toString();
+	}
+
+	/**
+	 * (a0 = 0 AND (a1 = 1 AND ... b IN (1, 2)) OR NOT c1 BETWEEN 0 AND 1) OR NOT c0 BETWEEN 0 AND 1)
+	 */
+	private static String nestedCondition(int depth) {
+		StringBuilder sb = new StringBuilder("SELECT * FROM t WHERE ");
+		for (int i = 0; i < depth; i++) {
+			sb.append("(a").append(i).append(" = ").append(i).append(" AND ");
+		}
+		sb.append("b IN (1, 2)");
+		for (int i = depth - 1; i >= 0; i--) {
+			sb.append(" OR NOT c").append(i).append(" BETWEEN 0 AND 1)");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * (((SELECT a FROM t) x JOIN u1 ON x.a = u1.a) JOIN u0 ON x.a = u0.a)
+	 */
+	private static String nestedJoin(int depth) {
+		StringBuilder sb = new StringBuilder("SELECT * FROM ");
+		for (int i = 0; i < depth; i++) {
+			sb.append("(");
+		}
+		sb.append("(SELECT a FROM t) x");
+		for (int i = depth - 1; i >= 0; i--) {
+			sb.append(" JOIN u").append(i).append(" ON x.a = u").append(i).append(".a)");
+		}
+		return sb.toString();
+	}
+
+	public static void main(String[] args) {
+		TestRunner.run(NestingSpeedTest.class);
+	}
+}
@@ -4,6 +4,9 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import junit.framework.TestCase;
 import net.sf.jsqlparser.JSQLParserException;
@@ -39,6 +42,45 @@ public class CCJSqlParserManagerTest extends TestCase {
 		}
 	}
 
+	public void testParseAfterError() throws Exception {
+		CCJSqlParserManager parserManager = new CCJSqlParserManager(1);
+		try {
+			parserManager.parse(new StringReader("SELECT * FROM WHERE"));
+			fail("parsed an invalid statement");
+		} catch (JSQLParserException e) {
+		}
+		// the pooled parser must have been reset by the failed parse
+		Statement parsedStm = parserManager.parse(new StringReader("SELECT a FROM mytable"));
+		assertEquals("SELECT a FROM mytable", parsedStm.toString());
+	}
+
+	public void testConcurrentParse() throws Exception {
+		final CCJSqlParserManager parserManager = new CCJSqlParserManager(2);
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			final int id = i;
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						for (int j = 0; j < 200; j++) {
+							String statement = "SELECT col" + id + " FROM tab" + j + " WHERE x = " + j;
+							Statement parsedStm = parserManager.parse(new StringReader(statement));
+							assertEquals("SELECT col" + id + " FROM tab" + j + " WHERE (x = " + j + ")", parsedStm.toString());
+						}
+					} catch (Throwable e) {
+						errors.add(e);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (int i = 0; i < threads.length; i++) {
+			threads[i].join();
+		}
+		assertTrue(errors.toString(), errors.isEmpty());
+	}
+
 	public static String getStatement(BufferedReader in) throws Exception {
 		StringBuffer buf = new StringBuffer();
 		String line = null;
@@ -0,0 +1,143 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.StringReader;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.parser.CachingParser;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.AstCopier;
+import net.sf.jsqlparser.util.NodeCounter;
+
+public class CachingParserTest extends TestCase {
+
+	public CachingParserTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(CachingParserTest.class);
+	}
+
+	public void testCopyMatchesOriginal() throws Exception {
+		CCJSqlParserManager parserManager = new CCJSqlParserManager();
+		BufferedReader in = new BufferedReader(new FileReader("testfiles" + File.separator + "simple_parsing.txt"));
+		String statement;
+		while ((statement = CCJSqlParserManagerTest.getStatement(in)) != null) {
+			Statement parsedStm = parserManager.parse(new StringReader(statement));
+			Statement copy = new AstCopier().copy(parsedStm);
+			assertNotSame(parsedStm, copy);
+			// Update and ALL/ANY comparisons have no toString to compare
+			if (parsedStm.toString().indexOf('@') >= 0)
+				continue;
+			assertEquals(statement, parsedStm.toString(), copy.toString());
+		}
+	}
+
+	public void testHitReturnsPrivateCopy() throws Exception {
+		CachingParser parser = new CachingParser(10);
+		String sql = "SELECT a FROM mytable WHERE b = 1";
+		Select first = (Select) parser.parse(sql);
+		assertEquals(0, parser.getHits());
+		assertEquals(1, parser.getMisses());
+
+		// modifying what we were handed must not leak into the cache
+		EqualsTo where = (EqualsTo) ((PlainSelect) first.getSelectBody()).getWhere();
+		where.setRightExpression(new LongValue(2));
+
+		Statement second = parser.parse(new StringReader(sql));
+		assertEquals(1, parser.getHits());
+		assertNotSame(first, second);
+		assertEquals("SELECT a FROM mytable WHERE (b = 1)", second.toString());
+
+		assertSame(parser.parseShared(sql), parser.parseShared(sql));
+		assertEquals(3, parser.getHits());
+	}
+
+	public void testEvictByCount() throws Exception {
+		CachingParser parser = new CachingParser(2);
+		parser.parse("SELECT a FROM t1");
+		parser.parse("SELECT a FROM t2");
+		parser.parse("SELECT a FROM t1");
+		parser.parse("SELECT a FROM t3");
+		assertEquals(2, parser.size());
+		assertEquals(1, parser.getEvictions());
+
+		// t2 was the least recently used, so it is the one that went
+		parser.parse("SELECT a FROM t1");
+		parser.parse("SELECT a FROM t3");
+		assertEquals(3, parser.getHits());
+		parser.parse("SELECT a FROM t2");
+		assertEquals(3, parser.getHits());
+	}
+
+	public void testEvictByWeight() throws Exception {
+		AstCopier counter = new AstCopier();
+		String small = "SELECT a FROM t";
+		counter.copy(new CCJSqlParserManager().parse(new StringReader(small)));
+		int smallWeight = counter.getNodeCount();
+
+		CachingParser parser = new CachingParser(new CCJSqlParserManager(), 100, 2 * smallWeight);
+		parser.parse(small);
+		parser.parse("SELECT b FROM u");
+		assertEquals(2 * smallWeight, parser.getWeight());
+		parser.parse("SELECT c FROM v");
+		assertEquals(2, parser.size());
+		assertEquals(1, parser.getEvictions());
+
+		// too heavy to ever be cached
+		parser.parse("SELECT a, b, c, d FROM t WHERE a = 1 AND b = 2");
+		assertEquals(2, parser.size());
+		assertEquals(2 * smallWeight, parser.getWeight());
+	}
+
+	public void testCountMatchesCopier() throws Exception {
+		CCJSqlParserManager parserManager = new CCJSqlParserManager();
+		BufferedReader in = new BufferedReader(new FileReader("testfiles" + File.separator + "simple_parsing.txt"));
+		String statement;
+		while ((statement = CCJSqlParserManagerTest.getStatement(in)) != null) {
+			assertCountMatches(parserManager.parse(new StringReader(statement)));
+		}
+		assertCountMatches(parserManager.parse(new StringReader(
+			"SELECT CASE WHEN a IN (1, 2) THEN -b ELSE c END FROM t WHERE d IN (SELECT e FROM u)")));
+		assertCountMatches(parserManager.parse(new StringReader(
+			"CREATE TABLE t (a INTEGER, b VARCHAR (10), PRIMARY KEY (a))")));
+
+		CachingParser parser = new CachingParser(10);
+		String sql = "SELECT a FROM t WHERE b IN (1, 2, 3) GROUP BY a";
+		parser.parse(sql);
+		long weight = parser.getWeight();
+		parser.clear();
+		parser.parseShared(sql);
+		assertEquals(weight, parser.getWeight());
+		parser.clear();
+		parser.parseCopyOnWrite(sql);
+		assertEquals(weight, parser.getWeight());
+	}
+
+	private static void assertCountMatches(Statement statement) {
+		AstCopier copier = new AstCopier();
+		copier.copy(statement);
+		assertEquals(statement.toString(), copier.getNodeCount(), NodeCounter.count(statement));
+	}
+
+	public void testFailuresAreNotCached() throws Exception {
+		CachingParser parser = new CachingParser(10);
+		for (int i = 0; i < 2; i++) {
+			try {
+				parser.parse("SELECT * FROM WHERE");
+				fail("parsed an invalid statement");
+			} catch (net.sf.jsqlparser.JSQLParserException e) {
+			}
+		}
+		assertEquals(0, parser.size());
+		assertEquals(2, parser.getMisses());
+	}
+}
@@ -0,0 +1,111 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.parser.CCJSqlParserTokenManager;
+import net.sf.jsqlparser.parser.CharSequenceCharStream;
+import net.sf.jsqlparser.parser.ReaderCharStream;
+import net.sf.jsqlparser.parser.SimpleCharStream;
+import net.sf.jsqlparser.parser.Token;
+import net.sf.jsqlparser.parser.TokenMgrError;
+
+public class CharSequenceCharStreamTest extends TestCase {
+
+	public CharSequenceCharStreamTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(CharSequenceCharStreamTest.class);
+	}
+
+	public void testSameTokens() throws Exception {
+		assertSameTokens("SELECT a\tFROM\r\n\tb WHERE\rc = 'x\ny' -- comment\n AND d = 1.5e3");
+		assertSameTokens("");
+		assertSameTokens("SELECT a FROM b WHERE c = 'unterminated");
+		assertSameTokens("SELECT # FROM b");
+		assertSameTokens("INSERT INTO t VALUES (X'00ff', x'')");
+
+		// tokens longer than the initial buffer make the reader streams grow it
+		StringBuilder longToken = new StringBuilder("SELECT a FROM b WHERE c = '");
+		for (int i = 0; i < 20000; i++) {
+			longToken.append(i % 100 == 99 ? '\n' : (char) ('a' + i % 26));
+		}
+		assertSameTokens(longToken.append("' AND d = 1").toString());
+
+		StringBuffer all = new StringBuffer();
+		BufferedReader in = new BufferedReader(new FileReader("testfiles" + File.separator + "simple_parsing.txt"));
+		String statement;
+		while ((statement = CCJSqlParserManagerTest.getStatement(in)) != null) {
+			assertSameTokens(statement);
+			all.append(statement);
+		}
+		assertSameTokens(all.toString());
+	}
+
+	public void testParse() throws Exception {
+		CCJSqlParserManager parserManager = new CCJSqlParserManager(1);
+		String sql = "SELECT a FROM mytable WHERE b = 'x'";
+		assertEquals("SELECT a FROM mytable WHERE (b = 'x')", parserManager.parse(sql).toString());
+		char[] chars = ("  " + sql + "  ").toCharArray();
+		assertEquals("SELECT a FROM mytable WHERE (b = 'x')", 
+			parserManager.parse(CharBuffer.wrap(chars, 2, sql.length())).toString());
+		// pooled parsers move between both kinds of stream
+		assertEquals("SELECT a FROM mytable WHERE (b = 'x')", 
+			parserManager.parse(new StringReader(sql)).toString());
+		assertEquals("SELECT a FROM mytable WHERE (b = 'x')", parserManager.parse(sql).toString());
+	}
+
+	public void testErrorPosition() throws Exception {
+		CCJSqlParserManager parserManager = new CCJSqlParserManager();
+		String sql = "SELECT a\n  FROM WHERE";
+		String expected = null;
+		try {
+			parserManager.parse(new StringReader(sql));
+			fail("parsed an invalid statement");
+		} catch (JSQLParserException e) {
+			expected = e.getMessage();
+		}
+		try {
+			parserManager.parse(sql);
+			fail("parsed an invalid statement");
+		} catch (JSQLParserException e) {
+			assertEquals(expected, e.getMessage());
+			assertTrue(expected, expected.indexOf("line 2, column 8") >= 0);
+		}
+	}
+
+	private static void assertSameTokens(String sql) {
+		CCJSqlParserTokenManager expected = 
+			new CCJSqlParserTokenManager(new SimpleCharStream(new StringReader(sql)));
+		CCJSqlParserTokenManager actual = 
+			new CCJSqlParserTokenManager(new CharSequenceCharStream(sql));
+		CCJSqlParserTokenManager reader = 
+			new CCJSqlParserTokenManager(new ReaderCharStream(new StringReader(sql)));
+		while (true) {
+			String e = describe(expected);
+			assertEquals(sql, e, describe(actual));
+			assertEquals(sql, e, describe(reader));
+			if (e.startsWith("0 ") || e.startsWith("error")) {
+				break;
+			}
+		}
+	}
+
+	private static String describe(CCJSqlParserTokenManager tokens) {
+		try {
+			Token t = tokens.getNextToken();
+			return t.kind + " " + t.image + " " + t.beginLine + ":" + t.beginColumn 
+				+ "-" + t.endLine + ":" + t.endColumn;
+		} catch (TokenMgrError e) {
+			return "error " + e.getMessage();
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.parser.CachingParser;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.Limit;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.test.select.CharStreamSpeedTest;
+import net.sf.jsqlparser.util.AstCopier;
+import net.sf.jsqlparser.util.CopyOnWrite;
+
+public class CopyOnWriteTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public CopyOnWriteTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(CopyOnWriteTest.class);
+	}
+
+	public void testChangeLimit() throws Exception {
+		String sql = "SELECT a, b FROM t WHERE (a = 1) ORDER BY b LIMIT 10";
+		Statement shared = parserManager.parse(sql);
+		PlainSelect select = (PlainSelect)((Select)shared).getSelectBody();
+
+		CopyOnWrite.Edit edit = new CopyOnWrite(shared).edit();
+		Limit limit = edit.writable(select.getLimit());
+		limit.setRowCount(20);
+		limit.setOffset(40);
+
+		assertEquals(sql, shared.toString());
+		assertEquals("SELECT a, b FROM t WHERE (a = 1) ORDER BY b LIMIT 20 OFFSET 40", edit.getStatement().toString());
+		// the limit, the select body and the statement are copied; nothing else
+		assertEquals(3, edit.getCopyCount());
+		PlainSelect copy = (PlainSelect)((Select)edit.getStatement()).getSelectBody();
+		assertNotSame(select, copy);
+		assertSame(select.getWhere(), copy.getWhere());
+		assertSame(select.getFromItem(), copy.getFromItem());
+		assertSame(select.getSelectItems().get(0), copy.getSelectItems().get(0));
+		assertNotSame(select.getSelectItems(), copy.getSelectItems());
+	}
+
+	public void testInjectPredicate() throws Exception {
+		String sql = "SELECT * FROM (SELECT a FROM t WHERE (b = 2)) x WHERE (a > 1)";
+		Statement shared = parserManager.parse(sql);
+		CopyOnWrite cow = new CopyOnWrite(shared);
+		SubSelect from = (SubSelect)((PlainSelect)((Select)shared).getSelectBody()).getFromItem();
+		PlainSelect inner = (PlainSelect)from.getSelectBody();
+
+		for (int tenant = 1; tenant <= 2; tenant++) {
+			CopyOnWrite.Edit edit = cow.edit();
+			PlainSelect select = edit.writable(inner);
+			assertSame(select, edit.writable(inner));
+			assertSame(select, edit.writable(select));
+			EqualsTo restrict = new EqualsTo();
+			restrict.setLeftExpression(new Column(new Table(null, null), "tenant"));
+			restrict.setRightExpression(new LongValue("" + tenant));
+			select.setWhere(new AndExpression(select.getWhere(), restrict));
+			assertEquals("SELECT * FROM (SELECT a FROM t WHERE ((b = 2) AND (tenant = " + tenant + "))) x WHERE (a > 1)",
+				edit.getStatement().toString());
+			assertEquals(4, edit.getCopyCount());
+		}
+		assertEquals(sql, shared.toString());
+	}
+
+	public void testEveryExpression() throws Exception {
+		List<String> sql = new ArrayList<String>(CharStreamSpeedTest.loadStatements());
+		sql.add("SELECT DISTINCT ON (a) f(DISTINCT b), t.* FROM t LEFT JOIN (u JOIN v ON u.a = v.a) AS j ON t.a = j.a "
+			+ "WHERE a LIKE 'x' AND b NOT IN (SELECT c FROM w) AND c IN (1, 2) AND d IS NULL AND NOT e = 1 "
+			+ "AND e BETWEEN 1 AND 2 AND EXISTS (SELECT 1 FROM w) AND a > ALL (SELECT b FROM u) "
+			+ "AND a < ANY (SELECT c FROM u) GROUP BY a HAVING CASE a WHEN 1 THEN 2 ELSE 3 END > 1 ORDER BY a");
+		sql.add("WITH q (a) AS (SELECT a FROM t) SELECT a FROM q UNION SELECT b FROM u ORDER BY 1 LIMIT 2");
+		sql.add("INSERT INTO t (a, b) VALUES (1, a + 2)");
+		sql.add("REPLACE t SET a = 1, b = 2");
+		sql.add("UPDATE t SET a = 1, b = b + 1 WHERE c = 2");
+		sql.add("DELETE FROM t WHERE a = 1");
+		sql.add("TRUNCATE TABLE t");
+
+		for (String s : sql) {
+			Statement shared = parserManager.parse(s);
+			String text = String.valueOf(shared);
+			CopyOnWrite cow = new CopyOnWrite(shared);
+			final List<Expression> expressions = new ArrayList<Expression>();
+			new AstCopier() {
+				public Expression copy(Expression e) {
+					if (e != null) {
+						expressions.add(e);
+					}
+					return super.copy(e);
+				}
+			}.copy(shared);
+
+			for (Expression e : expressions) {
+				assertTrue(cow.contains(e));
+				CopyOnWrite.Edit edit = cow.edit();
+				Expression copy = edit.writable(e);
+				assertNotSame(s, e, copy);
+				assertEquals(e.getClass(), copy.getClass());
+				assertNotSame(shared, edit.getStatement());
+				if (text.indexOf('@') < 0) {
+					// toString is not implemented everywhere
+					assertEquals(text, edit.getStatement().toString());
+				}
+				assertEquals(text, String.valueOf(shared));
+			}
+		}
+	}
+
+	public void testNotInStatement() throws Exception {
+		CopyOnWrite cow = new CopyOnWrite(parserManager.parse("SELECT a FROM t"));
+		try {
+			cow.edit().writable(new LongValue("1"));
+			fail("Expected an exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		CopyOnWrite.Edit edit = cow.edit();
+		assertSame(cow.getStatement(), edit.getStatement());
+		assertEquals(0, edit.getCopyCount());
+	}
+
+	public void testRepeatedNode() throws Exception {
+		// one literal in two places, as an ExpressionInterner or a parser that
+		// shares its literals may build
+		Select shared = (Select)parserManager.parse("SELECT a FROM t WHERE x = 1 AND y = 2");
+		AndExpression where = (AndExpression)((PlainSelect)shared.getSelectBody()).getWhere();
+		LongValue one = (LongValue)((EqualsTo)where.getLeftExpression()).getRightExpression();
+		((EqualsTo)where.getRightExpression()).setRightExpression(one);
+		String sql = shared.toString();
+
+		CopyOnWrite cow = new CopyOnWrite(shared);
+		assertTrue(cow.isRepeated(one));
+		assertFalse(cow.isRepeated(where));
+		try {
+			cow.edit().writable(one);
+			fail("Expected an exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		// the node is replaced in the one place it is meant to change
+		CopyOnWrite.Edit edit = cow.edit();
+		EqualsTo right = edit.writable((EqualsTo)where.getRightExpression());
+		right.setRightExpression(new LongValue(7));
+		assertEquals("SELECT a FROM t WHERE ((x = 1) AND (y = 7))", edit.getStatement().toString());
+		assertEquals(sql, shared.toString());
+	}
+
+	public void testCachingParser() throws Exception {
+		CachingParser parser = new CachingParser();
+		String sql = "SELECT a FROM t WHERE (b = 1)";
+		CopyOnWrite first = parser.parseCopyOnWrite(sql);
+		CopyOnWrite second = parser.parseCopyOnWrite(sql);
+		assertSame(first, second);
+		assertSame(parser.parseShared(sql), first.getStatement());
+		assertEquals(1, parser.getMisses());
+
+		CopyOnWrite.Edit edit = second.edit();
+		PlainSelect select = edit.writable((PlainSelect)((Select)first.getStatement()).getSelectBody());
+		select.setWhere(null);
+		assertEquals("SELECT a FROM t", edit.getStatement().toString());
+		assertEquals(sql, parser.parseShared(sql).toString());
+	}
+}
@@ -0,0 +1,90 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.test.select.CharStreamSpeedTest;
+import net.sf.jsqlparser.util.deparser.ExpressionDeParser;
+import net.sf.jsqlparser.util.deparser.SelectDeParser;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+
+public class DeParserTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public DeParserTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(DeParserTest.class);
+	}
+
+	public void testSameAsToString() throws Exception {
+		List<String> sql = new ArrayList<String>(CharStreamSpeedTest.loadStatements());
+		sql.add("SELECT DISTINCT ON (a) TOP 10 a, t.*, f(DISTINCT b) AS c, {fn g(*)} FROM s.t AS x "
+			+ "LEFT OUTER JOIN u ON x.a = u.a, (SELECT * FROM v) y NATURAL JOIN z USING (a, b) "
+			+ "WHERE a LIKE 'x%' ESCAPE '!' AND b NOT IN (1.5, 2.5) AND c IN ('p', 'q') AND g IN (1, 2) "
+			+ "AND NOT EXISTS (SELECT 1 FROM w) AND d IS NOT NULL AND NOT a = -b "
+			+ "AND e NOT BETWEEN {d '2010-01-01'} AND {ts '2010-01-01 10:00:00.5'} AND f = {t '10:00:00'} "
+			+ "GROUP BY a, b HAVING COUNT(*) > ? ORDER BY a DESC, b LIMIT 5 OFFSET ?");
+		sql.add("SELECT CASE a WHEN 1 THEN 'x' WHEN 2 THEN TRUE ELSE NULL END, CASE WHEN b THEN 1 END FROM t "
+			+ "UNION ALL SELECT b FROM u UNION ALL SELECT c || 'd' FROM (t JOIN u ON t.a = u.a) AS j ORDER BY 1 LIMIT 3");
+		sql.add("WITH q (a, b) AS (SELECT a, b FROM t), r AS (SELECT 1 FROM u) SELECT * FROM q");
+		sql.add("SELECT a & b | c ^ d, a @@ b, a / b * c - d FROM t");
+		sql.add("SELECT a, count(*) FROM t GROUP BY 2, a + 1");
+		sql.add("INSERT INTO t (a, b) VALUES (1, 'x')");
+		sql.add("INSERT INTO t SELECT * FROM u");
+		sql.add("REPLACE t SET a = 1, b = 2");
+		sql.add("REPLACE t (a, b) VALUES (1, ?)");
+		sql.add("DELETE FROM t WHERE a = 1");
+		sql.add("DROP TABLE t CASCADE");
+		sql.add("TRUNCATE TABLE t");
+		sql.add("CREATE TABLE t (a INT NOT NULL, b VARCHAR (10), PRIMARY KEY (a)) ENGINE = innodb");
+
+		for (String s : sql) {
+			Statement statement = parserManager.parse(s);
+			String expected = statement.toString();
+			if (expected.indexOf('@') >= 0) {
+				// toString is not implemented everywhere
+				continue;
+			}
+			assertEquals(expected, StatementDeParser.deparse(statement));
+			StringWriter out = new StringWriter();
+			StatementDeParser.deparse(statement, out);
+			assertEquals(expected, out.toString());
+			StringBuffer buffer = new StringBuffer();
+			statement.accept(new StatementDeParser(buffer));
+			assertEquals(expected, buffer.toString());
+		}
+	}
+
+	public void testMissingToString() throws Exception {
+		String[] sql = {
+			"UPDATE t SET a = 1, b = (b + 1) WHERE (c = 2)",
+			"SELECT a FROM t WHERE (a > ALL (SELECT b FROM u))",
+			"SELECT a FROM t WHERE (a < ANY (SELECT c FROM u))",
+		};
+		for (String s : sql) {
+			String text = StatementDeParser.deparse(parserManager.parse(s));
+			assertEquals(s, text);
+			assertEquals(text, StatementDeParser.deparse(parserManager.parse(text)));
+		}
+	}
+
+	public void testOverride() throws Exception {
+		StringBuilder out = new StringBuilder();
+		ExpressionDeParser expressionDeParser = new ExpressionDeParser() {
+			public void visit(Column column) {
+				buffer.append('"').append(column.getColumnName()).append('"');
+			}
+		};
+		StatementDeParser deParser = new StatementDeParser(expressionDeParser, new SelectDeParser(), out);
+		parserManager.parse("SELECT a, b + 1 FROM t WHERE c IN (SELECT d FROM u)").accept(deParser);
+		assertEquals("SELECT \"a\", (\"b\" + 1) FROM t WHERE \"c\" IN (SELECT \"d\" FROM u)", out.toString());
+	}
+}
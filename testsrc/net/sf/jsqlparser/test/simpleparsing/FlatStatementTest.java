@@ -0,0 +1,121 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.test.select.CharStreamSpeedTest;
+import net.sf.jsqlparser.util.FlatEncoder;
+import net.sf.jsqlparser.util.FlatStatement;
+import net.sf.jsqlparser.util.FlatStatement.Cursor;
+import net.sf.jsqlparser.util.FlatStatement.Kind;
+import net.sf.jsqlparser.util.StringPool;
+
+public class FlatStatementTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public FlatStatementTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(FlatStatementTest.class);
+	}
+
+	public void testRoundTrip() throws Exception {
+		List<String> sql = new ArrayList<String>(CharStreamSpeedTest.loadStatements());
+		sql.add("SELECT DISTINCT ON (a) TOP 10 a, t.*, f(DISTINCT b) AS c FROM s.t AS x "
+			+ "LEFT OUTER JOIN u ON x.a = u.a, (SELECT * FROM v) y WHERE a LIKE 'x%' AND b NOT IN (1.5, 2.5) "
+			+ "AND c IN ('p', 'q') AND NOT EXISTS (SELECT 1 FROM w) AND d IS NOT NULL "
+			+ "AND e BETWEEN {d '2010-01-01'} AND {ts '2010-01-01 10:00:00.5'} AND f = {t '10:00:00'} "
+			+ "GROUP BY a HAVING COUNT(*) > ? ORDER BY a DESC LIMIT 5 OFFSET 10");
+		sql.add("SELECT CASE WHEN a = 1 THEN 'x' ELSE NULL END FROM t UNION ALL SELECT b FROM u LIMIT 3");
+		sql.add("WITH q AS (SELECT a FROM t) SELECT * FROM q");
+		sql.add("SELECT a & b FROM t WHERE a > ALL (SELECT b FROM u) AND a < ANY (SELECT c FROM u)");
+		sql.add("INSERT INTO t (a, b) VALUES (1, 'x')");
+		sql.add("REPLACE t SET a = 1, b = 2");
+		sql.add("UPDATE t SET a = 1, b = b + 1 WHERE c = 2");
+		sql.add("DELETE FROM t WHERE a = 1");
+		sql.add("DROP TABLE t CASCADE");
+		sql.add("TRUNCATE TABLE t");
+		sql.add("CREATE TABLE t (a INT NOT NULL, b VARCHAR (10), PRIMARY KEY (a)) ENGINE = innodb");
+
+		StringPool pool = new StringPool();
+		FlatEncoder encoder = new FlatEncoder(pool);
+		for (String s : sql) {
+			Statement statement = parserManager.parse(s);
+			FlatStatement flat = encoder.encode(statement);
+			Statement decoded = flat.toStatement();
+			assertNotSame(statement, decoded);
+			String expected = statement.toString();
+			if (expected.indexOf('@') < 0) {
+				// toString is not implemented everywhere
+				assertEquals(expected, decoded.toString());
+				assertEquals(expected, FlatStatement.encode(decoded, pool).toStatement().toString());
+			}
+		}
+	}
+
+	public void testCursor() throws Exception {
+		StringPool pool = new StringPool();
+		FlatStatement flat = FlatStatement.encode(
+			parserManager.parse("SELECT a FROM t WHERE b = 1 AND c IN (2, 3)"), pool);
+		Cursor cursor = flat.cursor();
+		assertEquals(Kind.SELECT, cursor.kind());
+		assertFalse(cursor.toChild(0));
+		assertTrue(cursor.toChild(1));
+		assertEquals(Kind.PLAIN_SELECT, cursor.kind());
+		assertFalse(cursor.hasChild(0));
+
+		assertTrue(cursor.toChild(3));
+		assertEquals(Kind.TABLE, cursor.kind());
+		assertEquals("t", cursor.string(1));
+		assertNull(cursor.string(2));
+		assertTrue(cursor.toParent());
+
+		assertTrue(cursor.toChild(5));
+		assertEquals(Kind.AND, cursor.kind());
+		assertTrue(cursor.toChild(1));
+		assertEquals(Kind.IN, cursor.kind());
+		assertFalse(cursor.flag(FlatStatement.NOT));
+		assertTrue(cursor.toChild(1));
+		assertEquals(Kind.LONG_LITERALS, cursor.kind());
+		assertEquals(2, cursor.count());
+		assertEquals(3, cursor.value(1));
+		assertEquals(4, cursor.depth());
+
+		while (cursor.toParent()) {
+		}
+		assertEquals(flat.root(), cursor.node());
+
+		// one cursor serves any number of statements
+		FlatStatement other = FlatStatement.encode(parserManager.parse("DELETE FROM t"), pool);
+		cursor.reset(other);
+		assertEquals(Kind.DELETE, cursor.kind());
+		assertTrue(cursor.toChild(0));
+		assertEquals("t", cursor.string(1));
+	}
+
+	public void testSharedPool() throws Exception {
+		StringPool pool = new StringPool();
+		FlatStatement.encode(parserManager.parse("SELECT a, b FROM t WHERE a = 'x'"), pool);
+		int size = pool.size();
+		FlatStatement flat = FlatStatement.encode(parserManager.parse("SELECT b, a FROM t WHERE b = 'x'"), pool);
+		assertEquals(size, pool.size());
+		assertEquals(pool.intern("t"), flat.attribute(flat.child(flat.child(flat.root(), 1), 3), 1));
+	}
+
+	public void testCompact() throws Exception {
+		FlatStatement flat = FlatStatement.encode(
+			parserManager.parse("SELECT a, b FROM t WHERE a = 1 AND b = 'x'"), new StringPool());
+		// 5 ints per node and 1 per child, against over thirty objects
+		assertTrue(flat.arenaSize() < 128);
+		assertEquals(1, flat.valueCount());
+		PlainSelect select = (PlainSelect)((Select)flat.toStatement()).getSelectBody();
+		assertEquals("((a = 1) AND (b = 'x'))", select.getWhere().toString());
+	}
+}
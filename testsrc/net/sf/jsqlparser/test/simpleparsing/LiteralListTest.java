@@ -0,0 +1,202 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitorBase;
+import net.sf.jsqlparser.expression.ExpressionWalker;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.parser.TemplateCache;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.PrimitiveType;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.AstCopier;
+
+public class LiteralListTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public LiteralListTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(LiteralListTest.class);
+	}
+
+	public void testLiteralLists() throws Exception {
+		LiteralList longs = (LiteralList)itemsList("SELECT * FROM t WHERE a IN (3, 1, 2)");
+		assertEquals(PrimitiveType.LONG, longs.getType());
+		assertEquals(3, longs.size());
+		assertEquals(1, longs.getLong(1));
+		assertEquals("(3, 1, 2)", longs.toString());
+
+		LiteralList doubles = (LiteralList)itemsList("SELECT * FROM t WHERE a IN (1.5, .25)");
+		assertEquals(PrimitiveType.DOUBLE, doubles.getType());
+		assertEquals("(1.5, 0.25)", doubles.toString());
+
+		LiteralList strings = (LiteralList)itemsList("SELECT * FROM t WHERE a NOT IN ('x', 'y''z')");
+		assertEquals(PrimitiveType.STRING, strings.getType());
+		assertEquals("y''z", strings.getString(1));
+		assertEquals("SELECT * FROM t WHERE a NOT IN ('x', 'y''z')",
+			parserManager.parse(new StringReader("SELECT * FROM t WHERE a NOT IN ('x', 'y''z')")).toString());
+	}
+
+	public void testMixedLists() throws Exception {
+		ItemsList list = itemsList("SELECT * FROM t WHERE a IN (1, 2.5)");
+		assertFalse(list instanceof LiteralList);
+		List<Expression> expressions = ((ExpressionList)list).getExpressions();
+		assertTrue(expressions.get(0) instanceof LongValue);
+		assertTrue(expressions.get(1) instanceof DoubleValue);
+
+		list = itemsList("SELECT * FROM t WHERE a IN (1, 2, b, 3)");
+		assertFalse(list instanceof LiteralList);
+		expressions = ((ExpressionList)list).getExpressions();
+		assertEquals(4, expressions.size());
+		assertTrue(expressions.get(2) instanceof Column);
+		assertTrue(expressions.get(3) instanceof LongValue);
+
+		list = itemsList("SELECT * FROM t WHERE a IN (1 + 1, 2)");
+		assertFalse(list instanceof LiteralList);
+		assertEquals("((1 + 1), 2)", list.toString());
+	}
+
+	public void testView() throws Exception {
+		LiteralList list = (LiteralList)itemsList("SELECT * FROM t WHERE a IN ('x', 'y')");
+		List<Expression> expressions = list.getExpressions();
+		assertEquals(2, expressions.size());
+		assertEquals(new StringValue("y"), expressions.get(1));
+		assertSame(expressions.get(1), list.getExpressions().get(1));
+
+		LiteralList copy = (LiteralList)new AstCopier().copy(list);
+		assertEquals(list.toString(), copy.toString());
+		assertNotSame(list.getExpressions().get(0), copy.getExpressions().get(0));
+	}
+
+	public void testModified() throws Exception {
+		String sql = "SELECT * FROM t WHERE a IN ('x', 'y')";
+		Select select = (Select)parserManager.parse(new StringReader(sql));
+		InExpression in = (InExpression)((PlainSelect)select.getSelectBody()).getWhere();
+		LiteralList list = (LiteralList)in.getItemsList();
+		assertSame(list, LiteralList.of(list));
+
+		list.getExpressions().set(0, new Column(new Table(), "b"));
+		assertTrue(list.isModified());
+		assertNull(LiteralList.of(list));
+		assertEquals("(b, 'y')", list.toString());
+		assertEquals("SELECT * FROM t WHERE a IN (b, 'y')", select.toString());
+		try {
+			list.getType();
+			fail("the literals are stale");
+		} catch (IllegalStateException e) {
+		}
+		ExpressionList copy = new AstCopier().copy(list);
+		assertFalse(copy instanceof LiteralList);
+		assertEquals("(b, 'y')", copy.toString());
+
+		list.getExpressions().add(new LongValue(3));
+		assertEquals(3, list.size());
+		list.setExpressions(null);
+		assertEquals(0, list.getExpressions().size());
+
+		LiteralList longs = (LiteralList)itemsList("SELECT * FROM t WHERE a IN (1, 2)");
+		longs.setExpressions(new ArrayList<Expression>(Arrays.<Expression>asList(new LongValue(4))));
+		assertEquals("(4)", longs.toString());
+	}
+
+	public void testContains() throws Exception {
+		LiteralList longs = new LiteralList(new long[] { 5, -3, 12, 7 });
+		assertTrue(longs.contains(12));
+		assertFalse(longs.contains(6));
+		assertTrue(longs.contains(7.0));
+		assertFalse(longs.contains(7.5));
+		assertTrue(longs.contains(new DoubleValue(-3.0)));
+		assertFalse(longs.contains(new StringValue("5")));
+
+		LiteralList doubles = new LiteralList(new double[] { 2.5, 0.0, 4 });
+		assertTrue(doubles.contains(4));
+		assertTrue(doubles.contains(-0.0));
+		assertFalse(doubles.contains(Double.NaN));
+		assertTrue(doubles.contains(new LongValue(0)));
+
+		LiteralList strings = new LiteralList(new String[] { "a", "b" });
+		assertTrue(strings.contains(new StringValue("b")));
+		assertFalse(strings.contains("c"));
+		assertFalse(strings.contains(1));
+	}
+
+	public void testContainsLargeNumbers() throws Exception {
+		LiteralList longs = new LiteralList(new long[] { 1L << 53, (1L << 53) + 1, Long.MAX_VALUE, -(1L << 53) - 1 });
+		assertTrue(longs.contains(0x1p53));
+		assertFalse(longs.contains(0x1p53 + 2));
+		assertFalse(longs.contains(-0x1p53));
+		// Long.MAX_VALUE is one less than 2^63, its nearest double
+		assertFalse(longs.contains(0x1p63));
+		assertFalse(longs.contains(Double.POSITIVE_INFINITY));
+
+		LiteralList doubles = new LiteralList(new double[] { 0x1p53, 0x1p63, -0x1p63 });
+		assertTrue(doubles.contains(1L << 53));
+		assertFalse(doubles.contains((1L << 53) + 1));
+		assertFalse(doubles.contains(-(1L << 53)));
+		assertFalse(doubles.contains(Long.MAX_VALUE));
+		assertTrue(doubles.contains(Long.MIN_VALUE));
+	}
+
+	public void testLargeList() throws Exception {
+		StringBuilder sb = new StringBuilder("SELECT * FROM t WHERE a IN (0");
+		for (int i = 1; i < 50000; i++) {
+			sb.append(", ").append(i * 2);
+		}
+		String sql = sb.append(")").toString();
+		LiteralList list = (LiteralList)itemsList(sql);
+		assertEquals(50000, list.size());
+		assertTrue(list.contains(99998));
+		assertFalse(list.contains(99999));
+		assertEquals(sql, parserManager.parse(new StringReader(sql)).toString());
+	}
+
+	public void testChildren() throws Exception {
+		String sql = "SELECT * FROM t WHERE a IN (1, 2, 3)";
+		Select select = (Select)parserManager.parse(new StringReader(sql));
+		InExpression in = (InExpression)((PlainSelect)select.getSelectBody()).getWhere();
+		// the items are values, not children, so walking the tree creates no nodes for them
+		assertEquals(1, in.getChildCount());
+		assertTrue(in.getChild(0) instanceof Column);
+		assertEquals(1, ExpressionVisitorBase.getChildren(in).size());
+		final List<Expression> visited = new ArrayList<Expression>();
+		new ExpressionWalker().walk(in, new ExpressionVisitorBase(false) {
+			public void unhandled(Expression e) { visited.add(e); }
+		});
+		assertEquals(2, visited.size());
+		assertEquals(3, ((LiteralList)in.getItemsList()).size());
+
+		in.setItemsList(new ExpressionList(Arrays.<Expression>asList(new LongValue(1), new LongValue(2))));
+		assertEquals(3, in.getChildCount());
+	}
+
+	public void testTemplateCache() throws Exception {
+		TemplateCache cache = new TemplateCache();
+		cache.parse("SELECT * FROM t WHERE a IN (1, 2)");
+		Statement statement = cache.parse("SELECT * FROM t WHERE a IN (3, 4)");
+		assertEquals(1, cache.getHits());
+		assertEquals("SELECT * FROM t WHERE a IN (3, 4)", statement.toString());
+	}
+
+	private ItemsList itemsList(String sql) throws Exception {
+		Select select = (Select)parserManager.parse(new StringReader(sql));
+		return ((InExpression)((PlainSelect)select.getSelectBody()).getWhere()).getItemsList();
+	}
+}
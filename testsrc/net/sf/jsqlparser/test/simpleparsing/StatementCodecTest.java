@@ -0,0 +1,201 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.test.select.CharStreamSpeedTest;
+import net.sf.jsqlparser.util.FlatStatement;
+import net.sf.jsqlparser.util.StatementCodec;
+import net.sf.jsqlparser.util.StringPool;
+
+public class StatementCodecTest extends TestCase {
+	CCJSqlParserManager parserManager = new CCJSqlParserManager();
+
+	public StatementCodecTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(StatementCodecTest.class);
+	}
+
+	private List<Statement> statements() throws Exception {
+		List<String> sql = new ArrayList<String>(CharStreamSpeedTest.loadStatements());
+		sql.add("SELECT DISTINCT ON (a) TOP 10 a, t.*, f(DISTINCT b) AS c FROM s.t AS x "
+			+ "LEFT OUTER JOIN u ON x.a = u.a WHERE a LIKE 'x%' AND b NOT IN (1.5, -2.5) "
+			+ "AND c IN ('p', 'q\u00e9') AND d IS NOT NULL AND e BETWEEN {d '2010-01-01'} "
+			+ "AND {ts '2010-01-01 10:00:00.5'} AND f = {t '10:00:00'} AND g = 123456789012 "
+			+ "GROUP BY a HAVING COUNT(*) > ? ORDER BY a DESC LIMIT 5 OFFSET 10");
+		sql.add("INSERT INTO t (a, b) VALUES (1, 'x')");
+		sql.add("DROP TABLE t CASCADE");
+		sql.add("CREATE TABLE t (a INT NOT NULL, b VARCHAR (10), PRIMARY KEY (a)) ENGINE = innodb");
+		List<Statement> ret = new ArrayList<Statement>();
+		for (String s : sql) {
+			Statement statement = parserManager.parse(s);
+			if (statement.toString().indexOf('@') < 0) {
+				ret.add(statement);
+			}
+		}
+		return ret;
+	}
+
+	public void testRecords() throws Exception {
+		StatementCodec codec = new StatementCodec();
+		for (Statement statement : statements()) {
+			byte[] record = codec.encode(statement);
+			assertEquals(StatementCodec.VERSION, record[0]);
+			assertEquals(statement.toString(), codec.decode(record).toString());
+		}
+	}
+
+	public void testStreams() throws Exception {
+		List<Statement> statements = statements();
+		StatementCodec codec = new StatementCodec();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for (Statement statement : statements) {
+			codec.write(statement, out);
+		}
+		out.close();
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		for (Statement statement : statements) {
+			assertEquals(statement.toString(), codec.read(in).toString());
+		}
+		assertEquals(-1, in.read());
+	}
+
+	public void testByteBuffers() throws Exception {
+		List<Statement> statements = statements();
+		StatementCodec codec = new StatementCodec();
+		ByteBuffer[] buffers = { ByteBuffer.allocate(1 << 20), ByteBuffer.allocateDirect(1 << 20) };
+		for (ByteBuffer buffer : buffers) {
+			buffer.put((byte)42);
+			for (Statement statement : statements) {
+				codec.write(statement, buffer);
+			}
+			buffer.flip();
+			assertEquals(42, buffer.get());
+			for (Statement statement : statements) {
+				assertEquals(statement.toString(), codec.read(buffer).toString());
+			}
+			assertFalse(buffer.hasRemaining());
+		}
+	}
+
+	public void testFlat() throws Exception {
+		StringPool shared = new StringPool();
+		StringPool other = new StringPool();
+		other.intern("unrelated");
+		StatementCodec codec = new StatementCodec();
+		for (Statement statement : statements()) {
+			FlatStatement flat = FlatStatement.encode(statement, shared);
+			byte[] record = codec.encode(flat);
+			assertEquals(statement.toString(), codec.decode(record).toString());
+			FlatStatement copy = codec.readFlat(ByteBuffer.wrap(record), other);
+			assertSame(other, copy.getPool());
+			assertEquals(statement.toString(), copy.toStatement().toString());
+		}
+		assertEquals(shared.size() + 1, other.size());
+	}
+
+	public void testCompact() throws Exception {
+		Statement statement = parserManager.parse("SELECT a, b FROM t WHERE a = 1 AND b = 'x'");
+		byte[] record = new StatementCodec().encode(statement);
+		assertTrue(record.length < statement.toString().length() * 3);
+	}
+
+	public void testErrors() throws Exception {
+		StatementCodec codec = new StatementCodec();
+		byte[] record = codec.encode(parserManager.parse("SELECT a FROM t"));
+		byte[] future = record.clone();
+		future[0] = (byte)(StatementCodec.VERSION + 1);
+		try {
+			codec.decode(future);
+			fail("unknown version");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().indexOf("version") >= 0);
+		}
+
+		for (int length = 0; length < record.length; length++) {
+			byte[] truncated = new byte[length];
+			System.arraycopy(record, 0, truncated, 0, length);
+			try {
+				codec.decode(truncated);
+				fail("truncated record");
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	public void testCorruptRecords() throws Exception {
+		List<Statement> statements = statements();
+		StatementCodec codec = new StatementCodec();
+		Random random = new Random(42);
+		for (int i = 0; i < 20000; i++) {
+			byte[] record = codec.encode(statements.get(random.nextInt(statements.size())));
+			int flips = 1 + random.nextInt(3);
+			for (int f = 0; f < flips; f++) {
+				record[1 + random.nextInt(record.length - 1)] ^= 1 << random.nextInt(8);
+			}
+			// a corrupt record may still decode, to some other statement, but
+			// every way of reading it must either do that or raise an IOException
+			decodes(codec, record);
+			decodes(codec, new DataInputStream(new ByteArrayInputStream(record)));
+			ByteBuffer direct = ByteBuffer.allocateDirect(record.length);
+			direct.put(record).flip();
+			decodes(codec, direct);
+		}
+	}
+
+	public void testHugeLength() throws Exception {
+		// a length of 2^28 - 1 followed by three bytes must not be allocated
+		byte[] record = { StatementCodec.VERSION, (byte)0xff, (byte)0xff, (byte)0xff, 0x7f, 1, 2, 3 };
+		StatementCodec codec = new StatementCodec();
+		try {
+			codec.decode(record);
+			fail("decoded a truncated record");
+		} catch (IOException e) {
+		}
+		try {
+			codec.read(new DataInputStream(new ByteArrayInputStream(record)));
+			fail("read a truncated record");
+		} catch (IOException e) {
+		}
+		ByteBuffer direct = ByteBuffer.allocateDirect(record.length);
+		direct.put(record).flip();
+		try {
+			codec.read(direct);
+			fail("read a truncated record");
+		} catch (IOException e) {
+			assertEquals(0, direct.position());
+		}
+	}
+
+	private static void decodes(StatementCodec codec, Object record) {
+		try {
+			if (record instanceof byte[]) {
+				codec.decode((byte[])record);
+			} else if (record instanceof DataInputStream) {
+				codec.read((DataInputStream)record);
+			} else {
+				codec.read((ByteBuffer)record);
+			}
+		} catch (IOException e) {
+		} catch (RuntimeException e) {
+			AssertionError error = new AssertionError("Not an IOException: " + e);
+			error.initCause(e);
+			throw error;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.UncheckedJSQLParserException;
+import net.sf.jsqlparser.parser.StatementIterator;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.insert.Insert;
+
+public class StatementIteratorTest extends TestCase {
+
+	public StatementIteratorTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(StatementIteratorTest.class);
+	}
+
+	public void testScript() throws Exception {
+		StatementIterator it = new StatementIterator(new StringReader(
+			"SELECT a FROM b;;\nSELECT c FROM d WHERE e = 1;\n INSERT INTO t VALUES (1, 'x');\nDELETE FROM t"));
+		List<String> statements = new ArrayList<String>();
+		while (it.hasNext()) {
+			statements.add(it.next().toString());
+		}
+		assertEquals(4, statements.size());
+		assertEquals("SELECT a FROM b", statements.get(0));
+		assertEquals("SELECT c FROM d WHERE (e = 1)", statements.get(1));
+		assertEquals("INSERT INTO t VALUES (1, 'x')", statements.get(2));
+		assertEquals("DELETE FROM t", statements.get(3));
+		assertFalse(it.hasNext());
+	}
+
+	public void testStopOnError() throws Exception {
+		StatementIterator it = new StatementIterator(new StringReader(
+			"SELECT a FROM b; BOGUS stuff; SELECT c FROM d"));
+		assertEquals("SELECT a FROM b", it.next().toString());
+		try {
+			it.next();
+			fail("parsed an invalid statement");
+		} catch (UncheckedJSQLParserException e) {
+			assertNotNull(e.getCause());
+		}
+		assertFalse(it.hasNext());
+	}
+
+	public void testSkipErrors() throws Exception {
+		final List<JSQLParserException> errors = new ArrayList<JSQLParserException>();
+		StatementIterator it = new StatementIterator(new StringReader(
+			"# junk; SELECT a FROM b; BOGUS stuff; SELECT @@x FROM y; SELECT c FROM d; SELECT 'unterminated"), 
+			true) {
+			protected void skipped(JSQLParserException e) {
+				errors.add(e);
+			}
+		};
+		List<String> statements = new ArrayList<String>();
+		while (it.hasNext()) {
+			statements.add(it.next().toString());
+		}
+		assertEquals(2, statements.size());
+		assertEquals("SELECT a FROM b", statements.get(0));
+		assertEquals("SELECT c FROM d", statements.get(1));
+		assertEquals(4, it.getSkipped());
+		assertEquals(4, errors.size());
+	}
+
+	public void testLongScript() throws Exception {
+		final int count = 20000;
+		// generates the script on the fly, so it is never held in memory as a whole
+		Reader script = new Reader() {
+			int statement = 0;
+			String current = "";
+			int pos = 0;
+
+			public int read(char[] cbuf, int off, int len) {
+				if (pos == current.length()) {
+					if (statement == count) { return -1; }
+					current = "INSERT INTO t (a, b) VALUES (" + statement + ", 'row " + statement + "');\n";
+					statement++;
+					pos = 0;
+				}
+				int n = Math.min(len, current.length() - pos);
+				current.getChars(pos, pos + n, cbuf, off);
+				pos += n;
+				return n;
+			}
+
+			public void close() {
+			}
+		};
+		StatementIterator it = new StatementIterator(script);
+		int i = 0;
+		while (it.hasNext()) {
+			Statement statement = it.next();
+			assertTrue(statement instanceof Insert);
+			i++;
+		}
+		assertEquals(count, i);
+	}
+}
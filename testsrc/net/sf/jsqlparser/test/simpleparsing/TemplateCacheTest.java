@@ -0,0 +1,107 @@
+package net.sf.jsqlparser.test.simpleparsing;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.StringReader;
+
+import junit.framework.TestCase;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.CCJSqlParserManager;
+import net.sf.jsqlparser.parser.Fingerprint;
+import net.sf.jsqlparser.parser.TemplateCache;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+
+public class TemplateCacheTest extends TestCase {
+
+	public TemplateCacheTest(String arg0) {
+		super(arg0);
+	}
+
+	public static void main(String[] args) {
+		junit.swingui.TestRunner.run(TemplateCacheTest.class);
+	}
+
+	public void testFingerprint() throws Exception {
+		Fingerprint a = Fingerprint.of("SELECT * FROM items WHERE items.seller=5");
+		Fingerprint b = Fingerprint.of("SELECT *\n  FROM items\n WHERE items.seller = 42");
+		assertEquals(a, b);
+		assertEquals(a.toString(), b.toString());
+		assertEquals(1, b.getLiteralCount());
+		assertEquals("42", b.getLiteral(0).image);
+		assertEquals(a, Fingerprint.of("select * from items where items.seller = 42"));
+
+		// literal kinds and identifiers are part of the shape
+		assertFalse(a.equals(Fingerprint.of("SELECT * FROM items WHERE items.seller='5'")));
+		assertFalse(a.equals(Fingerprint.of("SELECT * FROM items WHERE items.seller=5.0")));
+		assertFalse(a.equals(Fingerprint.of("SELECT * FROM items WHERE items.buyer=5")));
+		assertFalse(a.equals(Fingerprint.of("SELECT * FROM ITEMS WHERE items.seller=5")));
+	}
+
+	public void testBindLiterals() throws Exception {
+		TemplateCache cache = new TemplateCache();
+		assertEquals("SELECT * FROM items WHERE (items.seller = 5)", 
+			cache.parse("SELECT * FROM items WHERE items.seller=5").toString());
+		assertEquals("SELECT * FROM items WHERE (items.seller = 42)", 
+			cache.parse("SELECT * FROM items WHERE items.seller = 42").toString());
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.size());
+
+		cache.parse("SELECT a, 'x' FROM t WHERE b > 1.5 AND c = 'it''s'");
+		Select select = (Select) cache.parse("SELECT a, 'y' FROM t WHERE b > 2.25 AND c = 'z'");
+		assertEquals(2, cache.getHits());
+		assertEquals("SELECT a, 'y' FROM t WHERE ((b > 2.25) AND (c = 'z'))", select.toString());
+		SelectExpressionItem item = (SelectExpressionItem) 
+			((PlainSelect) select.getSelectBody()).getSelectItems().get(1);
+		assertEquals("y", ((StringValue) item.getExpression()).getValue());
+	}
+
+	public void testFixedLiterals() throws Exception {
+		TemplateCache cache = new TemplateCache();
+		cache.parse("SELECT a FROM t WHERE b = 1 LIMIT 10");
+		// the row count is not a value node, so it has to match for the template to apply
+		assertEquals("SELECT a FROM t WHERE (b = 2) LIMIT 10", 
+			cache.parse("SELECT a FROM t WHERE b = 2 LIMIT 10").toString());
+		assertEquals(1, cache.getHits());
+		assertEquals("SELECT a FROM t WHERE (b = 3) LIMIT 20", 
+			cache.parse("SELECT a FROM t WHERE b = 3 LIMIT 20").toString());
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+
+	public void testBadLiteral() throws Exception {
+		TemplateCache cache = new TemplateCache();
+		cache.parse("SELECT * FROM t WHERE a = X'0aff'");
+		try {
+			cache.parse("SELECT * FROM t WHERE a = X'0af'");
+			fail("odd number of hex digits");
+		} catch (JSQLParserException e) {
+		}
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals("SELECT * FROM t WHERE (a = X'0B')", cache.parse("SELECT * FROM t WHERE a = X'0b'").toString());
+	}
+
+	public void testMatchesParser() throws Exception {
+		CCJSqlParserManager parserManager = new CCJSqlParserManager();
+		TemplateCache cache = new TemplateCache();
+		for (int pass = 0; pass < 2; pass++) {
+			BufferedReader in = new BufferedReader(new FileReader("testfiles" + File.separator + "simple_parsing.txt"));
+			String statement;
+			while ((statement = CCJSqlParserManagerTest.getStatement(in)) != null) {
+				String expected = parserManager.parse(new StringReader(statement)).toString();
+				Statement parsedStm = cache.parse(statement);
+				// Update and ALL/ANY comparisons have no toString to compare
+				if (expected.indexOf('@') < 0) {
+					assertEquals(statement, expected, parsedStm.toString());
+				}
+			}
+		}
+		assertTrue(cache.getHits() > 0);
+	}
+}
@@ -7,8 +7,10 @@ import java.util.List;
 import net.sf.jsqlparser.expression.AllComparisonExpression;
 import net.sf.jsqlparser.expression.AnyComparisonExpression;
 import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.BinaryValue;
 import net.sf.jsqlparser.expression.CaseExpression;
 import net.sf.jsqlparser.expression.DateValue;
+import net.sf.jsqlparser.expression.DecimalValue;
 import net.sf.jsqlparser.expression.DoubleValue;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
@@ -192,6 +194,9 @@ public class TablesNamesFinder implements SelectVisitor, FromItemVisitor, Expres
 	public void visit(StringValue stringValue) {
 	}
 
+	public void visit(BinaryValue binaryValue) {
+	}
+
 	public void visit(Subtraction subtraction) {
 		visitBinaryExpression(subtraction);
 	}
@@ -212,6 +217,9 @@ public class TablesNamesFinder implements SelectVisitor, FromItemVisitor, Expres
     public void visit(DateValue dateValue) {
     }
 
+    public void visit(DecimalValue decimalValue) {
+    }
+
     public void visit(TimestampValue timestampValue) {
     }
     